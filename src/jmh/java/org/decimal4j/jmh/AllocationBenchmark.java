@@ -0,0 +1,333 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.jmh.state.AllocationBenchmarkState;
+import org.decimal4j.jmh.state.Values;
+import org.decimal4j.scale.ScaleMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks comparing the allocation profile of the same operations for
+ * {@link BigDecimal}, immutable decimals, mutable decimals and native decimals
+ * based on {@link org.decimal4j.api.DecimalArithmetic DecimalArithmetic}. The
+ * benchmarks are run with the gc profiler reporting bytes per operation; the
+ * run fails if a benchmark marked as {@link AllocationFree} allocates.
+ */
+public class AllocationBenchmark extends AbstractBenchmark {
+
+	/**
+	 * Exponent for pow benchmarks; most operands have fraction digits and are
+	 * raised to the power with the 36 digit accumulator
+	 */
+	private static final int POW_EXPONENT = 3;
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void addBigDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(addBigDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void addImmutableDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(addImmutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@AllocationFree
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void addMutableDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(addMutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@AllocationFree
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void addNativeDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(addNativeDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void multiplyBigDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(multiplyBigDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void multiplyImmutableDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(multiplyImmutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@AllocationFree
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void multiplyMutableDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(multiplyMutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@AllocationFree
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void multiplyNativeDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(multiplyNativeDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void divideBigDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(divideBigDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void divideImmutableDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(divideImmutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@AllocationFree
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void divideMutableDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(divideMutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@AllocationFree
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void divideNativeDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(divideNativeDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void powBigDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(powBigDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void powImmutableDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(powImmutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@AllocationFree
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void powMutableDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(powMutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@AllocationFree
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void powNativeDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(powNativeDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void toStringBigDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(toStringBigDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void toStringImmutableDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(toStringImmutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void toStringMutableDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(toStringMutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void toStringNativeDecimals(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(toStringNativeDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@AllocationFree
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void toStringNativeDecimalsAppendable(AllocationBenchmarkState state, Blackhole blackhole) throws IOException {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(toStringNativeDecimalsAppendable(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@AllocationFree
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void formatNativeDecimalsAscii(AllocationBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(formatNativeDecimalsAscii(state, state.values[i]));
+		}
+	}
+
+	private static final <S extends ScaleMetrics> BigDecimal addBigDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.bigDecimal1.add(values.bigDecimal2);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> addImmutableDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.immutable1.add(values.immutable2);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> addMutableDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.mutable.set(values.immutable1).add(values.immutable2);
+	}
+
+	private static final <S extends ScaleMetrics> long addNativeDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return state.arithmetic.add(values.unscaled1, values.unscaled2);
+	}
+
+	private static final <S extends ScaleMetrics> BigDecimal multiplyBigDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.bigDecimal1.multiply(values.bigDecimal2, state.mcLong64);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> multiplyImmutableDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.immutable1.multiply(values.immutable2, state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> multiplyMutableDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.mutable.set(values.immutable1).multiply(values.immutable2, state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> long multiplyNativeDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return state.arithmetic.multiply(values.unscaled1, values.unscaled2);
+	}
+
+	private static final <S extends ScaleMetrics> BigDecimal divideBigDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.bigDecimal1.divide(values.bigDecimal2, state.scale, state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> divideImmutableDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.immutable1.divide(values.immutable2, state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> divideMutableDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.mutable.set(values.immutable1).divide(values.immutable2, state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> long divideNativeDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return state.arithmetic.divide(values.unscaled1, values.unscaled2);
+	}
+
+	private static final <S extends ScaleMetrics> BigDecimal powBigDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.bigDecimal1.pow(POW_EXPONENT).setScale(state.scale, state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> powImmutableDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.immutable1.pow(POW_EXPONENT, state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> Decimal<S> powMutableDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.mutable.set(values.immutable1).pow(POW_EXPONENT, state.roundingMode);
+	}
+
+	private static final <S extends ScaleMetrics> long powNativeDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return state.arithmetic.pow(values.unscaled1, POW_EXPONENT);
+	}
+
+	private static final <S extends ScaleMetrics> String toStringBigDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.bigDecimal1.toString();
+	}
+
+	private static final <S extends ScaleMetrics> String toStringImmutableDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.immutable1.toString();
+	}
+
+	private static final <S extends ScaleMetrics> String toStringMutableDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return values.mutable.set(values.immutable1).toString();
+	}
+
+	private static final <S extends ScaleMetrics> String toStringNativeDecimals(AllocationBenchmarkState state, Values<S> values) {
+		return state.arithmetic.toString(values.unscaled1);
+	}
+
+	private static final <S extends ScaleMetrics> int toStringNativeDecimalsAppendable(AllocationBenchmarkState state, Values<S> values) throws IOException {
+		final StringBuilder appendable = state.appendable;
+		appendable.setLength(0);
+		state.arithmetic.toString(values.unscaled1, appendable);
+		return appendable.length();
+	}
+
+	private static final <S extends ScaleMetrics> int formatNativeDecimalsAscii(AllocationBenchmarkState state, Values<S> values) {
+		return state.arithmetic.format(values.unscaled1, state.ascii, 0);
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		runWithGcProfiler(AllocationBenchmark.class);
+	}
+}
@@ -0,0 +1,445 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares jmh results in JSON format with a baseline result file, usually the
+ * committed file in {@link #BASELINE_DIR} written by a previous run of the
+ * same benchmark class. Every benchmark and parameter combination is
+ * classified as regression, improvement, unchanged, new or missing given a
+ * relative tolerance. No network access or additional libraries are needed,
+ * the JSON files are parsed by a minimal parser sufficient for the jmh output.
+ * <p>
+ * Can also be run standalone to compare two result files:
+ * <pre>
+ * java org.decimal4j.jmh.BenchmarkBaseline baseline.json current.json [tolerance]
+ * </pre>
+ */
+public final class BenchmarkBaseline {
+
+	/** Directory relative to the project root with the committed baseline files*/
+	public static final String BASELINE_DIR = "src/jmh/baseline";
+
+	/** Directory relative to the project root for the JSON results of the current run*/
+	public static final String RESULTS_DIR = "build/reports/jmh";
+
+	/** Default relative tolerance, a change of less than 10% is considered noise*/
+	public static final double DEFAULT_TOLERANCE = 0.10;
+
+	/**
+	 * Classification of a benchmark score compared to the baseline.
+	 */
+	public static enum Status {
+		REGRESSION, IMPROVEMENT, UNCHANGED, NEW, MISSING
+	}
+
+	/**
+	 * Score of a single benchmark and parameter combination.
+	 */
+	public static final class Score {
+		public final double score;
+		public final double scoreError;
+		public final String unit;
+		/** True for throughput benchmarks and false for time based modes*/
+		public final boolean higherIsBetter;
+
+		public Score(double score, double scoreError, String unit, boolean higherIsBetter) {
+			this.score = score;
+			this.scoreError = scoreError;
+			this.unit = unit;
+			this.higherIsBetter = higherIsBetter;
+		}
+	}
+
+	/**
+	 * Comparison result for a single benchmark and parameter combination.
+	 */
+	public static final class Comparison {
+		public final String key;
+		public final Score baseline;
+		public final Score current;
+		public final Status status;
+		/** Relative change, positive if better and negative if worse; NaN for new or missing benchmarks*/
+		public final double change;
+
+		public Comparison(String key, Score baseline, Score current, double tolerance) {
+			this.key = key;
+			this.baseline = baseline;
+			this.current = current;
+			if (baseline == null) {
+				this.change = Double.NaN;
+				this.status = Status.NEW;
+			} else if (current == null) {
+				this.change = Double.NaN;
+				this.status = Status.MISSING;
+			} else {
+				final double relative = (current.score - baseline.score) / baseline.score;
+				this.change = current.higherIsBetter ? relative : -relative;
+				this.status = change < -tolerance ? Status.REGRESSION : change > tolerance ? Status.IMPROVEMENT : Status.UNCHANGED;
+			}
+		}
+	}
+
+	/**
+	 * Returns the baseline file for the given name, usually the simple name of
+	 * the benchmark class.
+	 * 
+	 * @param name
+	 *            the benchmark class or include pattern
+	 * @return the baseline file in {@link #BASELINE_DIR}
+	 */
+	public static File baselineFile(String name) {
+		return new File(BASELINE_DIR, fileName(name));
+	}
+
+	/**
+	 * Returns the file for the JSON results of the current run.
+	 * 
+	 * @param name
+	 *            the benchmark class or include pattern
+	 * @return the results file in {@link #RESULTS_DIR}
+	 */
+	public static File resultsFile(String name) {
+		return new File(RESULTS_DIR, fileName(name));
+	}
+
+	private static String fileName(String name) {
+		final String simpleName = name.substring(name.lastIndexOf('.') + 1);
+		return simpleName.replaceAll("[^A-Za-z0-9_-]", "_") + ".json";
+	}
+
+	/**
+	 * Reads the scores from a jmh result file in JSON format.
+	 * 
+	 * @param jsonFile
+	 *            the file written with {@code ResultFormatType.JSON}
+	 * @return the scores by key, the key consisting of benchmark name and parameters
+	 * @throws IOException
+	 *             if reading the file fails
+	 * @throws IllegalArgumentException
+	 *             if the file is not a valid jmh JSON result file
+	 */
+	public static Map<String, Score> readScores(File jsonFile) throws IOException {
+		final String json = new String(Files.readAllBytes(jsonFile.toPath()), StandardCharsets.UTF_8);
+		final Map<String, Score> scores = new LinkedHashMap<String, Score>();
+		for (final Object element : (List<?>) new JsonParser(json).parse()) {
+			final Map<?, ?> result = (Map<?, ?>) element;
+			final Map<?, ?> metric = (Map<?, ?>) result.get("primaryMetric");
+			final Score score = new Score(toDouble(metric.get("score")), toDouble(metric.get("scoreError")),
+					String.valueOf(metric.get("scoreUnit")), "thrpt".equals(result.get("mode")));
+			scores.put(key(result), score);
+		}
+		return scores;
+	}
+
+	private static String key(Map<?, ?> result) {
+		final StringBuilder sb = new StringBuilder().append(result.get("benchmark"));
+		final Object params = result.get("params");
+		if (params instanceof Map) {
+			//sort parameters so that the key does not depend on the order in the file
+			String sep = "(";
+			for (final Map.Entry<?, ?> param : new TreeMap<Object, Object>((Map<?, ?>) params).entrySet()) {
+				sb.append(sep).append(param.getKey()).append('=').append(param.getValue());
+				sep = ", ";
+			}
+			sb.append(')');
+		}
+		return sb.toString();
+	}
+
+	private static double toDouble(Object value) {
+		return value == null ? Double.NaN : Double.parseDouble(String.valueOf(value));
+	}
+
+	/**
+	 * Compares current scores with the baseline.
+	 * 
+	 * @param baseline
+	 *            the baseline scores
+	 * @param current
+	 *            the current scores
+	 * @param tolerance
+	 *            the relative tolerance, for instance 0.1 for 10%
+	 * @return the comparison for every key in baseline or current scores
+	 */
+	public static List<Comparison> compare(Map<String, Score> baseline, Map<String, Score> current, double tolerance) {
+		final List<Comparison> comparisons = new ArrayList<Comparison>();
+		for (final Map.Entry<String, Score> entry : current.entrySet()) {
+			comparisons.add(new Comparison(entry.getKey(), baseline.get(entry.getKey()), entry.getValue(), tolerance));
+		}
+		for (final Map.Entry<String, Score> entry : baseline.entrySet()) {
+			if (!current.containsKey(entry.getKey())) {
+				comparisons.add(new Comparison(entry.getKey(), entry.getValue(), null, tolerance));
+			}
+		}
+		return comparisons;
+	}
+
+	/**
+	 * Prints a summary table with all comparisons followed by the number of
+	 * regressions and improvements.
+	 * 
+	 * @param comparisons
+	 *            the comparisons to print
+	 * @param tolerance
+	 *            the tolerance used for the comparisons
+	 * @param out
+	 *            the output stream
+	 * @return the number of regressions
+	 */
+	public static int printSummary(List<Comparison> comparisons, double tolerance, PrintStream out) {
+		int width = "Benchmark".length();
+		for (final Comparison comparison : comparisons) {
+			width = Math.max(width, comparison.key.length());
+		}
+		final String format = "%-" + width + "s  %14s  %14s  %8s  %s%n";
+		out.printf(format, "Benchmark", "Baseline", "Current", "Change", "Status");
+		final int[] counts = new int[Status.values().length];
+		for (final Comparison comparison : comparisons) {
+			out.printf(format, comparison.key, format(comparison.baseline), format(comparison.current),
+					Double.isNaN(comparison.change) ? "" : String.format("%+.1f%%", 100 * comparison.change), comparison.status);
+			counts[comparison.status.ordinal()]++;
+		}
+		out.printf("%d regressions, %d improvements, %d unchanged, %d new, %d missing (tolerance %.1f%%)%n",
+				counts[Status.REGRESSION.ordinal()], counts[Status.IMPROVEMENT.ordinal()],
+				counts[Status.UNCHANGED.ordinal()], counts[Status.NEW.ordinal()], counts[Status.MISSING.ordinal()],
+				100 * tolerance);
+		return counts[Status.REGRESSION.ordinal()];
+	}
+
+	private static String format(Score score) {
+		return score == null ? "-" : String.format("%.3f %s", score.score, score.unit);
+	}
+
+	/**
+	 * Compares two result files and exits with a non-zero status if there are
+	 * regressions.
+	 * 
+	 * @param args
+	 *            baseline file, current file and optional tolerance
+	 * @throws IOException
+	 *             if reading a file fails
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("usage: " + BenchmarkBaseline.class.getName() + " <baseline.json> <current.json> [tolerance]");
+			System.exit(2);
+		}
+		final double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE;
+		final List<Comparison> comparisons = compare(readScores(new File(args[0])), readScores(new File(args[1])), tolerance);
+		if (printSummary(comparisons, tolerance, System.out) > 0) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Minimal JSON parser returning maps, lists, strings, numbers (as string),
+	 * booleans and null.
+	 */
+	private static final class JsonParser {
+		private final String json;
+		private int pos;
+
+		JsonParser(String json) {
+			this.json = json;
+		}
+
+		Object parse() {
+			final Object value = parseValue();
+			skipWhitespace();
+			if (pos != json.length()) {
+				throw error("unexpected trailing characters");
+			}
+			return value;
+		}
+
+		private Object parseValue() {
+			skipWhitespace();
+			if (pos >= json.length()) {
+				throw error("unexpected end of input");
+			}
+			final char ch = json.charAt(pos);
+			switch (ch) {
+			case '{':
+				return parseObject();
+			case '[':
+				return parseArray();
+			case '"':
+				return parseString();
+			default:
+				return parseLiteral();
+			}
+		}
+
+		private Map<String, Object> parseObject() {
+			final Map<String, Object> map = new LinkedHashMap<String, Object>();
+			pos++;//skip '{'
+			skipWhitespace();
+			if (peek() == '}') {
+				pos++;
+				return map;
+			}
+			while (true) {
+				skipWhitespace();
+				final String key = parseString();
+				skipWhitespace();
+				expect(':');
+				map.put(key, parseValue());
+				skipWhitespace();
+				if (peek() == ',') {
+					pos++;
+				} else {
+					expect('}');
+					return map;
+				}
+			}
+		}
+
+		private List<Object> parseArray() {
+			final List<Object> list = new ArrayList<Object>();
+			pos++;//skip '['
+			skipWhitespace();
+			if (peek() == ']') {
+				pos++;
+				return list;
+			}
+			while (true) {
+				list.add(parseValue());
+				skipWhitespace();
+				if (peek() == ',') {
+					pos++;
+				} else {
+					expect(']');
+					return list;
+				}
+			}
+		}
+
+		private String parseString() {
+			expect('"');
+			final StringBuilder sb = new StringBuilder();
+			while (true) {
+				final char ch = next();
+				if (ch == '"') {
+					return sb.toString();
+				}
+				if (ch != '\\') {
+					sb.append(ch);
+					continue;
+				}
+				final char esc = next();
+				switch (esc) {
+				case 'n':
+					sb.append('\n');
+					break;
+				case 't':
+					sb.append('\t');
+					break;
+				case 'r':
+					sb.append('\r');
+					break;
+				case 'b':
+					sb.append('\b');
+					break;
+				case 'f':
+					sb.append('\f');
+					break;
+				case 'u':
+					if (pos + 4 > json.length()) {
+						throw error("invalid unicode escape");
+					}
+					sb.append((char) Integer.parseInt(json.substring(pos, pos + 4), 16));
+					pos += 4;
+					break;
+				default:
+					sb.append(esc);
+				}
+			}
+		}
+
+		private Object parseLiteral() {
+			final int start = pos;
+			while (pos < json.length() && ",}] \t\r\n".indexOf(json.charAt(pos)) < 0) {
+				pos++;
+			}
+			final String literal = json.substring(start, pos);
+			if (literal.isEmpty()) {
+				throw error("value expected");
+			}
+			if ("null".equals(literal)) {
+				return null;
+			}
+			if ("true".equals(literal) || "false".equals(literal)) {
+				return Boolean.valueOf(literal);
+			}
+			return literal;
+		}
+
+		private void skipWhitespace() {
+			while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+				pos++;
+			}
+		}
+
+		private char peek() {
+			if (pos >= json.length()) {
+				throw error("unexpected end of input");
+			}
+			return json.charAt(pos);
+		}
+
+		private char next() {
+			final char ch = peek();
+			pos++;
+			return ch;
+		}
+
+		private void expect(char expected) {
+			if (next() != expected) {
+				pos--;
+				throw error("'" + expected + "' expected");
+			}
+		}
+
+		private IllegalArgumentException error(String message) {
+			return new IllegalArgumentException("Invalid JSON at position " + pos + ": " + message);
+		}
+	}
+
+	// no instances
+	private BenchmarkBaseline() {
+		super();
+	}
+}
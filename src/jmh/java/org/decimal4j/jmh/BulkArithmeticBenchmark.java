@@ -0,0 +1,129 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.jmh.state.BulkBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for unchecked bulk addition, subtraction and negation of
+ * unscaled decimal arrays. Compares a loop calling the single value operation
+ * with the bulk operation using the scalar kernel and the bulk operation using
+ * the vectorized kernel.
+ * <p>
+ * The vectorized benchmarks require Java 17 or newer as the
+ * {@code jdk.incubator.vector} module is added to the forked JVM.
+ */
+public class BulkArithmeticBenchmark extends AbstractBenchmark {
+
+	private static final String JVM_ARG_SCALAR = "-Ddecimal4j.vectorize=false";
+	private static final String JVM_ARG_VECTOR = "--add-modules=jdk.incubator.vector";
+
+	@Benchmark
+	public final void addLoop(BulkBenchmarkState state, Blackhole blackhole) {
+		final DecimalArithmetic arith = state.arithmetic;
+		final long[] a = state.unscaled1;
+		final long[] b = state.unscaled2;
+		final long[] result = state.result;
+		for (int i = 0; i < result.length; i++) {
+			result[i] = arith.add(a[i], b[i]);
+		}
+		blackhole.consume(result);
+	}
+
+	@Benchmark
+	@Fork(jvmArgsAppend = JVM_ARG_SCALAR)
+	public final void addBulkScalar(BulkBenchmarkState state, Blackhole blackhole) {
+		state.arithmetic.add(state.unscaled1, state.unscaled2, state.result, 0, state.length);
+		blackhole.consume(state.result);
+	}
+
+	@Benchmark
+	@Fork(jvmArgsAppend = JVM_ARG_VECTOR)
+	public final void addBulkVector(BulkBenchmarkState state, Blackhole blackhole) {
+		state.arithmetic.add(state.unscaled1, state.unscaled2, state.result, 0, state.length);
+		blackhole.consume(state.result);
+	}
+
+	@Benchmark
+	public final void subtractLoop(BulkBenchmarkState state, Blackhole blackhole) {
+		final DecimalArithmetic arith = state.arithmetic;
+		final long[] a = state.unscaled1;
+		final long[] b = state.unscaled2;
+		final long[] result = state.result;
+		for (int i = 0; i < result.length; i++) {
+			result[i] = arith.subtract(a[i], b[i]);
+		}
+		blackhole.consume(result);
+	}
+
+	@Benchmark
+	@Fork(jvmArgsAppend = JVM_ARG_SCALAR)
+	public final void subtractBulkScalar(BulkBenchmarkState state, Blackhole blackhole) {
+		state.arithmetic.subtract(state.unscaled1, state.unscaled2, state.result, 0, state.length);
+		blackhole.consume(state.result);
+	}
+
+	@Benchmark
+	@Fork(jvmArgsAppend = JVM_ARG_VECTOR)
+	public final void subtractBulkVector(BulkBenchmarkState state, Blackhole blackhole) {
+		state.arithmetic.subtract(state.unscaled1, state.unscaled2, state.result, 0, state.length);
+		blackhole.consume(state.result);
+	}
+
+	@Benchmark
+	public final void negateLoop(BulkBenchmarkState state, Blackhole blackhole) {
+		final DecimalArithmetic arith = state.arithmetic;
+		final long[] a = state.unscaled1;
+		final long[] result = state.result;
+		for (int i = 0; i < result.length; i++) {
+			result[i] = arith.negate(a[i]);
+		}
+		blackhole.consume(result);
+	}
+
+	@Benchmark
+	@Fork(jvmArgsAppend = JVM_ARG_SCALAR)
+	public final void negateBulkScalar(BulkBenchmarkState state, Blackhole blackhole) {
+		state.arithmetic.negate(state.unscaled1, state.result, 0, state.length);
+		blackhole.consume(state.result);
+	}
+
+	@Benchmark
+	@Fork(jvmArgsAppend = JVM_ARG_VECTOR)
+	public final void negateBulkVector(BulkBenchmarkState state, Blackhole blackhole) {
+		state.arithmetic.negate(state.unscaled1, state.result, 0, state.length);
+		blackhole.consume(state.result);
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(BulkArithmeticBenchmark.class);
+	}
+}
@@ -28,6 +28,7 @@ import java.math.BigDecimal;
 
 import org.decimal4j.api.Decimal;
 import org.decimal4j.jmh.state.ConvertFromStringBenchmarkState;
+import org.decimal4j.jmh.state.ConvertFromStringDigitsBenchmarkState;
 import org.decimal4j.jmh.state.Values;
 import org.decimal4j.scale.ScaleMetrics;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -71,6 +72,47 @@ public class ConvertFromStringBenchmark extends AbstractBenchmark {
 			blackhole.consume(nativeDecimals(state, state.values[i]));
 		}
 	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsFromBytes(ConvertFromStringBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimalsFromBytes(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsFromDirectBuffer(ConvertFromStringBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimalsFromDirectBuffer(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void bigDecimalsByDigits(ConvertFromStringDigitsBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(new BigDecimal(state.strings[i], state.mcLong64));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsByDigits(ConvertFromStringDigitsBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(state.arithmetic.parse(state.strings[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsFromBytesByDigits(ConvertFromStringDigitsBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			final byte[] ascii = state.ascii[i];
+			blackhole.consume(state.arithmetic.parse(ascii, 0, ascii.length));
+		}
+	}
 	
 	private static final <S extends ScaleMetrics> BigDecimal bigDecimals(ConvertFromStringBenchmarkState state, Values<S> values) {
 		return new BigDecimal(values.string1, state.mcLong64);
@@ -88,6 +130,14 @@ public class ConvertFromStringBenchmark extends AbstractBenchmark {
 		return state.arithmetic.parse(values.string1);//rounding mode is in arithmetic
 	}
 
+	private static final <S extends ScaleMetrics> long nativeDecimalsFromBytes(ConvertFromStringBenchmarkState state, Values<S> values) {
+		return state.arithmetic.parse(values.ascii1, 0, values.ascii1.length);//rounding mode is in arithmetic
+	}
+
+	private static final <S extends ScaleMetrics> long nativeDecimalsFromDirectBuffer(ConvertFromStringBenchmarkState state, Values<S> values) {
+		return state.arithmetic.parse(values.directAscii1, 0, values.directAscii1.limit());//rounding mode is in arithmetic
+	}
+
 	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
 		run(ConvertFromStringBenchmark.class);
 	}
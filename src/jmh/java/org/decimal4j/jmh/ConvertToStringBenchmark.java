@@ -24,6 +24,7 @@
 package org.decimal4j.jmh;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.jmh.state.ConvertToStringBenchmarkState;
 import org.decimal4j.jmh.state.Values;
@@ -86,6 +87,22 @@ public class ConvertToStringBenchmark extends AbstractBenchmark {
 		}
 	}
 
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsToBytes(ConvertToStringBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimalsToBytes(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsToDirectBuffer(ConvertToStringBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimalsToDirectBuffer(state, state.values[i]));
+		}
+	}
+
 	private static final <S extends ScaleMetrics> String bigDecimals(ConvertToStringBenchmarkState state, Values<S> values) {
 		return values.bigDecimal1.toString();
 	}
@@ -112,6 +129,16 @@ public class ConvertToStringBenchmark extends AbstractBenchmark {
 		return appendable;
 	}
 
+	private static final <S extends ScaleMetrics> int nativeDecimalsToBytes(ConvertToStringBenchmarkState state, Values<S> values) {
+		return state.arithmetic.format(values.unscaled1, state.bytes, 0);
+	}
+
+	private static final <S extends ScaleMetrics> int nativeDecimalsToDirectBuffer(ConvertToStringBenchmarkState state, Values<S> values) {
+		final ByteBuffer buffer = state.directBuffer;
+		buffer.clear();
+		return state.arithmetic.format(values.unscaled1, buffer);
+	}
+
 	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
 		run(ConvertToStringBenchmark.class);
 	}
@@ -0,0 +1,92 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.jmh.state.DecimalAdderBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for concurrent additions to a shared total comparing a
+ * striped {@link org.decimal4j.concurrent.DecimalAdder DecimalAdder} with a
+ * synchronized {@link MutableDecimal} and a CAS loop on an
+ * {@link java.util.concurrent.atomic.AtomicLong AtomicLong}.
+ * <p>
+ * The benchmarks in this class run with a single thread; the nested subclasses
+ * run the same benchmarks with 2, 4, 8 and the maximum number of threads.
+ */
+@Threads(1)
+public class DecimalAdderBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	public final void decimalAdder(DecimalAdderBenchmarkState state) {
+		state.adder.addUnscaled(state.unscaled);
+	}
+
+	@Benchmark
+	public final void synchronizedMutableDecimal(DecimalAdderBenchmarkState state) {
+		final MutableDecimal<?> mutable = state.mutable;
+		synchronized (mutable) {
+			mutable.addUnscaled(state.unscaled);
+		}
+	}
+
+	@Benchmark
+	public final void atomicLongCas(DecimalAdderBenchmarkState state) {
+		final DecimalArithmetic arith = state.arithmetic;
+		long current;
+		do {
+			current = state.atomic.get();
+		} while (!state.atomic.compareAndSet(current, arith.add(current, state.unscaled)));
+	}
+
+	@Threads(2)
+	public static class Threads2 extends DecimalAdderBenchmark {
+		//benchmarks inherited
+	}
+
+	@Threads(4)
+	public static class Threads4 extends DecimalAdderBenchmark {
+		//benchmarks inherited
+	}
+
+	@Threads(8)
+	public static class Threads8 extends DecimalAdderBenchmark {
+		//benchmarks inherited
+	}
+
+	@Threads(Threads.MAX)
+	public static class ThreadsMax extends DecimalAdderBenchmark {
+		//benchmarks inherited
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(DecimalAdderBenchmark.class);
+	}
+}
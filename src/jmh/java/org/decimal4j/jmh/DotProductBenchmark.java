@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import org.decimal4j.jmh.state.DotProductBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for the sum of products of 100 value pairs comparing a
+ * naive loop with multiply and add, the fused dot product of the arithmetic
+ * with a single rounding step and an exact {@link BigDecimal} calculation.
+ */
+public class DotProductBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final BigDecimal bigDecimals(DotProductBenchmarkState state) {
+		BigDecimal sum = BigDecimal.ZERO;
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			sum = sum.add(state.bigDecimals1[i].multiply(state.bigDecimals2[i]));
+		}
+		return sum.setScale(state.scale, state.roundingMode);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final long multiplyAddLoop(DotProductBenchmarkState state) {
+		long sum = 0;
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			sum = state.arithmetic.add(sum, state.arithmetic.multiply(state.unscaled1[i], state.unscaled2[i]));
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final long fusedMultiplyAddLoop(DotProductBenchmarkState state) {
+		long sum = 0;
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			sum = state.arithmetic.multiplyAdd(sum, state.unscaled1[i], state.unscaled2[i]);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final long dotProduct(DotProductBenchmarkState state) {
+		return state.arithmetic.dotProduct(state.unscaled1, state.unscaled2, 0, OPERATIONS_PER_INVOCATION);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final long dotProductChecked(DotProductBenchmarkState state) {
+		return state.checkedArithmetic.dotProduct(state.unscaled1, state.unscaled2, 0, OPERATIONS_PER_INVOCATION);
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(DotProductBenchmark.class);
+	}
+}
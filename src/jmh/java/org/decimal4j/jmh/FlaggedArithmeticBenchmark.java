@@ -0,0 +1,80 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+
+import org.decimal4j.arithmetic.ArithmeticStatus;
+import org.decimal4j.jmh.state.FlaggedArithmeticBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for multiplication with and without overflow comparing
+ * checked arithmetic which throws an exception on overflow with
+ * {@link org.decimal4j.arithmetic.FlaggedArithmetic FlaggedArithmetic} which
+ * raises a status flag instead.
+ */
+public class FlaggedArithmeticBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void checkedMultiply(FlaggedArithmeticBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			try {
+				blackhole.consume(state.checkedArithmetic.multiply(state.unscaled1[i], state.unscaled2[i]));
+			} catch (ArithmeticException e) {
+				blackhole.consume(false);
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void flaggedMultiply(FlaggedArithmeticBenchmarkState state, Blackhole blackhole) {
+		final ArithmeticStatus status = state.status;
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			final long result = state.flaggedArithmetic.multiply(state.unscaled1[i], state.unscaled2[i], status.clear());
+			if (status.isOverflow()) {
+				blackhole.consume(false);
+			} else {
+				blackhole.consume(result);
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void uncheckedMultiply(FlaggedArithmeticBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(state.arithmetic.multiply(state.unscaled1[i], state.unscaled2[i]));
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(FlaggedArithmeticBenchmark.class);
+	}
+}
@@ -29,34 +29,80 @@ import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
 import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.results.format.ResultFormat;
 import org.openjdk.jmh.results.format.ResultFormatFactory;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
-import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
 public class JmhRunner {
+
+	/** Program argument to run the benchmarks with the gc profiler*/
+	public static final String GC_MODE = "gc";
+
+	/** Program argument to record the results as new baseline in {@link BenchmarkBaseline#BASELINE_DIR}*/
+	public static final String RECORD_MODE = "record";
+
+	/** Program argument to compare the results with the baseline and fail on regressions*/
+	public static final String COMPARE_MODE = "compare";
+
+	/** Prefix of the program argument with the relative tolerance for {@link #COMPARE_MODE}, e.g. "tolerance=0.05"*/
+	public static final String TOLERANCE_PREFIX = "tolerance=";
+
+	/** System property with comma separated modes passed to the benchmark process, e.g. "compare,tolerance=0.05"*/
+	public static final String MODES_PROPERTY = "decimal4j.jmh.modes";
+
+	/**
+	 * Maximum bytes per operation tolerated for {@link AllocationFree} benchmarks,
+	 * slightly above zero since the gc profiler measures the whole benchmark
+	 * thread including a few bytes of jmh infrastructure.
+	 */
+	public static final double ALLOCATION_FREE_MAX_BYTES_PER_OP = 1.0;
+
+	private static final String ALLOCATION_RATE_NORM_LABEL = "gc.alloc.rate.norm";
 	
 	private final Class<?> benchmarkClass;
+	private final String[] modes;
 
 	public JmhRunner(Class<?> benchmarkClass) {
+		this(benchmarkClass, modesFromSystemProperty());
+	}
+
+	public JmhRunner(Class<?> benchmarkClass, String... modes) {
 		if (benchmarkClass == null) {
 			throw new NullPointerException("benchmarkClass cannot be null");
 		}
 		this.benchmarkClass = benchmarkClass;
+		this.modes = modes.clone();
+	}
+
+	private static String[] modesFromSystemProperty() {
+		final String modes = System.getProperty(MODES_PROPERTY, "").trim();
+		return modes.isEmpty() ? new String[0] : modes.split("\\s*,\\s*");
 	}
+
 	public void run() throws RunnerException, IOException, InterruptedException {
 		final File jmhJar = findJmhJar();
-		final Process process = Runtime.getRuntime().exec("java -cp " + jmhJar.getAbsolutePath() + " " + JmhRunner.class.getName() + " " + benchmarkClass.getName());
+		final StringBuilder command = new StringBuilder("java -cp ").append(jmhJar.getAbsolutePath());
+		command.append(' ').append(JmhRunner.class.getName()).append(' ').append(benchmarkClass.getName());
+		for (final String mode : modes) {
+			command.append(' ').append(mode);
+		}
+		final Process process = Runtime.getRuntime().exec(command.toString());
 		final Reader r1 = new Reader(process.getInputStream());
 		final Reader r2 = new Reader(process.getErrorStream());
 		r1.start();
@@ -127,7 +173,24 @@ public class JmhRunner {
 		} else {
 			include = args[0];
 		}
-		final Options opt = new OptionsBuilder()//
+		boolean gcProfiler = false;
+		boolean record = false;
+		boolean compare = false;
+		double tolerance = BenchmarkBaseline.DEFAULT_TOLERANCE;
+		for (int i = 1; i < args.length; i++) {
+			if (GC_MODE.equals(args[i])) {
+				gcProfiler = true;
+			} else if (RECORD_MODE.equals(args[i])) {
+				record = true;
+			} else if (COMPARE_MODE.equals(args[i])) {
+				compare = true;
+			} else if (args[i].startsWith(TOLERANCE_PREFIX)) {
+				tolerance = Double.parseDouble(args[i].substring(TOLERANCE_PREFIX.length()));
+			} else {
+				throw new IllegalArgumentException("unknown mode: " + args[i]);
+			}
+		}
+		final ChainedOptionsBuilder opt = new OptionsBuilder()//
 			.include(include)//
 			.mode(Mode.Throughput)//
 			.measurementIterations(3)//
@@ -136,13 +199,102 @@ public class JmhRunner {
 			.forks(1)//
 			.timeUnit(TimeUnit.MICROSECONDS)//
 			.warmupIterations(3)//
-			.warmupTime(TimeValue.milliseconds(1000))//
-			.build();
-		final Collection<RunResult> runResult = new Runner(opt).run();
+			.warmupTime(TimeValue.milliseconds(1000));
+		if (gcProfiler) {
+			opt.addProfiler(GCProfiler.class);
+		}
+		final Collection<RunResult> runResult = new Runner(opt.build()).run();
 		System.out.flush();
 		final ResultFormat resultFormat = ResultFormatFactory.getInstance(ResultFormatType.CSV, System.out);
 		resultFormat.writeOut(runResult);
 		System.out.flush();
+		int regressions = 0;
+		if (record) {
+			writeJson(runResult, BenchmarkBaseline.baselineFile(include));
+		}
+		if (compare) {
+			final File baselineFile = BenchmarkBaseline.baselineFile(include);
+			final File resultsFile = BenchmarkBaseline.resultsFile(include);
+			writeJson(runResult, resultsFile);
+			if (baselineFile.exists()) {
+				final List<BenchmarkBaseline.Comparison> comparisons = BenchmarkBaseline.compare(BenchmarkBaseline.readScores(baselineFile), BenchmarkBaseline.readScores(resultsFile), tolerance);
+				regressions = BenchmarkBaseline.printSummary(comparisons, tolerance, System.out);
+			} else {
+				System.err.println("no baseline file '" + baselineFile.getPath() + "' found, hint: run with mode '" + RECORD_MODE + "' first");
+			}
+		}
+		if (gcProfiler) {
+			final List<String> violations = findAllocationFreeViolations(runResult);
+			for (final String violation : violations) {
+				System.err.println("ALLOCATING: " + violation);
+			}
+			if (!violations.isEmpty()) {
+				System.exit(1);
+			}
+		}
+		if (regressions > 0) {
+			System.exit(1);
+		}
+	}
+
+	private static void writeJson(Collection<RunResult> runResult, File file) {
+		final File dir = file.getAbsoluteFile().getParentFile();
+		if (!dir.isDirectory() && !dir.mkdirs()) {
+			throw new IllegalStateException("cannot create directory '" + dir + "'");
+		}
+		ResultFormatFactory.getInstance(ResultFormatType.JSON, file.getPath()).writeOut(runResult);
+		System.out.println("results written to '" + file.getPath() + "'");
+	}
+
+	/**
+	 * Returns a description for every {@link AllocationFree} benchmark whose
+	 * normalized allocation rate exceeds {@link #ALLOCATION_FREE_MAX_BYTES_PER_OP}.
+	 * 
+	 * @param runResults
+	 *            the results of a benchmark run with the gc profiler
+	 * @return the violations, empty if all allocation free benchmarks are free of allocations
+	 */
+	static List<String> findAllocationFreeViolations(Collection<RunResult> runResults) {
+		final List<String> violations = new ArrayList<String>();
+		for (final RunResult runResult : runResults) {
+			final String benchmark = runResult.getParams().getBenchmark();
+			if (!isAllocationFree(benchmark)) {
+				continue;
+			}
+			for (final String label : runResult.getSecondaryResults().keySet()) {
+				if (label.endsWith(ALLOCATION_RATE_NORM_LABEL)) {
+					final Result<?> secondary = runResult.getSecondaryResults().get(label);
+					final double bytesPerOp = secondary.getScore();
+					if (bytesPerOp > ALLOCATION_FREE_MAX_BYTES_PER_OP) {
+						violations.add(benchmark + paramsOf(runResult) + ": " + bytesPerOp + " bytes/op");
+					}
+				}
+			}
+		}
+		return violations;
+	}
+
+	private static String paramsOf(RunResult runResult) {
+		final StringBuilder sb = new StringBuilder();
+		for (final String key : runResult.getParams().getParamsKeys()) {
+			sb.append(sb.length() == 0 ? "(" : ", ").append(key).append('=').append(runResult.getParams().getParam(key));
+		}
+		return sb.length() == 0 ? "" : sb.append(')').toString();
+	}
+
+	private static boolean isAllocationFree(String benchmark) {
+		final int dot = benchmark.lastIndexOf('.');
+		final String methodName = benchmark.substring(dot + 1);
+		try {
+			for (final Method method : Class.forName(benchmark.substring(0, dot)).getMethods()) {
+				if (method.getName().equals(methodName) && method.isAnnotationPresent(AllocationFree.class)) {
+					return true;
+				}
+			}
+			return false;
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("benchmark class not found for " + benchmark, e);
+		}
 	}
 
 }
@@ -0,0 +1,114 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.jmh.state.MegamorphicBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for call sites seeing many different scales and rounding
+ * modes as it is the case in applications mixing several decimal types.
+ * <p>
+ * The state warms up all operations with arithmetics for
+ * {@link MegamorphicBenchmarkState#scaleCount scaleCount} scales and
+ * {@link MegamorphicBenchmarkState#roundingModeCount roundingModeCount}
+ * rounding modes before measuring. The {@code single*} benchmarks then
+ * measure a single arithmetic with polluted type profiles while the
+ * {@code mixed*} benchmarks keep cycling through all arithmetics. The
+ * throughput degradation is the ratio between the results for
+ * {@code scaleCount=1, roundingModeCount=1} and the other parameters.
+ */
+public class MegamorphicBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void singleMultiply(MegamorphicBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(multiply(state.arithmetic, state.unscaled1[i], state.unscaled2[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void mixedMultiply(MegamorphicBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(multiply(state.arithmetics[i], state.unscaled1[i], state.unscaled2[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void singleDivide(MegamorphicBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(divide(state.arithmetic, state.unscaled1[i], state.unscaled2[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void mixedDivide(MegamorphicBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(divide(state.arithmetics[i], state.unscaled1[i], state.unscaled2[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void singleToString(MegamorphicBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(toString(state.arithmetic, state.unscaled1[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void mixedToString(MegamorphicBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(toString(state.arithmetics[i], state.unscaled1[i]));
+		}
+	}
+
+	//NOTE: public and shared with the state so that the warm-up pollutes the profiles of the very same call sites
+	public static final long multiply(DecimalArithmetic arithmetic, long uDecimal1, long uDecimal2) {
+		return arithmetic.multiply(uDecimal1, uDecimal2);
+	}
+
+	public static final long divide(DecimalArithmetic arithmetic, long uDecimalDividend, long uDecimalDivisor) {
+		return arithmetic.divide(uDecimalDividend, uDecimalDivisor);
+	}
+
+	public static final String toString(DecimalArithmetic arithmetic, long uDecimal) {
+		return arithmetic.toString(uDecimal);
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(MegamorphicBenchmark.class);
+	}
+}
@@ -0,0 +1,207 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+
+import org.decimal4j.jmh.state.ThreadLocalBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Scalability benchmarks for operations on paths that use {@link ThreadLocal}
+ * variables: pow (128-bit scratch decimals), toString (string builder) plus
+ * checked multiplication and division with 128-bit intermediate results.
+ * <p>
+ * The benchmarks in this class run with a single thread; the nested subclasses
+ * run the same benchmarks with 2, 4, 8, 16 and the maximum number of threads.
+ * The benchmarks ending with {@code InNewThread} execute the operations in a
+ * newly started thread to include the initial allocation of the thread local
+ * values; {@link #newThreadOnly(ThreadLocalBenchmarkState)} measures the cost
+ * of starting and joining the thread alone.
+ */
+@Threads(1)
+public class ThreadLocalBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void pow(ThreadLocalBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(state.arithmetic.pow(state.powBases[i], ThreadLocalBenchmarkState.EXPONENT));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void toString(ThreadLocalBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(state.arithmetic.toString(state.values[i].unscaled1));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void multiplyChecked(ThreadLocalBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(state.checkedArithmetic.multiply(state.values[i].unscaled1, state.values[i].unscaled2));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void divideChecked(ThreadLocalBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(state.checkedArithmetic.divide(state.divideValues[i].unscaled1, state.divideValues[i].unscaled2));
+		}
+	}
+
+	@Benchmark
+	public final long newThreadOnly(ThreadLocalBenchmarkState state) throws InterruptedException {
+		return inNewThread(state, null);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final long powInNewThread(ThreadLocalBenchmarkState state) throws InterruptedException {
+		return inNewThread(state, Operation.POW);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final long toStringInNewThread(ThreadLocalBenchmarkState state) throws InterruptedException {
+		return inNewThread(state, Operation.TO_STRING);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final long multiplyCheckedInNewThread(ThreadLocalBenchmarkState state) throws InterruptedException {
+		return inNewThread(state, Operation.MULTIPLY_CHECKED);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final long divideCheckedInNewThread(ThreadLocalBenchmarkState state) throws InterruptedException {
+		return inNewThread(state, Operation.DIVIDE_CHECKED);
+	}
+
+	/**
+	 * Runs the operation in a new thread and waits for its termination.
+	 * 
+	 * @param state
+	 *            the benchmark state
+	 * @param operation
+	 *            the operation to run, or null to only start and join the thread
+	 * @return a value derived from all results to be returned from the benchmark
+	 */
+	private static long inNewThread(final ThreadLocalBenchmarkState state, final Operation operation) throws InterruptedException {
+		final long[] result = new long[1];
+		final Thread thread = new Thread() {
+			@Override
+			public void run() {
+				if (operation != null) {
+					result[0] = operation.run(state);
+				}
+			}
+		};
+		thread.start();
+		thread.join();
+		return result[0];
+	}
+
+	private static enum Operation {
+		POW {
+			@Override
+			long run(ThreadLocalBenchmarkState state) {
+				long result = 0;
+				for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+					result ^= state.arithmetic.pow(state.powBases[i], ThreadLocalBenchmarkState.EXPONENT);
+				}
+				return result;
+			}
+		},
+		TO_STRING {
+			@Override
+			long run(ThreadLocalBenchmarkState state) {
+				long result = 0;
+				for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+					result += state.arithmetic.toString(state.values[i].unscaled1).length();
+				}
+				return result;
+			}
+		},
+		MULTIPLY_CHECKED {
+			@Override
+			long run(ThreadLocalBenchmarkState state) {
+				long result = 0;
+				for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+					result ^= state.checkedArithmetic.multiply(state.values[i].unscaled1, state.values[i].unscaled2);
+				}
+				return result;
+			}
+		},
+		DIVIDE_CHECKED {
+			@Override
+			long run(ThreadLocalBenchmarkState state) {
+				long result = 0;
+				for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+					result ^= state.checkedArithmetic.divide(state.divideValues[i].unscaled1, state.divideValues[i].unscaled2);
+				}
+				return result;
+			}
+		};
+		abstract long run(ThreadLocalBenchmarkState state);
+	}
+
+	@Threads(2)
+	public static class Threads2 extends ThreadLocalBenchmark {
+		//benchmarks inherited
+	}
+
+	@Threads(4)
+	public static class Threads4 extends ThreadLocalBenchmark {
+		//benchmarks inherited
+	}
+
+	@Threads(8)
+	public static class Threads8 extends ThreadLocalBenchmark {
+		//benchmarks inherited
+	}
+
+	@Threads(16)
+	public static class Threads16 extends ThreadLocalBenchmark {
+		//benchmarks inherited
+	}
+
+	@Threads(Threads.MAX)
+	public static class ThreadsMax extends ThreadLocalBenchmark {
+		//benchmarks inherited
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(ThreadLocalBenchmark.class);
+	}
+}
@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.decimal4j.jmh.AbstractBenchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * State with decimal strings that have exactly {@link #digits} digits. The fraction has {@code min(scale, digits-1)}
+ * digits so that every string has at least one integral digit and can be parsed without rounding.
+ */
+@State(Scope.Benchmark)
+public class ConvertFromStringDigitsBenchmarkState extends AbstractBenchmarkState {
+
+	private static final Random RND = new Random();
+
+	@Param({ "4", "8", "12", "18" })
+	public int digits;
+
+	public final String[] strings = new String[AbstractBenchmark.OPERATIONS_PER_INVOCATION];
+	public final byte[][] ascii = new byte[AbstractBenchmark.OPERATIONS_PER_INVOCATION][];
+
+	@Setup
+	public void init() {
+		super.init(RoundingMode.HALF_UP);
+		final int fractionDigits = Math.min(scale, digits - 1);
+		final int integralDigits = digits - fractionDigits;
+		for (int i = 0; i < AbstractBenchmark.OPERATIONS_PER_INVOCATION; i++) {
+			final StringBuilder sb = new StringBuilder(digits + 2);
+			if (RND.nextBoolean()) {
+				sb.append('-');
+			}
+			sb.append((char) ('1' + RND.nextInt(9)));
+			for (int j = 1; j < digits; j++) {
+				if (j == integralDigits) {
+					sb.append('.');
+				}
+				sb.append((char) ('0' + RND.nextInt(10)));
+			}
+			strings[i] = sb.toString();
+			ascii[i] = strings[i].getBytes(StandardCharsets.US_ASCII);
+		}
+	}
+}
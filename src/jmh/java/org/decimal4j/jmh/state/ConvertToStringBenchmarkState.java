@@ -24,6 +24,7 @@
 package org.decimal4j.jmh.state;
 
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.jmh.value.BenchmarkType;
 import org.decimal4j.jmh.value.ValueType;
@@ -38,6 +39,8 @@ public class ConvertToStringBenchmarkState extends AbstractValueBenchmarkState {
 	public ValueType valueType;
 
 	public StringBuilder appendable = new StringBuilder(32);
+	public byte[] bytes = new byte[32];
+	public ByteBuffer directBuffer = ByteBuffer.allocateDirect(32);
 	@Setup
 	public void init() {
 		super.initForUnaryOp(BenchmarkType.ConvertToString, RoundingMode.UNNECESSARY, valueType);
@@ -0,0 +1,64 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.decimal4j.jmh.value.BenchmarkType;
+import org.decimal4j.jmh.value.ValueType;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class DotProductBenchmarkState extends AbstractValueBenchmarkState {
+	@Param({"Int", "Long"})
+	public ValueType valueType1;
+	@Param({"Int", "Long"})
+	public ValueType valueType2;
+	@Param({"DOWN", "HALF_UP"})
+	public RoundingMode roundingMode;
+
+	public long[] unscaled1;
+	public long[] unscaled2;
+	public BigDecimal[] bigDecimals1;
+	public BigDecimal[] bigDecimals2;
+
+	@Setup
+	public void init() {
+		initForBinaryOp(BenchmarkType.Multiply, roundingMode, valueType1, valueType2);
+		unscaled1 = new long[values.length];
+		unscaled2 = new long[values.length];
+		bigDecimals1 = new BigDecimal[values.length];
+		bigDecimals2 = new BigDecimal[values.length];
+		for (int i = 0; i < values.length; i++) {
+			unscaled1[i] = values[i].unscaled1;
+			unscaled2[i] = values[i].unscaled2;
+			bigDecimals1[i] = values[i].bigDecimal1;
+			bigDecimals2[i] = values[i].bigDecimal2;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.RoundingMode;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.jmh.AbstractBenchmark;
+import org.decimal4j.jmh.MegamorphicBenchmark;
+import org.decimal4j.jmh.value.SignType;
+import org.decimal4j.jmh.value.ValueType;
+import org.decimal4j.scale.Scales;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * State with arithmetics for {@link #scaleCount} different scales and
+ * {@link #roundingModeCount} different rounding modes. The first arithmetic
+ * is always the one for the benchmarked {@link #scale} and
+ * {@link RoundingMode#HALF_UP HALF_UP} rounding.
+ * <p>
+ * Setup calls all benchmarked operations with every arithmetic to pollute
+ * the type profiles of the call sites before any measurement starts.
+ */
+@State(Scope.Benchmark)
+public class MegamorphicBenchmarkState extends AbstractBenchmarkState {
+
+	/** Rounding modes in the order in which they are added, first one is measured*/
+	private static final RoundingMode[] ROUNDING_MODES = { RoundingMode.HALF_UP, RoundingMode.DOWN,
+			RoundingMode.HALF_EVEN, RoundingMode.FLOOR, RoundingMode.UP, RoundingMode.CEILING, RoundingMode.HALF_DOWN };
+
+	/** Number of invocations per arithmetic and operation to pollute the profiles*/
+	private static final int POLLUTION_ROUNDS = 20000;
+
+	@Param({ "1", "3", "6", "19" })
+	public int scaleCount;
+	@Param({ "1", "4" })
+	public int roundingModeCount;
+
+	/** Arithmetic for every operation index, cycling through all scales and rounding modes*/
+	public final DecimalArithmetic[] arithmetics = new DecimalArithmetic[AbstractBenchmark.OPERATIONS_PER_INVOCATION];
+	public final long[] unscaled1 = new long[AbstractBenchmark.OPERATIONS_PER_INVOCATION];
+	public final long[] unscaled2 = new long[AbstractBenchmark.OPERATIONS_PER_INVOCATION];
+
+	@Setup
+	public void init() {
+		super.init(ROUNDING_MODES[0]);
+		final DecimalArithmetic[] distinct = new DecimalArithmetic[scaleCount * roundingModeCount];
+		for (int s = 0; s < scaleCount; s++) {
+			final int otherScale = (scale + s) % (Scales.MAX_SCALE + 1);
+			for (int r = 0; r < roundingModeCount; r++) {
+				distinct[s * roundingModeCount + r] = Scales.getScaleMetrics(otherScale).getArithmetic(ROUNDING_MODES[r]);
+			}
+		}
+		for (int i = 0; i < AbstractBenchmark.OPERATIONS_PER_INVOCATION; i++) {
+			arithmetics[i] = distinct[i % distinct.length];
+			unscaled1[i] = ValueType.Int.random(SignType.ALL);
+			unscaled2[i] = ValueType.Int.random(SignType.NON_ZERO);
+		}
+		pollute(distinct);
+	}
+
+	private void pollute(DecimalArithmetic[] distinct) {
+		long sum = 0;
+		for (int round = 0; round < POLLUTION_ROUNDS; round++) {
+			final int i = round % AbstractBenchmark.OPERATIONS_PER_INVOCATION;
+			for (final DecimalArithmetic arith : distinct) {
+				sum += MegamorphicBenchmark.multiply(arith, unscaled1[i], unscaled2[i]);
+				sum += MegamorphicBenchmark.divide(arith, unscaled1[i], unscaled2[i]);
+				sum += MegamorphicBenchmark.toString(arith, unscaled1[i]).length();
+			}
+		}
+		if (sum == 42) {
+			//unlikely, just make sure that the loop above is not eliminated
+			System.out.println("sum=" + sum);
+		}
+	}
+}
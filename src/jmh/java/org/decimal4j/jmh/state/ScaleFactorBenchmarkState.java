@@ -0,0 +1,59 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.decimal4j.jmh.AbstractBenchmark;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * State with random long dividends for division by the scale factor. The
+ * {@link #scaleFactor} field is not a constant and hence forces a hardware
+ * division in the benchmarks using it.
+ */
+@State(Scope.Benchmark)
+public class ScaleFactorBenchmarkState extends AbstractBenchmarkState {
+
+	private static final Random RND = new Random();
+
+	public ScaleMetrics scaleMetrics;
+	public long scaleFactor;
+	public final long[] dividends = new long[AbstractBenchmark.OPERATIONS_PER_INVOCATION];
+
+	@Setup
+	public void init() {
+		super.init(RoundingMode.DOWN);
+		scaleMetrics = Scales.getScaleMetrics(scale);
+		scaleFactor = scaleMetrics.getScaleFactor();
+		for (int i = 0; i < AbstractBenchmark.OPERATIONS_PER_INVOCATION; i++) {
+			dividends[i] = RND.nextLong();
+		}
+	}
+}
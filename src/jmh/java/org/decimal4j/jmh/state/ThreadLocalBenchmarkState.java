@@ -0,0 +1,59 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.RoundingMode;
+
+import org.decimal4j.jmh.AbstractBenchmark;
+import org.decimal4j.jmh.value.BenchmarkType;
+import org.decimal4j.jmh.value.ValueType;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.CheckedRounding;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class ThreadLocalBenchmarkState extends AbstractValueBenchmarkState {
+
+	public static final int EXPONENT = 10;
+
+	public final Values<?>[] divideValues = new Values<?>[AbstractBenchmark.OPERATIONS_PER_INVOCATION];
+	public final long[] powBases = new long[AbstractBenchmark.OPERATIONS_PER_INVOCATION];
+
+	@Setup
+	public void init() {
+		//values used for multiply and toString
+		initForBinaryOp(BenchmarkType.Multiply, RoundingMode.HALF_UP, ValueType.Long, ValueType.Long);
+		final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(scale);
+		final double maxBase = Math.pow(scaleMetrics.getMaxIntegerValue(), 1.0 / EXPONENT);
+		for (int i = 0; i < AbstractBenchmark.OPERATIONS_PER_INVOCATION; i++) {
+			divideValues[i] = Values.create(BenchmarkType.Divide, this, ValueType.Long, ValueType.Long);
+			//base that does not overflow with the exponent
+			final double doubleValue = maxBase * Math.random() * Math.signum(Math.random() - 0.5);
+			powBases[i] = scaleMetrics.getArithmetic(CheckedRounding.DOWN).fromDouble(doubleValue);
+		}
+	}
+}
@@ -24,6 +24,8 @@
 package org.decimal4j.jmh.state;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import org.decimal4j.api.ImmutableDecimal;
 import org.decimal4j.api.MutableDecimal;
@@ -46,6 +48,8 @@ public final class Values<S extends ScaleMetrics> {
 	public final ImmutableDecimal<?> immutableExact2;
 	public final MutableDecimal<S> mutable;
 	public final String string1;
+	public final byte[] ascii1;
+	public final ByteBuffer directAscii1;
 
 	private Values(long unscaled1, long unscaled2, int scale, DecimalFactory<S> decimalFactory) {
 		this.unscaled1 = unscaled1;
@@ -59,6 +63,9 @@ public final class Values<S extends ScaleMetrics> {
 		this.immutableExact2 = scale <= 9 ? immutable2 : Factories.getDecimalFactory(18 - scale).valueOfUnscaled(unscaled2);
 		this.mutable = decimalFactory.newMutable();
 		this.string1 = immutable1.toString();
+		this.ascii1 = string1.getBytes(StandardCharsets.US_ASCII);
+		this.directAscii1 = ByteBuffer.allocateDirect(ascii1.length);
+		this.directAscii1.put(ascii1);
 	}
 
 	static Values<?> create(BenchmarkType benchmarkType, AbstractValueBenchmarkState benchmarkState, ValueType valueType1, ValueType valueType2) {
@@ -2251,6 +2251,85 @@ public interface Decimal<S extends ScaleMetrics> extends Comparable<Decimal<S>>
 	 */
 	Decimal<S> remainder(Decimal<S> divisor);
 
+	/**
+	 * Returns a {@code Decimal} whose value is {@code (this * multiplicand / divisor)} calculated with a single
+	 * rounding step. The result is rounded to the {@link #getScale() scale} of this Decimal using default {@link RoundingMode#HALF_UP HALF_UP} rounding. If the
+	 * operation causes an overflow, the result is silently truncated.
+	 * <p>
+	 * The product is calculated as 128 bit integer and is not rounded before the division. This avoids double rounding
+	 * and overflows of the intermediate product. {@code multiplicand} and {@code divisor} can have any scale; if their
+	 * scales differ, the scale difference is applied to the 128 bit product or to the divisor without intermediate
+	 * overflow.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param multiplicand
+	 *            factor to multiply with this {@code Decimal}
+	 * @param divisor
+	 *            value by which the product is to be divided
+	 * @return <tt>round<sub>HALF_UP</sub>(this * multiplicand / divisor)</tt>
+	 * @throws ArithmeticException
+	 *             if {@code divisor==0}
+	 */
+	Decimal<S> multiplyDivide(Decimal<?> multiplicand, Decimal<?> divisor);
+
+	/**
+	 * Returns a {@code Decimal} whose value is {@code (this * multiplicand / divisor)} calculated with a single
+	 * rounding step. The result is rounded to the {@link #getScale() scale} of this Decimal using the specified {@code roundingMode}. If the operation causes an
+	 * overflow, the result is silently truncated.
+	 * <p>
+	 * The product is calculated as 128 bit integer and is not rounded before the division. This avoids double rounding
+	 * and overflows of the intermediate product. {@code multiplicand} and {@code divisor} can have any scale; if their
+	 * scales differ, the scale difference is applied to the 128 bit product or to the divisor without intermediate
+	 * overflow.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param multiplicand
+	 *            factor to multiply with this {@code Decimal}
+	 * @param divisor
+	 *            value by which the product is to be divided
+	 * @param roundingMode
+	 *            the rounding mode to apply if the result needs to be rounded
+	 * @return <tt>round(this * multiplicand / divisor)</tt>
+	 * @throws ArithmeticException
+	 *             if {@code divisor==0} or if {@code roundingMode==UNNECESSARY} and rounding is necessary
+	 */
+	Decimal<S> multiplyDivide(Decimal<?> multiplicand, Decimal<?> divisor, RoundingMode roundingMode);
+
+	/**
+	 * Returns a {@code Decimal} whose value is {@code (this * multiplicand / divisor)} calculated with a single
+	 * rounding step. The result is rounded to the {@link #getScale() scale} of this Decimal using the {@link RoundingMode}
+	 * specified by the {@code truncationPolicy} argument. The {@code truncationPolicy} also defines the
+	 * {@link OverflowMode} to apply if an overflow occurs.
+	 * <p>
+	 * The product is calculated as 128 bit integer and is not rounded before the division. This avoids double rounding
+	 * and overflows of the intermediate product. {@code multiplicand} and {@code divisor} can have any scale; if their
+	 * scales differ, the scale difference is applied to the 128 bit product or to the divisor without intermediate
+	 * overflow.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param multiplicand
+	 *            factor to multiply with this {@code Decimal}
+	 * @param divisor
+	 *            value by which the product is to be divided
+	 * @param truncationPolicy
+	 *            the truncation policy specifying {@link RoundingMode} and {@link OverflowMode} to apply if rounding is
+	 *            necessary or if an overflow occurs
+	 * @return <tt>round(this * multiplicand / divisor)</tt>
+	 * @throws ArithmeticException
+	 *             if {@code divisor==0}, if {@code truncationPolicy} defines {@link RoundingMode#UNNECESSARY} and
+	 *             rounding is necessary or if an overflow occurs and the policy declares {@link OverflowMode#CHECKED}
+	 */
+	Decimal<S> multiplyDivide(Decimal<?> multiplicand, Decimal<?> divisor, TruncationPolicy truncationPolicy);
+
 	// other arithmetic operations
 
 	/**
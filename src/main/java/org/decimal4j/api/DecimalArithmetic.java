@@ -24,6 +24,7 @@
 package org.decimal4j.api;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
@@ -218,6 +219,33 @@ public interface DecimalArithmetic {
 	 */
 	long add(long uDecimal1, long uDecimal2);
 
+	/**
+	 * Calculates the sums of the unscaled decimal values in two arrays for every index {@code i} in
+	 * {@code [offset, offset+length)}, that is, {@code result[i] = uDecimals1[i] + uDecimals2[i]}. The result for
+	 * every element is identical to the result of {@link #add(long, long)} for the same arguments.
+	 * <p>
+	 * The {@code result} array may be the same array instance as one of the input arrays. If an exception is thrown,
+	 * the results for all elements preceding the element causing the exception have already been stored.
+	 * 
+	 * @param uDecimals1
+	 *            array with the first summands
+	 * @param uDecimals2
+	 *            array with the second summands
+	 * @param result
+	 *            array to store the sums
+	 * @param offset
+	 *            the index of the first element to process in all arrays
+	 * @param length
+	 *            the number of elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if {@code offset + length} exceeds the length of
+	 *             any of the array arguments
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw an exception
+	 * @see #add(long, long)
+	 */
+	void add(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length);
+
 	/**
 	 * Returns an unscaled decimal whose value is the sum of the specified arguments: {@code (uDecimal + lValue)}.
 	 * <p>
@@ -270,6 +298,33 @@ public interface DecimalArithmetic {
 	 */
 	long subtract(long uDecimalMinuend, long uDecimalSubtrahend);
 
+	/**
+	 * Calculates the differences of the unscaled decimal values in two arrays for every index {@code i} in
+	 * {@code [offset, offset+length)}, that is, {@code result[i] = uDecimalsMinuend[i] - uDecimalsSubtrahend[i]}. The
+	 * result for every element is identical to the result of {@link #subtract(long, long)} for the same arguments.
+	 * <p>
+	 * The {@code result} array may be the same array instance as one of the input arrays. If an exception is thrown,
+	 * the results for all elements preceding the element causing the exception have already been stored.
+	 * 
+	 * @param uDecimalsMinuend
+	 *            array with the minuends
+	 * @param uDecimalsSubtrahend
+	 *            array with the subtrahends
+	 * @param result
+	 *            array to store the differences
+	 * @param offset
+	 *            the index of the first element to process in all arrays
+	 * @param length
+	 *            the number of elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if {@code offset + length} exceeds the length of
+	 *             any of the array arguments
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw an exception
+	 * @see #subtract(long, long)
+	 */
+	void subtract(long[] uDecimalsMinuend, long[] uDecimalsSubtrahend, long[] result, int offset, int length);
+
 	/**
 	 * Returns an unscaled decimal whose value is the difference of the specified arguments: {@code (uDecimal - lValue)}
 	 * .
@@ -328,6 +383,35 @@ public interface DecimalArithmetic {
 	 */
 	long multiply(long uDecimal1, long uDecimal2);
 
+	/**
+	 * Calculates the products of the unscaled decimal values in two arrays for every index {@code i} in
+	 * {@code [offset, offset+length)}, that is, {@code result[i] = uDecimals1[i] * uDecimals2[i]}. If rounding must
+	 * be performed, this arithmetic's {@link #getRoundingMode() rounding mode} is applied. The result for every
+	 * element is identical to the result of {@link #multiply(long, long)} for the same arguments.
+	 * <p>
+	 * The {@code result} array may be the same array instance as one of the input arrays. If an exception is thrown,
+	 * the results for all elements preceding the element causing the exception have already been stored.
+	 * 
+	 * @param uDecimals1
+	 *            array with the first factors
+	 * @param uDecimals2
+	 *            array with the second factors
+	 * @param result
+	 *            array to store the products
+	 * @param offset
+	 *            the index of the first element to process in all arrays
+	 * @param length
+	 *            the number of elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if {@code offset + length} exceeds the length of
+	 *             any of the array arguments
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary or if an
+	 *             overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw an exception
+	 * @see #multiply(long, long)
+	 */
+	void multiply(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length);
+
 	/**
 	 * Returns an unscaled decimal whose value is {@code (uDecimal * lValue)} where the second argument is a true long
 	 * value instead of an unscaled decimal.
@@ -342,6 +426,33 @@ public interface DecimalArithmetic {
 	 */
 	long multiplyByLong(long uDecimal, long lValue);
 
+	/**
+	 * Multiplies the unscaled decimal values in an array by a long value for every index {@code i} in
+	 * {@code [offset, offset+length)}, that is, {@code result[i] = uDecimals[i] * lValue}. The result for every
+	 * element is identical to the result of {@link #multiplyByLong(long, long)} for the same arguments.
+	 * <p>
+	 * The {@code result} array may be the same array instance as one of the input arrays. If an exception is thrown,
+	 * the results for all elements preceding the element causing the exception have already been stored.
+	 * 
+	 * @param uDecimals
+	 *            array with the unscaled decimal values to be multiplied
+	 * @param lValue
+	 *            long value to be multiplied
+	 * @param result
+	 *            array to store the products
+	 * @param offset
+	 *            the index of the first element to process in all arrays
+	 * @param length
+	 *            the number of elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if {@code offset + length} exceeds the length of
+	 *             any of the array arguments
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw an exception
+	 * @see #multiplyByLong(long, long)
+	 */
+	void multiplyByLong(long[] uDecimals, long lValue, long[] result, int offset, int length);
+
 	/**
 	 * Returns an unscaled decimal whose value is <tt>(uDecimal * unscaled * 10<sup>-scale</sup>)</tt>. If rounding must
 	 * be performed, this arithmetic's {@link #getRoundingMode() rounding mode} is applied. Note that scale of the first
@@ -402,6 +513,145 @@ public interface DecimalArithmetic {
 	 */
 	long divide(long uDecimalDividend, long uDecimalDivisor);
 
+	/**
+	 * Calculates the quotients of the unscaled decimal values in two arrays for every index {@code i} in
+	 * {@code [offset, offset+length)}, that is, {@code result[i] = uDecimalsDividend[i] / uDecimalsDivisor[i]}. If
+	 * rounding must be performed, this arithmetic's {@link #getRoundingMode() rounding mode} is applied. The result
+	 * for every element is identical to the result of {@link #divide(long, long)} for the same arguments.
+	 * <p>
+	 * The {@code result} array may be the same array instance as one of the input arrays. If an exception is thrown,
+	 * the results for all elements preceding the element causing the exception have already been stored.
+	 * 
+	 * @param uDecimalsDividend
+	 *            array with the values to be divided
+	 * @param uDecimalsDivisor
+	 *            array with the values by which the dividends are to be divided
+	 * @param result
+	 *            array to store the quotients
+	 * @param offset
+	 *            the index of the first element to process in all arrays
+	 * @param length
+	 *            the number of elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if {@code offset + length} exceeds the length of
+	 *             any of the array arguments
+	 * @throws ArithmeticException
+	 *             if any divisor is zero, if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is
+	 *             necessary or if an overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw
+	 *             an exception
+	 * @see #divide(long, long)
+	 */
+	void divide(long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] result, int offset, int length);
+
+	/**
+	 * Returns an unscaled decimal whose value is {@code (uDecimal1 * uDecimal2 / uDecimalDivisor)} calculated with a
+	 * single rounding step. If rounding must be performed, this arithmetic's {@link #getRoundingMode() rounding mode}
+	 * is applied.
+	 * <p>
+	 * The product is calculated as 128 bit integer and then divided by the divisor. The result is hence exact before
+	 * rounding even if the product itself does not fit in a long. This is different from
+	 * {@code divide(multiply(uDecimal1, uDecimal2), uDecimalDivisor)} which rounds twice and may overflow in the
+	 * intermediate product.
+	 * <p>
+	 * Mathematically the method calculates <tt>round(uDecimal1 * uDecimal2 / uDecimalDivisor)</tt>. Note that the
+	 * scale factors of {@code uDecimal2} and {@code uDecimalDivisor} cancel out; the result is therefore also correct
+	 * if both have the same scale different from the scale of this arithmetic.
+	 * 
+	 * @param uDecimal1
+	 *            first unscaled decimal value to be multiplied
+	 * @param uDecimal2
+	 *            second unscaled decimal value to be multiplied
+	 * @param uDecimalDivisor
+	 *            unscaled decimal value by which the product is to be divided, with the same scale as
+	 *            {@code uDecimal2}
+	 * @return {@code round(uDecimal1 * uDecimal2 / uDecimalDivisor)}
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalDivisor} is zero, if {@link #getRoundingMode() rounding mode} is UNNECESSARY and
+	 *             rounding is necessary or if an overflow occurs and the {@link #getOverflowMode() overflow mode} is
+	 *             set to throw an exception
+	 */
+	long multiplyDivide(long uDecimal1, long uDecimal2, long uDecimalDivisor);
+
+	/**
+	 * Returns an unscaled decimal whose value is {@code (uDecimal1 * unscaled2 / unscaledDivisor)} calculated with a
+	 * single rounding step where {@code unscaled2} and {@code unscaledDivisor} have the given, possibly different
+	 * scales. If rounding must be performed, this arithmetic's {@link #getRoundingMode() rounding mode} is applied.
+	 * <p>
+	 * The scale difference of {@code unscaled2} and {@code unscaledDivisor} is applied to the 128 bit product or to
+	 * the divisor and not to one of the 64 bit operands. The result is hence exact before rounding and an intermediate
+	 * overflow cannot occur even if the operands cannot be rescaled to a common scale.
+	 * 
+	 * @param uDecimal1
+	 *            first unscaled decimal value to be multiplied
+	 * @param unscaled2
+	 *            second unscaled value to be multiplied
+	 * @param scale2
+	 *            the scale of {@code unscaled2}
+	 * @param unscaledDivisor
+	 *            unscaled value by which the product is to be divided
+	 * @param scaleDivisor
+	 *            the scale of {@code unscaledDivisor}
+	 * @return {@code round(uDecimal1 * unscaled2 / unscaledDivisor)}
+	 * @throws IllegalArgumentException
+	 *             if {@code scale2} or {@code scaleDivisor} is not in {@code [0, 18]}
+	 * @throws ArithmeticException
+	 *             if {@code unscaledDivisor} is zero, if {@link #getRoundingMode() rounding mode} is UNNECESSARY and
+	 *             rounding is necessary or if an overflow occurs and the {@link #getOverflowMode() overflow mode} is
+	 *             set to throw an exception
+	 * @see #multiplyDivide(long, long, long)
+	 */
+	long multiplyDivide(long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor);
+
+	/**
+	 * Returns an unscaled decimal whose value is {@code (uDecimalAddend + uDecimal1 * uDecimal2)} calculated with a
+	 * single rounding step. If rounding must be performed, this arithmetic's {@link #getRoundingMode() rounding mode}
+	 * is applied.
+	 * <p>
+	 * The product and the sum are calculated exactly as 128 bit integer and the result is rounded only once. This is
+	 * different from {@code add(uDecimalAddend, multiply(uDecimal1, uDecimal2))} which rounds the product before the
+	 * addition and may overflow in the intermediate product.
+	 * 
+	 * @param uDecimalAddend
+	 *            unscaled decimal value to be added to the product
+	 * @param uDecimal1
+	 *            first unscaled decimal value to be multiplied
+	 * @param uDecimal2
+	 *            second unscaled decimal value to be multiplied
+	 * @return {@code round(uDecimalAddend + uDecimal1 * uDecimal2)}
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary or if an
+	 *             overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw an exception
+	 */
+	long multiplyAdd(long uDecimalAddend, long uDecimal1, long uDecimal2);
+
+	/**
+	 * Returns an unscaled decimal whose value is the sum of the products {@code (uDecimals1[i] * uDecimals2[i])} for
+	 * all {@code i} from {@code offset} to {@code offset+length-1}. The result is calculated with a single rounding
+	 * step; if rounding must be performed, this arithmetic's {@link #getRoundingMode() rounding mode} is applied.
+	 * <p>
+	 * Products and partial sums are accumulated exactly in a 192 bit integer which cannot overflow for arrays of up to
+	 * 2<sup>64</sup> elements. Only the final result is rounded and, if the {@link #getOverflowMode() overflow mode}
+	 * is set to throw an exception, checked for overflow. Intermediate overflows that cancel out do hence not cause
+	 * an exception.
+	 * 
+	 * @param uDecimals1
+	 *            first unscaled decimal values to be multiplied
+	 * @param uDecimals2
+	 *            second unscaled decimal values to be multiplied
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @return {@code round(sum(uDecimals1[i] * uDecimals2[i]))}, zero if length is zero
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if {@code offset + length} exceeds the length of
+	 *             any of the array arguments
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary or if an
+	 *             overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw an exception
+	 */
+	long dotProduct(long[] uDecimals1, long[] uDecimals2, int offset, int length);
+
 	/**
 	 * Returns an unscaled decimal whose value is {@code (uDecimalDividend / lDivisor)} where the second argument is a
 	 * true long value instead of an unscaled decimal. If rounding must be performed, this arithmetic's
@@ -419,6 +669,36 @@ public interface DecimalArithmetic {
 	 */
 	long divideByLong(long uDecimalDividend, long lDivisor);
 
+	/**
+	 * Divides the unscaled decimal values in an array by a long value for every index {@code i} in
+	 * {@code [offset, offset+length)}, that is, {@code result[i] = uDecimalsDividend[i] / lDivisor}. If rounding must
+	 * be performed, this arithmetic's {@link #getRoundingMode() rounding mode} is applied. The result for every
+	 * element is identical to the result of {@link #divideByLong(long, long)} for the same arguments.
+	 * <p>
+	 * The {@code result} array may be the same array instance as one of the input arrays. If an exception is thrown,
+	 * the results for all elements preceding the element causing the exception have already been stored.
+	 * 
+	 * @param uDecimalsDividend
+	 *            array with the values to be divided
+	 * @param lDivisor
+	 *            long value by which the dividends are to be divided
+	 * @param result
+	 *            array to store the quotients
+	 * @param offset
+	 *            the index of the first element to process in all arrays
+	 * @param length
+	 *            the number of elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if {@code offset + length} exceeds the length of
+	 *             any of the array arguments
+	 * @throws ArithmeticException
+	 *             if {@code lDivisor} is zero, if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding
+	 *             is necessary or if an overflow occurs and the {@link #getOverflowMode() overflow mode} is set to
+	 *             throw an exception
+	 * @see #divideByLong(long, long)
+	 */
+	void divideByLong(long[] uDecimalsDividend, long lDivisor, long[] result, int offset, int length);
+
 	/**
 	 * Returns an unscaled decimal whose value is <tt>(uDecimal / (unscaled * 10<sup>-scale</sup>))</tt>. If rounding
 	 * must be performed, this arithmetic's {@link #getRoundingMode() rounding mode} is applied. Note that scale of the
@@ -486,6 +766,31 @@ public interface DecimalArithmetic {
 	 */
 	long abs(long uDecimal);
 
+	/**
+	 * Calculates the absolute values of the unscaled decimal values in an array for every index {@code i} in
+	 * {@code [offset, offset+length)}, that is, {@code result[i] = abs(uDecimals[i])}. The result for every element is identical
+	 * to the result of {@link #abs(long)} for the same argument.
+	 * <p>
+	 * The {@code result} array may be the same array instance as the input array. If an exception is thrown, the
+	 * results for all elements preceding the element causing the exception have already been stored.
+	 * 
+	 * @param uDecimals
+	 *            array with the unscaled decimal values
+	 * @param result
+	 *            array to store the results
+	 * @param offset
+	 *            the index of the first element to process in all arrays
+	 * @param length
+	 *            the number of elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if {@code offset + length} exceeds the length of
+	 *             any of the array arguments
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw an exception
+	 * @see #abs(long)
+	 */
+	void abs(long[] uDecimals, long[] result, int offset, int length);
+
 	/**
 	 * Returns an unscaled decimal whose value is {@code -uDecimal}.
 	 * 
@@ -497,6 +802,31 @@ public interface DecimalArithmetic {
 	 */
 	long negate(long uDecimal);
 
+	/**
+	 * Calculates the negated values of the unscaled decimal values in an array for every index {@code i} in
+	 * {@code [offset, offset+length)}, that is, {@code result[i] = -uDecimals[i]}. The result for every element is identical
+	 * to the result of {@link #negate(long)} for the same argument.
+	 * <p>
+	 * The {@code result} array may be the same array instance as the input array. If an exception is thrown, the
+	 * results for all elements preceding the element causing the exception have already been stored.
+	 * 
+	 * @param uDecimals
+	 *            array with the unscaled decimal values to negate
+	 * @param result
+	 *            array to store the results
+	 * @param offset
+	 *            the index of the first element to process in all arrays
+	 * @param length
+	 *            the number of elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if {@code offset + length} exceeds the length of
+	 *             any of the array arguments
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw an exception
+	 * @see #negate(long)
+	 */
+	void negate(long[] uDecimals, long[] result, int offset, int length);
+
 	/**
 	 * Returns an unscaled decimal whose value is the inverse of the argument: {@code 1/uDecimal}. If rounding must be
 	 * performed, this arithmetic's {@link #getRoundingMode() rounding mode} is applied.
@@ -797,6 +1127,54 @@ public interface DecimalArithmetic {
 	 */
 	long parse(CharSequence value, int start, int end);
 
+	/**
+	 * Translates the ASCII representation of a {@code Decimal} stored in a byte array into an unscaled Decimal. The
+	 * accepted format is the same as for {@link #parse(CharSequence, int, int)} where every byte represents a single
+	 * ASCII character. Rounding and exception semantics are identical to the {@code CharSequence} version. No objects
+	 * are allocated unless an exception is thrown.
+	 * 
+	 * @param value
+	 *            a byte array containing the ASCII encoded decimal value representation to be parsed
+	 * @param start
+	 *            the start index to read bytes in {@code value}, inclusive
+	 * @param end
+	 *            the end index where to stop reading in bytes in {@code value}, exclusive
+	 * @return the decimal as unscaled {@code long} value
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > value.length}
+	 * @throws NumberFormatException
+	 *             if {@code value} does not represent a valid {@code Decimal} or if the value is too large to be
+	 *             represented as a Decimal with the scale of this arithmetic
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary
+	 */
+	long parse(byte[] value, int start, int end);
+
+	/**
+	 * Translates the ASCII representation of a {@code Decimal} stored in a byte buffer into an unscaled Decimal. The
+	 * accepted format is the same as for {@link #parse(CharSequence, int, int)} where every byte represents a single
+	 * ASCII character. Rounding and exception semantics are identical to the {@code CharSequence} version.
+	 * <p>
+	 * The bytes are read using absolute indices; the buffer's position and limit are not modified. No objects are
+	 * allocated unless an exception is thrown.
+	 * 
+	 * @param value
+	 *            a byte buffer containing the ASCII encoded decimal value representation to be parsed
+	 * @param start
+	 *            the absolute start index to read bytes in {@code value}, inclusive
+	 * @param end
+	 *            the absolute end index where to stop reading in bytes in {@code value}, exclusive
+	 * @return the decimal as unscaled {@code long} value
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > value.limit()}
+	 * @throws NumberFormatException
+	 *             if {@code value} does not represent a valid {@code Decimal} or if the value is too large to be
+	 *             represented as a Decimal with the scale of this arithmetic
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary
+	 */
+	long parse(ByteBuffer value, int start, int end);
+
 	/**
 	 * Converts the specified unscaled decimal value into a long value and returns it. The arithmetic's
 	 * {@link #getRoundingMode() rounding mode} is applied if rounding is necessary.
@@ -918,4 +1296,49 @@ public interface DecimalArithmetic {
 	 *             If an I/O error occurs when appending to {@code appendable}
 	 */
 	void toString(long uDecimal, Appendable appendable) throws IOException;
+
+	/**
+	 * Writes the ASCII representation of the specified unscaled decimal value to the {@code dst} byte array starting
+	 * at {@code offset} and returns the number of bytes written. The written characters are identical to those of
+	 * {@link #toString(long)}, that is, {@code scale} fraction digits are written even if some trailing fraction
+	 * digits are zero.
+	 * <p>
+	 * The digits are written directly into {@code dst}, no temporary objects are allocated. At most 21 bytes are
+	 * written (sign, 19 digits and decimal point).
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value to format
+	 * @param dst
+	 *            the byte array to write the ASCII characters to
+	 * @param offset
+	 *            the index of the first byte to write in {@code dst}
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if there is not enough space in {@code dst} to write the value; no
+	 *             bytes are written in this case
+	 */
+	int format(long uDecimal, byte[] dst, int offset);
+
+	/**
+	 * Writes the ASCII representation of the specified unscaled decimal value to the {@code dst} byte buffer starting
+	 * at the buffer's current position and returns the number of bytes written. The position of the buffer is
+	 * advanced by the number of bytes written. The written characters are identical to those of
+	 * {@link #toString(long)}, that is, {@code scale} fraction digits are written even if some trailing fraction
+	 * digits are zero.
+	 * <p>
+	 * The digits are written directly into {@code dst}, no temporary objects are allocated. At most 21 bytes are
+	 * written (sign, 19 digits and decimal point).
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value to format
+	 * @param dst
+	 *            the byte buffer to write the ASCII characters to
+	 * @return the number of bytes written
+	 * @throws java.nio.BufferOverflowException
+	 *             if there are fewer than the required bytes remaining in {@code dst}; no bytes are written in this
+	 *             case
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if {@code dst} is read-only
+	 */
+	int format(long uDecimal, ByteBuffer dst);
 }
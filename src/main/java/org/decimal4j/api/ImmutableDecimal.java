@@ -338,6 +338,15 @@ public interface ImmutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 	@Override
 	ImmutableDecimal<S> remainder(Decimal<S> divisor);
 
+	@Override
+	ImmutableDecimal<S> multiplyDivide(Decimal<?> multiplicand, Decimal<?> divisor);
+
+	@Override
+	ImmutableDecimal<S> multiplyDivide(Decimal<?> multiplicand, Decimal<?> divisor, RoundingMode roundingMode);
+
+	@Override
+	ImmutableDecimal<S> multiplyDivide(Decimal<?> multiplicand, Decimal<?> divisor, TruncationPolicy truncationPolicy);
+
 	@Override
 	ImmutableDecimal<S> negate();
 
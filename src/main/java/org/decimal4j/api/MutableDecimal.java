@@ -690,6 +690,15 @@ public interface MutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 	@Override
 	MutableDecimal<S> remainder(Decimal<S> divisor);
 
+	@Override
+	MutableDecimal<S> multiplyDivide(Decimal<?> multiplicand, Decimal<?> divisor);
+
+	@Override
+	MutableDecimal<S> multiplyDivide(Decimal<?> multiplicand, Decimal<?> divisor, RoundingMode roundingMode);
+
+	@Override
+	MutableDecimal<S> multiplyDivide(Decimal<?> multiplicand, Decimal<?> divisor, TruncationPolicy truncationPolicy);
+
 	@Override
 	MutableDecimal<S> negate();
 
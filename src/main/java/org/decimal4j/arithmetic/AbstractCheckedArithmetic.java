@@ -66,4 +66,49 @@ abstract public class AbstractCheckedArithmetic extends AbstractArithmetic {
 		return Checked.negate(this, uDecimal);
 	}
 
+	@Override
+	public final void abs(long[] uDecimals, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = Checked.abs(this, uDecimals[i]);
+		}
+	}
+
+	@Override
+	public final void negate(long[] uDecimals, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = Checked.negate(this, uDecimals[i]);
+		}
+	}
+
+	@Override
+	public final void add(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals1, uDecimals2, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = Checked.add(this, uDecimals1[i], uDecimals2[i]);
+		}
+	}
+
+	@Override
+	public final void subtract(long[] uDecimalsMinuend, long[] uDecimalsSubtrahend, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsMinuend, uDecimalsSubtrahend, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = Checked.subtract(this, uDecimalsMinuend[i], uDecimalsSubtrahend[i]);
+		}
+	}
+
+	@Override
+	public final void multiplyByLong(long[] uDecimals, long lValue, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = Checked.multiplyByLong(this, uDecimals[i], lValue);
+		}
+	}
+
 }
@@ -24,6 +24,7 @@
 package org.decimal4j.arithmetic;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.scale.Scale0f;
 
@@ -63,6 +64,15 @@ abstract public class AbstractCheckedScale0fArithmetic extends AbstractCheckedAr
 		return Checked.multiplyByLong(this, uDecimal1, uDecimal2);
 	}
 
+	@Override
+	public final void multiply(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals1, uDecimals2, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = Checked.multiplyByLong(this, uDecimals1[i], uDecimals2[i]);
+		}
+	}
+
 	@Override
 	public final long square(long uDecimal) {
 		return Checked.multiplyByLong(this, uDecimal, uDecimal);
@@ -88,4 +98,14 @@ abstract public class AbstractCheckedScale0fArithmetic extends AbstractCheckedAr
 		StringConversion.longToString(uDecimal, appendable);
 	}
 
+	@Override
+	public final int format(long uDecimal, byte[] dst, int offset) {
+		return StringConversion.unscaledToAscii(this, uDecimal, dst, offset);
+	}
+
+	@Override
+	public final int format(long uDecimal, ByteBuffer dst) {
+		return StringConversion.unscaledToAscii(this, uDecimal, dst);
+	}
+
 }
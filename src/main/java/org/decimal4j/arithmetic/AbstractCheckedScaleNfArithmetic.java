@@ -24,6 +24,7 @@
 package org.decimal4j.arithmetic;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.scale.ScaleMetrics;
 
@@ -34,6 +35,8 @@ import org.decimal4j.scale.ScaleMetrics;
 abstract public class AbstractCheckedScaleNfArithmetic extends AbstractCheckedArithmetic {
 
 	private final ScaleMetrics scaleMetrics;
+	private final int scale;
+	private final long one;
 
 	/**
 	 * Constructor with scale metrics for this arithmetic.
@@ -43,6 +46,9 @@ abstract public class AbstractCheckedScaleNfArithmetic extends AbstractCheckedAr
 	 */
 	public AbstractCheckedScaleNfArithmetic(ScaleMetrics scaleMetrics) {
 		this.scaleMetrics = scaleMetrics;
+		//cache scale and scale factor to avoid interface calls on ScaleMetrics
+		this.scale = scaleMetrics.getScale();
+		this.one = scaleMetrics.getScaleFactor();
 	}
 
 	@Override
@@ -52,12 +58,12 @@ abstract public class AbstractCheckedScaleNfArithmetic extends AbstractCheckedAr
 
 	@Override
 	public final int getScale() {
-		return scaleMetrics.getScale();
+		return scale;
 	}
 
 	@Override
 	public final long one() {
-		return scaleMetrics.getScaleFactor();
+		return one;
 	}
 
 	@Override
@@ -79,4 +85,14 @@ abstract public class AbstractCheckedScaleNfArithmetic extends AbstractCheckedAr
 	public final void toString(long uDecimal, Appendable appendable) throws IOException {
 		StringConversion.unscaledToString(this, uDecimal, appendable);
 	}
+
+	@Override
+	public final int format(long uDecimal, byte[] dst, int offset) {
+		return StringConversion.unscaledToAscii(this, uDecimal, dst, offset);
+	}
+
+	@Override
+	public final int format(long uDecimal, ByteBuffer dst) {
+		return StringConversion.unscaledToAscii(this, uDecimal, dst);
+	}
 }
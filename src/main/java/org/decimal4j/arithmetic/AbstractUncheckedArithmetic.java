@@ -65,4 +65,37 @@ abstract public class AbstractUncheckedArithmetic extends AbstractArithmetic {
 	public final long multiplyByLong(long uDecimal, long lValue) {
 		return uDecimal * lValue;
 	}
+
+	@Override
+	public final void abs(long[] uDecimals, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals, result, offset, length);
+		UncheckedBulkKernel.INSTANCE.abs(uDecimals, result, offset, length);
+	}
+
+	@Override
+	public final void negate(long[] uDecimals, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals, result, offset, length);
+		UncheckedBulkKernel.INSTANCE.negate(uDecimals, result, offset, length);
+	}
+
+	@Override
+	public final void add(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals1, uDecimals2, result, offset, length);
+		UncheckedBulkKernel.INSTANCE.add(uDecimals1, uDecimals2, result, offset, length);
+	}
+
+	@Override
+	public final void subtract(long[] uDecimalsMinuend, long[] uDecimalsSubtrahend, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsMinuend, uDecimalsSubtrahend, result, offset, length);
+		UncheckedBulkKernel.INSTANCE.subtract(uDecimalsMinuend, uDecimalsSubtrahend, result, offset, length);
+	}
+
+	@Override
+	public final void multiplyByLong(long[] uDecimals, long lValue, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = uDecimals[i] * lValue;
+		}
+	}
 }
@@ -0,0 +1,419 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.management.ObjectName;
+
+import org.decimal4j.scale.Scales;
+
+/**
+ * Counters for operations, inexact roundings, rounding increments, overflows
+ * and divisions by zero of all {@link InstrumentedArithmetic} instances of a
+ * scale. Counts are kept per {@link Operation} type.
+ * <p>
+ * One counters instance exists per scale; it is created when it is first
+ * accessed via {@link #forScale(int)}. At creation time the counters are
+ * registered as {@link ArithmeticCountersMXBean MBean} with the platform MBean
+ * server. If JDK Flight Recorder is available (Java 17 or newer), the counters
+ * of all scales are also sampled periodically as
+ * {@code org.decimal4j.ArithmeticCounters} events.
+ * <p>
+ * Instances of this class are thread safe. Similar to
+ * {@link org.decimal4j.concurrent.DecimalAdder DecimalAdder}, the counts are
+ * striped across several cells to reduce contention if instrumented arithmetic
+ * is used by multiple threads; the counts returned by the getters are the sums
+ * of all cells and not an atomic snapshot if updates happen concurrently.
+ */
+public final class ArithmeticCounters implements ArithmeticCountersMXBean {
+
+	/**
+	 * Operation types for which separate counts are kept.
+	 */
+	public static enum Operation {
+		/** Addition including the addition of long and unscaled values */
+		ADD,
+		/** Subtraction including the subtraction of long and unscaled values */
+		SUBTRACT,
+		/**
+		 * Multiplication including the multiplication by long and unscaled
+		 * values and by powers of ten
+		 */
+		MULTIPLY,
+		/**
+		 * Division including the division by long and unscaled values and by
+		 * powers of ten
+		 */
+		DIVIDE,
+		/** Fused multiplication and division */
+		MULTIPLY_DIVIDE,
+		/** Fused multiplication and addition including dot products */
+		MULTIPLY_ADD,
+		/** Average of two values */
+		AVG,
+		/** Absolute value */
+		ABS,
+		/** Negation */
+		NEGATE,
+		/** Reciprocal value */
+		INVERT,
+		/** Square of a value */
+		SQUARE,
+		/** Square root */
+		SQRT,
+		/** Power of a value */
+		POW,
+		/** Left and right shifts */
+		SHIFT,
+		/** Rounding to a precision */
+		ROUND,
+		/** Conversion from or to other number types */
+		CONVERT,
+		/** Parsing of a string or character sequence */
+		PARSE;
+
+		private static final Operation[] VALUES = values();
+	}
+
+	/**
+	 * Counter types kept for every {@link Operation}.
+	 */
+	public static enum Counter {
+		/** Number of operations */
+		OPERATIONS,
+		/** Number of inexact results where non-zero digits were discarded */
+		INEXACT_ROUNDINGS,
+		/** Number of results where a rounding increment was applied */
+		ROUNDING_INCREMENTS,
+		/** Number of overflows */
+		OVERFLOWS,
+		/** Number of divisions by zero */
+		DIVISIONS_BY_ZERO;
+
+		private static final Counter[] VALUES = values();
+	}
+
+	/**
+	 * Number of longs per cache line (64 bytes) used as padding to avoid false
+	 * sharing between stripes
+	 */
+	private static final int PADDING = 8;
+
+	/**
+	 * Maximum number of stripes
+	 */
+	private static final int MAX_STRIPES = 64;
+
+	/**
+	 * Number of counts per stripe
+	 */
+	private static final int COUNTS = Operation.VALUES.length * Counter.VALUES.length;
+
+	/**
+	 * Length of a stripe in the cells array: the counts rounded up to full
+	 * cache lines plus one line of padding
+	 */
+	private static final int STRIPE_LENGTH = ((COUNTS + PADDING - 1) / PADDING + 1) * PADDING;
+
+	private static final String OBJECT_NAME_PREFIX = "org.decimal4j:type=ArithmeticCounters,scale=";
+
+	/**
+	 * Class name of the flight recorder event only available in the Java 17
+	 * version of the multi-release jar.
+	 */
+	private static final String FLIGHT_RECORDER_EVENT_CLASS = "org.decimal4j.arithmetic.ArithmeticCountersEvent";
+
+	private static final AtomicReferenceArray<ArithmeticCounters> INSTANCES = new AtomicReferenceArray<ArithmeticCounters>(Scales.MAX_SCALE + 1);
+
+	static {
+		registerFlightRecorderEvent();
+	}
+
+	private final int scale;
+	private final AtomicLongArray cells;
+	private final int mask;
+
+	private ArithmeticCounters(int scale) {
+		final int n = stripeCount(Runtime.getRuntime().availableProcessors());
+		this.scale = scale;
+		this.cells = new AtomicLongArray(n * STRIPE_LENGTH);
+		this.mask = n - 1;
+	}
+
+	private static final int stripeCount(int processors) {
+		final int n = Integer.highestOneBit(Math.max(1, processors - 1)) << 1;
+		return Math.min(n, MAX_STRIPES);
+	}
+
+	/**
+	 * Returns the counters for the given scale, creating and registering them
+	 * if necessary.
+	 * 
+	 * @param scale
+	 *            the scale, a value in {@code [0, 18]}
+	 * @return the counters for the scale
+	 * @throws IllegalArgumentException
+	 *             if scale is not in {@code [0, 18]}
+	 */
+	public static final ArithmeticCounters forScale(int scale) {
+		Scales.getScaleMetrics(scale);// validates scale
+		final ArithmeticCounters counters = INSTANCES.get(scale);
+		if (counters != null) {
+			return counters;
+		}
+		final ArithmeticCounters newCounters = new ArithmeticCounters(scale);
+		if (INSTANCES.compareAndSet(scale, null, newCounters)) {
+			newCounters.registerMBean();
+			return newCounters;
+		}
+		return INSTANCES.get(scale);
+	}
+
+	/**
+	 * Returns the counters for the given scale if they have been created
+	 * before.
+	 * 
+	 * @param scale
+	 *            the scale, a value in {@code [0, 18]}
+	 * @return the counters for the scale or null if no instrumented arithmetic
+	 *         has been created yet for the scale
+	 */
+	static final ArithmeticCounters getIfPresent(int scale) {
+		return INSTANCES.get(scale);
+	}
+
+	@Override
+	public final int getScale() {
+		return scale;
+	}
+
+	/**
+	 * Returns the count for the given operation and counter type.
+	 * 
+	 * @param operation
+	 *            the operation type
+	 * @param counter
+	 *            the counter type
+	 * @return the current count
+	 */
+	public final long getCount(Operation operation, Counter counter) {
+		final int index = index(operation, counter);
+		long count = 0;
+		for (int stripe = 0; stripe < cells.length(); stripe += STRIPE_LENGTH) {
+			count += cells.get(stripe + index);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the sum of the counts of all operation types for the given
+	 * counter type.
+	 * 
+	 * @param counter
+	 *            the counter type
+	 * @return the current count summed up over all operations
+	 */
+	public final long getTotal(Counter counter) {
+		long total = 0;
+		for (final Operation operation : Operation.VALUES) {
+			total += getCount(operation, counter);
+		}
+		return total;
+	}
+
+	@Override
+	public final long getOperations() {
+		return getTotal(Counter.OPERATIONS);
+	}
+
+	@Override
+	public final long getInexactRoundings() {
+		return getTotal(Counter.INEXACT_ROUNDINGS);
+	}
+
+	@Override
+	public final long getRoundingIncrements() {
+		return getTotal(Counter.ROUNDING_INCREMENTS);
+	}
+
+	@Override
+	public final long getOverflows() {
+		return getTotal(Counter.OVERFLOWS);
+	}
+
+	@Override
+	public final long getDivisionsByZero() {
+		return getTotal(Counter.DIVISIONS_BY_ZERO);
+	}
+
+	@Override
+	public final Map<String, Long> getOperationsByType() {
+		return getByType(Counter.OPERATIONS);
+	}
+
+	@Override
+	public final Map<String, Long> getInexactRoundingsByType() {
+		return getByType(Counter.INEXACT_ROUNDINGS);
+	}
+
+	@Override
+	public final Map<String, Long> getRoundingIncrementsByType() {
+		return getByType(Counter.ROUNDING_INCREMENTS);
+	}
+
+	@Override
+	public final Map<String, Long> getOverflowsByType() {
+		return getByType(Counter.OVERFLOWS);
+	}
+
+	@Override
+	public final Map<String, Long> getDivisionsByZeroByType() {
+		return getByType(Counter.DIVISIONS_BY_ZERO);
+	}
+
+	private Map<String, Long> getByType(Counter counter) {
+		final Map<String, Long> byType = new LinkedHashMap<String, Long>();
+		for (final Operation operation : Operation.VALUES) {
+			byType.put(operation.name(), getCount(operation, counter));
+		}
+		return Collections.unmodifiableMap(byType);
+	}
+
+	@Override
+	public final void reset() {
+		for (int i = 0; i < cells.length(); i++) {
+			cells.set(i, 0);
+		}
+	}
+
+	/**
+	 * Counts one operation with the specified rounding outcome.
+	 * 
+	 * @param operation
+	 *            the operation type
+	 * @param inexact
+	 *            true if non-zero digits were discarded
+	 * @param roundingIncrement
+	 *            true if a rounding increment was applied to the truncated
+	 *            result
+	 */
+	final void count(Operation operation, boolean inexact, boolean roundingIncrement) {
+		count(operation, inexact, roundingIncrement, false);
+	}
+
+	/**
+	 * Counts one operation with the specified rounding and overflow outcome.
+	 * 
+	 * @param operation
+	 *            the operation type
+	 * @param inexact
+	 *            true if non-zero digits were discarded
+	 * @param roundingIncrement
+	 *            true if a rounding increment was applied to the truncated
+	 *            result
+	 * @param overflow
+	 *            true if the result silently overflowed
+	 */
+	final void count(Operation operation, boolean inexact, boolean roundingIncrement, boolean overflow) {
+		final int stripe = stripe();
+		increment(stripe, operation, Counter.OPERATIONS);
+		if (inexact) {
+			increment(stripe, operation, Counter.INEXACT_ROUNDINGS);
+			if (roundingIncrement) {
+				increment(stripe, operation, Counter.ROUNDING_INCREMENTS);
+			}
+		}
+		if (overflow) {
+			increment(stripe, operation, Counter.OVERFLOWS);
+		}
+	}
+
+	/**
+	 * Counts one operation that failed with an exception.
+	 * 
+	 * @param operation
+	 *            the operation type
+	 * @param failure
+	 *            the counter type for the failure, one of
+	 *            {@link Counter#OVERFLOWS OVERFLOWS},
+	 *            {@link Counter#DIVISIONS_BY_ZERO DIVISIONS_BY_ZERO} or
+	 *            {@link Counter#INEXACT_ROUNDINGS INEXACT_ROUNDINGS} if rounding
+	 *            was necessary, or {@link Counter#OPERATIONS OPERATIONS} to
+	 *            count only the operation
+	 */
+	final void countFailure(Operation operation, Counter failure) {
+		final int stripe = stripe();
+		increment(stripe, operation, Counter.OPERATIONS);
+		if (failure != Counter.OPERATIONS) {
+			increment(stripe, operation, failure);
+		}
+	}
+
+	private final int stripe() {
+		final long threadId = Thread.currentThread().getId();
+		final int h = (int) (threadId ^ (threadId >>> 32)) * 0x9e3779b9;
+		return ((h ^ (h >>> 16)) & mask) * STRIPE_LENGTH;
+	}
+
+	private final void increment(int stripe, Operation operation, Counter counter) {
+		cells.incrementAndGet(stripe + index(operation, counter));
+	}
+
+	private static int index(Operation operation, Counter counter) {
+		return operation.ordinal() * Counter.VALUES.length + counter.ordinal();
+	}
+
+	private void registerMBean() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME_PREFIX + scale));
+		} catch (Exception e) {
+			//already registered by another class loader or management not available, counters still work
+		} catch (LinkageError e) {
+			//java.management module not available
+		}
+	}
+
+	private static void registerFlightRecorderEvent() {
+		try {
+			Class.forName(FLIGHT_RECORDER_EVENT_CLASS).getMethod("register").invoke(null);
+		} catch (Exception e) {
+			//class not present before Java 17, no flight recorder events
+		} catch (LinkageError e) {
+			//jdk.jfr module not available, no flight recorder events
+		}
+	}
+
+	@Override
+	public final String toString() {
+		return getClass().getSimpleName() + "[scale=" + scale + ", operations=" + getOperations() + ", inexactRoundings="
+				+ getInexactRoundings() + ", roundingIncrements=" + getRoundingIncrements() + ", overflows="
+				+ getOverflows() + ", divisionsByZero=" + getDivisionsByZero() + "]";
+	}
+}
@@ -0,0 +1,119 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.util.Map;
+
+/**
+ * Management interface for the {@link ArithmeticCounters} of a scale. The
+ * counters are registered as MBean with object name
+ * {@code org.decimal4j:type=ArithmeticCounters,scale=<scale>} when
+ * the first {@link InstrumentedArithmetic} of a scale is created.
+ */
+public interface ArithmeticCountersMXBean {
+
+	/**
+	 * Returns the scale of the counted operations.
+	 * 
+	 * @return the scale of the counters
+	 */
+	int getScale();
+
+	/**
+	 * Returns the number of operations performed.
+	 * 
+	 * @return the total number of operations for all operation types
+	 */
+	long getOperations();
+
+	/**
+	 * Returns the number of operations whose result was not exact because
+	 * non-zero digits had to be discarded.
+	 * 
+	 * @return the total number of inexact results for all operation types
+	 */
+	long getInexactRoundings();
+
+	/**
+	 * Returns the number of operations where a rounding increment was applied
+	 * to the truncated result.
+	 * 
+	 * @return the total number of rounding increments for all operation types
+	 */
+	long getRoundingIncrements();
+
+	/**
+	 * Returns the number of operations that resulted in an overflow.
+	 * 
+	 * @return the total number of overflows for all operation types
+	 */
+	long getOverflows();
+
+	/**
+	 * Returns the number of attempted divisions by zero.
+	 * 
+	 * @return the total number of divisions by zero for all operation types
+	 */
+	long getDivisionsByZero();
+
+	/**
+	 * Returns the number of operations per operation type.
+	 * 
+	 * @return a map from operation name to number of operations
+	 */
+	Map<String, Long> getOperationsByType();
+
+	/**
+	 * Returns the number of inexact results per operation type.
+	 * 
+	 * @return a map from operation name to number of inexact results
+	 */
+	Map<String, Long> getInexactRoundingsByType();
+
+	/**
+	 * Returns the number of rounding increments per operation type.
+	 * 
+	 * @return a map from operation name to number of rounding increments
+	 */
+	Map<String, Long> getRoundingIncrementsByType();
+
+	/**
+	 * Returns the number of overflows per operation type.
+	 * 
+	 * @return a map from operation name to number of overflows
+	 */
+	Map<String, Long> getOverflowsByType();
+
+	/**
+	 * Returns the number of divisions by zero per operation type.
+	 * 
+	 * @return a map from operation name to number of divisions by zero
+	 */
+	Map<String, Long> getDivisionsByZeroByType();
+
+	/**
+	 * Resets all counters to zero.
+	 */
+	void reset();
+}
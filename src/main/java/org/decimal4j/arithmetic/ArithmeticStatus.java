@@ -0,0 +1,150 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+/**
+ * Mutable holder for status flags raised by the operations of a
+ * {@link FlaggedArithmetic}. Flags are sticky: once raised they remain set
+ * until {@link #clear()} is called. A sequence of operations can hence be
+ * performed with the same status instance and the flags checked once at the
+ * end.
+ * <p>
+ * Raising a flag does not allocate any objects. Instances of this class are
+ * not thread safe.
+ */
+public final class ArithmeticStatus {
+
+	/**
+	 * Flag raised if the result of an operation does not fit in a long.
+	 */
+	public static final int OVERFLOW = 0x1;
+	/**
+	 * Flag raised if a division by zero was attempted.
+	 */
+	public static final int DIVISION_BY_ZERO = 0x2;
+	/**
+	 * Flag raised if rounding was necessary and digits were discarded; the
+	 * result is not exact.
+	 */
+	public static final int INEXACT = 0x4;
+
+	private int flags;
+
+	/**
+	 * Returns all flags raised since creation or since the last call to
+	 * {@link #clear()}.
+	 * 
+	 * @return the bitwise or of the raised flags, zero if no flag is set
+	 */
+	public final int getFlags() {
+		return flags;
+	}
+
+	/**
+	 * Returns true if none of the flags is set.
+	 * 
+	 * @return true if no flags are set
+	 */
+	public final boolean isClear() {
+		return flags == 0;
+	}
+
+	/**
+	 * Returns true if any of the specified flags is set.
+	 * 
+	 * @param flags
+	 *            the flags to test, for instance
+	 *            {@code OVERFLOW | DIVISION_BY_ZERO}
+	 * @return true if at least one of the given flags is set
+	 */
+	public final boolean isAnySet(int flags) {
+		return (this.flags & flags) != 0;
+	}
+
+	/**
+	 * Returns true if the {@link #OVERFLOW} flag is set.
+	 * 
+	 * @return true if an overflow occurred
+	 */
+	public final boolean isOverflow() {
+		return (flags & OVERFLOW) != 0;
+	}
+
+	/**
+	 * Returns true if the {@link #DIVISION_BY_ZERO} flag is set.
+	 * 
+	 * @return true if a division by zero was attempted
+	 */
+	public final boolean isDivisionByZero() {
+		return (flags & DIVISION_BY_ZERO) != 0;
+	}
+
+	/**
+	 * Returns true if the {@link #INEXACT} flag is set.
+	 * 
+	 * @return true if rounding was necessary
+	 */
+	public final boolean isInexact() {
+		return (flags & INEXACT) != 0;
+	}
+
+	/**
+	 * Clears all flags.
+	 * 
+	 * @return this status
+	 */
+	public final ArithmeticStatus clear() {
+		flags = 0;
+		return this;
+	}
+
+	/**
+	 * Raises the specified flags.
+	 * 
+	 * @param flags
+	 *            the flags to set
+	 */
+	final void raise(int flags) {
+		this.flags |= flags;
+	}
+
+	@Override
+	public final String toString() {
+		if (flags == 0) {
+			return "ArithmeticStatus[]";
+		}
+		final StringBuilder sb = new StringBuilder("ArithmeticStatus[");
+		if (isOverflow()) {
+			sb.append("OVERFLOW,");
+		}
+		if (isDivisionByZero()) {
+			sb.append("DIVISION_BY_ZERO,");
+		}
+		if (isInexact()) {
+			sb.append("INEXACT,");
+		}
+		sb.setCharAt(sb.length() - 1, ']');
+		return sb.toString();
+	}
+}
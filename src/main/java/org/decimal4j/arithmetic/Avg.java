@@ -25,6 +25,7 @@ package org.decimal4j.arithmetic;
 
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.StacklessArithmeticException;
 
 /**
  * Provides static methods to calculate average of two numbers, that is,
@@ -89,8 +90,7 @@ final class Avg {
 		case UNNECESSARY: {
 			final long floor = (a & b) + (xor >> 1);
 			if ((xor & 0x1) != 0) {
-				throw new ArithmeticException("Rounding necessary: " + arith.toString(a) + " avg " + arith.toString(b)
-						+ " = " + arith.toString(floor));
+				throw newRoundingNecessaryException(arith, a, b, floor);
 			}
 			return floor;
 		}
@@ -101,6 +101,12 @@ final class Avg {
 		}
 	}
 
+	private static final ArithmeticException newRoundingNecessaryException(DecimalArithmetic arith, long a, long b, long floor) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.ROUNDING_NECESSARY
+				: new ArithmeticException("Rounding necessary: " + arith.toString(a) + " avg " + arith.toString(b)
+						+ " = " + arith.toString(floor));
+	}
+
 	// no instances
 	private Avg() {
 		super();
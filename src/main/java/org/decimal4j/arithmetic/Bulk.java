@@ -0,0 +1,109 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+/**
+ * Provides static helper methods for bulk operations on arrays of unscaled
+ * decimal values.
+ */
+final class Bulk {
+
+	/**
+	 * Checks that the range {@code [offset, offset+length)} is a valid index
+	 * range for the given array.
+	 * 
+	 * @param uDecimals
+	 *            the input array
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if
+	 *             {@code offset + length} exceeds the length of the array
+	 */
+	static final void checkBounds(long[] uDecimals, int offset, int length) {
+		if (offset < 0 | length < 0 | uDecimals.length - length < offset) {
+			throw new IndexOutOfBoundsException("Offset or length is out of bounds: offset=" + offset + ", length="
+					+ length + ", array length=" + uDecimals.length);
+		}
+	}
+
+	/**
+	 * Checks that the range {@code [offset, offset+length)} is a valid index
+	 * range for the two given arrays.
+	 * 
+	 * @param uDecimals
+	 *            the input array
+	 * @param result
+	 *            the result array
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if
+	 *             {@code offset + length} exceeds the length of any of the
+	 *             arrays
+	 */
+	static final void checkBounds(long[] uDecimals, long[] result, int offset, int length) {
+		if (offset < 0 | length < 0 | uDecimals.length - length < offset | result.length - length < offset) {
+			throw new IndexOutOfBoundsException("Offset or length is out of bounds: offset=" + offset + ", length="
+					+ length + ", array lengths=[" + uDecimals.length + ", " + result.length + "]");
+		}
+	}
+
+	/**
+	 * Checks that the range {@code [offset, offset+length)} is a valid index
+	 * range for the three given arrays.
+	 * 
+	 * @param uDecimals1
+	 *            the first input array
+	 * @param uDecimals2
+	 *            the second input array
+	 * @param result
+	 *            the result array
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if
+	 *             {@code offset + length} exceeds the length of any of the
+	 *             arrays
+	 */
+	static final void checkBounds(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		if (offset < 0 | length < 0 | uDecimals1.length - length < offset | uDecimals2.length - length < offset
+				| result.length - length < offset) {
+			throw new IndexOutOfBoundsException("Offset or length is out of bounds: offset=" + offset + ", length="
+					+ length + ", array lengths=[" + uDecimals1.length + ", " + uDecimals2.length + ", "
+					+ result.length + "]");
+		}
+	}
+
+	// no instances
+	private Bulk() {
+		super();
+	}
+}
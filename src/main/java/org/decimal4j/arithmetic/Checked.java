@@ -24,6 +24,7 @@
 package org.decimal4j.arithmetic;
 
 import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.truncate.StacklessArithmeticException;
 
 /**
  * Helper class for arithmetic operations with overflow checks.
@@ -91,7 +92,7 @@ final class Checked {
 	public static final long addLong(long long1, long long2) {
 		final long result = long1 + long2;
 		if (isAddOverflow(long1, long2, result)) {
-			throw new ArithmeticException("Overflow: " + long1 + " + " + long2 + " = " + result);
+			throw newOverflowException(long1, " + ", long2, result);
 		}
 		return result;
 	}
@@ -113,8 +114,7 @@ final class Checked {
 	public static final long add(DecimalArithmetic arith, long uDecimal1, long uDecimal2) {
 		final long result = uDecimal1 + uDecimal2;
 		if ((uDecimal1 ^ uDecimal2) >= 0 & (uDecimal1 ^ result) < 0) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimal1) + " + " + arith.toString(uDecimal2)
-					+ " = " + arith.toString(result));
+			throw newOverflowException(arith, uDecimal1, " + ", uDecimal2, result);
 		}
 		return result;
 	}
@@ -134,7 +134,7 @@ final class Checked {
 	public static final long subtractLong(long lMinuend, long lSubtrahend) {
 		final long result = lMinuend - lSubtrahend;
 		if (isSubtractOverflow(lMinuend, lSubtrahend, result)) {
-			throw new ArithmeticException("Overflow: " + lMinuend + " - " + lSubtrahend + " = " + result);
+			throw newOverflowException(lMinuend, " - ", lSubtrahend, result);
 		}
 		return result;
 	}
@@ -157,8 +157,7 @@ final class Checked {
 	public static final long subtract(DecimalArithmetic arith, long uDecimalMinuend, long uDecimalSubtrahend) {
 		final long result = uDecimalMinuend - uDecimalSubtrahend;
 		if (isSubtractOverflow(uDecimalMinuend, uDecimalSubtrahend, result)) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimalMinuend) + " - "
-					+ arith.toString(uDecimalSubtrahend) + " = " + arith.toString(result));
+			throw newOverflowException(arith, uDecimalMinuend, " - ", uDecimalSubtrahend, result);
 		}
 		return result;
 	}
@@ -198,7 +197,7 @@ final class Checked {
 		}
 		if (leadingZeros < Long.SIZE || (lValue1 < 0 & lValue2 == Long.MIN_VALUE)
 				|| (lValue1 != 0 && (result / lValue1) != lValue2)) {
-			throw new ArithmeticException("Overflow: " + lValue1 + " * " + lValue2 + " = " + result);
+			throw newOverflowException(lValue1, " * ", lValue2, result);
 		}
 		return result;
 	}
@@ -242,8 +241,7 @@ final class Checked {
 		}
 		if (leadingZeros < Long.SIZE || (uDecimal < 0 & lValue == Long.MIN_VALUE)
 				|| (uDecimal != 0 && (result / uDecimal) != lValue)) {
-			throw new ArithmeticException(
-					"Overflow: " + arith.toString(uDecimal) + " * " + lValue + " = " + arith.toString(result));
+			throw newOverflowExceptionWithLong(arith, uDecimal, " * ", lValue, result);
 		}
 		return result;
 	}
@@ -262,7 +260,7 @@ final class Checked {
 	 */
 	public static final long divideLong(long lDividend, long lDivisor) {
 		if (lDivisor == -1 & lDividend == Long.MIN_VALUE) {
-			throw new ArithmeticException("Overflow: " + lDividend + " / " + lDivisor + " = " + Long.MIN_VALUE);
+			throw newOverflowException(lDividend, " / ", lDivisor, Long.MIN_VALUE);
 		}
 		return lDividend / lDivisor;
 	}
@@ -285,11 +283,10 @@ final class Checked {
 	 */
 	public static final long divideByLong(DecimalArithmetic arith, long uDecimalDividend, long lDivisor) {
 		if (lDivisor == 0) {
-			throw new ArithmeticException("Division by zero: " + arith.toString(uDecimalDividend) + " / " + lDivisor);
+			throw newDivisionByZeroException(arith, uDecimalDividend, lDivisor);
 		}
 		if (lDivisor == -1 & uDecimalDividend == Long.MIN_VALUE) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimalDividend) + " / " + lDivisor + " = "
-					+ arith.toString(Long.MIN_VALUE));
+			throw newOverflowExceptionWithLong(arith, uDecimalDividend, " / ", lDivisor, Long.MIN_VALUE);
 		}
 		return uDecimalDividend / lDivisor;
 	}
@@ -309,7 +306,7 @@ final class Checked {
 	public static final long abs(DecimalArithmetic arith, long value) {
 		final long abs = Math.abs(value);
 		if (abs < 0) {
-			throw new ArithmeticException("Overflow: abs(" + arith.toString(value) + ") = " + abs);
+			throw newAbsOverflowException(arith, value, abs);
 		}
 		return abs;
 	}
@@ -329,11 +326,42 @@ final class Checked {
 	public static final long negate(DecimalArithmetic arith, long value) {
 		final long neg = -value;
 		if (value != 0 & (value ^ neg) >= 0) {
-			throw new ArithmeticException("Overflow: -" + arith.toString(value) + " = " + neg);
+			throw newNegateOverflowException(arith, value, neg);
 		}
 		return neg;
 	}
 
+	private static final ArithmeticException newOverflowException(long lValue1, String operator, long lValue2, long result) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: new ArithmeticException("Overflow: " + lValue1 + operator + lValue2 + " = " + result);
+	}
+
+	private static final ArithmeticException newOverflowException(DecimalArithmetic arith, long uDecimal1, String operator, long uDecimal2, long result) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: new ArithmeticException("Overflow: " + arith.toString(uDecimal1) + operator + arith.toString(uDecimal2)
+						+ " = " + arith.toString(result));
+	}
+
+	private static final ArithmeticException newOverflowExceptionWithLong(DecimalArithmetic arith, long uDecimal, String operator, long lValue, long result) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: new ArithmeticException("Overflow: " + arith.toString(uDecimal) + operator + lValue + " = " + arith.toString(result));
+	}
+
+	private static final ArithmeticException newDivisionByZeroException(DecimalArithmetic arith, long uDecimalDividend, long lDivisor) {
+		return StacklessArithmeticException.ENABLED & arith.getOverflowMode().isChecked() ? StacklessArithmeticException.DIVISION_BY_ZERO
+				: new ArithmeticException("Division by zero: " + arith.toString(uDecimalDividend) + " / " + lDivisor);
+	}
+
+	private static final ArithmeticException newAbsOverflowException(DecimalArithmetic arith, long value, long abs) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: new ArithmeticException("Overflow: abs(" + arith.toString(value) + ") = " + abs);
+	}
+
+	private static final ArithmeticException newNegateOverflowException(DecimalArithmetic arith, long value, long neg) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: new ArithmeticException("Overflow: -" + arith.toString(value) + " = " + neg);
+	}
+
 	// no instances
 	private Checked() {
 	}
@@ -25,6 +25,7 @@ package org.decimal4j.arithmetic;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.scale.Scale0f;
 import org.decimal4j.truncate.CheckedRounding;
@@ -94,6 +95,31 @@ public final class CheckedScale0fRoundingArithmetic extends AbstractCheckedScale
 		return Div.divideChecked(this, rounding, uDecimalDividend, uDecimalDivisor);
 	}
 
+	@Override
+	public final long multiplyDivide(long uDecimal1, long uDecimal2, long uDecimalDivisor) {
+		return MulDiv.multiplyDivideChecked(this, rounding, uDecimal1, uDecimal2, uDecimalDivisor);
+	}
+
+	@Override
+	public final long multiplyDivide(long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor) {
+		return MulDiv.multiplyDivideChecked(this, rounding, uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor);
+	}
+
+	@Override
+	public final long multiplyAdd(long uDecimalAddend, long uDecimal1, long uDecimal2) {
+		return MulAdd.multiplyAddChecked(this, rounding, uDecimalAddend, uDecimal1, uDecimal2);
+	}
+
+	@Override
+	public final long dotProduct(long[] uDecimals1, long[] uDecimals2, int offset, int length) {
+		return MulAdd.dotProductChecked(this, rounding, uDecimals1, uDecimals2, offset, length);
+	}
+
+	@Override
+	public final void divide(long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] result, int offset, int length) {
+		Div.divideChecked(this, rounding, uDecimalsDividend, uDecimalsDivisor, result, offset, length);
+	}
+
 	@Override
 	public final long multiplyByPowerOf10(long uDecimal, int n) {
 		return Pow10.multiplyByPowerOf10Checked(this, rounding, uDecimal, n);
@@ -104,6 +130,11 @@ public final class CheckedScale0fRoundingArithmetic extends AbstractCheckedScale
 		return Div.divideByLongChecked(this, rounding, uDecimalDividend, lDivisor);
 	}
 
+	@Override
+	public final void divideByLong(long[] uDecimalsDividend, long lDivisor, long[] result, int offset, int length) {
+		Div.divideByLongChecked(this, rounding, uDecimalsDividend, lDivisor, result, offset, length);
+	}
+
 	@Override
 	public final long divideByPowerOf10(long uDecimal, int n) {
 		return Pow10.divideByPowerOf10Checked(this, rounding, uDecimal, n);
@@ -116,7 +147,7 @@ public final class CheckedScale0fRoundingArithmetic extends AbstractCheckedScale
 
 	@Override
 	public final long invert(long uDecimal) {
-		return Invert.invertLong(rounding, uDecimal);
+		return Invert.invertLong(this, rounding, uDecimal);
 	}
 
 	@Override
@@ -189,4 +220,14 @@ public final class CheckedScale0fRoundingArithmetic extends AbstractCheckedScale
 		return StringConversion.parseLong(this, rounding, value, start, end);
 	}
 
+	@Override
+	public final long parse(byte[] value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, rounding, value, start, end);
+	}
+
+	@Override
+	public final long parse(ByteBuffer value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, rounding, value, start, end);
+	}
+
 }
@@ -25,6 +25,7 @@ package org.decimal4j.arithmetic;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.scale.Scale0f;
 import org.decimal4j.truncate.CheckedRounding;
@@ -77,11 +78,49 @@ public final class CheckedScale0fTruncatingArithmetic extends AbstractCheckedSca
 		return Checked.divideByLong(this, uDecimalDividend, uDecimalDivisor);
 	}
 
+	@Override
+	public final long multiplyDivide(long uDecimal1, long uDecimal2, long uDecimalDivisor) {
+		return MulDiv.multiplyDivideChecked(this, DecimalRounding.DOWN, uDecimal1, uDecimal2, uDecimalDivisor);
+	}
+
+	@Override
+	public final long multiplyDivide(long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor) {
+		return MulDiv.multiplyDivideChecked(this, DecimalRounding.DOWN, uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor);
+	}
+
+	@Override
+	public final long multiplyAdd(long uDecimalAddend, long uDecimal1, long uDecimal2) {
+		return MulAdd.multiplyAddChecked(this, DecimalRounding.DOWN, uDecimalAddend, uDecimal1, uDecimal2);
+	}
+
+	@Override
+	public final long dotProduct(long[] uDecimals1, long[] uDecimals2, int offset, int length) {
+		return MulAdd.dotProductChecked(this, DecimalRounding.DOWN, uDecimals1, uDecimals2, offset, length);
+	}
+
+	@Override
+	public final void divide(long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, uDecimalsDivisor, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = Checked.divideByLong(this, uDecimalsDividend[i], uDecimalsDivisor[i]);
+		}
+	}
+
 	@Override
 	public final long divideByLong(long uDecimalDividend, long lDivisor) {
 		return Checked.divideByLong(this, uDecimalDividend, lDivisor);
 	}
 
+	@Override
+	public final void divideByLong(long[] uDecimalsDividend, long lDivisor, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = Checked.divideByLong(this, uDecimalsDividend[i], lDivisor);
+		}
+	}
+
 	@Override
 	public final long avg(long a, long b) {
 		return Avg.avg(a, b);
@@ -89,7 +128,7 @@ public final class CheckedScale0fTruncatingArithmetic extends AbstractCheckedSca
 
 	@Override
 	public final long invert(long uDecimal) {
-		return Invert.invertLong(uDecimal);
+		return Invert.invertLong(this, uDecimal);
 	}
 
 	@Override
@@ -171,4 +210,14 @@ public final class CheckedScale0fTruncatingArithmetic extends AbstractCheckedSca
 	public final long parse(CharSequence value, int start, int end) {
 		return StringConversion.parseLong(this, DecimalRounding.DOWN, value, start, end);
 	}
+
+	@Override
+	public final long parse(byte[] value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, DecimalRounding.DOWN, value, start, end);
+	}
+
+	@Override
+	public final long parse(ByteBuffer value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, DecimalRounding.DOWN, value, start, end);
+	}
 }
@@ -25,6 +25,7 @@ package org.decimal4j.arithmetic;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.truncate.CheckedRounding;
@@ -33,7 +34,12 @@ import org.decimal4j.truncate.DecimalRounding;
 /**
  * Arithmetic implementation without rounding but with overflow check for scales
  * other than zero. An exception is thrown if an operation leads to an overflow.
+ * 
+ * @deprecated use the scale specific arithmetic returned by
+ *             {@link ScaleMetrics#getCheckedArithmetic(RoundingMode)}, for instance
+ *             {@link CheckedScale2fTruncatingArithmetic}
  */
+@Deprecated
 public final class CheckedScaleNfTruncatingArithmetic extends AbstractCheckedScaleNfArithmetic {
 
 	/**
@@ -81,6 +87,11 @@ public final class CheckedScaleNfTruncatingArithmetic extends AbstractCheckedSca
 		return Mul.multiplyChecked(this, uDecimal1, uDecimal2);
 	}
 
+	@Override
+	public final void multiply(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		Mul.multiplyChecked(this, uDecimals1, uDecimals2, result, offset, length);
+	}
+
 	@Override
 	public final long square(long uDecimal) {
 		return Square.squareChecked(this, uDecimal);
@@ -91,6 +102,31 @@ public final class CheckedScaleNfTruncatingArithmetic extends AbstractCheckedSca
 		return Div.divideChecked(this, uDecimalDividend, uDecimalDivisor);
 	}
 
+	@Override
+	public final long multiplyDivide(long uDecimal1, long uDecimal2, long uDecimalDivisor) {
+		return MulDiv.multiplyDivideChecked(this, DecimalRounding.DOWN, uDecimal1, uDecimal2, uDecimalDivisor);
+	}
+
+	@Override
+	public final long multiplyDivide(long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor) {
+		return MulDiv.multiplyDivideChecked(this, DecimalRounding.DOWN, uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor);
+	}
+
+	@Override
+	public final long multiplyAdd(long uDecimalAddend, long uDecimal1, long uDecimal2) {
+		return MulAdd.multiplyAddChecked(this, DecimalRounding.DOWN, uDecimalAddend, uDecimal1, uDecimal2);
+	}
+
+	@Override
+	public final long dotProduct(long[] uDecimals1, long[] uDecimals2, int offset, int length) {
+		return MulAdd.dotProductChecked(this, DecimalRounding.DOWN, uDecimals1, uDecimals2, offset, length);
+	}
+
+	@Override
+	public final void divide(long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] result, int offset, int length) {
+		Div.divideChecked(this, uDecimalsDividend, uDecimalsDivisor, result, offset, length);
+	}
+
 	@Override
 	public final long pow(long uDecimal, int exponent) {
 		return Pow.pow(this, DecimalRounding.DOWN, uDecimal, exponent);
@@ -111,6 +147,15 @@ public final class CheckedScaleNfTruncatingArithmetic extends AbstractCheckedSca
 		return Checked.divideByLong(this, uDecimalDividend, lDivisor);
 	}
 
+	@Override
+	public final void divideByLong(long[] uDecimalsDividend, long lDivisor, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = Checked.divideByLong(this, uDecimalsDividend[i], lDivisor);
+		}
+	}
+
 	@Override
 	public final long divideByPowerOf10(long uDecimal, int positions) {
 		return Pow10.divideByPowerOf10Checked(this, uDecimal, positions);
@@ -196,4 +241,14 @@ public final class CheckedScaleNfTruncatingArithmetic extends AbstractCheckedSca
 		return StringConversion.parseUnscaledDecimal(this, DecimalRounding.DOWN, value, start, end);
 	}
 
+	@Override
+	public final long parse(byte[] value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, DecimalRounding.DOWN, value, start, end);
+	}
+
+	@Override
+	public final long parse(ByteBuffer value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, DecimalRounding.DOWN, value, start, end);
+	}
+
 }
@@ -0,0 +1,250 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Mutable accumulator for the exact sum of unscaled decimal values of a fixed
+ * scale. The sum is held as a signed 128 bit integer and hence adding values
+ * never overflows unless more than 2<sup>64</sup> values are added.
+ * <p>
+ * Adding values does not allocate any objects. The sum is converted into an
+ * unscaled decimal value via {@link #toUnscaled(DecimalArithmetic)} which
+ * applies the rounding mode of the given arithmetic if the target scale is
+ * smaller than the scale of the accumulated values.
+ * <p>
+ * Instances of this class are not thread safe.
+ */
+public final class DecimalAccumulator {
+
+	private static final long LONG_MASK = 0xffffffffL;
+
+	private final ScaleMetrics scaleMetrics;
+	private long hi;
+	private long lo;
+
+	/**
+	 * Creates an accumulator with sum zero for unscaled values with the
+	 * specified scale.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the unscaled values added to this
+	 *            accumulator
+	 * @throws NullPointerException
+	 *             if scale metrics is null
+	 */
+	public DecimalAccumulator(ScaleMetrics scaleMetrics) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+	}
+
+	/**
+	 * Returns the scale metrics of the unscaled values added to this
+	 * accumulator.
+	 * 
+	 * @return the scale metrics of the accumulated values
+	 */
+	public final ScaleMetrics getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the scale of the unscaled values added to this accumulator.
+	 * 
+	 * @return the scale of the accumulated values
+	 */
+	public final int getScale() {
+		return scaleMetrics.getScale();
+	}
+
+	/**
+	 * Resets the sum of this accumulator to zero.
+	 * 
+	 * @return this accumulator
+	 */
+	public final DecimalAccumulator reset() {
+		hi = 0;
+		lo = 0;
+		return this;
+	}
+
+	/**
+	 * Adds the specified unscaled value to the sum of this accumulator.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value to add, with the scale of this accumulator
+	 * @return this accumulator
+	 */
+	public final DecimalAccumulator add(long uDecimal) {
+		final long sum = lo + uDecimal;
+		hi += (uDecimal >> 63) + (Unsigned.isLess(sum, lo) ? 1 : 0);
+		lo = sum;
+		return this;
+	}
+
+	/**
+	 * Adds the unscaled values {@code uDecimals[i]} for every index {@code i}
+	 * in {@code [offset, offset+length)} to the sum of this accumulator.
+	 * 
+	 * @param uDecimals
+	 *            array with the unscaled values to add, with the scale of this
+	 *            accumulator
+	 * @param offset
+	 *            the index of the first element to add
+	 * @param length
+	 *            the number of elements to add
+	 * @return this accumulator
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if
+	 *             {@code offset + length} exceeds the length of the array
+	 */
+	public final DecimalAccumulator add(long[] uDecimals, int offset, int length) {
+		Bulk.checkBounds(uDecimals, offset, length);
+		long h = hi;
+		long l = lo;
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			final long uDecimal = uDecimals[i];
+			final long sum = l + uDecimal;
+			h += (uDecimal >> 63) + (Unsigned.isLess(sum, l) ? 1 : 0);
+			l = sum;
+		}
+		hi = h;
+		lo = l;
+		return this;
+	}
+
+	/**
+	 * Adds the sum of another accumulator to the sum of this accumulator. The
+	 * other accumulator is not modified.
+	 * 
+	 * @param accumulator
+	 *            the accumulator whose sum is added to this accumulator
+	 * @return this accumulator
+	 * @throws IllegalArgumentException
+	 *             if the scale of {@code accumulator} is different from the
+	 *             scale of this accumulator
+	 */
+	public final DecimalAccumulator merge(DecimalAccumulator accumulator) {
+		if (accumulator.scaleMetrics != scaleMetrics) {
+			throw new IllegalArgumentException("Cannot merge accumulator with scale " + accumulator.getScale()
+					+ " into accumulator with scale " + getScale());
+		}
+		final long sum = lo + accumulator.lo;
+		hi += accumulator.hi + (Unsigned.isLess(sum, lo) ? 1 : 0);
+		lo = sum;
+		return this;
+	}
+
+	/**
+	 * Returns true if the sum of this accumulator is zero.
+	 * 
+	 * @return true if the sum is zero
+	 */
+	public final boolean isZero() {
+		return hi == 0 & lo == 0;
+	}
+
+	/**
+	 * Returns the signum of the sum of this accumulator.
+	 * 
+	 * @return -1, 0 or 1 as the sum is negative, zero or positive
+	 */
+	public final int signum() {
+		return hi != 0 ? (int) ((hi >> 63) | 1) : lo != 0 ? 1 : 0;
+	}
+
+	/**
+	 * Returns the sum of this accumulator as an unscaled decimal value with
+	 * the scale of the specified arithmetic. The sum is rounded with the
+	 * {@link DecimalArithmetic#getRoundingMode() rounding mode} of
+	 * {@code arith} if the arithmetic's scale is smaller than the scale of this
+	 * accumulator.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining target scale and rounding mode
+	 * @return the sum as unscaled value with the scale of {@code arith}
+	 * @throws IllegalArgumentException
+	 *             if the sum is too large to be represented as a Decimal with
+	 *             the scale of the arithmetic
+	 * @throws ArithmeticException
+	 *             if {@link DecimalArithmetic#getRoundingMode() rounding mode}
+	 *             is UNNECESSARY and rounding is necessary
+	 */
+	public final long toUnscaled(DecimalArithmetic arith) {
+		final int scale = getScale();
+		if (hi == (lo >> 63)) {
+			return arith.fromUnscaled(lo, scale);
+		}
+		final int scaleDiff = scale - arith.getScale();
+		if (scaleDiff > 0) {
+			final boolean neg = hi < 0;
+			final long u1 = neg ? ~hi + (lo == 0 ? 1 : 0) : hi;
+			final long u0 = neg ? -lo : lo;
+			final long divisor = Scales.getScaleMetrics(scaleDiff).getScaleFactor();
+			if (Unsigned.isLess(u1, divisor)) {
+				final DecimalRounding rounding = DecimalRounding.valueOf(arith.getRoundingMode());
+				final long result = Div.div128by64(rounding, neg, u1, u0, divisor);
+				if (neg ? result <= 0 : result >= 0) {
+					return result;
+				}
+			}
+		}
+		throw new IllegalArgumentException("Overflow: Cannot convert sum " + toString() + " to scale " + arith.getScale());
+	}
+
+	/**
+	 * Returns the sum of this accumulator as a {@link BigDecimal} with the
+	 * scale of this accumulator. Note that this method allocates objects and
+	 * is not meant to be used on the hot path.
+	 * 
+	 * @return the sum as big decimal value
+	 */
+	public final BigDecimal toBigDecimal() {
+		if (hi == (lo >> 63)) {
+			return BigDecimal.valueOf(lo, getScale());
+		}
+		final BigInteger high = BigInteger.valueOf(hi).shiftLeft(64);
+		final BigInteger low = BigInteger.valueOf(lo >>> 32).shiftLeft(32).or(BigInteger.valueOf(lo & LONG_MASK));
+		return new BigDecimal(high.or(low), getScale());
+	}
+
+	/**
+	 * Returns the sum of this accumulator as a string with the scale of this
+	 * accumulator.
+	 * 
+	 * @return the sum as string
+	 */
+	@Override
+	public final String toString() {
+		return toBigDecimal().toPlainString();
+	}
+}
@@ -0,0 +1,237 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Precomputed divisor for repeated division of unscaled decimal values by the
+ * same value. The divisor holds a 64 bit reciprocal of the normalized divisor
+ * so that every division is performed with multiplications and shifts instead
+ * of a full 64 or 128 bit division (see <i>Moeller and Granlund, "Improved
+ * division by invariant integers", IEEE Transactions on Computers, 2011</i>).
+ * <p>
+ * Division results are identical to those returned by
+ * {@link DecimalArithmetic#divide(long, long)} of the arithmetic passed to the
+ * constructor, including rounding and overflow behavior. Quotients that do not
+ * fit in a long are delegated to the arithmetic, and so are all divisions by a
+ * zero divisor which hence throw the same exception as the arithmetic.
+ * <p>
+ * Creating a divisor involves a 128 bit division and is hence more expensive
+ * than a single division. Instances are immutable and thread safe.
+ */
+public final class DecimalDivisor {
+
+	private final DecimalArithmetic arith;
+	private final DecimalRounding rounding;
+	private final boolean checked;
+	private final long uDecimalDivisor;
+	private final long absDivisor;
+	private final long scaleFactor;
+	private final long minIntegerValue;
+	private final long maxIntegerValue;
+	private final int shift;
+	private final long normalizedDivisor;
+	private final long reciprocal;
+
+	/**
+	 * Creates a divisor for the specified decimal value using the
+	 * {@link org.decimal4j.scale.ScaleMetrics#getDefaultArithmetic() default
+	 * arithmetic} of the divisor's scale.
+	 * 
+	 * @param divisor
+	 *            the divisor value
+	 * @throws NullPointerException
+	 *             if divisor is null
+	 */
+	public DecimalDivisor(Decimal<?> divisor) {
+		this(divisor.getScaleMetrics().getDefaultArithmetic(), divisor.unscaledValue());
+	}
+
+	/**
+	 * Creates a divisor for the specified unscaled decimal value. Divisions are
+	 * performed with the scale, rounding mode and overflow mode of the given
+	 * arithmetic.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale, rounding mode and overflow mode
+	 * @param uDecimalDivisor
+	 *            the unscaled decimal divisor with the scale of {@code arith}
+	 * @throws NullPointerException
+	 *             if arith is null
+	 */
+	public DecimalDivisor(DecimalArithmetic arith, long uDecimalDivisor) {
+		this.arith = Objects.requireNonNull(arith, "arith cannot be null");
+		this.rounding = DecimalRounding.valueOf(arith.getRoundingMode());
+		this.checked = arith.getOverflowMode().isChecked();
+		this.uDecimalDivisor = uDecimalDivisor;
+		this.absDivisor = Math.abs(uDecimalDivisor);// NOTE: Long.MIN_VALUE is 2^63 as unsigned value
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		this.scaleFactor = scaleMetrics.getScaleFactor();
+		if (uDecimalDivisor == 0) {
+			// empty range and absDivisor=0 delegate every division to the
+			// arithmetic which throws its usual division by zero exception
+			this.minIntegerValue = 1;
+			this.maxIntegerValue = 0;
+			this.shift = 0;
+			this.normalizedDivisor = 0;
+			this.reciprocal = 0;
+			return;
+		}
+		// exclude Long.MIN_VALUE for scale 0 which overflows if divided by -1
+		this.minIntegerValue = Math.max(scaleMetrics.getMinIntegerValue(), -Long.MAX_VALUE);
+		this.maxIntegerValue = scaleMetrics.getMaxIntegerValue();
+		this.shift = Long.numberOfLeadingZeros(absDivisor);
+		this.normalizedDivisor = absDivisor << shift;
+		// reciprocal = floor((2^128 - 1) / normalizedDivisor) - 2^64
+		this.reciprocal = Div.div128by64(DecimalRounding.DOWN, false, ~normalizedDivisor, -1L, normalizedDivisor);
+	}
+
+	/**
+	 * Returns the arithmetic defining scale, rounding mode and overflow mode
+	 * of divisions performed by this divisor.
+	 * 
+	 * @return the arithmetic used for divisions
+	 */
+	public final DecimalArithmetic getArithmetic() {
+		return arith;
+	}
+
+	/**
+	 * Returns the unscaled value of this divisor.
+	 * 
+	 * @return the unscaled divisor with the scale of the
+	 *         {@link #getArithmetic() arithmetic}
+	 */
+	public final long getDivisor() {
+		return uDecimalDivisor;
+	}
+
+	/**
+	 * Divides the specified unscaled dividend by this divisor and returns the
+	 * unscaled result. The result is the same as that of
+	 * {@code getArithmetic().divide(uDecimalDividend, getDivisor())}.
+	 * 
+	 * @param uDecimalDividend
+	 *            the unscaled decimal dividend
+	 * @return {@code uDecimalDividend / divisor} rounded and overflow checked
+	 *         according to the arithmetic of this divisor
+	 * @throws ArithmeticException
+	 *             if the arithmetic is checked and an overflow occurs, or if
+	 *             the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public final long divide(long uDecimalDividend) {
+		if (minIntegerValue <= uDecimalDividend & uDecimalDividend <= maxIntegerValue) {
+			// scaled dividend fits in long, a hardware division is faster than
+			// the multiplications needed for the reciprocal
+			final long scaledDividend = uDecimalDividend * scaleFactor;
+			final long quot = scaledDividend / uDecimalDivisor;
+			final long rem = scaledDividend - quot * uDecimalDivisor;
+			return quot + Rounding.calculateRoundingIncrementForDivision(rounding, quot, rem, uDecimalDivisor);
+		}
+		final boolean negative = (uDecimalDividend ^ uDecimalDivisor) < 0;
+		final long absDividend = Math.abs(uDecimalDividend);// NOTE: Long.MIN_VALUE is 2^63 as unsigned value
+
+		// scale dividend into a 128 bit integer
+		final long hScaled = Unsigned.multiplyHigh(absDividend, scaleFactor);
+		final long lScaled = absDividend * scaleFactor;
+		if (!Unsigned.isLess(hScaled, absDivisor)) {
+			// quotient does not fit in 64 bits
+			return arith.divide(uDecimalDividend, uDecimalDivisor);
+		}
+
+		// normalize dividend, no overflow since hScaled < absDivisor
+		final int s = shift;
+		final long u1 = (hScaled << s) | (lScaled >>> (64 - s)) & (-s >> 63);
+		final long u0 = lScaled << s;
+
+		// 2-by-1 division with reciprocal, algorithm 4 of Moeller and Granlund
+		final long d = normalizedDivisor;
+		final long p0 = reciprocal * u1;
+		final long q0 = p0 + u0;
+		long q1 = Unsigned.multiplyHigh(reciprocal, u1) + u1 + 1 + (Unsigned.isLess(q0, p0) ? 1 : 0);
+		long r = u0 - q1 * d;
+		if (Unsigned.isGreater(r, q0)) {
+			q1--;
+			r += d;
+		}
+		if (!Unsigned.isLess(r, d)) {
+			q1++;
+			r -= d;
+		}
+		if (q1 < 0 | q1 == Long.MAX_VALUE) {
+			// result overflows or may overflow after rounding
+			return arith.divide(uDecimalDividend, uDecimalDivisor);
+		}
+
+		// apply sign and rounding
+		final long quotient = negative ? -q1 : q1;
+		if (r == 0 | rounding == DecimalRounding.DOWN) {
+			return quotient;
+		}
+		final int inc = rounding.calculateRoundingIncrement(negative ? -1 : 1, q1, Rounding.truncatedPartFor(r >>> s, absDivisor));
+		return quotient + inc;
+	}
+
+	/**
+	 * Divides {@code uDecimalsDividend[i]} by this divisor and stores the
+	 * result in {@code result[i]} for every index {@code i} in
+	 * {@code [offset, offset+length)}. The results are the same as those of
+	 * {@link #divide(long)}.
+	 * 
+	 * @param uDecimalsDividend
+	 *            the unscaled decimal dividends
+	 * @param result
+	 *            the array to store the division results, can be the same as
+	 *            {@code uDecimalsDividend}
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if
+	 *             {@code offset + length} exceeds the length of any of the
+	 *             arrays
+	 * @throws ArithmeticException
+	 *             if the arithmetic is checked and an overflow occurs, or if
+	 *             the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public final void divide(long[] uDecimalsDividend, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = divide(uDecimalsDividend[i]);
+		}
+	}
+
+	@Override
+	public final String toString() {
+		return "DecimalDivisor[divisor=" + arith.toString(uDecimalDivisor) + ", arithmetic=" + arith + "]";
+	}
+}
@@ -0,0 +1,354 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+
+/**
+ * Immutable options to format decimal values, for instance with a fixed number of integer digits for zero padded
+ * fields or with stripped trailing zeros such as {@code "1.5"} instead of {@code "1.50000000"}. Options are created
+ * once, for instance as a constant, and then applied to many values:
+ * 
+ * <pre>
+ * static final DecimalFormatOptions PRICE = DecimalFormatOptions.DEFAULT.withMinIntegerDigits(6).withMaxFractionDigits(4);
+ * ...
+ * int len = PRICE.format(arith, uDecimal, bytes, offset);
+ * </pre>
+ * 
+ * The formatted value is written in a single pass directly into the destination {@link Appendable}, byte array or
+ * {@link ByteBuffer}; no intermediate {@code String} is created. Values are formatted as follows:
+ * <ul>
+ * <li>If the value has more fraction digits than {@link #getMaxFractionDigits() max fraction digits}, it is rounded
+ * using the {@link DecimalArithmetic#getRoundingMode() rounding mode} of the arithmetic passed to the format
+ * method.</li>
+ * <li>Trailing zero fraction digits are removed if {@link #isStripTrailingZeros() strip trailing zeros} is true, but
+ * only until {@link #getMinFractionDigits() min fraction digits} remain. If the value has fewer fraction digits than
+ * min fraction digits, zeros are appended. No decimal point is written if no fraction digits remain.</li>
+ * <li>The integer digits are prepended with {@link #getPaddingChar() padding characters} if they are fewer than
+ * {@link #getMinIntegerDigits() min integer digits}.</li>
+ * <li>Negative values are prefixed with a minus sign, other values with a plus sign if {@link #isPlusSign() plus
+ * sign} is true. The sign is written before zero padding, for instance {@code "-001.5"}, but after other padding
+ * characters, for instance {@code "  -1.5"}.</li>
+ * </ul>
+ * The {@link #DEFAULT} options produce the same result as {@link DecimalArithmetic#toString(long)}.
+ */
+public final class DecimalFormatOptions {
+
+	/**
+	 * The maximum value for {@link #getMinIntegerDigits() min integer digits}.
+	 */
+	public static final int MAX_INTEGER_DIGITS = 32;
+
+	/**
+	 * The maximum value for {@link #getMinFractionDigits() min} and {@link #getMaxFractionDigits() max fraction
+	 * digits}.
+	 */
+	public static final int MAX_FRACTION_DIGITS = 18;
+
+	/**
+	 * Default options producing the same result as {@link DecimalArithmetic#toString(long)}: min integer digits 1,
+	 * min fraction digits 0, max fraction digits 18, no stripping of trailing zeros, no plus sign and zero as padding
+	 * character.
+	 */
+	public static final DecimalFormatOptions DEFAULT = new DecimalFormatOptions(1, 0, MAX_FRACTION_DIGITS, false, false, '0');
+
+	private final int minIntegerDigits;
+	private final int minFractionDigits;
+	private final int maxFractionDigits;
+	private final boolean stripTrailingZeros;
+	private final boolean plusSign;
+	private final char paddingChar;
+
+	private DecimalFormatOptions(int minIntegerDigits, int minFractionDigits, int maxFractionDigits, boolean stripTrailingZeros, boolean plusSign, char paddingChar) {
+		if (minIntegerDigits < 1 | minIntegerDigits > MAX_INTEGER_DIGITS) {
+			throw new IllegalArgumentException("Min integer digits must be in [1, " + MAX_INTEGER_DIGITS + "] but was " + minIntegerDigits);
+		}
+		if (minFractionDigits < 0 | maxFractionDigits > MAX_FRACTION_DIGITS | minFractionDigits > maxFractionDigits) {
+			throw new IllegalArgumentException("Fraction digits must satisfy 0 <= min <= max <= " + MAX_FRACTION_DIGITS
+					+ " but min=" + minFractionDigits + " and max=" + maxFractionDigits);
+		}
+		if (paddingChar > 0x7f | paddingChar == '-' | paddingChar == '+') {
+			throw new IllegalArgumentException("Padding character must be an ASCII character other than '-' or '+' but was '" + paddingChar + "'");
+		}
+		this.minIntegerDigits = minIntegerDigits;
+		this.minFractionDigits = minFractionDigits;
+		this.maxFractionDigits = maxFractionDigits;
+		this.stripTrailingZeros = stripTrailingZeros;
+		this.plusSign = plusSign;
+		this.paddingChar = paddingChar;
+	}
+
+	/**
+	 * Returns the minimum number of integer digits. If the value has fewer integer digits, it is prepended with
+	 * {@link #getPaddingChar() padding characters}.
+	 * 
+	 * @return the min integer digits, a value in {@code [1, 32]}
+	 */
+	public final int getMinIntegerDigits() {
+		return minIntegerDigits;
+	}
+
+	/**
+	 * Returns the minimum number of fraction digits. Zeros are appended if the value has fewer fraction digits, and
+	 * trailing zeros are not {@link #isStripTrailingZeros() stripped} below this number.
+	 * 
+	 * @return the min fraction digits, a value in {@code [0, maxFractionDigits]}
+	 */
+	public final int getMinFractionDigits() {
+		return minFractionDigits;
+	}
+
+	/**
+	 * Returns the maximum number of fraction digits. Values with more fraction digits are rounded using the rounding
+	 * mode of the arithmetic passed to the format method.
+	 * 
+	 * @return the max fraction digits, a value in {@code [minFractionDigits, 18]}
+	 */
+	public final int getMaxFractionDigits() {
+		return maxFractionDigits;
+	}
+
+	/**
+	 * Returns true if trailing zero fraction digits are removed, but only until {@link #getMinFractionDigits() min
+	 * fraction digits} remain.
+	 * 
+	 * @return true if trailing zeros are stripped
+	 */
+	public final boolean isStripTrailingZeros() {
+		return stripTrailingZeros;
+	}
+
+	/**
+	 * Returns true if non-negative values are prefixed with a plus sign.
+	 * 
+	 * @return true if a plus sign is written for values that are not negative
+	 */
+	public final boolean isPlusSign() {
+		return plusSign;
+	}
+
+	/**
+	 * Returns the ASCII character used to pad the integer digits to {@link #getMinIntegerDigits() min integer digits}.
+	 * 
+	 * @return the padding character, {@code '0'} by default
+	 */
+	public final char getPaddingChar() {
+		return paddingChar;
+	}
+
+	/**
+	 * Returns options equal to these options but with the specified min integer digits.
+	 * 
+	 * @param minIntegerDigits
+	 *            the minimum number of integer digits, padded with {@link #getPaddingChar() padding characters}
+	 * @return options with the given min integer digits
+	 * @throws IllegalArgumentException
+	 *             if {@code minIntegerDigits} is not in {@code [1, 32]}
+	 */
+	public final DecimalFormatOptions withMinIntegerDigits(int minIntegerDigits) {
+		return new DecimalFormatOptions(minIntegerDigits, minFractionDigits, maxFractionDigits, stripTrailingZeros, plusSign, paddingChar);
+	}
+
+	/**
+	 * Returns options equal to these options but with the specified min fraction digits. Max fraction digits are
+	 * increased to {@code minFractionDigits} if they are smaller.
+	 * 
+	 * @param minFractionDigits
+	 *            the minimum number of fraction digits
+	 * @return options with the given min fraction digits
+	 * @throws IllegalArgumentException
+	 *             if {@code minFractionDigits} is not in {@code [0, 18]}
+	 */
+	public final DecimalFormatOptions withMinFractionDigits(int minFractionDigits) {
+		return new DecimalFormatOptions(minIntegerDigits, minFractionDigits, Math.max(minFractionDigits, maxFractionDigits), stripTrailingZeros, plusSign, paddingChar);
+	}
+
+	/**
+	 * Returns options equal to these options but with the specified max fraction digits. Min fraction digits are
+	 * decreased to {@code maxFractionDigits} if they are larger.
+	 * 
+	 * @param maxFractionDigits
+	 *            the maximum number of fraction digits
+	 * @return options with the given max fraction digits
+	 * @throws IllegalArgumentException
+	 *             if {@code maxFractionDigits} is not in {@code [0, 18]}
+	 */
+	public final DecimalFormatOptions withMaxFractionDigits(int maxFractionDigits) {
+		return new DecimalFormatOptions(minIntegerDigits, Math.min(minFractionDigits, maxFractionDigits), maxFractionDigits, stripTrailingZeros, plusSign, paddingChar);
+	}
+
+	/**
+	 * Returns options equal to these options but with the specified strip trailing zeros flag.
+	 * 
+	 * @param stripTrailingZeros
+	 *            true if trailing zeros should be removed until {@link #getMinFractionDigits() min fraction digits}
+	 *            remain
+	 * @return options with the given strip trailing zeros flag
+	 */
+	public final DecimalFormatOptions withStripTrailingZeros(boolean stripTrailingZeros) {
+		return new DecimalFormatOptions(minIntegerDigits, minFractionDigits, maxFractionDigits, stripTrailingZeros, plusSign, paddingChar);
+	}
+
+	/**
+	 * Returns options equal to these options but with the specified plus sign flag.
+	 * 
+	 * @param plusSign
+	 *            true if values that are not negative should be prefixed with a plus sign
+	 * @return options with the given plus sign flag
+	 */
+	public final DecimalFormatOptions withPlusSign(boolean plusSign) {
+		return new DecimalFormatOptions(minIntegerDigits, minFractionDigits, maxFractionDigits, stripTrailingZeros, plusSign, paddingChar);
+	}
+
+	/**
+	 * Returns options equal to these options but with the specified padding character.
+	 * 
+	 * @param paddingChar
+	 *            the ASCII character used to pad integer digits to {@link #getMinIntegerDigits() min integer digits},
+	 *            for instance {@code '0'} or {@code ' '}
+	 * @return options with the given padding character
+	 * @throws IllegalArgumentException
+	 *             if {@code paddingChar} is not an ASCII character or if it is a sign character
+	 */
+	public final DecimalFormatOptions withPaddingChar(char paddingChar) {
+		return new DecimalFormatOptions(minIntegerDigits, minFractionDigits, maxFractionDigits, stripTrailingZeros, plusSign, paddingChar);
+	}
+
+	/**
+	 * Formats the specified decimal value and appends the result to the given {@code appendable}. Rounding to
+	 * {@link #getMaxFractionDigits() max fraction digits} uses {@link java.math.RoundingMode#HALF_UP HALF_UP}.
+	 * 
+	 * @param value
+	 *            the decimal value to format
+	 * @param appendable
+	 *            the appendable to which the formatted value is to be appended
+	 * @throws IOException
+	 *             If an I/O error occurs when appending to {@code appendable}
+	 */
+	public final void format(Decimal<?> value, Appendable appendable) throws IOException {
+		format(value.getScaleMetrics().getDefaultArithmetic(), value.unscaledValue(), appendable);
+	}
+
+	/**
+	 * Formats the specified unscaled decimal value and appends the result to the given {@code appendable}.
+	 * <p>
+	 * Note: this operation is <b>not</b> strictly garbage free since internally, a {@link ThreadLocal} string builder
+	 * is used to construct the string. The {@code ThreadLocal} value may become garbage if the thread becomes garbage.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale and rounding mode of the value
+	 * @param uDecimal
+	 *            the unscaled decimal value to format
+	 * @param appendable
+	 *            the appendable to which the formatted value is to be appended
+	 * @throws IOException
+	 *             If an I/O error occurs when appending to {@code appendable}
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and the rounding mode of {@code arith} is UNNECESSARY
+	 */
+	public final void format(DecimalArithmetic arith, long uDecimal, Appendable appendable) throws IOException {
+		StringConversion.unscaledToString(arith, this, uDecimal, appendable);
+	}
+
+	/**
+	 * Formats the specified unscaled decimal value and writes the ASCII characters to the {@code dst} byte array
+	 * starting at {@code offset}. No objects are allocated.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale and rounding mode of the value
+	 * @param uDecimal
+	 *            the unscaled decimal value to format
+	 * @param dst
+	 *            the byte array to write the ASCII characters to
+	 * @param offset
+	 *            the index of the first byte to write in {@code dst}
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if there is not enough space in {@code dst} to write the value; no
+	 *             bytes are written in this case
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and the rounding mode of {@code arith} is UNNECESSARY
+	 */
+	public final int format(DecimalArithmetic arith, long uDecimal, byte[] dst, int offset) {
+		return StringConversion.unscaledToAscii(arith, this, uDecimal, dst, offset);
+	}
+
+	/**
+	 * Formats the specified unscaled decimal value and writes the ASCII characters to the {@code dst} byte buffer
+	 * starting at the buffer's current position. The position of the buffer is advanced by the number of bytes
+	 * written. No objects are allocated.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale and rounding mode of the value
+	 * @param uDecimal
+	 *            the unscaled decimal value to format
+	 * @param dst
+	 *            the byte buffer to write the ASCII characters to
+	 * @return the number of bytes written
+	 * @throws java.nio.BufferOverflowException
+	 *             if there are fewer than the required bytes remaining in {@code dst}; no bytes are written in this
+	 *             case
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if {@code dst} is read-only
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and the rounding mode of {@code arith} is UNNECESSARY
+	 */
+	public final int format(DecimalArithmetic arith, long uDecimal, ByteBuffer dst) {
+		return StringConversion.unscaledToAscii(arith, this, uDecimal, dst);
+	}
+
+	@Override
+	public final int hashCode() {
+		return Objects.hash(minIntegerDigits, minFractionDigits, maxFractionDigits, stripTrailingZeros, plusSign, paddingChar);
+	}
+
+	@Override
+	public final boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final DecimalFormatOptions other = (DecimalFormatOptions) obj;
+		return minIntegerDigits == other.minIntegerDigits
+				&& minFractionDigits == other.minFractionDigits
+				&& maxFractionDigits == other.maxFractionDigits
+				&& stripTrailingZeros == other.stripTrailingZeros
+				&& plusSign == other.plusSign
+				&& paddingChar == other.paddingChar;
+	}
+
+	@Override
+	public final String toString() {
+		return "DecimalFormatOptions[minIntegerDigits=" + minIntegerDigits + ", minFractionDigits=" + minFractionDigits
+				+ ", maxFractionDigits=" + maxFractionDigits + ", stripTrailingZeros=" + stripTrailingZeros
+				+ ", plusSign=" + plusSign + ", paddingChar='" + paddingChar + "']";
+	}
+}
@@ -27,6 +27,7 @@ import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
 import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.StacklessArithmeticException;
 import org.decimal4j.truncate.TruncatedPart;
 
 /**
@@ -68,7 +69,7 @@ final class Div {
 	 */
 	public static final long divideByLongChecked(DecimalArithmetic arith, DecimalRounding rounding, long uDecimalDividend, long lDivisor) {
 		if (lDivisor == 0) {
-			throw new ArithmeticException("Division by zero: " + arith.toString(uDecimalDividend) + " / " + lDivisor);
+			throw newDivisionByZeroException(arith, uDecimalDividend, lDivisor);
 		}
 		try {
 			final long quotient = Checked.divideByLong(arith, uDecimalDividend, lDivisor);
@@ -77,8 +78,87 @@ final class Div {
 			return Checked.add(arith, quotient, inc);
 		} catch (ArithmeticException e) {
 			Exceptions.rethrowIfRoundingNecessary(e);
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimalDividend) + " / "
-					+ lDivisor, e);
+			throw newOverflowException(arith, uDecimalDividend, lDivisor, e);
+		}
+	}
+
+	/**
+	 * Calculates unchecked division by a long value with rounding for every
+	 * index {@code i} in {@code [offset, offset+length)}.
+	 * 
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimalsDividend
+	 *            the unscaled decimal dividends
+	 * @param lDivisor
+	 *            the long divisor
+	 * @param result
+	 *            the array to store the division results with rounding and no
+	 *            overflow checks
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	public static final void divideByLong(DecimalRounding rounding, long[] uDecimalsDividend, long lDivisor, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = divideByLong(rounding, uDecimalsDividend[i], lDivisor);
+		}
+	}
+
+	/**
+	 * Calculates unchecked division by long values with rounding for every
+	 * index {@code i} in {@code [offset, offset+length)}.
+	 * 
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimalsDividend
+	 *            the unscaled decimal dividends
+	 * @param lDivisors
+	 *            the long divisors
+	 * @param result
+	 *            the array to store the division results with rounding and no
+	 *            overflow checks
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	public static final void divideByLong(DecimalRounding rounding, long[] uDecimalsDividend, long[] lDivisors, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, lDivisors, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = divideByLong(rounding, uDecimalsDividend[i], lDivisors[i]);
+		}
+	}
+
+	/**
+	 * Calculates checked division by a long value with rounding for every
+	 * index {@code i} in {@code [offset, offset+length)}.
+	 * 
+	 * @param arith
+	 *            the arithmetic used to format numbers when throwing exceptions
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimalsDividend
+	 *            the unscaled decimal dividends
+	 * @param lDivisor
+	 *            the long divisor
+	 * @param result
+	 *            the array to store the division results with rounding and
+	 *            overflow checks
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	public static final void divideByLongChecked(DecimalArithmetic arith, DecimalRounding rounding, long[] uDecimalsDividend, long lDivisor, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = divideByLongChecked(arith, rounding, uDecimalsDividend[i], lDivisor);
 		}
 	}
 
@@ -95,13 +175,45 @@ final class Div {
 	 * @return the division result without rounding and without overflow checks.
 	 */
 	public static final long divide(DecimalArithmetic arith, long uDecimalDividend, long uDecimalDivisor) {
+		return divide(arith, arith.getScaleMetrics(), uDecimalDividend, uDecimalDivisor);
+	}
+
+	/**
+	 * Calculates {@code (uDecimalDividend * scaleFactor) / uDecimalDivisor}
+	 * without rounding and overflow checks for every index {@code i} in
+	 * {@code [offset, offset+length)}. The scale metrics are looked up only
+	 * once for all elements.
+	 * 
+	 * @param arith
+	 *            the arithmetic with scale metrics and overflow mode
+	 * @param uDecimalsDividend
+	 *            the unscaled decimal dividends
+	 * @param uDecimalsDivisor
+	 *            the unscaled decimal divisors
+	 * @param result
+	 *            the array to store the division results without rounding and
+	 *            without overflow checks
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	public static final void divide(DecimalArithmetic arith, long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, uDecimalsDivisor, result, offset, length);
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = divide(arith, scaleMetrics, uDecimalsDividend[i], uDecimalsDivisor[i]);
+		}
+	}
+
+	private static final long divide(DecimalArithmetic arith, ScaleMetrics scaleMetrics, long uDecimalDividend, long uDecimalDivisor) {
 		// special cases first
 		final SpecialDivisionResult special = SpecialDivisionResult.getFor(arith, uDecimalDividend, uDecimalDivisor);
 		if (special != null) {
 			return special.divide(arith, uDecimalDividend, uDecimalDivisor);
 		}
 		// div by power of 10
-		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
 		final ScaleMetrics pow10 = Scales.findByScaleFactor(Math.abs(uDecimalDivisor));
 		if (pow10 != null) {
 			return Pow10.divideByPowerOf10(uDecimalDividend, scaleMetrics, uDecimalDivisor > 0, pow10);
@@ -180,13 +292,47 @@ final class Div {
 	 * @return the division result with rounding and without overflow checks
 	 */
 	public static final long divide(DecimalArithmetic arith, DecimalRounding rounding, long uDecimalDividend, long uDecimalDivisor) {
+		return divide(arith, rounding, arith.getScaleMetrics(), uDecimalDividend, uDecimalDivisor);
+	}
+
+	/**
+	 * Calculates {@code (uDecimalDividend * scaleFactor) / uDecimalDivisor}
+	 * with rounding and without overflow checks for every index {@code i} in
+	 * {@code [offset, offset+length)}. The scale metrics are looked up only
+	 * once for all elements.
+	 * 
+	 * @param arith
+	 *            the arithmetic with scale metrics and overflow mode
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimalsDividend
+	 *            the unscaled decimal dividends
+	 * @param uDecimalsDivisor
+	 *            the unscaled decimal divisors
+	 * @param result
+	 *            the array to store the division results with rounding and
+	 *            without overflow checks
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	public static final void divide(DecimalArithmetic arith, DecimalRounding rounding, long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, uDecimalsDivisor, result, offset, length);
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = divide(arith, rounding, scaleMetrics, uDecimalsDividend[i], uDecimalsDivisor[i]);
+		}
+	}
+
+	private static final long divide(DecimalArithmetic arith, DecimalRounding rounding, ScaleMetrics scaleMetrics, long uDecimalDividend, long uDecimalDivisor) {
 		// special cases first
 		final SpecialDivisionResult special = SpecialDivisionResult.getFor(arith, uDecimalDividend, uDecimalDivisor);
 		if (special != null) {
 			return special.divide(arith, uDecimalDividend, uDecimalDivisor);
 		}
 		// div by power of 10
-		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
 		final ScaleMetrics pow10 = Scales.findByScaleFactor(Math.abs(uDecimalDivisor));
 		if (pow10 != null) {
 			return Pow10.divideByPowerOf10(rounding, uDecimalDividend, scaleMetrics, uDecimalDivisor > 0, pow10);
@@ -299,13 +445,45 @@ final class Div {
 	 * @return the division result without rounding and with overflow checks
 	 */
 	public static final long divideChecked(DecimalArithmetic arith, long uDecimalDividend, long uDecimalDivisor) {
+		return divideChecked(arith, arith.getScaleMetrics(), uDecimalDividend, uDecimalDivisor);
+	}
+
+	/**
+	 * Calculates {@code (uDecimalDividend * scaleFactor) / uDecimalDivisor}
+	 * without rounding and with overflow checks for every index {@code i} in
+	 * {@code [offset, offset+length)}. The scale metrics are looked up only
+	 * once for all elements.
+	 * 
+	 * @param arith
+	 *            the arithmetic with scale metrics and overflow mode
+	 * @param uDecimalsDividend
+	 *            the unscaled decimal dividends
+	 * @param uDecimalsDivisor
+	 *            the unscaled decimal divisors
+	 * @param result
+	 *            the array to store the division results without rounding and
+	 *            with overflow checks
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	public static final void divideChecked(DecimalArithmetic arith, long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, uDecimalsDivisor, result, offset, length);
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = divideChecked(arith, scaleMetrics, uDecimalsDividend[i], uDecimalsDivisor[i]);
+		}
+	}
+
+	private static final long divideChecked(DecimalArithmetic arith, ScaleMetrics scaleMetrics, long uDecimalDividend, long uDecimalDivisor) {
 		// special cases first
 		final SpecialDivisionResult special = SpecialDivisionResult.getFor(arith, uDecimalDividend, uDecimalDivisor);
 		if (special != null) {
 			return special.divide(arith, uDecimalDividend, uDecimalDivisor);
 		}
 		// div by power of 10
-		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
 		final ScaleMetrics pow10 = Scales.findByScaleFactor(Math.abs(uDecimalDivisor));
 		if (pow10 != null) {
 			return Pow10.divideByPowerOf10Checked(arith, uDecimalDividend, scaleMetrics, uDecimalDivisor > 0, pow10);
@@ -380,8 +558,7 @@ final class Div {
 			}
 			return Checked.addLong(divisorMetrics.multiplyByScaleFactorExact(integralPart), fractionalPart);
 		} catch (ArithmeticException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + dividendMetrics.toString(uDecimalDividend) + " / "
-					+ divisorMetrics.toString(uDecimalDivisor), e);
+			throw newOverflowException(dividendMetrics, uDecimalDividend, divisorMetrics, uDecimalDivisor, e);
 		}
 	}
 
@@ -400,13 +577,47 @@ final class Div {
 	 * @return the division result with rounding and with overflow checks
 	 */
 	public static final long divideChecked(DecimalArithmetic arith, DecimalRounding rounding, long uDecimalDividend, long uDecimalDivisor) {
+		return divideChecked(arith, rounding, arith.getScaleMetrics(), uDecimalDividend, uDecimalDivisor);
+	}
+
+	/**
+	 * Calculates {@code (uDecimalDividend * scaleFactor) / uDecimalDivisor}
+	 * with rounding and with overflow checks for every index {@code i} in
+	 * {@code [offset, offset+length)}. The scale metrics are looked up only
+	 * once for all elements.
+	 * 
+	 * @param arith
+	 *            the arithmetic with scale metrics and overflow mode
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimalsDividend
+	 *            the unscaled decimal dividends
+	 * @param uDecimalsDivisor
+	 *            the unscaled decimal divisors
+	 * @param result
+	 *            the array to store the division results with rounding and
+	 *            with overflow checks
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	public static final void divideChecked(DecimalArithmetic arith, DecimalRounding rounding, long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, uDecimalsDivisor, result, offset, length);
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = divideChecked(arith, rounding, scaleMetrics, uDecimalsDividend[i], uDecimalsDivisor[i]);
+		}
+	}
+
+	private static final long divideChecked(DecimalArithmetic arith, DecimalRounding rounding, ScaleMetrics scaleMetrics, long uDecimalDividend, long uDecimalDivisor) {
 		// special cases first
 		final SpecialDivisionResult special = SpecialDivisionResult.getFor(arith, uDecimalDividend, uDecimalDivisor);
 		if (special != null) {
 			return special.divide(arith, uDecimalDividend, uDecimalDivisor);
 		}
 		// div by power of 10
-		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
 		final ScaleMetrics pow10 = Scales.findByScaleFactor(Math.abs(uDecimalDivisor));
 		if (pow10 != null) {
 			return Pow10.divideByPowerOf10Checked(arith, rounding, uDecimalDividend, scaleMetrics, uDecimalDivisor > 0, pow10);
@@ -521,7 +732,7 @@ final class Div {
 			}
 		} catch (ArithmeticException e) {
 			Exceptions.rethrowIfRoundingNecessary(e);
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + dividendMetrics.toString(uDecimalDividend) + " / " + divisorMetrics.toString(uDecimalDivisor), e);
+			throw newOverflowException(dividendMetrics, uDecimalDividend, divisorMetrics, uDecimalDivisor, e);
 		}
 	}
 
@@ -697,6 +908,21 @@ final class Div {
 		return quotient + (((rem >= divisor) | (rem < 0)) ? 1 : 0);
 	}
 
+	private static final ArithmeticException newDivisionByZeroException(DecimalArithmetic arith, long uDecimalDividend, long lDivisor) {
+		return StacklessArithmeticException.ENABLED & arith.getOverflowMode().isChecked() ? StacklessArithmeticException.DIVISION_BY_ZERO
+				: new ArithmeticException("Division by zero: " + arith.toString(uDecimalDividend) + " / " + lDivisor);
+	}
+
+	private static final ArithmeticException newOverflowException(DecimalArithmetic arith, long uDecimalDividend, long lDivisor, ArithmeticException cause) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimalDividend) + " / " + lDivisor, cause);
+	}
+
+	private static final ArithmeticException newOverflowException(ScaleMetrics dividendMetrics, long uDecimalDividend, ScaleMetrics divisorMetrics, long uDecimalDivisor, ArithmeticException cause) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: Exceptions.newArithmeticExceptionWithCause("Overflow: " + dividendMetrics.toString(uDecimalDividend) + " / " + divisorMetrics.toString(uDecimalDivisor), cause);
+	}
+
 	// no instances
 	private Div() {
 		super();
@@ -26,6 +26,7 @@ package org.decimal4j.arithmetic;
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.StacklessArithmeticException;
 import org.decimal4j.truncate.TruncatedPart;
 
 /**
@@ -115,7 +116,7 @@ final class DoubleConversion {
 		switch (mode) {
 		case UNNECESSARY:
 			if (!isMathematicalInteger(x)) {
-				throw new ArithmeticException("Rounding necessary to convert to an integer value: " + x);
+				throw newRoundingNecessaryException(x);
 			}
 			return x;
 		case FLOOR:
@@ -539,6 +540,11 @@ final class DoubleConversion {
 				"Overflow for conversion from double to decimal with scale " + arith.getScale() + ": " + value);
 	}
 
+	private static final ArithmeticException newRoundingNecessaryException(double x) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.ROUNDING_NECESSARY
+				: new ArithmeticException("Rounding necessary to convert to an integer value: " + x);
+	}
+
 	// no instances
 	private DoubleConversion() {
 		super();
@@ -25,8 +25,22 @@ package org.decimal4j.arithmetic;
 
 import java.math.RoundingMode;
 
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.StacklessArithmeticException;
+
 /**
  * Utility for exception conversion and re-throwing.
+ * <p>
+ * Arithmetic throws a new {@link ArithmeticException} with a message describing
+ * the operation and its operands if an overflow occurs, for a division by zero
+ * or if rounding is necessary for {@link RoundingMode#UNNECESSARY}. If
+ * {@link StacklessArithmeticException#ENABLED stackless exceptions} are enabled,
+ * a preallocated {@link StacklessArithmeticException} with a fixed message is
+ * thrown instead for overflows and divisions by zero of arithmetic with
+ * {@link OverflowMode#CHECKED CHECKED} overflow mode and for all rounding
+ * necessary exceptions. The operation classes create these exceptions in one
+ * helper method per message kind so that the message is only formatted if a
+ * regular exception is thrown.
  */
 public final class Exceptions {
 
@@ -47,14 +61,16 @@ public final class Exceptions {
 	}
 
 	/**
-	 * Returns new {@link ArithmeticException} indicating that rounding was
+	 * Returns an {@link ArithmeticException} indicating that rounding was
 	 * necessary when attempting to apply rounding with
-	 * {@link RoundingMode#UNNECESSARY}.
+	 * {@link RoundingMode#UNNECESSARY}. The exception is the preallocated
+	 * {@link StacklessArithmeticException#ROUNDING_NECESSARY} instance if
+	 * stackless exceptions are enabled and a new exception otherwise.
 	 * 
 	 * @return an arithmetic exception with the message "Rounding necessary"
 	 */
 	public static final ArithmeticException newRoundingNecessaryArithmeticException() {
-		return new ArithmeticException(ROUNDING_NECESSARY);
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.ROUNDING_NECESSARY : new ArithmeticException(ROUNDING_NECESSARY);
 	}
 
 	/**
@@ -0,0 +1,281 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.math.RoundingMode;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Arithmetic for unscaled decimal values of a fixed scale that reports
+ * overflows, division by zero and inexact results through an
+ * {@link ArithmeticStatus} instead of throwing an exception.
+ * <p>
+ * The operations of this class never throw {@link ArithmeticException} and do
+ * not allocate any objects. This is useful if overflow or rounding is an
+ * expected outcome, for instance when validating input values. Checked
+ * {@link DecimalArithmetic} operations create a new exception with a formatted
+ * message in such cases which is orders of magnitudes slower than a regular
+ * result.
+ * <p>
+ * The result values of the operations are as follows:
+ * <ul>
+ * <li>{@link ArithmeticStatus#OVERFLOW}: the low order 64 bits of the exact
+ * rounded result, the same as for unchecked arithmetic in most cases</li>
+ * <li>{@link ArithmeticStatus#DIVISION_BY_ZERO}: zero</li>
+ * <li>{@link ArithmeticStatus#INEXACT}: the result rounded with the rounding
+ * mode of this arithmetic; if the rounding mode is
+ * {@link RoundingMode#UNNECESSARY UNNECESSARY}, the result is truncated</li>
+ * </ul>
+ * Flags are only ever raised and never cleared by the operations of this
+ * class.
+ * <p>
+ * Instances of this class are immutable and can be shared, the status passed
+ * to the operations is usually not.
+ */
+public final class FlaggedArithmetic {
+
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+	private final DecimalRounding rounding;
+	private final long scaleFactor;
+
+	/**
+	 * Creates a flagged arithmetic for the given scale and rounding mode.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the unscaled values
+	 * @param roundingMode
+	 *            the rounding mode to apply if rounding is necessary
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	public FlaggedArithmetic(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		this.roundingMode = Objects.requireNonNull(roundingMode, "roundingMode cannot be null");
+		// UNNECESSARY would throw an exception, the INEXACT flag is raised instead
+		this.rounding = roundingMode == RoundingMode.UNNECESSARY ? DecimalRounding.DOWN : DecimalRounding.valueOf(roundingMode);
+		this.scaleFactor = scaleMetrics.getScaleFactor();
+	}
+
+	/**
+	 * Returns the scale metrics of this arithmetic.
+	 * 
+	 * @return the scale metrics of the unscaled values
+	 */
+	public final ScaleMetrics getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the scale of this arithmetic.
+	 * 
+	 * @return the scale of the unscaled values
+	 */
+	public final int getScale() {
+		return scaleMetrics.getScale();
+	}
+
+	/**
+	 * Returns the rounding mode of this arithmetic.
+	 * 
+	 * @return the rounding mode applied if rounding is necessary
+	 */
+	public final RoundingMode getRoundingMode() {
+		return roundingMode;
+	}
+
+	/**
+	 * Returns {@code (uDecimal1 + uDecimal2)}.
+	 * 
+	 * @param uDecimal1
+	 *            first unscaled decimal value to be added
+	 * @param uDecimal2
+	 *            second unscaled decimal value to be added
+	 * @param status
+	 *            the status in which {@link ArithmeticStatus#OVERFLOW} is
+	 *            raised if the result does not fit in a long
+	 * @return the sum
+	 */
+	public final long add(long uDecimal1, long uDecimal2, ArithmeticStatus status) {
+		final long result = uDecimal1 + uDecimal2;
+		if (Checked.isAddOverflow(uDecimal1, uDecimal2, result)) {
+			status.raise(ArithmeticStatus.OVERFLOW);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns {@code (uDecimalMinuend - uDecimalSubtrahend)}.
+	 * 
+	 * @param uDecimalMinuend
+	 *            unscaled decimal value to subtract from
+	 * @param uDecimalSubtrahend
+	 *            unscaled decimal value to subtract from the minuend
+	 * @param status
+	 *            the status in which {@link ArithmeticStatus#OVERFLOW} is
+	 *            raised if the result does not fit in a long
+	 * @return the difference
+	 */
+	public final long subtract(long uDecimalMinuend, long uDecimalSubtrahend, ArithmeticStatus status) {
+		final long result = uDecimalMinuend - uDecimalSubtrahend;
+		if (Checked.isSubtractOverflow(uDecimalMinuend, uDecimalSubtrahend, result)) {
+			status.raise(ArithmeticStatus.OVERFLOW);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns {@code (uDecimal1 * uDecimal2)} rounded to the scale of this
+	 * arithmetic.
+	 * 
+	 * @param uDecimal1
+	 *            first unscaled decimal value to be multiplied
+	 * @param uDecimal2
+	 *            second unscaled decimal value to be multiplied
+	 * @param status
+	 *            the status in which {@link ArithmeticStatus#OVERFLOW} and
+	 *            {@link ArithmeticStatus#INEXACT} are raised
+	 * @return the rounded product
+	 */
+	public final long multiply(long uDecimal1, long uDecimal2, ArithmeticStatus status) {
+		return divide128(MulAdd.multiplyHighSigned(uDecimal1, uDecimal2), uDecimal1 * uDecimal2, scaleFactor, status);
+	}
+
+	/**
+	 * Returns {@code (uDecimal * lValue)} where the second argument is a long
+	 * value instead of an unscaled decimal.
+	 * 
+	 * @param uDecimal
+	 *            unscaled decimal value to be multiplied
+	 * @param lValue
+	 *            long value to be multiplied
+	 * @param status
+	 *            the status in which {@link ArithmeticStatus#OVERFLOW} is
+	 *            raised if the result does not fit in a long
+	 * @return the product
+	 */
+	public final long multiplyByLong(long uDecimal, long lValue, ArithmeticStatus status) {
+		final long result = uDecimal * lValue;
+		if (MulAdd.multiplyHighSigned(uDecimal, lValue) != (result >> 63)) {
+			status.raise(ArithmeticStatus.OVERFLOW);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns {@code (uDecimalDividend / uDecimalDivisor)} rounded to the scale
+	 * of this arithmetic.
+	 * 
+	 * @param uDecimalDividend
+	 *            unscaled decimal value to be divided
+	 * @param uDecimalDivisor
+	 *            unscaled decimal value by which the dividend is to be divided
+	 * @param status
+	 *            the status in which {@link ArithmeticStatus#OVERFLOW},
+	 *            {@link ArithmeticStatus#DIVISION_BY_ZERO} and
+	 *            {@link ArithmeticStatus#INEXACT} are raised
+	 * @return the rounded quotient, zero if the divisor is zero
+	 */
+	public final long divide(long uDecimalDividend, long uDecimalDivisor, ArithmeticStatus status) {
+		if (uDecimalDivisor == 0) {
+			status.raise(ArithmeticStatus.DIVISION_BY_ZERO);
+			return 0;
+		}
+		final long hi = MulAdd.multiplyHighSigned(uDecimalDividend, scaleFactor);
+		return divide128(hi, uDecimalDividend * scaleFactor, uDecimalDivisor, status);
+	}
+
+	/**
+	 * Returns {@code (uDecimalDividend / lDivisor)} where the second argument
+	 * is a long value instead of an unscaled decimal.
+	 * 
+	 * @param uDecimalDividend
+	 *            unscaled decimal value to be divided
+	 * @param lDivisor
+	 *            long value by which the dividend is to be divided
+	 * @param status
+	 *            the status in which {@link ArithmeticStatus#OVERFLOW},
+	 *            {@link ArithmeticStatus#DIVISION_BY_ZERO} and
+	 *            {@link ArithmeticStatus#INEXACT} are raised
+	 * @return the rounded quotient, zero if the divisor is zero
+	 */
+	public final long divideByLong(long uDecimalDividend, long lDivisor, ArithmeticStatus status) {
+		if (lDivisor == 0) {
+			status.raise(ArithmeticStatus.DIVISION_BY_ZERO);
+			return 0;
+		}
+		return divide128(uDecimalDividend >> 63, uDecimalDividend, lDivisor, status);
+	}
+
+	/**
+	 * Divides the signed 128 bit integer {@code (hi, lo)} by the given non-zero
+	 * divisor and returns the quotient rounded with the rounding of this
+	 * arithmetic.
+	 */
+	private long divide128(long hi, long lo, long divisor, ArithmeticStatus status) {
+		final boolean negative = (hi ^ divisor) < 0;
+		long absHi = hi;
+		long absLo = lo;
+		if (hi < 0) {
+			absLo = -lo;
+			absHi = absLo == 0 ? -hi : ~hi;
+		}
+		final long absDivisor = Math.abs(divisor);// NOTE: Long.MIN_VALUE is 2^63 as unsigned value
+		final long quotient;
+		if (absHi == 0) {
+			quotient = Unsigned.divide(absLo, absDivisor);
+		} else {
+			long remainderHi = absHi;
+			if (!Unsigned.isLess(absHi, absDivisor)) {
+				// quotient does not fit in 64 bits, continue with the low order bits
+				status.raise(ArithmeticStatus.OVERFLOW);
+				remainderHi = absHi - Unsigned.divide(absHi, absDivisor) * absDivisor;
+			}
+			quotient = Div.div128by64(DecimalRounding.DOWN, false, remainderHi, absLo, absDivisor);
+		}
+		if (quotient < 0 & !(negative & quotient == Long.MIN_VALUE)) {
+			status.raise(ArithmeticStatus.OVERFLOW);
+		}
+		final long result = negative ? -quotient : quotient;
+		final long remainder = absLo - quotient * absDivisor;
+		if (remainder == 0) {
+			return result;
+		}
+		status.raise(ArithmeticStatus.INEXACT);
+		final int inc = rounding.calculateRoundingIncrement(negative ? -1 : 1, quotient, Rounding.truncatedPartFor(remainder, absDivisor));
+		if ((result == Long.MAX_VALUE & inc > 0) | (result == Long.MIN_VALUE & inc < 0)) {
+			status.raise(ArithmeticStatus.OVERFLOW);
+		}
+		return result + inc;
+	}
+
+	@Override
+	public final String toString() {
+		return getClass().getSimpleName() + "[scale=" + getScale() + ", rounding=" + roundingMode + "]";
+	}
+}
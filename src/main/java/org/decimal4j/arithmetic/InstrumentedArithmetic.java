@@ -0,0 +1,893 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.ArithmeticCounters.Counter;
+import org.decimal4j.arithmetic.ArithmeticCounters.Operation;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.TruncationPolicy;
+
+/**
+ * Decorator for a {@link DecimalArithmetic} that counts operations, inexact
+ * roundings, rounding increments, overflows and divisions by zero in the
+ * {@link ArithmeticCounters} of the arithmetic's scale.
+ * <p>
+ * Instrumentation is opt-in: an instrumented arithmetic is obtained via
+ * {@link #instrument(DecimalArithmetic)} and only operations performed through
+ * such an instance are counted. Other arithmetic instances are not affected
+ * and have no overhead.
+ * <p>
+ * To detect inexact results and rounding increments, operations that may round
+ * are additionally evaluated with truncating and with rounding-up arithmetic.
+ * Overflows of unchecked arithmetic are detected for add, subtract, multiply
+ * and divide. For other operations, overflows and divisions by zero are only
+ * counted if the decorated arithmetic throws an exception; the exception is
+ * classified by the operands and not by its message. Comparison, conversion to
+ * non-decimal types and formatting operations are not counted, and neither are
+ * operations failing because of an invalid argument such as the square root of
+ * a negative value or parsing a string that is not a decimal number.
+ * <p>
+ * Bulk operations on arrays are performed and counted element by element.
+ * <p>
+ * Instrumented operations are several times slower than operations of the
+ * decorated arithmetic; instrumentation is intended for analysis and not for
+ * latency critical production paths.
+ */
+public final class InstrumentedArithmetic implements DecimalArithmetic {
+
+	private final DecimalArithmetic delegate;
+	private final ArithmeticCounters counters;
+	private final DecimalArithmetic down;
+	private final DecimalArithmetic up;
+	private final long scaleFactor;
+	private final boolean checked;
+	private final boolean unnecessary;
+
+	private InstrumentedArithmetic(DecimalArithmetic delegate) {
+		final ScaleMetrics scaleMetrics = delegate.getScaleMetrics();
+		this.delegate = delegate;
+		this.counters = ArithmeticCounters.forScale(scaleMetrics.getScale());
+		this.down = scaleMetrics.getArithmetic(RoundingMode.DOWN);
+		this.up = scaleMetrics.getArithmetic(RoundingMode.UP);
+		this.scaleFactor = scaleMetrics.getScaleFactor();
+		this.checked = delegate.getOverflowMode().isChecked();
+		this.unnecessary = delegate.getRoundingMode() == RoundingMode.UNNECESSARY;
+	}
+
+	/**
+	 * Returns an instrumented arithmetic decorating the given arithmetic. If
+	 * the argument is already instrumented, it is returned unchanged.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic to instrument
+	 * @return an arithmetic counting the operations performed with
+	 *         {@code arithmetic}
+	 * @throws NullPointerException
+	 *             if arithmetic is null
+	 */
+	public static final DecimalArithmetic instrument(DecimalArithmetic arithmetic) {
+		Objects.requireNonNull(arithmetic, "arithmetic cannot be null");
+		if (arithmetic instanceof InstrumentedArithmetic) {
+			return arithmetic;
+		}
+		return new InstrumentedArithmetic(arithmetic);
+	}
+
+	/**
+	 * Returns the decorated arithmetic.
+	 * 
+	 * @return the arithmetic performing the operations
+	 */
+	public final DecimalArithmetic getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * Returns the counters of this arithmetic's scale.
+	 * 
+	 * @return the counters updated by this arithmetic
+	 */
+	public final ArithmeticCounters getCounters() {
+		return counters;
+	}
+
+	private long counted(Operation operation, long result, long truncated, long roundedUp) {
+		counters.count(operation, truncated != roundedUp, result != truncated);
+		return result;
+	}
+
+	/**
+	 * Returns the counter for an operation with non-zero divisor that threw an
+	 * exception: inexact rounding if rounding was necessary with rounding mode
+	 * UNNECESSARY, and overflow otherwise.
+	 */
+	private Counter failure(long truncated, long roundedUp) {
+		return unnecessary & truncated != roundedUp ? Counter.INEXACT_ROUNDINGS : Counter.OVERFLOWS;
+	}
+
+	/**
+	 * Returns true if the truncated quotient of the signed 128 bit integer
+	 * {@code (hi, lo)} divided by the non-zero divisor does not fit in a long.
+	 */
+	private static boolean isQuotientOverflow(long hi, long lo, long divisor) {
+		final boolean negative = (hi ^ divisor) < 0;
+		long absHi = hi;
+		long absLo = lo;
+		if (hi < 0) {
+			absLo = -lo;
+			absHi = absLo == 0 ? -hi : ~hi;
+		}
+		final long absDivisor = Math.abs(divisor);// NOTE: Long.MIN_VALUE is 2^63 as unsigned value
+		if (absHi != 0 && !Unsigned.isLess(absHi, absDivisor)) {
+			return true;
+		}
+		final long quotient = absHi == 0 ? Unsigned.divide(absLo, absDivisor) : Div.div128by64(DecimalRounding.DOWN, false, absHi, absLo, absDivisor);
+		return quotient < 0 & !(negative & quotient == Long.MIN_VALUE);
+	}
+
+	@Override
+	public final int getScale() {
+		return delegate.getScale();
+	}
+
+	@Override
+	public final ScaleMetrics getScaleMetrics() {
+		return delegate.getScaleMetrics();
+	}
+
+	@Override
+	public final RoundingMode getRoundingMode() {
+		return delegate.getRoundingMode();
+	}
+
+	@Override
+	public final OverflowMode getOverflowMode() {
+		return delegate.getOverflowMode();
+	}
+
+	@Override
+	public final TruncationPolicy getTruncationPolicy() {
+		return delegate.getTruncationPolicy();
+	}
+
+	@Override
+	public final DecimalArithmetic deriveArithmetic(int scale) {
+		return instrument(delegate.deriveArithmetic(scale));
+	}
+
+	@Override
+	public final DecimalArithmetic deriveArithmetic(RoundingMode roundingMode) {
+		return instrument(delegate.deriveArithmetic(roundingMode));
+	}
+
+	@Override
+	public final DecimalArithmetic deriveArithmetic(RoundingMode roundingMode, OverflowMode overflowMode) {
+		return instrument(delegate.deriveArithmetic(roundingMode, overflowMode));
+	}
+
+	@Override
+	public final DecimalArithmetic deriveArithmetic(OverflowMode overflowMode) {
+		return instrument(delegate.deriveArithmetic(overflowMode));
+	}
+
+	@Override
+	public final DecimalArithmetic deriveArithmetic(TruncationPolicy truncationPolicy) {
+		return instrument(delegate.deriveArithmetic(truncationPolicy));
+	}
+
+	@Override
+	public final long one() {
+		return delegate.one();
+	}
+
+	@Override
+	public final int signum(long uDecimal) {
+		return delegate.signum(uDecimal);
+	}
+
+	@Override
+	public final int compare(long uDecimal1, long uDecimal2) {
+		return delegate.compare(uDecimal1, uDecimal2);
+	}
+
+	@Override
+	public final int compareToUnscaled(long uDecimal, long unscaled, int scale) {
+		return delegate.compareToUnscaled(uDecimal, unscaled, scale);
+	}
+
+	@Override
+	public final long add(long uDecimal1, long uDecimal2) {
+		final long result;
+		try {
+			result = delegate.add(uDecimal1, uDecimal2);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.ADD, Counter.OVERFLOWS);
+			throw e;
+		}
+		counters.count(Operation.ADD, false, false, !checked && Checked.isAddOverflow(uDecimal1, uDecimal2, result));
+		return result;
+	}
+
+	@Override
+	public final void add(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals1, uDecimals2, result, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			result[i] = add(uDecimals1[i], uDecimals2[i]);
+		}
+	}
+
+	@Override
+	public final long addLong(long uDecimal, long lValue) {
+		final long result;
+		try {
+			result = delegate.addLong(uDecimal, lValue);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.ADD, Counter.OVERFLOWS);
+			throw e;
+		}
+		counters.count(Operation.ADD, false, false);
+		return result;
+	}
+
+	@Override
+	public final long addUnscaled(long uDecimal, long unscaled, int scale) {
+		final long result;
+		try {
+			result = delegate.addUnscaled(uDecimal, unscaled, scale);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.ADD, failure(down.addUnscaled(uDecimal, unscaled, scale), up.addUnscaled(uDecimal, unscaled, scale)));
+			throw e;
+		}
+		return counted(Operation.ADD, result, down.addUnscaled(uDecimal, unscaled, scale), up.addUnscaled(uDecimal, unscaled, scale));
+	}
+
+	@Override
+	public final long subtract(long uDecimalMinuend, long uDecimalSubtrahend) {
+		final long result;
+		try {
+			result = delegate.subtract(uDecimalMinuend, uDecimalSubtrahend);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.SUBTRACT, Counter.OVERFLOWS);
+			throw e;
+		}
+		counters.count(Operation.SUBTRACT, false, false, !checked && Checked.isSubtractOverflow(uDecimalMinuend, uDecimalSubtrahend, result));
+		return result;
+	}
+
+	@Override
+	public final void subtract(long[] uDecimalsMinuend, long[] uDecimalsSubtrahend, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsMinuend, uDecimalsSubtrahend, result, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			result[i] = subtract(uDecimalsMinuend[i], uDecimalsSubtrahend[i]);
+		}
+	}
+
+	@Override
+	public final long subtractLong(long uDecimal, long lValue) {
+		final long result;
+		try {
+			result = delegate.subtractLong(uDecimal, lValue);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.SUBTRACT, Counter.OVERFLOWS);
+			throw e;
+		}
+		counters.count(Operation.SUBTRACT, false, false);
+		return result;
+	}
+
+	@Override
+	public final long subtractUnscaled(long uDecimal, long unscaled, int scale) {
+		final long result;
+		try {
+			result = delegate.subtractUnscaled(uDecimal, unscaled, scale);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.SUBTRACT, failure(down.subtractUnscaled(uDecimal, unscaled, scale), up.subtractUnscaled(uDecimal, unscaled, scale)));
+			throw e;
+		}
+		return counted(Operation.SUBTRACT, result, down.subtractUnscaled(uDecimal, unscaled, scale), up.subtractUnscaled(uDecimal, unscaled, scale));
+	}
+
+	@Override
+	public final long multiply(long uDecimal1, long uDecimal2) {
+		final long result;
+		try {
+			result = delegate.multiply(uDecimal1, uDecimal2);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.MULTIPLY, failure(down.multiply(uDecimal1, uDecimal2), up.multiply(uDecimal1, uDecimal2)));
+			throw e;
+		}
+		final long truncated = down.multiply(uDecimal1, uDecimal2);
+		final long roundedUp = up.multiply(uDecimal1, uDecimal2);
+		counters.count(Operation.MULTIPLY, truncated != roundedUp, result != truncated, !checked && isQuotientOverflow(MulAdd.multiplyHighSigned(uDecimal1, uDecimal2), uDecimal1 * uDecimal2, scaleFactor));
+		return result;
+	}
+
+	@Override
+	public final void multiply(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals1, uDecimals2, result, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			result[i] = multiply(uDecimals1[i], uDecimals2[i]);
+		}
+	}
+
+	@Override
+	public final long multiplyByLong(long uDecimal, long lValue) {
+		final long result;
+		try {
+			result = delegate.multiplyByLong(uDecimal, lValue);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.MULTIPLY, Counter.OVERFLOWS);
+			throw e;
+		}
+		counters.count(Operation.MULTIPLY, false, false, !checked && MulAdd.multiplyHighSigned(uDecimal, lValue) != (result >> 63));
+		return result;
+	}
+
+	@Override
+	public final void multiplyByLong(long[] uDecimals, long lValue, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals, result, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			result[i] = multiplyByLong(uDecimals[i], lValue);
+		}
+	}
+
+	@Override
+	public final long multiplyByUnscaled(long uDecimal, long unscaled, int scale) {
+		final long result;
+		try {
+			result = delegate.multiplyByUnscaled(uDecimal, unscaled, scale);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.MULTIPLY, failure(down.multiplyByUnscaled(uDecimal, unscaled, scale), up.multiplyByUnscaled(uDecimal, unscaled, scale)));
+			throw e;
+		}
+		return counted(Operation.MULTIPLY, result, down.multiplyByUnscaled(uDecimal, unscaled, scale), up.multiplyByUnscaled(uDecimal, unscaled, scale));
+	}
+
+	@Override
+	public final long multiplyByPowerOf10(long uDecimal, int n) {
+		final long result;
+		try {
+			result = delegate.multiplyByPowerOf10(uDecimal, n);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.MULTIPLY, failure(down.multiplyByPowerOf10(uDecimal, n), up.multiplyByPowerOf10(uDecimal, n)));
+			throw e;
+		}
+		return counted(Operation.MULTIPLY, result, down.multiplyByPowerOf10(uDecimal, n), up.multiplyByPowerOf10(uDecimal, n));
+	}
+
+	@Override
+	public final long divide(long uDecimalDividend, long uDecimalDivisor) {
+		final long result;
+		try {
+			result = delegate.divide(uDecimalDividend, uDecimalDivisor);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.DIVIDE, uDecimalDivisor == 0 ? Counter.DIVISIONS_BY_ZERO : failure(down.divide(uDecimalDividend, uDecimalDivisor), up.divide(uDecimalDividend, uDecimalDivisor)));
+			throw e;
+		}
+		final long truncated = down.divide(uDecimalDividend, uDecimalDivisor);
+		final long roundedUp = up.divide(uDecimalDividend, uDecimalDivisor);
+		counters.count(Operation.DIVIDE, truncated != roundedUp, result != truncated, !checked && isQuotientOverflow(MulAdd.multiplyHighSigned(uDecimalDividend, scaleFactor), uDecimalDividend * scaleFactor, uDecimalDivisor));
+		return result;
+	}
+
+	@Override
+	public final void divide(long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, uDecimalsDivisor, result, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			result[i] = divide(uDecimalsDividend[i], uDecimalsDivisor[i]);
+		}
+	}
+
+	@Override
+	public final long multiplyDivide(long uDecimal1, long uDecimal2, long uDecimalDivisor) {
+		final long result;
+		try {
+			result = delegate.multiplyDivide(uDecimal1, uDecimal2, uDecimalDivisor);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.MULTIPLY_DIVIDE, uDecimalDivisor == 0 ? Counter.DIVISIONS_BY_ZERO : failure(down.multiplyDivide(uDecimal1, uDecimal2, uDecimalDivisor), up.multiplyDivide(uDecimal1, uDecimal2, uDecimalDivisor)));
+			throw e;
+		}
+		return counted(Operation.MULTIPLY_DIVIDE, result, down.multiplyDivide(uDecimal1, uDecimal2, uDecimalDivisor), up.multiplyDivide(uDecimal1, uDecimal2, uDecimalDivisor));
+	}
+
+	@Override
+	public final long multiplyDivide(long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor) {
+		final long result;
+		try {
+			result = delegate.multiplyDivide(uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.MULTIPLY_DIVIDE, unscaledDivisor == 0 ? Counter.DIVISIONS_BY_ZERO : failure(down.multiplyDivide(uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor), up.multiplyDivide(uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor)));
+			throw e;
+		}
+		return counted(Operation.MULTIPLY_DIVIDE, result, down.multiplyDivide(uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor), up.multiplyDivide(uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor));
+	}
+
+	@Override
+	public final long multiplyAdd(long uDecimalAddend, long uDecimal1, long uDecimal2) {
+		final long result;
+		try {
+			result = delegate.multiplyAdd(uDecimalAddend, uDecimal1, uDecimal2);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.MULTIPLY_ADD, failure(down.multiplyAdd(uDecimalAddend, uDecimal1, uDecimal2), up.multiplyAdd(uDecimalAddend, uDecimal1, uDecimal2)));
+			throw e;
+		}
+		return counted(Operation.MULTIPLY_ADD, result, down.multiplyAdd(uDecimalAddend, uDecimal1, uDecimal2), up.multiplyAdd(uDecimalAddend, uDecimal1, uDecimal2));
+	}
+
+	@Override
+	public final long dotProduct(long[] uDecimals1, long[] uDecimals2, int offset, int length) {
+		final long result;
+		try {
+			result = delegate.dotProduct(uDecimals1, uDecimals2, offset, length);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.MULTIPLY_ADD, failure(down.dotProduct(uDecimals1, uDecimals2, offset, length), up.dotProduct(uDecimals1, uDecimals2, offset, length)));
+			throw e;
+		}
+		return counted(Operation.MULTIPLY_ADD, result, down.dotProduct(uDecimals1, uDecimals2, offset, length), up.dotProduct(uDecimals1, uDecimals2, offset, length));
+	}
+
+	@Override
+	public final long divideByLong(long uDecimalDividend, long lDivisor) {
+		final long result;
+		try {
+			result = delegate.divideByLong(uDecimalDividend, lDivisor);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.DIVIDE, lDivisor == 0 ? Counter.DIVISIONS_BY_ZERO : failure(down.divideByLong(uDecimalDividend, lDivisor), up.divideByLong(uDecimalDividend, lDivisor)));
+			throw e;
+		}
+		final long truncated = down.divideByLong(uDecimalDividend, lDivisor);
+		final long roundedUp = up.divideByLong(uDecimalDividend, lDivisor);
+		counters.count(Operation.DIVIDE, truncated != roundedUp, result != truncated, !checked && isQuotientOverflow(uDecimalDividend >> 63, uDecimalDividend, lDivisor));
+		return result;
+	}
+
+	@Override
+	public final void divideByLong(long[] uDecimalsDividend, long lDivisor, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, result, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			result[i] = divideByLong(uDecimalsDividend[i], lDivisor);
+		}
+	}
+
+	@Override
+	public final long divideByUnscaled(long uDecimal, long unscaled, int scale) {
+		final long result;
+		try {
+			result = delegate.divideByUnscaled(uDecimal, unscaled, scale);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.DIVIDE, unscaled == 0 ? Counter.DIVISIONS_BY_ZERO : failure(down.divideByUnscaled(uDecimal, unscaled, scale), up.divideByUnscaled(uDecimal, unscaled, scale)));
+			throw e;
+		}
+		return counted(Operation.DIVIDE, result, down.divideByUnscaled(uDecimal, unscaled, scale), up.divideByUnscaled(uDecimal, unscaled, scale));
+	}
+
+	@Override
+	public final long divideByPowerOf10(long uDecimal, int n) {
+		final long result;
+		try {
+			result = delegate.divideByPowerOf10(uDecimal, n);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.DIVIDE, failure(down.divideByPowerOf10(uDecimal, n), up.divideByPowerOf10(uDecimal, n)));
+			throw e;
+		}
+		return counted(Operation.DIVIDE, result, down.divideByPowerOf10(uDecimal, n), up.divideByPowerOf10(uDecimal, n));
+	}
+
+	@Override
+	public final long avg(long uDecimal1, long uDecimal2) {
+		final long result;
+		try {
+			result = delegate.avg(uDecimal1, uDecimal2);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.AVG, failure(down.avg(uDecimal1, uDecimal2), up.avg(uDecimal1, uDecimal2)));
+			throw e;
+		}
+		return counted(Operation.AVG, result, down.avg(uDecimal1, uDecimal2), up.avg(uDecimal1, uDecimal2));
+	}
+
+	@Override
+	public final long abs(long uDecimal) {
+		final long result;
+		try {
+			result = delegate.abs(uDecimal);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.ABS, Counter.OVERFLOWS);
+			throw e;
+		}
+		counters.count(Operation.ABS, false, false);
+		return result;
+	}
+
+	@Override
+	public final void abs(long[] uDecimals, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals, result, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			result[i] = abs(uDecimals[i]);
+		}
+	}
+
+	@Override
+	public final long negate(long uDecimal) {
+		final long result;
+		try {
+			result = delegate.negate(uDecimal);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.NEGATE, Counter.OVERFLOWS);
+			throw e;
+		}
+		counters.count(Operation.NEGATE, false, false);
+		return result;
+	}
+
+	@Override
+	public final void negate(long[] uDecimals, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals, result, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			result[i] = negate(uDecimals[i]);
+		}
+	}
+
+	@Override
+	public final long invert(long uDecimal) {
+		final long result;
+		try {
+			result = delegate.invert(uDecimal);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.INVERT, uDecimal == 0 ? Counter.DIVISIONS_BY_ZERO : failure(down.invert(uDecimal), up.invert(uDecimal)));
+			throw e;
+		}
+		return counted(Operation.INVERT, result, down.invert(uDecimal), up.invert(uDecimal));
+	}
+
+	@Override
+	public final long square(long uDecimal) {
+		final long result;
+		try {
+			result = delegate.square(uDecimal);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.SQUARE, failure(down.square(uDecimal), up.square(uDecimal)));
+			throw e;
+		}
+		return counted(Operation.SQUARE, result, down.square(uDecimal), up.square(uDecimal));
+	}
+
+	@Override
+	public final long sqrt(long uDecimal) {
+		final long result;
+		try {
+			result = delegate.sqrt(uDecimal);
+		} catch (ArithmeticException e) {
+			if (uDecimal >= 0) {
+				counters.countFailure(Operation.SQRT, failure(down.sqrt(uDecimal), up.sqrt(uDecimal)));
+			}
+			throw e;
+		}
+		return counted(Operation.SQRT, result, down.sqrt(uDecimal), up.sqrt(uDecimal));
+	}
+
+	@Override
+	public final long pow(long uDecimalBase, int exponent) {
+		final long result;
+		try {
+			result = delegate.pow(uDecimalBase, exponent);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.POW, uDecimalBase == 0 & exponent < 0 ? Counter.DIVISIONS_BY_ZERO : failure(down.pow(uDecimalBase, exponent), up.pow(uDecimalBase, exponent)));
+			throw e;
+		}
+		return counted(Operation.POW, result, down.pow(uDecimalBase, exponent), up.pow(uDecimalBase, exponent));
+	}
+
+	@Override
+	public final long shiftLeft(long uDecimal, int n) {
+		final long result;
+		try {
+			result = delegate.shiftLeft(uDecimal, n);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.SHIFT, Counter.OVERFLOWS);
+			throw e;
+		}
+		counters.count(Operation.SHIFT, false, false);
+		return result;
+	}
+
+	@Override
+	public final long shiftRight(long uDecimal, int n) {
+		final long result;
+		try {
+			result = delegate.shiftRight(uDecimal, n);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.SHIFT, failure(down.shiftRight(uDecimal, n), up.shiftRight(uDecimal, n)));
+			throw e;
+		}
+		return counted(Operation.SHIFT, result, down.shiftRight(uDecimal, n), up.shiftRight(uDecimal, n));
+	}
+
+	@Override
+	public final long round(long uDecimal, int precision) {
+		final long result;
+		try {
+			result = delegate.round(uDecimal, precision);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.ROUND, failure(down.round(uDecimal, precision), up.round(uDecimal, precision)));
+			throw e;
+		}
+		return counted(Operation.ROUND, result, down.round(uDecimal, precision), up.round(uDecimal, precision));
+	}
+
+	@Override
+	public final long fromLong(long value) {
+		final long result;
+		try {
+			result = delegate.fromLong(value);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.CONVERT, Counter.OVERFLOWS);
+			throw e;
+		}
+		counters.count(Operation.CONVERT, false, false);
+		return result;
+	}
+
+	@Override
+	public final long fromFloat(float value) {
+		final long result;
+		try {
+			result = delegate.fromFloat(value);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.CONVERT, failure(down.fromFloat(value), up.fromFloat(value)));
+			throw e;
+		}
+		return counted(Operation.CONVERT, result, down.fromFloat(value), up.fromFloat(value));
+	}
+
+	@Override
+	public final long fromDouble(double value) {
+		final long result;
+		try {
+			result = delegate.fromDouble(value);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.CONVERT, failure(down.fromDouble(value), up.fromDouble(value)));
+			throw e;
+		}
+		return counted(Operation.CONVERT, result, down.fromDouble(value), up.fromDouble(value));
+	}
+
+	@Override
+	public final long fromBigInteger(BigInteger value) {
+		final long result;
+		try {
+			result = delegate.fromBigInteger(value);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.CONVERT, Counter.OVERFLOWS);
+			throw e;
+		}
+		counters.count(Operation.CONVERT, false, false);
+		return result;
+	}
+
+	@Override
+	public final long fromBigDecimal(BigDecimal value) {
+		final long result;
+		try {
+			result = delegate.fromBigDecimal(value);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.CONVERT, failure(down.fromBigDecimal(value), up.fromBigDecimal(value)));
+			throw e;
+		}
+		return counted(Operation.CONVERT, result, down.fromBigDecimal(value), up.fromBigDecimal(value));
+	}
+
+	@Override
+	public final long fromUnscaled(long unscaledValue, int scale) {
+		final long result;
+		try {
+			result = delegate.fromUnscaled(unscaledValue, scale);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.CONVERT, failure(down.fromUnscaled(unscaledValue, scale), up.fromUnscaled(unscaledValue, scale)));
+			throw e;
+		}
+		return counted(Operation.CONVERT, result, down.fromUnscaled(unscaledValue, scale), up.fromUnscaled(unscaledValue, scale));
+	}
+
+	@Override
+	public final long parse(String value) {
+		final long result;
+		try {
+			result = delegate.parse(value);
+		} catch (NumberFormatException e) {
+			if (isDecimal(value)) {
+				counters.countFailure(Operation.PARSE, Counter.OVERFLOWS);
+			}
+			throw e;
+		} catch (ArithmeticException e) {
+			// only thrown if rounding is necessary with rounding mode UNNECESSARY
+			counters.countFailure(Operation.PARSE, Counter.INEXACT_ROUNDINGS);
+			throw e;
+		}
+		return counted(Operation.PARSE, result, down.parse(value), up.parse(value));
+	}
+
+	@Override
+	public final long parse(CharSequence value, int start, int end) {
+		final long result;
+		try {
+			result = delegate.parse(value, start, end);
+		} catch (NumberFormatException e) {
+			if (isDecimal(value.subSequence(start, end))) {
+				counters.countFailure(Operation.PARSE, Counter.OVERFLOWS);
+			}
+			throw e;
+		} catch (ArithmeticException e) {
+			// only thrown if rounding is necessary with rounding mode UNNECESSARY
+			counters.countFailure(Operation.PARSE, Counter.INEXACT_ROUNDINGS);
+			throw e;
+		}
+		return counted(Operation.PARSE, result, down.parse(value, start, end), up.parse(value, start, end));
+	}
+
+	@Override
+	public final long parse(byte[] value, int start, int end) {
+		final long result;
+		try {
+			result = delegate.parse(value, start, end);
+		} catch (NumberFormatException e) {
+			if (isDecimal(new String(value, start, end - start, StandardCharsets.ISO_8859_1))) {
+				counters.countFailure(Operation.PARSE, Counter.OVERFLOWS);
+			}
+			throw e;
+		} catch (ArithmeticException e) {
+			// only thrown if rounding is necessary with rounding mode UNNECESSARY
+			counters.countFailure(Operation.PARSE, Counter.INEXACT_ROUNDINGS);
+			throw e;
+		}
+		return counted(Operation.PARSE, result, down.parse(value, start, end), up.parse(value, start, end));
+	}
+
+	@Override
+	public final long parse(ByteBuffer value, int start, int end) {
+		final long result;
+		try {
+			result = delegate.parse(value, start, end);
+		} catch (NumberFormatException e) {
+			if (isDecimal(toCharSequence(value, start, end))) {
+				counters.countFailure(Operation.PARSE, Counter.OVERFLOWS);
+			}
+			throw e;
+		} catch (ArithmeticException e) {
+			// only thrown if rounding is necessary with rounding mode UNNECESSARY
+			counters.countFailure(Operation.PARSE, Counter.INEXACT_ROUNDINGS);
+			throw e;
+		}
+		return counted(Operation.PARSE, result, down.parse(value, start, end), up.parse(value, start, end));
+	}
+
+	/**
+	 * Returns true if the given string has valid decimal syntax, that is, if a
+	 * parse exception for it was caused by an overflow.
+	 */
+	private static boolean isDecimal(CharSequence s) {
+		final int len = s.length();
+		int i = len > 0 && (s.charAt(0) == '+' | s.charAt(0) == '-') ? 1 : 0;
+		boolean digits = false;
+		boolean point = false;
+		for (; i < len; i++) {
+			final char ch = s.charAt(i);
+			if (ch >= '0' & ch <= '9') {
+				digits = true;
+			} else if (ch == '.' & !point) {
+				point = true;
+			} else {
+				return false;
+			}
+		}
+		return digits;
+	}
+
+	private static CharSequence toCharSequence(ByteBuffer value, int start, int end) {
+		final StringBuilder sb = new StringBuilder(end - start);
+		for (int i = start; i < end; i++) {
+			sb.append((char) (value.get(i) & 0xff));
+		}
+		return sb;
+	}
+
+	@Override
+	public final long toLong(long uDecimal) {
+		final long result;
+		try {
+			result = delegate.toLong(uDecimal);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.CONVERT, failure(down.toLong(uDecimal), up.toLong(uDecimal)));
+			throw e;
+		}
+		return counted(Operation.CONVERT, result, down.toLong(uDecimal), up.toLong(uDecimal));
+	}
+
+	@Override
+	public final long toUnscaled(long uDecimal, int scale) {
+		final long result;
+		try {
+			result = delegate.toUnscaled(uDecimal, scale);
+		} catch (ArithmeticException e) {
+			counters.countFailure(Operation.CONVERT, failure(down.toUnscaled(uDecimal, scale), up.toUnscaled(uDecimal, scale)));
+			throw e;
+		}
+		return counted(Operation.CONVERT, result, down.toUnscaled(uDecimal, scale), up.toUnscaled(uDecimal, scale));
+	}
+
+	@Override
+	public final float toFloat(long uDecimal) {
+		return delegate.toFloat(uDecimal);
+	}
+
+	@Override
+	public final double toDouble(long uDecimal) {
+		return delegate.toDouble(uDecimal);
+	}
+
+	@Override
+	public final BigDecimal toBigDecimal(long uDecimal) {
+		return delegate.toBigDecimal(uDecimal);
+	}
+
+	@Override
+	public final BigDecimal toBigDecimal(long uDecimal, int scale) {
+		return delegate.toBigDecimal(uDecimal, scale);
+	}
+
+	@Override
+	public final String toString(long uDecimal) {
+		return delegate.toString(uDecimal);
+	}
+
+	@Override
+	public final void toString(long uDecimal, Appendable appendable) throws IOException {
+		delegate.toString(uDecimal, appendable);
+	}
+
+	@Override
+	public final int format(long uDecimal, byte[] dst, int offset) {
+		return delegate.format(uDecimal, dst, offset);
+	}
+
+	@Override
+	public final int format(long uDecimal, ByteBuffer dst) {
+		return delegate.format(uDecimal, dst);
+	}
+
+	@Override
+	public final String toString() {
+		return getClass().getSimpleName() + "[" + delegate + "]";
+	}
+}
@@ -26,6 +26,7 @@ package org.decimal4j.arithmetic;
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.truncate.DecimalRounding;
 import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.StacklessArithmeticException;
 
 /**
  * Provides static methods to invert a Decimal number, that is, to calculate
@@ -36,15 +37,17 @@ final class Invert {
 	/**
 	 * Inverts the specified long value truncating the result if necessary.
 	 * 
+	 * @param arith
+	 *            the arithmetic associated with the given value
 	 * @param lValue
 	 *            the long value to invert
 	 * @return <tt>round<sub>DOWN</sub>(1/lValue)</tt>
 	 * @throws ArithmeticException
 	 *             if {@code lValue == 0}
 	 */
-	public static final long invertLong(long lValue) {
+	public static final long invertLong(DecimalArithmetic arith, long lValue) {
 		if (lValue == 0) {
-			throw new ArithmeticException("Division by zero: " + lValue + "^-1");
+			throw newDivisionByZeroException(arith, lValue);
 		}
 		if (lValue == 1) {
 			return 1;
@@ -58,6 +61,8 @@ final class Invert {
 	/**
 	 * Inverts the specified long value rounding the result if necessary.
 	 * 
+	 * @param arith
+	 *            the arithmetic associated with the given value
 	 * @param rounding
 	 *            the rounding to apply if necessary
 	 * @param lValue
@@ -67,10 +72,10 @@ final class Invert {
 	 *             if {@code lValue == 0} or if
 	 *             {@code roundingMode==UNNECESSARY} and rounding is necessary
 	 */
-	public static final long invertLong(DecimalRounding rounding, long lValue) {
+	public static final long invertLong(DecimalArithmetic arith, DecimalRounding rounding, long lValue) {
 		// special cases first
 		if (lValue == 0) {
-			throw new ArithmeticException("Division by zero: " + lValue + "^-1");
+			throw newDivisionByZeroException(arith, lValue);
 		}
 		if (lValue == 1) {
 			return 1;
@@ -124,6 +129,11 @@ final class Invert {
 		return arith.divide(arith.one(), uDecimal);
 	}
 
+	private static final ArithmeticException newDivisionByZeroException(DecimalArithmetic arith, long lValue) {
+		return StacklessArithmeticException.ENABLED & arith.getOverflowMode().isChecked() ? StacklessArithmeticException.DIVISION_BY_ZERO
+				: new ArithmeticException("Division by zero: " + lValue + "^-1");
+	}
+
 	// no instances
 	private Invert() {
 		super();
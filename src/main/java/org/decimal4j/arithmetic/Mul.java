@@ -30,6 +30,7 @@ import org.decimal4j.scale.Scale9f;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
 import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.StacklessArithmeticException;
 
 /**
  * Provides methods to calculate multiplication results.
@@ -39,7 +40,7 @@ final class Mul {
 	private static final ScaleMetrics SCALE9F = Scale9f.INSTANCE;
 
 	//sufficient (but not necessary) condition that product fits in long
-	private static final boolean doesProductFitInLong(long uDecimal1, long uDecimal2) {
+	static final boolean doesProductFitInLong(long uDecimal1, long uDecimal2) {
 		if (-SQRT_MAX_VALUE <= uDecimal1 & uDecimal1 <= SQRT_MAX_VALUE & -SQRT_MAX_VALUE <= uDecimal2 & uDecimal2 <= SQRT_MAX_VALUE) {
 			return true;
 		}
@@ -382,7 +383,7 @@ final class Mul {
 				return result;
 			}
 		} catch (ArithmeticException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + scaleMetrics1.toString(uDecimal1) + " * " + scaleMetrics2.toString(uDecimal2), e);
+			throw newOverflowException(scaleMetrics1, uDecimal1, scaleMetrics2, uDecimal2, e);
 		}
 	}
 
@@ -516,10 +517,138 @@ final class Mul {
 			}
 		} catch (ArithmeticException e) {
 			Exceptions.rethrowIfRoundingNecessary(e);
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + scaleMetrics1.toString(uDecimal1) + " * " + scaleMetrics2.toString(uDecimal2), e);
+			throw newOverflowException(scaleMetrics1, uDecimal1, scaleMetrics2, uDecimal2, e);
 		}
 	}
 	
+	/**
+	 * Calculates the multiples {@code uDecimals1[i] * uDecimals2[i] / scaleFactor} without rounding for every index
+	 * {@code i} in {@code [offset, offset+length)}. The scale metrics are looked up only once for all elements.
+	 * 
+	 * @param arith
+	 *            the arithmetic with access to scale metrics etc.
+	 * @param uDecimals1
+	 *            the first unscaled decimal factors
+	 * @param uDecimals2
+	 *            the second unscaled decimal factors
+	 * @param result
+	 *            the array to store the multiplication results without rounding
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	public static final void multiply(DecimalArithmetic arith, long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals1, uDecimals2, result, offset, length);
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			final long uDecimal1 = uDecimals1[i];
+			final long uDecimal2 = uDecimals2[i];
+			final SpecialMultiplicationResult special = SpecialMultiplicationResult.getFor(arith, uDecimal1, uDecimal2);
+			result[i] = special == null ? multiply(uDecimal1, scaleMetrics, uDecimal2) : special.multiply(arith, uDecimal1, uDecimal2);
+		}
+	}
+
+	/**
+	 * Calculates the multiples {@code uDecimals1[i] * uDecimals2[i] / scaleFactor} applying the specified rounding if
+	 * necessary for every index {@code i} in {@code [offset, offset+length)}. The scale metrics are looked up only
+	 * once for all elements.
+	 * 
+	 * @param arith
+	 *            the arithmetic with access to scale metrics etc.
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param uDecimals1
+	 *            the first unscaled decimal factors
+	 * @param uDecimals2
+	 *            the second unscaled decimal factors
+	 * @param result
+	 *            the array to store the multiplication results with rounding
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	public static final void multiply(DecimalArithmetic arith, DecimalRounding rounding, long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals1, uDecimals2, result, offset, length);
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			final long uDecimal1 = uDecimals1[i];
+			final long uDecimal2 = uDecimals2[i];
+			final SpecialMultiplicationResult special = SpecialMultiplicationResult.getFor(arith, uDecimal1, uDecimal2);
+			result[i] = special == null ? multiply(rounding, uDecimal1, scaleMetrics, uDecimal2) : special.multiply(arith, uDecimal1, uDecimal2);
+		}
+	}
+
+	/**
+	 * Calculates the multiples {@code uDecimals1[i] * uDecimals2[i] / scaleFactor} without rounding checking for
+	 * overflows for every index {@code i} in {@code [offset, offset+length)}. The scale metrics are looked up only
+	 * once for all elements.
+	 * 
+	 * @param arith
+	 *            the arithmetic with access to scale metrics etc.
+	 * @param uDecimals1
+	 *            the first unscaled decimal factors
+	 * @param uDecimals2
+	 *            the second unscaled decimal factors
+	 * @param result
+	 *            the array to store the multiplication results without rounding and with overflow checks
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	public static final void multiplyChecked(DecimalArithmetic arith, long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals1, uDecimals2, result, offset, length);
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			final long uDecimal1 = uDecimals1[i];
+			final long uDecimal2 = uDecimals2[i];
+			final SpecialMultiplicationResult special = SpecialMultiplicationResult.getFor(arith, uDecimal1, uDecimal2);
+			result[i] = special == null ? multiplyChecked(scaleMetrics, uDecimal1, scaleMetrics, uDecimal2) : special.multiply(arith, uDecimal1, uDecimal2);
+		}
+	}
+
+	/**
+	 * Calculates the multiples {@code uDecimals1[i] * uDecimals2[i] / scaleFactor} with rounding and overflow checks
+	 * for every index {@code i} in {@code [offset, offset+length)}. The scale metrics are looked up only once for all
+	 * elements.
+	 * 
+	 * @param arith
+	 *            the arithmetic with access to scale metrics etc.
+	 * @param rounding
+	 *            the rounding to apply for truncated decimals
+	 * @param uDecimals1
+	 *            the first unscaled decimal factors
+	 * @param uDecimals2
+	 *            the second unscaled decimal factors
+	 * @param result
+	 *            the array to store the multiplication results with rounding and overflow checks
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	public static final void multiplyChecked(DecimalArithmetic arith, DecimalRounding rounding, long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimals1, uDecimals2, result, offset, length);
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			final long uDecimal1 = uDecimals1[i];
+			final long uDecimal2 = uDecimals2[i];
+			final SpecialMultiplicationResult special = SpecialMultiplicationResult.getFor(arith, uDecimal1, uDecimal2);
+			result[i] = special == null ? multiplyChecked(rounding, scaleMetrics, uDecimal1, scaleMetrics, uDecimal2) : special.multiply(arith, uDecimal1, uDecimal2);
+		}
+	}
+
+	private static final ArithmeticException newOverflowException(ScaleMetrics scaleMetrics1, long uDecimal1, ScaleMetrics scaleMetrics2, long uDecimal2, ArithmeticException cause) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: Exceptions.newArithmeticExceptionWithCause("Overflow: " + scaleMetrics1.toString(uDecimal1) + " * " + scaleMetrics2.toString(uDecimal2), cause);
+	}
+
 	//no instances
 	private Mul() {
 	}
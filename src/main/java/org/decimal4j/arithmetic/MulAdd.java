@@ -0,0 +1,265 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.StacklessArithmeticException;
+
+/**
+ * Provides static methods to calculate fused multiply-add and dot product
+ * results. Products and sums are accumulated exactly in a signed 128 or 192
+ * bit integer and the result is rounded only once at the end.
+ */
+final class MulAdd {
+
+	/**
+	 * Calculates {@code uDecimalAddend + uDecimal1 * uDecimal2} with a single
+	 * rounding step and without overflow checks.
+	 * 
+	 * @param arith
+	 *            the arithmetic with scale metrics
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimalAddend
+	 *            the unscaled value to add to the product
+	 * @param uDecimal1
+	 *            the first unscaled factor
+	 * @param uDecimal2
+	 *            the second unscaled factor
+	 * @return the rounded result without overflow checks
+	 */
+	public static final long multiplyAdd(DecimalArithmetic arith, DecimalRounding rounding, long uDecimalAddend, long uDecimal1, long uDecimal2) {
+		return multiplyAdd(arith.getScaleMetrics(), rounding, false, uDecimalAddend, uDecimal1, uDecimal2);
+	}
+
+	/**
+	 * Calculates {@code uDecimalAddend + uDecimal1 * uDecimal2} with a single
+	 * rounding step and with overflow checks.
+	 * 
+	 * @param arith
+	 *            the arithmetic with scale metrics
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimalAddend
+	 *            the unscaled value to add to the product
+	 * @param uDecimal1
+	 *            the first unscaled factor
+	 * @param uDecimal2
+	 *            the second unscaled factor
+	 * @return the rounded result
+	 * @throws ArithmeticException
+	 *             if an overflow occurs or if {@code rounding} is UNNECESSARY
+	 *             and rounding is necessary
+	 */
+	public static final long multiplyAddChecked(DecimalArithmetic arith, DecimalRounding rounding, long uDecimalAddend, long uDecimal1, long uDecimal2) {
+		try {
+			return multiplyAdd(arith.getScaleMetrics(), rounding, true, uDecimalAddend, uDecimal1, uDecimal2);
+		} catch (ArithmeticException e) {
+			Exceptions.rethrowIfRoundingNecessary(e);
+			throw newOverflowException(arith, uDecimalAddend, uDecimal1, uDecimal2, e);
+		}
+	}
+
+	/**
+	 * Calculates the sum of the products {@code uDecimals1[i] * uDecimals2[i]}
+	 * for every index {@code i} in {@code [offset, offset+length)} with a
+	 * single rounding step and without overflow checks.
+	 * 
+	 * @param arith
+	 *            the arithmetic with scale metrics
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimals1
+	 *            the first unscaled factors
+	 * @param uDecimals2
+	 *            the second unscaled factors
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @return the rounded sum of products without overflow checks
+	 */
+	public static final long dotProduct(DecimalArithmetic arith, DecimalRounding rounding, long[] uDecimals1, long[] uDecimals2, int offset, int length) {
+		Bulk.checkBounds(uDecimals1, uDecimals2, offset, length);
+		return dotProduct(arith.getScaleMetrics(), rounding, false, uDecimals1, uDecimals2, offset, length);
+	}
+
+	/**
+	 * Calculates the sum of the products {@code uDecimals1[i] * uDecimals2[i]}
+	 * for every index {@code i} in {@code [offset, offset+length)} with a
+	 * single rounding step and with overflow checks.
+	 * 
+	 * @param arith
+	 *            the arithmetic with scale metrics
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimals1
+	 *            the first unscaled factors
+	 * @param uDecimals2
+	 *            the second unscaled factors
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @return the rounded sum of products
+	 * @throws ArithmeticException
+	 *             if the result overflows or if {@code rounding} is UNNECESSARY
+	 *             and rounding is necessary
+	 */
+	public static final long dotProductChecked(DecimalArithmetic arith, DecimalRounding rounding, long[] uDecimals1, long[] uDecimals2, int offset, int length) {
+		Bulk.checkBounds(uDecimals1, uDecimals2, offset, length);
+		try {
+			return dotProduct(arith.getScaleMetrics(), rounding, true, uDecimals1, uDecimals2, offset, length);
+		} catch (ArithmeticException e) {
+			Exceptions.rethrowIfRoundingNecessary(e);
+			throw newDotProductOverflowException(length, e);
+		}
+	}
+
+	private static final long multiplyAdd(ScaleMetrics scaleMetrics, DecimalRounding rounding, boolean checked, long uDecimalAddend, long uDecimal1, long uDecimal2) {
+		// addend * scaleFactor < 2^123 and |product| <= 2^126, hence the sum fits in a signed 128 bit integer
+		final long scaleFactor = scaleMetrics.getScaleFactor();
+		final long hi = multiplyHighSigned(uDecimalAddend, scaleFactor);
+		final long lo = uDecimalAddend * scaleFactor;
+		final long pHi = multiplyHighSigned(uDecimal1, uDecimal2);
+		final long pLo = uDecimal1 * uDecimal2;
+		final long sumLo = lo + pLo;
+		final long sumHi = hi + pHi + (Unsigned.isLess(sumLo, lo) ? 1 : 0);
+		return toUnscaled(scaleMetrics, rounding, checked, sumHi >> 63, sumHi, sumLo);
+	}
+
+	private static final long dotProduct(ScaleMetrics scaleMetrics, DecimalRounding rounding, boolean checked, long[] uDecimals1, long[] uDecimals2, int offset, int length) {
+		// accumulate exact products in a signed 192 bit integer
+		long top = 0;
+		long hi = 0;
+		long lo = 0;
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			final long uDecimal1 = uDecimals1[i];
+			final long uDecimal2 = uDecimals2[i];
+			// signed 128 bit product, |product| <= 2^126
+			final long pHi = multiplyHighSigned(uDecimal1, uDecimal2);
+			final long pLo = uDecimal1 * uDecimal2;
+			final long sumLo = lo + pLo;
+			final long sumHi1 = hi + pHi;
+			final long sumHi = sumHi1 + (Unsigned.isLess(sumLo, lo) ? 1 : 0);
+			top += (pHi >> 63) + (Unsigned.isLess(sumHi1, hi) | Unsigned.isLess(sumHi, sumHi1) ? 1 : 0);
+			hi = sumHi;
+			lo = sumLo;
+		}
+		return toUnscaled(scaleMetrics, rounding, checked, top, hi, lo);
+	}
+
+	/**
+	 * Returns the high order 64 bits of the signed 128 bit product of the two
+	 * arguments. The unsigned high product is corrected for negative factors
+	 * without branches.
+	 * 
+	 * @param a
+	 *            the first signed factor
+	 * @param b
+	 *            the second signed factor
+	 * @return the high order 64 bits of the signed product {@code a * b}
+	 */
+	static final long multiplyHighSigned(long a, long b) {
+		return Unsigned.multiplyHigh(a, b) - ((a >> 63) & b) - ((b >> 63) & a);
+	}
+
+	/**
+	 * Divides the signed 192 bit integer {@code (top, hi, lo)} by the scale
+	 * factor and returns the rounded result.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics with the scale factor
+	 * @param rounding
+	 *            the rounding to apply
+	 * @param checked
+	 *            true if an exception should be thrown if the result does not
+	 *            fit in a long
+	 * @param top
+	 *            the high order 64 bits of the signed 192 bit value
+	 * @param hi
+	 *            the middle 64 bits of the signed 192 bit value
+	 * @param lo
+	 *            the low order 64 bits of the signed 192 bit value
+	 * @return the low order 64 bits of the rounded quotient
+	 * @throws ArithmeticException
+	 *             if {@code checked} is true and the result overflows, or if
+	 *             rounding is UNNECESSARY and rounding is necessary
+	 */
+	private static final long toUnscaled(ScaleMetrics scaleMetrics, DecimalRounding rounding, boolean checked, long top, long hi, long lo) {
+		final long divisor = scaleMetrics.getScaleFactor();
+		final boolean negative = top < 0;
+		long t = top;
+		long h = hi;
+		long l = lo;
+		if (negative) {
+			// negate 192 bit value
+			l = -l;
+			h = l == 0 ? -h : ~h;
+			t = (l | h) == 0 ? -t : ~t;
+		}
+		// long division by the scale factor, word by word; use 64 bit division where the remainder is zero
+		final long qt = t == 0 ? 0 : Unsigned.divide(t, divisor);
+		final long rt = t - qt * divisor;
+		final long qh = rt == 0 ? Unsigned.divide(h, divisor) : Div.div128by64(DecimalRounding.DOWN, false, rt, h, divisor);
+		final long rh = h - qh * divisor;
+		final long ql = rh == 0 ? Unsigned.divide(l, divisor) : Div.div128by64(DecimalRounding.DOWN, false, rh, l, divisor);
+		final long remainder = l - ql * divisor;
+		if (checked & ((qt | qh) != 0 | (ql < 0 & !(negative & ql == Long.MIN_VALUE)))) {
+			throw newOverflowException();
+		}
+		final long result = negative ? -ql : ql;
+		if (remainder == 0) {
+			return result;
+		}
+		final int inc = rounding.calculateRoundingIncrement(negative ? -1 : 1, ql, Rounding.truncatedPartFor(remainder, divisor));
+		if (checked & ((result == Long.MAX_VALUE & inc > 0) | (result == Long.MIN_VALUE & inc < 0))) {
+			throw newOverflowException();
+		}
+		return result + inc;
+	}
+
+	private static final ArithmeticException newOverflowException() {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW : new ArithmeticException("Overflow");
+	}
+
+	private static final ArithmeticException newOverflowException(DecimalArithmetic arith, long uDecimalAddend, long uDecimal1, long uDecimal2, ArithmeticException cause) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimalAddend) + " + "
+						+ arith.toString(uDecimal1) + " * " + arith.toString(uDecimal2), cause);
+	}
+
+	private static final ArithmeticException newDotProductOverflowException(int length, ArithmeticException cause) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: Exceptions.newArithmeticExceptionWithCause("Overflow: dot product of " + length + " values", cause);
+	}
+
+	// no instances
+	private MulAdd() {
+		super();
+	}
+}
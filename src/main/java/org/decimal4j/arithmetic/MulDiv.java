@@ -0,0 +1,268 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.StacklessArithmeticException;
+import org.decimal4j.truncate.TruncatedPart;
+
+/**
+ * Provides static methods to calculate the fused multiply-divide operation
+ * {@code (uDecimal1 * uDecimal2) / uDecimalDivisor} with a single rounding
+ * step. The product is calculated as unsigned 128 bit integer and then divided
+ * by the 64 bit divisor. If the second factor and the divisor have different
+ * scales, the scale factor of the difference is applied to the 128 bit product
+ * or to the divisor without rescaling any of the 64 bit operands.
+ */
+final class MulDiv {
+
+	/**
+	 * Calculates {@code (uDecimal1 * uDecimal2) / uDecimalDivisor} with
+	 * rounding and without overflow checks. If the result does not fit in a
+	 * long, the low order 64 bits of the rounded result are returned.
+	 * 
+	 * @param arith
+	 *            the arithmetic used to format numbers when throwing exceptions
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimal1
+	 *            the first unscaled factor
+	 * @param uDecimal2
+	 *            the second unscaled factor
+	 * @param uDecimalDivisor
+	 *            the unscaled divisor with the same scale as
+	 *            {@code uDecimal2}
+	 * @return the rounded result of the multiply-divide operation without
+	 *         overflow checks
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalDivisor} is zero or if {@code rounding} is
+	 *             UNNECESSARY and rounding is necessary
+	 */
+	public static final long multiplyDivide(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal1, long uDecimal2, long uDecimalDivisor) {
+		return multiplyDivide(arith, rounding, false, uDecimal1, uDecimal2, arith.getScale(), uDecimalDivisor, arith.getScale());
+	}
+
+	/**
+	 * Calculates {@code (uDecimal1 * uDecimal2) / uDecimalDivisor} with
+	 * rounding and with overflow checks.
+	 * 
+	 * @param arith
+	 *            the arithmetic used to format numbers when throwing exceptions
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimal1
+	 *            the first unscaled factor
+	 * @param uDecimal2
+	 *            the second unscaled factor
+	 * @param uDecimalDivisor
+	 *            the unscaled divisor with the same scale as
+	 *            {@code uDecimal2}
+	 * @return the rounded result of the multiply-divide operation
+	 * @throws ArithmeticException
+	 *             if {@code uDecimalDivisor} is zero, if {@code rounding} is
+	 *             UNNECESSARY and rounding is necessary or if the result does
+	 *             not fit in a long
+	 */
+	public static final long multiplyDivideChecked(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal1, long uDecimal2, long uDecimalDivisor) {
+		return multiplyDivide(arith, rounding, true, uDecimal1, uDecimal2, arith.getScale(), uDecimalDivisor, arith.getScale());
+	}
+
+	/**
+	 * Calculates {@code (uDecimal1 * unscaled2 / unscaledDivisor)} with
+	 * rounding and without overflow checks where {@code unscaled2} and
+	 * {@code unscaledDivisor} have the given possibly different scales. If the
+	 * result does not fit in a long, the low order 64 bits of the rounded
+	 * result are returned.
+	 * 
+	 * @param arith
+	 *            the arithmetic used to format numbers when throwing exceptions
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimal1
+	 *            the first unscaled factor
+	 * @param unscaled2
+	 *            the second unscaled factor
+	 * @param scale2
+	 *            the scale of {@code unscaled2}
+	 * @param unscaledDivisor
+	 *            the unscaled divisor
+	 * @param scaleDivisor
+	 *            the scale of {@code unscaledDivisor}
+	 * @return the rounded result of the multiply-divide operation without
+	 *         overflow checks
+	 * @throws IllegalArgumentException
+	 *             if {@code scale2} or {@code scaleDivisor} is not in
+	 *             {@code [0, 18]}
+	 * @throws ArithmeticException
+	 *             if {@code unscaledDivisor} is zero or if {@code rounding} is
+	 *             UNNECESSARY and rounding is necessary
+	 */
+	public static final long multiplyDivide(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor) {
+		return multiplyDivide(arith, rounding, false, uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor);
+	}
+
+	/**
+	 * Calculates {@code (uDecimal1 * unscaled2 / unscaledDivisor)} with
+	 * rounding and with overflow checks where {@code unscaled2} and
+	 * {@code unscaledDivisor} have the given possibly different scales.
+	 * 
+	 * @param arith
+	 *            the arithmetic used to format numbers when throwing exceptions
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimal1
+	 *            the first unscaled factor
+	 * @param unscaled2
+	 *            the second unscaled factor
+	 * @param scale2
+	 *            the scale of {@code unscaled2}
+	 * @param unscaledDivisor
+	 *            the unscaled divisor
+	 * @param scaleDivisor
+	 *            the scale of {@code unscaledDivisor}
+	 * @return the rounded result of the multiply-divide operation
+	 * @throws IllegalArgumentException
+	 *             if {@code scale2} or {@code scaleDivisor} is not in
+	 *             {@code [0, 18]}
+	 * @throws ArithmeticException
+	 *             if {@code unscaledDivisor} is zero, if {@code rounding} is
+	 *             UNNECESSARY and rounding is necessary or if the result does
+	 *             not fit in a long
+	 */
+	public static final long multiplyDivideChecked(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor) {
+		return multiplyDivide(arith, rounding, true, uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor);
+	}
+
+	private static final long multiplyDivide(DecimalArithmetic arith, DecimalRounding rounding, boolean checked, long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor) {
+		// validate both scales, only their difference is needed for the calculation
+		Scales.getScaleMetrics(scale2);
+		Scales.getScaleMetrics(scaleDivisor);
+		if (unscaledDivisor == 0) {
+			throw newDivisionByZeroException(arith, uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor);
+		}
+		final boolean negative = (uDecimal1 ^ unscaled2 ^ unscaledDivisor) < 0;
+		// NOTE: Long.MIN_VALUE is 2^63 as unsigned value
+		final long abs1 = Math.abs(uDecimal1);
+		final long abs2 = Math.abs(unscaled2);
+		final long absDivisor = Math.abs(unscaledDivisor);
+
+		// multiply into an unsigned 128 bit integer
+		final long hProduct = Unsigned.multiplyHigh(abs1, abs2);
+		final long lProduct = abs1 * abs2;
+
+		// divide the 128 bit product by the divisor, applying the scale difference to the product or the divisor
+		final long quotient;
+		final boolean overflow;
+		final TruncatedPart truncatedPart;
+		if (scaleDivisor > scale2) {
+			// (product * 10^diff) / divisor: divide first, then scale quotient and remainder
+			final long factor = Scales.getScaleMetrics(scaleDivisor - scale2).getScaleFactor();
+			final long hQuotient = Unsigned.divide(hProduct, absDivisor);
+			final long lQuotient = Div.div128by64(DecimalRounding.DOWN, false, hProduct - hQuotient * absDivisor, lProduct, absDivisor);
+			final long remainder = lProduct - lQuotient * absDivisor;
+			// remainder * 10^diff / divisor < 10^diff fits in a long
+			final long hScaled = Unsigned.multiplyHigh(remainder, factor);
+			final long lScaled = remainder * factor;
+			final long scaledQuotient = Div.div128by64(DecimalRounding.DOWN, false, hScaled, lScaled, absDivisor);
+			quotient = lQuotient * factor + scaledQuotient;
+			overflow = hQuotient != 0 | Unsigned.multiplyHigh(lQuotient, factor) != 0 | Unsigned.isLess(quotient, scaledQuotient);
+			truncatedPart = Rounding.truncatedPartFor(lScaled - scaledQuotient * absDivisor, absDivisor);
+		} else if (scaleDivisor < scale2) {
+			// product / (divisor * 10^diff): divide by 10^diff first, then by the divisor
+			final long factor = Scales.getScaleMetrics(scale2 - scaleDivisor).getScaleFactor();
+			final long hScaled = hProduct / factor;
+			final long lScaled = Div.div128by64(DecimalRounding.DOWN, false, hProduct - hScaled * factor, lProduct, factor);
+			final long scaledRemainder = lProduct - lScaled * factor;
+			overflow = !Unsigned.isLess(hScaled, absDivisor);
+			final long hDividend = overflow ? hScaled - Unsigned.divide(hScaled, absDivisor) * absDivisor : hScaled;
+			quotient = Div.div128by64(DecimalRounding.DOWN, false, hDividend, lScaled, absDivisor);
+			truncatedPart = truncatedPartFor(lScaled - quotient * absDivisor, absDivisor, scaledRemainder, factor);
+		} else {
+			overflow = !Unsigned.isLess(hProduct, absDivisor);
+			// if the quotient does not fit in 64 bits, continue with the low order bits
+			final long hDividend = overflow ? hProduct - Unsigned.divide(hProduct, absDivisor) * absDivisor : hProduct;
+			quotient = Div.div128by64(DecimalRounding.DOWN, false, hDividend, lProduct, absDivisor);
+			truncatedPart = Rounding.truncatedPartFor(lProduct - quotient * absDivisor, absDivisor);
+		}
+		if (checked & (overflow | (quotient < 0 & !(negative & quotient == Long.MIN_VALUE)))) {
+			throw newOverflowException(arith, uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor);
+		}
+
+		// apply sign and rounding
+		final long result = negative ? -quotient : quotient;
+		if (truncatedPart == TruncatedPart.ZERO) {
+			return result;
+		}
+		final int inc = rounding.calculateRoundingIncrement(negative ? -1 : 1, quotient, truncatedPart);
+		if (checked & ((result == Long.MAX_VALUE & inc > 0) | (result == Long.MIN_VALUE & inc < 0))) {
+			throw newOverflowException(arith, uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor);
+		}
+		return result + inc;
+	}
+
+	/**
+	 * Returns the truncated part of the division
+	 * {@code (remainder * factor + lowRemainder) / (divisor * factor)} where
+	 * {@code remainder < divisor}, {@code lowRemainder < factor} and
+	 * {@code factor} is an even power of ten.
+	 */
+	private static final TruncatedPart truncatedPartFor(long remainder, long divisor, long lowRemainder, long factor) {
+		if ((divisor & 0x1) != 0 & remainder == (divisor >>> 1)) {
+			// half of divisor * factor is remainder * factor + factor / 2, the low remainder decides
+			final TruncatedPart lowPart = Rounding.truncatedPartFor(lowRemainder, factor);
+			return lowPart == TruncatedPart.ZERO & remainder != 0 ? TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO : lowPart;
+		}
+		final TruncatedPart part = Rounding.truncatedPartFor(remainder, divisor);
+		if (lowRemainder == 0) {
+			return part;
+		}
+		if (part == TruncatedPart.ZERO) {
+			return TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO;
+		}
+		return part == TruncatedPart.EQUAL_TO_HALF ? TruncatedPart.GREATER_THAN_HALF : part;
+	}
+
+	private static final ArithmeticException newDivisionByZeroException(DecimalArithmetic arith, long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor) {
+		return StacklessArithmeticException.ENABLED & arith.getOverflowMode().isChecked() ? StacklessArithmeticException.DIVISION_BY_ZERO
+				: new ArithmeticException("Division by zero: " + arith.toString(uDecimal1) + " * "
+						+ format(unscaled2, scale2) + " / " + format(unscaledDivisor, scaleDivisor));
+	}
+
+	private static final ArithmeticException newOverflowException(DecimalArithmetic arith, long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: new ArithmeticException("Overflow: " + arith.toString(uDecimal1) + " * " + format(unscaled2, scale2)
+						+ " / " + format(unscaledDivisor, scaleDivisor));
+	}
+
+	private static final String format(long unscaled, int scale) {
+		return Scales.getScaleMetrics(scale).getDefaultArithmetic().toString(unscaled);
+	}
+
+	// no instances
+	private MulDiv() {
+		super();
+	}
+}
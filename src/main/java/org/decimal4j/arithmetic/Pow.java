@@ -27,6 +27,7 @@ import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.truncate.DecimalRounding;
 import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.StacklessArithmeticException;
 import org.decimal4j.truncate.TruncatedPart;
 
 /**
@@ -179,7 +180,7 @@ final class Pow {
 		try {
 			return powWithPrecision18(arith, rounding, intVal, fraVal, exponent);
 		} catch (IllegalArgumentException e) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimalBase) + "^" + exponent);
+			throw newOverflowException(arith, uDecimalBase, exponent);
 		}
 	}
 
@@ -191,38 +192,8 @@ final class Pow {
 		final long absFra = Math.abs(fval);
 		final DecimalRounding powRounding = n >= 0 ? rounding : RoundingInverse.RECIPROCAL.invert(rounding);
 
-		// 36 digit left hand side, initialized with base value
-		final UnsignedDecimal9i36f lhs = UnsignedDecimal9i36f.THREAD_LOCAL_1.get().init(absInt, absFra,
-				arith.getScaleMetrics());
-
-		// 36 digit accumulator, initialized with one
-		final UnsignedDecimal9i36f acc = UnsignedDecimal9i36f.THREAD_LOCAL_2.get().initOne();
-
-		// ready to carry out power calculation...
-		int mag = Math.abs(n);
-		boolean seenbit = false; // avoid squaring ONE
-		for (int i = 1;; i++) { // for each bit [top bit ignored]
-			mag += mag; // shift left 1 bit
-			if (mag < 0) { // top bit is set
-				if (seenbit) {
-					acc.multiply(sgn, lhs, powRounding);// acc=acc*x
-				} else {
-					seenbit = true;
-					acc.init(lhs); // acc=x
-				}
-			}
-			if (i == 31) {
-				break; // that was the last bit
-			}
-			if (seenbit) {
-				acc.multiply(sgn, acc, powRounding); // acc=acc*acc [square]
-			}// else (!seenbit) no point in squaring ONE
-		}
-
-		if (n < 0) {
-			return acc.getInverted(sgn, arith, rounding, powRounding);
-		}
-		return acc.getDecimal(sgn, arith, rounding);
+		// 36 digit power calculation with accumulator held in local variables
+		return UnsignedDecimal9i36f.pow(arith, rounding, powRounding, sgn, absInt, absFra, n);
 	}
 
 	private static final long powLongWithPositiveExponent(long lBase, int exponent) {
@@ -259,12 +230,12 @@ final class Pow {
 				return ((exponent & 1) == 0) ? 1 : -1;
 			case 2:
 				if (exponent >= Long.SIZE - 1) {
-					throw new ArithmeticException("Overflow: " + lBase + "^" + exponent);
+					throw newOverflowException(lBase, exponent);
 				}
 				return 1L << exponent;
 			case (-2):
 				if (exponent >= Long.SIZE) {
-					throw new ArithmeticException("Overflow: " + lBase + "^" + exponent);
+					throw newOverflowException(lBase, exponent);
 				}
 				return ((exponent & 1) == 0) ? (1L << exponent) : (-1L << exponent);
 			default:
@@ -285,7 +256,7 @@ final class Pow {
 				exponent >>= 1;
 				if (exponent > 0) {
 					if (lBase > FLOOR_SQRT_MAX_LONG | lBase < -FLOOR_SQRT_MAX_LONG) {
-						throw new ArithmeticException("Overflow: " + lBase + "^" + exponent);
+						throw newOverflowException(lBase, exponent);
 					}
 					lBase *= lBase;
 				}
@@ -300,10 +271,23 @@ final class Pow {
 		try {
 			return LongConversion.longToUnscaled(arith.getScaleMetrics(), longResult);
 		} catch (IllegalArgumentException e) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uBase) + "^" + exponent + "=" + longResult);
+			throw newOverflowException(arith, uBase, exponent, longResult);
 		}
 	}
 
+	private static final ArithmeticException newOverflowException(long lBase, int exponent) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW : new ArithmeticException("Overflow: " + lBase + "^" + exponent);
+	}
+
+	private static final ArithmeticException newOverflowException(DecimalArithmetic arith, long uDecimalBase, int exponent) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW : new ArithmeticException("Overflow: " + arith.toString(uDecimalBase) + "^" + exponent);
+	}
+
+	private static final ArithmeticException newOverflowException(DecimalArithmetic arith, long uBase, int exponent, long longResult) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: new ArithmeticException("Overflow: " + arith.toString(uBase) + "^" + exponent + "=" + longResult);
+	}
+
 	// no instances
 	private Pow() {
 	}
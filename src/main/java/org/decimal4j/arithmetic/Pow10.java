@@ -28,6 +28,7 @@ import org.decimal4j.scale.Scale18f;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
 import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.StacklessArithmeticException;
 import org.decimal4j.truncate.TruncatedPart;
 
 /**
@@ -145,7 +146,7 @@ final class Pow10 {
 
 		if (n > 0) {
 			if (n > 18) {
-				throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " * 10^" + n);
+				throw newMultiplyOverflowException(arith, uDecimal, n);
 			}
 
 			final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(n);
@@ -187,7 +188,7 @@ final class Pow10 {
 
 		if (n > 0) {
 			if (n > 18) {
-				throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " * 10^" + n);
+				throw newMultiplyOverflowException(arith, uDecimal, n);
 			}
 
 			final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(n);
@@ -337,7 +338,7 @@ final class Pow10 {
 				final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(-n);
 				return scaleMetrics.multiplyByScaleFactorExact(uDecimal);
 			}
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " / 10^" + n);
+			throw newDivideOverflowException(arith, uDecimal, n);
 		}
 	}
 
@@ -386,7 +387,7 @@ final class Pow10 {
 			return truncated + inc;
 		} else {
 			if (n < -18) {
-				throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " / 10^" + n);
+				throw newDivideOverflowException(arith, uDecimal, n);
 			}
 
 			final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(-n);
@@ -551,6 +552,14 @@ final class Pow10 {
 		return pow10divisorIsPositive ? quot : arith.negate(quot);
 	}
 
+	private static final ArithmeticException newMultiplyOverflowException(DecimalArithmetic arith, long uDecimal, int n) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW : new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " * 10^" + n);
+	}
+
+	private static final ArithmeticException newDivideOverflowException(DecimalArithmetic arith, long uDecimal, int n) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW : new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " / 10^" + n);
+	}
+
 	// no instances
 	private Pow10() {
 	}
@@ -26,6 +26,7 @@ package org.decimal4j.arithmetic;
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.truncate.DecimalRounding;
 import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.StacklessArithmeticException;
 import org.decimal4j.truncate.TruncatedPart;
 
 /**
@@ -130,8 +131,7 @@ final class Shift {
 					}
 				}
 			}
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " << " + positions + " = "
-					+ arith.toString(uDecimal << positions));
+			throw newOverflowException(arith, uDecimal, " << ", positions, uDecimal << positions);
 		}
 		// one shift missing for (-Integer.MIN_VALUE) but does not matter as
 		// result is always between 0 (incl) and 0.5 (excl)
@@ -169,8 +169,12 @@ final class Shift {
 				// ignore, throw again below with correct shift direction
 			}
 		}
-		throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " >> " + positions + " = "
-				+ arith.toString(uDecimal >> positions));
+		throw newOverflowException(arith, uDecimal, " >> ", positions, uDecimal >> positions);
+	}
+
+	private static final ArithmeticException newOverflowException(DecimalArithmetic arith, long uDecimal, String operator, int positions, long result) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: new ArithmeticException("Overflow: " + arith.toString(uDecimal) + operator + positions + " = " + arith.toString(result));
 	}
 
 	// no instances
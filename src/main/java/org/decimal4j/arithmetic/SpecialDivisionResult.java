@@ -25,6 +25,7 @@ package org.decimal4j.arithmetic;
 
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.StacklessArithmeticException;
 
 /**
  * Helper class used by division and inversion methods to handle special cases.
@@ -45,8 +46,7 @@ enum SpecialDivisionResult {
 	DIVISOR_IS_ZERO {
 		@Override
 		final long divide(DecimalArithmetic arithmetic, long uDecimalDividend, long uDecimalDivisor) {
-			throw new ArithmeticException("Division by zero: " + arithmetic.toString(uDecimalDividend) + " / "
-					+ arithmetic.toString(uDecimalDivisor));
+			throw newDivisionByZeroException(arithmetic, uDecimalDividend, uDecimalDivisor);
 		}
 	},
 	/**
@@ -141,4 +141,9 @@ enum SpecialDivisionResult {
 		}
 		return null;
 	}
+
+	private static final ArithmeticException newDivisionByZeroException(DecimalArithmetic arith, long uDecimalDividend, long uDecimalDivisor) {
+		return StacklessArithmeticException.ENABLED & arith.getOverflowMode().isChecked() ? StacklessArithmeticException.DIVISION_BY_ZERO
+				: new ArithmeticException("Division by zero: " + arith.toString(uDecimalDividend) + " / " + arith.toString(uDecimalDivisor));
+	}
 }
\ No newline at end of file
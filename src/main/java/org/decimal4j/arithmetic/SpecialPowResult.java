@@ -25,6 +25,7 @@ package org.decimal4j.arithmetic;
 
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.StacklessArithmeticException;
 
 /**
  * Helper class used by pow methods to handle special cases.
@@ -60,7 +61,7 @@ enum SpecialPowResult {
 				// 1)
 				return 0;
 			}
-			throw new ArithmeticException("Division by zero: " + arithmetic.toString(uDecimal) + "^" + exponent);
+			throw newDivisionByZeroException(arithmetic, uDecimal, exponent);
 		}
 	},
 	/**
@@ -160,4 +161,9 @@ enum SpecialPowResult {
 		}
 		return null;
 	}
+
+	private static final ArithmeticException newDivisionByZeroException(DecimalArithmetic arith, long uDecimal, int exponent) {
+		return StacklessArithmeticException.ENABLED & arith.getOverflowMode().isChecked() ? StacklessArithmeticException.DIVISION_BY_ZERO
+				: new ArithmeticException("Division by zero: " + arith.toString(uDecimal) + "^" + exponent);
+	}
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ import org.decimal4j.scale.Scale9f;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
 import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.StacklessArithmeticException;
 
 /**
  * Provides methods to calculate squares.
@@ -172,7 +173,7 @@ final class Square {
 				final long fxf = scaleMetrics.divideByScaleFactor(f * f);// unchecked:ok
 				// check whether we can multiply ixf by 2
 				if (ixf < 0)
-					throw new ArithmeticException("Overflow: " + ixf + "<<1");
+					throw newShiftOverflowException(ixf);
 				final long ixfx2 = ixf << 1;
 				// add it all up now, every operation checked
 				long result = scaleMetrics.multiplyByScaleFactorExact(ixi);
@@ -193,7 +194,7 @@ final class Square {
 				final long hxlr = hxl - scaleDiff09.multiplyByScaleFactor(hxld);
 				// check whether we can multiply hxld by 2
 				if (hxld < 0)
-					throw new ArithmeticException("Overflow: " + hxld + "<<1");
+					throw newShiftOverflowException(hxld);
 				final long hxldx2 = hxld << 1;
 				// add it all up now, every operation checked
 				long result = scaleDiff18.multiplyByScaleFactorExact(hxh);
@@ -202,7 +203,7 @@ final class Square {
 				return result;
 			}
 		} catch (ArithmeticException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + "^2", e);
+			throw newOverflowException(arith, uDecimal, e);
 		}
 	}
 
@@ -238,7 +239,7 @@ final class Square {
 				final long ixf = i * f;// cannot overflow
 				// check whether we can multiply ixf by 2
 				if (ixf < 0)
-					throw new ArithmeticException("Overflow: " + ixf + "<<1");
+					throw newShiftOverflowException(ixf);
 				final long ixfx2 = ixf << 1;
 
 				final long fxfd = scaleMetrics.divideByScaleFactor(fxf);
@@ -283,10 +284,19 @@ final class Square {
 			}
 		} catch (ArithmeticException e) {
 			Exceptions.rethrowIfRoundingNecessary(e);
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + "^2", e);
+			throw newOverflowException(arith, uDecimal, e);
 		}
 	}
 
+	private static final ArithmeticException newShiftOverflowException(long value) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW : new ArithmeticException("Overflow: " + value + "<<1");
+	}
+
+	private static final ArithmeticException newOverflowException(DecimalArithmetic arith, long uDecimal, ArithmeticException cause) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + "^2", cause);
+	}
+
 	// no instances
 	private Square() {
 	}
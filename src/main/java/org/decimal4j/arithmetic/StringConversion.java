@@ -30,6 +30,10 @@ import org.decimal4j.truncate.DecimalRounding;
 import org.decimal4j.truncate.TruncatedPart;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
 
 /**
  * Contains methods to convert from and to String.
@@ -101,8 +105,7 @@ final class StringConversion {
 			throw new IndexOutOfBoundsException("Start or end index is out of bounds: [" + start + ", " + end
 					+ " must be <= [0, " + s.length() + "]");
 		}
-		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
-		final int scale = scaleMetrics.getScale();
+		final int scale = arith.getScale();
 		final int indexOfDecimalPoint = indexOfDecimalPoint(s, start, end);
 		if (indexOfDecimalPoint == end & scale > 0) {
 			throw newNumberFormatExceptionFor(arith, s, start, end);
@@ -139,18 +142,291 @@ final class StringConversion {
 			throw Exceptions.newRoundingNecessaryArithmeticException();
 		}
 		try {
-			final long unscaledIntegeral = scaleMetrics.multiplyByScaleFactorExact(integralPart);
-			final long unscaledFractional = negative ? -fractionalPart : fractionalPart;// < Scale18.SCALE_FACTOR hence
-																						// no overflow
-			final long truncatedValue = Checked.add(arith, unscaledIntegeral, unscaledFractional);
-			final int roundingIncrement = rounding.calculateRoundingIncrement(negative ? -1 : 1, truncatedValue,
-					truncatedPart);
-			return roundingIncrement == 0 ? truncatedValue : Checked.add(arith, truncatedValue, roundingIncrement);
+			return toUnscaledDecimal(arith, rounding, integralPart, fractionalPart, truncatedPart, negative);
 		} catch (ArithmeticException e) {
 			throw newNumberFormatExceptionFor(arith, s, start, end, e);
 		}
 	}
 
+	private static final long toUnscaledDecimal(DecimalArithmetic arith, DecimalRounding rounding, long integralPart, long fractionalPart, TruncatedPart truncatedPart, boolean negative) {
+		final long unscaledIntegeral = arith.getScaleMetrics().multiplyByScaleFactorExact(integralPart);
+		final long unscaledFractional = negative ? -fractionalPart : fractionalPart;// < Scale18.SCALE_FACTOR hence
+																					// no overflow
+		final long truncatedValue = Checked.add(arith, unscaledIntegeral, unscaledFractional);
+		final int roundingIncrement = rounding.calculateRoundingIncrement(negative ? -1 : 1, truncatedValue,
+				truncatedPart);
+		return roundingIncrement == 0 ? truncatedValue : Checked.add(arith, truncatedValue, roundingIncrement);
+	}
+
+	/**
+	 * Parses the ASCII characters in the given byte array into an unscaled decimal and returns it, rounding extra
+	 * digits if necessary. No objects are allocated unless an exception is thrown.
+	 * 
+	 * @param arith
+	 *            the arithmetic of the target value
+	 * @param rounding
+	 *            the rounding to apply if extra fraction digits are present
+	 * @param bytes
+	 *            the ASCII bytes to parse
+	 * @param start
+	 *            the start index to read bytes in {@code bytes}, inclusive
+	 * @param end
+	 *            the end index where to stop reading in bytes in {@code bytes}, exclusive
+	 * @return the parsed value
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > bytes.length}
+	 * @throws NumberFormatException
+	 *             if {@code value} does not represent a valid {@code Decimal} or if the value is too large to be
+	 *             represented as a Decimal with the scale of the given arithmetic
+	 */
+	static final long parseUnscaledDecimal(DecimalArithmetic arith, DecimalRounding rounding, byte[] bytes, int start, int end) {
+		if (start < 0 | end > bytes.length) {
+			throw new IndexOutOfBoundsException("Start or end index is out of bounds: [" + start + ", " + end
+					+ " must be <= [0, " + bytes.length + "]");
+		}
+		return parseAscii(arith, rounding, bytes, null, start, end);
+	}
+
+	/**
+	 * Parses the ASCII characters in the given byte buffer into an unscaled decimal and returns it, rounding extra
+	 * digits if necessary. The bytes are accessed with absolute indices; the buffer's position is neither used nor
+	 * modified. No objects are allocated unless an exception is thrown.
+	 * 
+	 * @param arith
+	 *            the arithmetic of the target value
+	 * @param rounding
+	 *            the rounding to apply if extra fraction digits are present
+	 * @param buffer
+	 *            the buffer with the ASCII bytes to parse
+	 * @param start
+	 *            the absolute start index to read bytes in {@code buffer}, inclusive
+	 * @param end
+	 *            the absolute end index where to stop reading in bytes in {@code buffer}, exclusive
+	 * @return the parsed value
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > buffer.limit()}
+	 * @throws NumberFormatException
+	 *             if {@code value} does not represent a valid {@code Decimal} or if the value is too large to be
+	 *             represented as a Decimal with the scale of the given arithmetic
+	 */
+	static final long parseUnscaledDecimal(DecimalArithmetic arith, DecimalRounding rounding, ByteBuffer buffer, int start, int end) {
+		if (start < 0 | end > buffer.limit()) {
+			throw new IndexOutOfBoundsException("Start or end index is out of bounds: [" + start + ", " + end
+					+ " must be <= [0, " + buffer.limit() + "]");
+		}
+		if (buffer.hasArray()) {
+			final int offset = buffer.arrayOffset();
+			return parseAscii(arith, rounding, buffer.array(), null, offset + start, offset + end);
+		}
+		return parseAscii(arith, rounding, null, buffer, start, end);
+	}
+
+	/*
+	 * The ASCII parse methods below read from either a byte array or a byte buffer: exactly one of bytes and buffer
+	 * is non-null. This avoids duplication of the parse logic and allocation of a wrapper for the input.
+	 */
+	private static final long parseAscii(DecimalArithmetic arith, DecimalRounding rounding, byte[] bytes, ByteBuffer buffer, int start, int end) {
+		final int scale = arith.getScale();
+		final int indexOfDecimalPoint = indexOfDecimalPoint(bytes, buffer, start, end);
+		if (indexOfDecimalPoint == end & scale > 0) {
+			throw newNumberFormatExceptionFor(arith, bytes, buffer, start, end);
+		}
+
+		// parse a decimal number
+		final long integralPart;// unscaled
+		final long fractionalPart;// scaled
+		final TruncatedPart truncatedPart;
+		final boolean negative;
+		if (indexOfDecimalPoint < 0) {
+			integralPart = parseIntegralPart(arith, bytes, buffer, start, end, ParseMode.Long);
+			fractionalPart = 0;
+			truncatedPart = TruncatedPart.ZERO;
+			negative = integralPart < 0;
+		} else {
+			final int fractionalEnd = Math.min(end, indexOfDecimalPoint + 1 + scale);
+			if (indexOfDecimalPoint == start) {
+				// allowed format .45
+				integralPart = 0;
+				fractionalPart = parseFractionalPart(arith, bytes, buffer, start + 1, fractionalEnd);
+				truncatedPart = parseTruncatedPart(arith, bytes, buffer, fractionalEnd, end);
+				negative = false;
+			} else {
+				// allowed formats: "0.45", "+0.45", "-0.45", ".45", "+.45",
+				// "-.45"
+				integralPart = parseIntegralPart(arith, bytes, buffer, start, indexOfDecimalPoint, ParseMode.IntegralPart);
+				fractionalPart = parseFractionalPart(arith, bytes, buffer, indexOfDecimalPoint + 1, fractionalEnd);
+				truncatedPart = parseTruncatedPart(arith, bytes, buffer, fractionalEnd, end);
+				negative = integralPart < 0 | (integralPart == 0 && byteAt(bytes, buffer, start) == '-');
+			}
+		}
+		if (truncatedPart.isGreaterThanZero() & rounding == DecimalRounding.UNNECESSARY) {
+			throw Exceptions.newRoundingNecessaryArithmeticException();
+		}
+		try {
+			return toUnscaledDecimal(arith, rounding, integralPart, fractionalPart, truncatedPart, negative);
+		} catch (ArithmeticException e) {
+			throw newNumberFormatExceptionFor(arith, bytes, buffer, start, end, e);
+		}
+	}
+
+	private static final int byteAt(byte[] bytes, ByteBuffer buffer, int index) {
+		return bytes != null ? bytes[index] : buffer.get(index);
+	}
+
+	private static final long parseFractionalPart(DecimalArithmetic arith, byte[] bytes, ByteBuffer buffer, int start, int end) {
+		final int len = end - start;
+		if (len > 0) {
+			long value;
+			if (len >= 8) {
+				// fast path, len <= 18 hence no overflow
+				value = parseDigits(bytes, buffer, start, end);
+				if (value < 0) {
+					throw newNumberFormatExceptionFor(arith, bytes, buffer, start, end);
+				}
+			} else {
+				int i = start;
+				value = 0;
+				while  (i < end) {
+					final int digit = getDigit(arith, bytes, buffer, start, end, byteAt(bytes, buffer, i++));
+					value = value * 10 + digit;
+				}
+			}
+			final int scale = arith.getScale();
+			if (len < scale) {
+				final ScaleMetrics diffScale = Scales.getScaleMetrics(scale - len);
+				return diffScale.multiplyByScaleFactor(value);
+			}
+			return value;
+		}
+		return 0;
+	}
+
+	private static final TruncatedPart parseTruncatedPart(DecimalArithmetic arith, byte[] bytes, ByteBuffer buffer, int start, int end) {
+		if (start < end) {
+			final int firstChar = byteAt(bytes, buffer, start);
+			TruncatedPart truncatedPart;
+			if (firstChar == '0') {
+				truncatedPart = TruncatedPart.ZERO;
+			} else if (firstChar == '5') {
+				truncatedPart = TruncatedPart.EQUAL_TO_HALF;
+			} else if (firstChar > '0' & firstChar < '5') {
+				truncatedPart = TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO;
+			} else if (firstChar > '5' & firstChar <= '9') {
+				truncatedPart = TruncatedPart.GREATER_THAN_HALF;
+			} else {
+				throw newNumberFormatExceptionFor(arith, bytes, buffer, start, end);
+			}
+			int i = start + 1;
+			while (i < end) {
+				final int ch = byteAt(bytes, buffer, i++);
+				if (ch > '0' & ch <= '9') {
+					if (truncatedPart == TruncatedPart.ZERO) {
+						truncatedPart = TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO;
+					} else if (truncatedPart == TruncatedPart.EQUAL_TO_HALF) {
+						truncatedPart = TruncatedPart.GREATER_THAN_HALF;
+					}
+				} else if (ch != '0') {
+					throw newNumberFormatExceptionFor(arith, bytes, buffer, start, end);
+				}
+			}
+			return truncatedPart;
+		}
+		return TruncatedPart.ZERO;
+	}
+
+	private static final int indexOfDecimalPoint(byte[] bytes, ByteBuffer buffer, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (byteAt(bytes, buffer, i) == '.') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static final long parseIntegralPart(DecimalArithmetic arith, byte[] bytes, ByteBuffer buffer, int start, int end, ParseMode mode) {
+		// fast path for 8 to 18 digits with optional minus sign, cannot overflow
+		final int digitStart = start < end && byteAt(bytes, buffer, start) == '-' ? start + 1 : start;
+		final int len = end - digitStart;
+		if (len >= 8 & len <= MAX_DIGITS_WITHOUT_OVERFLOW) {
+			final long value = parseDigits(bytes, buffer, digitStart, end);
+			if (value >= 0) {
+				return digitStart == start ? value : -value;
+			}
+		}
+		return parseIntegralPartWithOverflowCheck(arith, bytes, buffer, start, end, mode);
+	}
+
+	// same as parseIntegralPart(..) for CharSequence
+	private static final long parseIntegralPartWithOverflowCheck(DecimalArithmetic arith, byte[] bytes, ByteBuffer buffer, int start, int end, ParseMode mode) {
+		long result = 0;
+		boolean negative = false;
+		int i = start;
+		long limit = -Long.MAX_VALUE;
+
+		if (end > start) {
+			final int firstChar = byteAt(bytes, buffer, start);
+			if (firstChar < '0') { // Possible leading "+" or "-"
+				if (firstChar == '-') {
+					negative = true;
+					limit = Long.MIN_VALUE;
+				} else {
+					if (firstChar != '+') {
+						// invalid first character
+						throw newNumberFormatExceptionFor(arith, bytes, buffer, start, end);
+					}
+				}
+
+				if (end - start == 1) {
+					if (mode == ParseMode.IntegralPart) {
+						// we allow something like "-.75" or "+.75"
+						return 0;
+					}
+					// Cannot have lone "+" or "-"
+					throw newNumberFormatExceptionFor(arith, bytes, buffer, start, end);
+				}
+				i++;
+			}
+
+			final int end2 = end - 1;
+			while (i < end2) {
+				final int digit0 = getDigit(arith, bytes, buffer, start, end, byteAt(bytes, buffer, i++));
+				final int digit1 = getDigit(arith, bytes, buffer, start, end, byteAt(bytes, buffer, i++));
+				final int inc = TENS[digit0] + digit1;
+				if (result < (-Long.MAX_VALUE / 100)) {//same limit with Long.MIN_VALUE
+					throw newNumberFormatExceptionFor(arith, bytes, buffer, start, end);
+				}
+				result *= 100;
+				if (result < limit + inc) {
+					throw newNumberFormatExceptionFor(arith, bytes, buffer, start, end);
+				}
+				result -= inc;
+			}
+			if (i < end) {
+				final int digit = getDigit(arith, bytes, buffer, start, end, byteAt(bytes, buffer, i++));
+				if (result < (-Long.MAX_VALUE / 10)) {//same limit with Long.MIN_VALUE
+					throw newNumberFormatExceptionFor(arith, bytes, buffer, start, end);
+				}
+				result *= 10;
+				if (result < limit + digit) {
+					throw newNumberFormatExceptionFor(arith, bytes, buffer, start, end);
+				}
+				result -= digit;
+			}
+		} else {
+			throw newNumberFormatExceptionFor(arith, bytes, buffer, start, end);
+		}
+		return negative ? result : -result;
+	}
+
+	private static final int getDigit(final DecimalArithmetic arith, final byte[] bytes, final ByteBuffer buffer,
+									  final int start, final int end, final int ch) {
+		if (ch >= '0' & ch <= '9') {
+			return ch - '0';
+		} else {
+			throw newNumberFormatExceptionFor(arith, bytes, buffer, start, end);
+		}
+	}
+
 	private static final long parseFractionalPart(DecimalArithmetic arith, CharSequence s, int start, int end) {
 		final int len = end - start;
 		if (len > 0) {
@@ -285,6 +561,65 @@ final class StringConversion {
 	
 	private static final int[] TENS = {0, 10, 20, 30, 40, 50, 60, 70, 80, 90};
 
+	private static final int MAX_DIGITS_WITHOUT_OVERFLOW = 18;
+	private static final long EIGHT_DIGITS_FACTOR = 100000000;
+
+	/*
+	 * Fast path for ASCII input: parseDigits(..) parses a run of 8 to 18 digits which cannot overflow. It returns -1
+	 * if a non-digit character is found so that the caller can throw an appropriate exception.
+	 * 
+	 * Blocks of 8 digits are parsed at once using SWAR (SIMD within a register) techniques. The 8 bytes are loaded
+	 * into a long in little-endian order, that is, the first character is stored in the lowest byte.
+	 */
+
+	private static final long parseDigits(byte[] bytes, ByteBuffer buffer, int start, int end) {
+		long value = 0;
+		int i = start;
+		while (end - i >= 8) {
+			final long ascii8 = loadAscii8(bytes, buffer, i);
+			if (!isEightDigits(ascii8)) {
+				return -1;
+			}
+			value = value * EIGHT_DIGITS_FACTOR + parseEightDigits(ascii8);
+			i += 8;
+		}
+		while (i < end) {
+			final int digit = byteAt(bytes, buffer, i++) - '0';
+			if (digit < 0 | digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	private static final long loadAscii8(byte[] bytes, ByteBuffer buffer, int index) {
+		if (bytes != null) {
+			return (bytes[index] & 0xffL)
+					| ((bytes[index + 1] & 0xffL) << 8)
+					| ((bytes[index + 2] & 0xffL) << 16)
+					| ((bytes[index + 3] & 0xffL) << 24)
+					| ((bytes[index + 4] & 0xffL) << 32)
+					| ((bytes[index + 5] & 0xffL) << 40)
+					| ((bytes[index + 6] & 0xffL) << 48)
+					| ((bytes[index + 7] & 0xffL) << 56);
+		}
+		final long ascii8 = buffer.getLong(index);
+		return buffer.order() == ByteOrder.LITTLE_ENDIAN ? ascii8 : Long.reverseBytes(ascii8);
+	}
+
+	private static final boolean isEightDigits(long ascii8) {
+		// high nibble of every byte must be 3 for '0'..'9', and still 3 after adding 6 for '0'..'9' only
+		return ((ascii8 & 0xf0f0f0f0f0f0f0f0L) | (((ascii8 + 0x0606060606060606L) & 0xf0f0f0f0f0f0f0f0L) >>> 4)) == 0x3333333333333333L;
+	}
+
+	private static final int parseEightDigits(long ascii8) {
+		// combine 2 digits in every 16 bits, 4 digits in every 32 bits and finally all 8 digits
+		long value = ((ascii8 & 0x0f0f0f0f0f0f0f0fL) * 2561) >>> 8;// 2561 = 10 * 2^8 + 1
+		value = ((value & 0x00ff00ff00ff00ffL) * 6553601) >>> 16;// 6553601 = 100 * 2^16 + 1
+		return (int) (((value & 0x0000ffff0000ffffL) * 42949672960001L) >>> 32);// 42949672960001 = 10000 * 2^32 + 1
+	}
+
 	/**
 	 * Returns a {@code String} object representing the specified {@code long}. The argument is converted to signed
 	 * decimal representation and returned as a string, exactly as if passed to {@link Long#toString(long)}.
@@ -366,6 +701,365 @@ final class StringConversion {
 		return sb;
 	}
 
+	/**
+	 * Writes the ASCII representation of the specified unscaled Decimal value {@code uDecimal} to the given byte array
+	 * starting at {@code offset}. The value is converted to signed decimal representation with {@code scale} decimal
+	 * places even if trailing fraction digits are zero, that is, the result is identical to
+	 * {@link #unscaledToString(DecimalArithmetic, long)}. No objects are allocated.
+	 * 
+	 * @param arith
+	 *            the decimal arithmetics providing the scale to apply
+	 * @param uDecimal
+	 *            a unscaled Decimal to be converted
+	 * @param bytes
+	 *            the destination array
+	 * @param offset
+	 *            the index of the first byte to write in {@code bytes}
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if there is not enough space in {@code bytes} to write the value; no
+	 *             bytes are written in this case
+	 */
+	static final int unscaledToAscii(DecimalArithmetic arith, long uDecimal, byte[] bytes, int offset) {
+		final long integralPart = arith.getScaleMetrics().divideByScaleFactor(uDecimal);
+		final int length = asciiLength(arith, uDecimal, integralPart);
+		if (offset < 0 | offset > bytes.length - length) {
+			throw new IndexOutOfBoundsException("Cannot write " + length + " bytes at offset " + offset
+					+ " to array of length " + bytes.length);
+		}
+		writeAscii(arith, uDecimal, integralPart, bytes, null, offset + length);
+		return length;
+	}
+
+	/**
+	 * Writes the ASCII representation of the specified unscaled Decimal value {@code uDecimal} to the given byte buffer
+	 * at its current position. The value is converted to signed decimal representation with {@code scale} decimal
+	 * places even if trailing fraction digits are zero, that is, the result is identical to
+	 * {@link #unscaledToString(DecimalArithmetic, long)}. The buffer's position is advanced by the number of bytes
+	 * written. No objects are allocated.
+	 * 
+	 * @param arith
+	 *            the decimal arithmetics providing the scale to apply
+	 * @param uDecimal
+	 *            a unscaled Decimal to be converted
+	 * @param buffer
+	 *            the destination buffer
+	 * @return the number of bytes written
+	 * @throws BufferOverflowException
+	 *             if there are fewer than the required bytes remaining in {@code buffer}; no bytes are written in this
+	 *             case
+	 * @throws ReadOnlyBufferException
+	 *             if {@code buffer} is read-only
+	 */
+	static final int unscaledToAscii(DecimalArithmetic arith, long uDecimal, ByteBuffer buffer) {
+		final long integralPart = arith.getScaleMetrics().divideByScaleFactor(uDecimal);
+		final int length = asciiLength(arith, uDecimal, integralPart);
+		final int position = buffer.position();
+		if (length > buffer.limit() - position) {
+			throw new BufferOverflowException();
+		}
+		if (buffer.hasArray()) {
+			writeAscii(arith, uDecimal, integralPart, buffer.array(), null, buffer.arrayOffset() + position + length);
+		} else {
+			if (buffer.isReadOnly()) {
+				throw new ReadOnlyBufferException();
+			}
+			writeAscii(arith, uDecimal, integralPart, null, buffer, position + length);
+		}
+		buffer.position(position + length);
+		return length;
+	}
+
+	private static final int asciiLength(DecimalArithmetic arith, long uDecimal, long integralPart) {
+		final int scale = arith.getScale();
+		final int sign = uDecimal < 0 ? 1 : 0;
+		final int integralDigits = digitCount(integralPart > 0 ? -integralPart : integralPart);
+		return scale == 0 ? sign + integralDigits : sign + integralDigits + 1 + scale;
+	}
+
+	/*
+	 * The write methods below write to either a byte array, a byte buffer or a string builder: exactly one of bytes,
+	 * buffer and chars is non-null. Characters are written backwards with absolute indices, the character before
+	 * index end is written first.
+	 */
+	private static final void writeAscii(DecimalArithmetic arith, long uDecimal, long integralPart, byte[] bytes, ByteBuffer buffer, int end) {
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int scale = scaleMetrics.getScale();
+		int index = end;
+		if (scale > 0) {
+			final long fractionalPart = scaleMetrics.moduloByScaleFactor(uDecimal);
+			index = writeFractionDigits(fractionalPart < 0 ? -fractionalPart : fractionalPart, scale, bytes, buffer, null, index);
+			putChar(bytes, buffer, null, --index, '.');
+		}
+		// use negative values to also support Long.MIN_VALUE
+		index = writeNegativeIntegerDigits(integralPart > 0 ? -integralPart : integralPart, bytes, buffer, null, index);
+		if (uDecimal < 0) {
+			putChar(bytes, buffer, null, --index, '-');
+		}
+	}
+
+	private static final int writeFractionDigits(long fraction, int scale, byte[] bytes, ByteBuffer buffer, StringBuilder chars, int end) {
+		int index = end;
+		int digits = scale;
+		while (digits >= 2) {
+			final long quotient = fraction / 100;
+			final int twoDigits = (int) (fraction - quotient * 100);
+			fraction = quotient;
+			putChar(bytes, buffer, chars, --index, DIGIT_ONES[twoDigits]);
+			putChar(bytes, buffer, chars, --index, DIGIT_TENS[twoDigits]);
+			digits -= 2;
+		}
+		if (digits > 0) {
+			putChar(bytes, buffer, chars, --index, '0' + (int) fraction);
+		}
+		return index;
+	}
+
+	private static final int writeNegativeIntegerDigits(long negative, byte[] bytes, ByteBuffer buffer, StringBuilder chars, int end) {
+		int index = end;
+		while (negative <= -100) {
+			final long quotient = negative / 100;
+			final int twoDigits = (int) (quotient * 100 - negative);
+			negative = quotient;
+			putChar(bytes, buffer, chars, --index, DIGIT_ONES[twoDigits]);
+			putChar(bytes, buffer, chars, --index, DIGIT_TENS[twoDigits]);
+		}
+		final int lastDigits = (int) -negative;
+		putChar(bytes, buffer, chars, --index, DIGIT_ONES[lastDigits]);
+		if (lastDigits >= 10) {
+			putChar(bytes, buffer, chars, --index, DIGIT_TENS[lastDigits]);
+		}
+		return index;
+	}
+
+	/**
+	 * Formats the specified unscaled Decimal value {@code uDecimal} as defined by the given format options and appends
+	 * the result to {@code appendable}. The characters are constructed in a single pass in the thread-local string
+	 * builder; no other objects are allocated.
+	 * 
+	 * @param arith
+	 *            the decimal arithmetics providing the scale and the rounding mode to apply
+	 * @param options
+	 *            the format options
+	 * @param uDecimal
+	 *            a unscaled Decimal to be formatted
+	 * @param appendable
+	 *            the appendable to which the formatted value is to be appended
+	 * @throws IOException
+	 *             If an I/O error occurs when appending to {@code appendable}
+	 * @throws ArithmeticException
+	 *             if rounding to the maximum fraction digits is necessary and the arithmetic's rounding mode is
+	 *             UNNECESSARY
+	 */
+	static final void unscaledToString(DecimalArithmetic arith, DecimalFormatOptions options, long uDecimal, Appendable appendable) throws IOException {
+		final int digits = Math.min(arith.getScale(), options.getMaxFractionDigits());
+		final long roundedFraction = roundedFraction(arith, uDecimal, digits);
+		final boolean carry = roundedFraction == Scales.getScaleMetrics(digits).getScaleFactor();
+		final long negativeIntegral = negativeIntegralPart(arith, uDecimal, carry);
+		final long fraction = carry ? 0 : roundedFraction;
+		final boolean negative = uDecimal < 0 & (negativeIntegral | fraction) != 0;
+		final int fractionDigits = formattedFractionDigits(options, fraction, digits);
+		final int length = formattedLength(options, negative, negativeIntegral, fractionDigits);
+		final StringBuilder sb = STRING_BUILDER_THREAD_LOCAL.get();
+		sb.setLength(length);
+		writeFormatted(options, negative, negativeIntegral, fraction, digits, fractionDigits, length, null, null, sb, length);
+		appendable.append(sb);
+	}
+
+	/**
+	 * Formats the specified unscaled Decimal value {@code uDecimal} as defined by the given format options and writes
+	 * the ASCII characters to the given byte array starting at {@code offset}. No objects are allocated.
+	 * 
+	 * @param arith
+	 *            the decimal arithmetics providing the scale and the rounding mode to apply
+	 * @param options
+	 *            the format options
+	 * @param uDecimal
+	 *            a unscaled Decimal to be formatted
+	 * @param bytes
+	 *            the destination array
+	 * @param offset
+	 *            the index of the first byte to write in {@code bytes}
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if there is not enough space in {@code bytes} to write the value; no
+	 *             bytes are written in this case
+	 * @throws ArithmeticException
+	 *             if rounding to the maximum fraction digits is necessary and the arithmetic's rounding mode is
+	 *             UNNECESSARY
+	 */
+	static final int unscaledToAscii(DecimalArithmetic arith, DecimalFormatOptions options, long uDecimal, byte[] bytes, int offset) {
+		final int digits = Math.min(arith.getScale(), options.getMaxFractionDigits());
+		final long roundedFraction = roundedFraction(arith, uDecimal, digits);
+		final boolean carry = roundedFraction == Scales.getScaleMetrics(digits).getScaleFactor();
+		final long negativeIntegral = negativeIntegralPart(arith, uDecimal, carry);
+		final long fraction = carry ? 0 : roundedFraction;
+		final boolean negative = uDecimal < 0 & (negativeIntegral | fraction) != 0;
+		final int fractionDigits = formattedFractionDigits(options, fraction, digits);
+		final int length = formattedLength(options, negative, negativeIntegral, fractionDigits);
+		if (offset < 0 | offset > bytes.length - length) {
+			throw new IndexOutOfBoundsException("Cannot write " + length + " bytes at offset " + offset
+					+ " to array of length " + bytes.length);
+		}
+		writeFormatted(options, negative, negativeIntegral, fraction, digits, fractionDigits, length, bytes, null, null, offset + length);
+		return length;
+	}
+
+	/**
+	 * Formats the specified unscaled Decimal value {@code uDecimal} as defined by the given format options and writes
+	 * the ASCII characters to the given byte buffer at its current position. The buffer's position is advanced by the
+	 * number of bytes written. No objects are allocated.
+	 * 
+	 * @param arith
+	 *            the decimal arithmetics providing the scale and the rounding mode to apply
+	 * @param options
+	 *            the format options
+	 * @param uDecimal
+	 *            a unscaled Decimal to be formatted
+	 * @param buffer
+	 *            the destination buffer
+	 * @return the number of bytes written
+	 * @throws BufferOverflowException
+	 *             if there are fewer than the required bytes remaining in {@code buffer}; no bytes are written in this
+	 *             case
+	 * @throws ReadOnlyBufferException
+	 *             if {@code buffer} is read-only
+	 * @throws ArithmeticException
+	 *             if rounding to the maximum fraction digits is necessary and the arithmetic's rounding mode is
+	 *             UNNECESSARY
+	 */
+	static final int unscaledToAscii(DecimalArithmetic arith, DecimalFormatOptions options, long uDecimal, ByteBuffer buffer) {
+		final int digits = Math.min(arith.getScale(), options.getMaxFractionDigits());
+		final long roundedFraction = roundedFraction(arith, uDecimal, digits);
+		final boolean carry = roundedFraction == Scales.getScaleMetrics(digits).getScaleFactor();
+		final long negativeIntegral = negativeIntegralPart(arith, uDecimal, carry);
+		final long fraction = carry ? 0 : roundedFraction;
+		final boolean negative = uDecimal < 0 & (negativeIntegral | fraction) != 0;
+		final int fractionDigits = formattedFractionDigits(options, fraction, digits);
+		final int length = formattedLength(options, negative, negativeIntegral, fractionDigits);
+		final int position = buffer.position();
+		if (length > buffer.limit() - position) {
+			throw new BufferOverflowException();
+		}
+		if (buffer.hasArray()) {
+			writeFormatted(options, negative, negativeIntegral, fraction, digits, fractionDigits, length, buffer.array(), null, null, buffer.arrayOffset() + position + length);
+		} else {
+			if (buffer.isReadOnly()) {
+				throw new ReadOnlyBufferException();
+			}
+			writeFormatted(options, negative, negativeIntegral, fraction, digits, fractionDigits, length, null, buffer, null, position + length);
+		}
+		buffer.position(position + length);
+		return length;
+	}
+
+	// fraction rounded to the given number of digits, in [0, 10^digits]; a result of 10^digits carries into the
+	// integral part which is handled separately so that formatting never overflows even at the extremes
+	private static final long roundedFraction(DecimalArithmetic arith, long uDecimal, int digits) {
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final long integralPart = scaleMetrics.divideByScaleFactor(uDecimal);
+		final long fractionalPart = uDecimal - scaleMetrics.multiplyByScaleFactor(integralPart);
+		final long absFractionalPart = fractionalPart < 0 ? -fractionalPart : fractionalPart;
+		final ScaleMetrics diffMetrics = Scales.getScaleMetrics(scaleMetrics.getScale() - digits);
+		final long fraction = diffMetrics.divideByScaleFactor(absFractionalPart);
+		final long remainder = absFractionalPart - diffMetrics.multiplyByScaleFactor(fraction);
+		if (remainder != 0) {
+			final TruncatedPart truncatedPart = Rounding.truncatedPartFor(remainder, diffMetrics.getScaleFactor());
+			final int inc = DecimalRounding.valueOf(arith.getRoundingMode()).calculateRoundingIncrement(Long.signum(uDecimal), digits > 0 ? fraction : integralPart, truncatedPart);
+			return inc == 0 ? fraction : fraction + 1;
+		}
+		return fraction;
+	}
+
+	// integral part as non-positive value to also support Long.MIN_VALUE, including the carry from the rounded fraction
+	private static final long negativeIntegralPart(DecimalArithmetic arith, long uDecimal, boolean carry) {
+		final long integralPart = arith.getScaleMetrics().divideByScaleFactor(uDecimal);
+		final long negativeIntegral = integralPart > 0 ? -integralPart : integralPart;
+		return carry ? negativeIntegral - 1 : negativeIntegral;
+	}
+
+	// number of fraction digits of the value to write, excluding zeros added to reach min fraction digits
+	private static final int formattedFractionDigits(DecimalFormatOptions options, long fraction, int digits) {
+		int fractionDigits = digits;
+		if (options.isStripTrailingZeros() & fractionDigits > options.getMinFractionDigits()) {
+			while (fractionDigits > options.getMinFractionDigits() && fraction % 10 == 0) {
+				fraction /= 10;
+				fractionDigits--;
+			}
+		}
+		return fractionDigits;
+	}
+
+	private static final int formattedLength(DecimalFormatOptions options, boolean negative, long negativeIntegral, int fractionDigits) {
+		final int sign = negative | options.isPlusSign() ? 1 : 0;
+		final int integralDigits = Math.max(options.getMinIntegerDigits(), digitCount(negativeIntegral));
+		final int fractionChars = Math.max(options.getMinFractionDigits(), fractionDigits);
+		return fractionChars == 0 ? sign + integralDigits : sign + integralDigits + 1 + fractionChars;
+	}
+
+	private static final void writeFormatted(DecimalFormatOptions options, boolean negative, long negativeIntegral, long fraction, int digits, int fractionDigits, int length, byte[] bytes, ByteBuffer buffer, StringBuilder chars, int end) {
+		int index = end;
+		final int fractionChars = Math.max(options.getMinFractionDigits(), fractionDigits);
+		if (fractionChars > 0) {
+			for (int i = fractionDigits; i < fractionChars; i++) {
+				putChar(bytes, buffer, chars, --index, '0');
+			}
+			if (fractionDigits > 0) {
+				final long stripped = Scales.getScaleMetrics(digits - fractionDigits).divideByScaleFactor(fraction);
+				index = writeFractionDigits(stripped, fractionDigits, bytes, buffer, chars, index);
+			}
+			putChar(bytes, buffer, chars, --index, '.');
+		}
+		// use negative values to also support Long.MIN_VALUE
+		index = writeNegativeIntegerDigits(negativeIntegral, bytes, buffer, chars, index);
+		// sign and padding, the sign goes before zero padding ("-001.5") but after other padding ("  -1.5")
+		final int sign = negative ? '-' : options.isPlusSign() ? '+' : 0;
+		final char paddingChar = options.getPaddingChar();
+		final int start = end - length;
+		if (sign != 0) {
+			if (paddingChar == '0') {
+				putChar(bytes, buffer, chars, start, sign);
+			} else {
+				putChar(bytes, buffer, chars, --index, sign);
+			}
+		}
+		final int paddingStart = sign != 0 & paddingChar == '0' ? start + 1 : start;
+		while (index > paddingStart) {
+			putChar(bytes, buffer, chars, --index, paddingChar);
+		}
+	}
+
+	private static final int digitCount(long negative) {
+		long limit = -10;
+		for (int i = 1; i < 19; i++) {
+			if (negative > limit) {
+				return i;
+			}
+			limit *= 10;
+		}
+		return 19;
+	}
+
+	private static final void putChar(byte[] bytes, ByteBuffer buffer, StringBuilder chars, int index, int ch) {
+		if (bytes != null) {
+			bytes[index] = (byte) ch;
+		} else if (buffer != null) {
+			buffer.put(index, (byte) ch);
+		} else {
+			chars.setCharAt(index, (char) ch);
+		}
+	}
+
+	// tens and ones digit of the values 0..99 as ASCII characters
+	private static final byte[] DIGIT_TENS = new byte[100];
+	private static final byte[] DIGIT_ONES = new byte[100];
+	static {
+		for (int i = 0; i < 100; i++) {
+			DIGIT_TENS[i] = (byte) ('0' + i / 10);
+			DIGIT_ONES[i] = (byte) ('0' + i % 10);
+		}
+	}
+
 	private static final NumberFormatException newNumberFormatExceptionFor(DecimalArithmetic arith, CharSequence s, int start, int end) {
 		return new NumberFormatException(
 				"Cannot parse Decimal value with scale " + arith.getScale() + " for input string: \"" + s.subSequence(start, end) + "\"");
@@ -377,6 +1071,20 @@ final class StringConversion {
 		return ex;
 	}
 
+	private static final NumberFormatException newNumberFormatExceptionFor(DecimalArithmetic arith, byte[] bytes, ByteBuffer buffer, int start, int end) {
+		final StringBuilder input = new StringBuilder(Math.max(0, end - start));
+		for (int i = start; i < end; i++) {
+			input.append((char) (byteAt(bytes, buffer, i) & 0xff));
+		}
+		return newNumberFormatExceptionFor(arith, input, 0, input.length());
+	}
+
+	private static final NumberFormatException newNumberFormatExceptionFor(DecimalArithmetic arith, byte[] bytes, ByteBuffer buffer, int start, int end, Exception cause) {
+		final NumberFormatException ex = newNumberFormatExceptionFor(arith, bytes, buffer, start, end);
+		ex.initCause(cause);
+		return ex;
+	}
+
 	// no instances
 	private StringConversion() {
 		super();
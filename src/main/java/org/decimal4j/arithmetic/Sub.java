@@ -28,6 +28,7 @@ import org.decimal4j.scale.Scale0f;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
 import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.StacklessArithmeticException;
 
 /**
  * Provides static methods to calculate subtractions.
@@ -102,7 +103,7 @@ final class Sub {
 		try {
 			return subtractForNegativeScaleDiff(arith, uDecimal, lValue, -scale);
 		} catch (ArithmeticException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " - " + lValue, e);
+			throw newOverflowException(arith, uDecimal, lValue, e);
 		}
 	}
 
@@ -191,14 +192,14 @@ final class Sub {
 			try {
 				return subtractForNegativeScaleDiff(arith, uDecimal, unscaled, scaleDiff);
 			} catch (ArithmeticException e) {
-				throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale), e);
+				throw newOverflowException(arith, uDecimal, unscaled, scale, e);
 			}
 		}
 		final long diff = subtractForPositiveScaleDiff(uDecimal, unscaled, scaleDiff);
 		if (!Checked.isSubtractOverflow(uDecimal, unscaled, diff)) {
 			return diff;
 		}
-		throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale) + "=" + diff);
+		throw newOverflowException(arith, uDecimal, unscaled, scale, diff);
 	}
 	
 	/**
@@ -229,14 +230,14 @@ final class Sub {
 			try {
 				return subtractForNegativeScaleDiff(arith, uDecimal, unscaled, scaleDiff);
 			} catch (ArithmeticException e) {
-				throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale), e);
+				throw newOverflowException(arith, uDecimal, unscaled, scale, e);
 			}
 		}
 		final long diff = subtractForPositiveScaleDiff(rounding, uDecimal, unscaled, scaleDiff);
 		if (!Checked.isSubtractOverflow(uDecimal, unscaled, diff)) {
 			return diff;
 		}
-		throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale) + "=" + diff);
+		throw newOverflowException(arith, uDecimal, unscaled, scale, diff);
 	}
 
 	/**
@@ -321,6 +322,21 @@ final class Sub {
 		return result;
 	}
 
+	private static final ArithmeticException newOverflowException(DecimalArithmetic arith, long uDecimal, long lValue, ArithmeticException cause) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " - " + lValue, cause);
+	}
+
+	private static final ArithmeticException newOverflowException(DecimalArithmetic arith, long uDecimal, long unscaled, int scale, ArithmeticException cause) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale), cause);
+	}
+
+	private static final ArithmeticException newOverflowException(DecimalArithmetic arith, long uDecimal, long unscaled, int scale, long diff) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale) + "=" + diff);
+	}
+
 	// no instances
 	private Sub() {
 		super();
@@ -37,8 +37,6 @@ public final class ThreadLocals {
 	 */
 	public static final void removeAll() {
 		StringConversion.STRING_BUILDER_THREAD_LOCAL.remove();
-		UnsignedDecimal9i36f.THREAD_LOCAL_1.remove();
-		UnsignedDecimal9i36f.THREAD_LOCAL_2.remove();
 	}
 	
 	// no instances
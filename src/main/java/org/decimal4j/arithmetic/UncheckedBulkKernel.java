@@ -0,0 +1,186 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+/**
+ * Kernel for bulk operations on arrays of unscaled decimal values without
+ * overflow checks. All operations are plain 64 bit lane operations which is
+ * why they are independent of scale and rounding mode.
+ * <p>
+ * The {@link #INSTANCE} is the scalar implementation unless a vectorized
+ * implementation based on the JDK Vector API is available. The vectorized
+ * kernel is part of the multi-release jar and is loaded for Java 17 or newer
+ * if the {@code jdk.incubator.vector} module is present (e.g. via JVM argument
+ * {@code --add-modules jdk.incubator.vector}). Vectorization can be disabled
+ * via system property {@code -Ddecimal4j.vectorize=false}.
+ * <p>
+ * Bounds are checked by the caller, all methods assume that
+ * {@code [offset, offset+length)} is a valid index range for all arrays.
+ */
+abstract class UncheckedBulkKernel {
+
+	/**
+	 * System property to disable loading of the vectorized kernel if set to
+	 * false.
+	 */
+	static final String SYSTEM_PROPERTY_VECTORIZE = "decimal4j.vectorize";
+
+	/**
+	 * The kernel instance used by the unchecked arithmetic implementations.
+	 */
+	static final UncheckedBulkKernel INSTANCE = load();
+
+	/**
+	 * Class name of the vectorized kernel only available in the Java 17
+	 * version of the multi-release jar.
+	 */
+	private static final String VECTOR_KERNEL_CLASS = "org.decimal4j.arithmetic.VectorBulkKernel";
+
+	private static final UncheckedBulkKernel load() {
+		if (!"false".equalsIgnoreCase(System.getProperty(SYSTEM_PROPERTY_VECTORIZE))) {
+			try {
+				return (UncheckedBulkKernel) Class.forName(VECTOR_KERNEL_CLASS).getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException e) {
+				//class not present, fall back to scalar kernel
+			} catch (LinkageError e) {
+				//incubator module not available or unsupported class version, fall back to scalar kernel
+			}
+		}
+		return new Scalar();
+	}
+
+	/**
+	 * Returns true if this is a vectorized kernel implementation.
+	 * 
+	 * @return true if SIMD instructions are used by this kernel
+	 */
+	abstract boolean isVectorized();
+
+	/**
+	 * Calculates {@code result[i] = uDecimals1[i] + uDecimals2[i]} for every
+	 * index {@code i} in {@code [offset, offset+length)}.
+	 * 
+	 * @param uDecimals1
+	 *            the first summands
+	 * @param uDecimals2
+	 *            the second summands
+	 * @param result
+	 *            the array to store the sums
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	abstract void add(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length);
+
+	/**
+	 * Calculates {@code result[i] = uDecimals1[i] - uDecimals2[i]} for every
+	 * index {@code i} in {@code [offset, offset+length)}.
+	 * 
+	 * @param uDecimalsMinuend
+	 *            the minuends
+	 * @param uDecimalsSubtrahend
+	 *            the subtrahends
+	 * @param result
+	 *            the array to store the differences
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	abstract void subtract(long[] uDecimalsMinuend, long[] uDecimalsSubtrahend, long[] result, int offset, int length);
+
+	/**
+	 * Calculates {@code result[i] = -uDecimals[i]} for every index {@code i}
+	 * in {@code [offset, offset+length)}.
+	 * 
+	 * @param uDecimals
+	 *            the values to negate
+	 * @param result
+	 *            the array to store the negated values
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	abstract void negate(long[] uDecimals, long[] result, int offset, int length);
+
+	/**
+	 * Calculates {@code result[i] = |uDecimals[i]|} for every index {@code i}
+	 * in {@code [offset, offset+length)}.
+	 * 
+	 * @param uDecimals
+	 *            the values whose absolute values to calculate
+	 * @param result
+	 *            the array to store the absolute values
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 */
+	abstract void abs(long[] uDecimals, long[] result, int offset, int length);
+
+	/**
+	 * Scalar kernel implementation used as fallback if no vectorized kernel is
+	 * available.
+	 */
+	static final class Scalar extends UncheckedBulkKernel {
+		@Override
+		final boolean isVectorized() {
+			return false;
+		}
+
+		@Override
+		final void add(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+			final int end = offset + length;
+			for (int i = offset; i < end; i++) {
+				result[i] = uDecimals1[i] + uDecimals2[i];
+			}
+		}
+
+		@Override
+		final void subtract(long[] uDecimalsMinuend, long[] uDecimalsSubtrahend, long[] result, int offset, int length) {
+			final int end = offset + length;
+			for (int i = offset; i < end; i++) {
+				result[i] = uDecimalsMinuend[i] - uDecimalsSubtrahend[i];
+			}
+		}
+
+		@Override
+		final void negate(long[] uDecimals, long[] result, int offset, int length) {
+			final int end = offset + length;
+			for (int i = offset; i < end; i++) {
+				result[i] = -uDecimals[i];
+			}
+		}
+
+		@Override
+		final void abs(long[] uDecimals, long[] result, int offset, int length) {
+			final int end = offset + length;
+			for (int i = offset; i < end; i++) {
+				result[i] = Math.abs(uDecimals[i]);
+			}
+		}
+	}
+}
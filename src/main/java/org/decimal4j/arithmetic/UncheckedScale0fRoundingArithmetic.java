@@ -25,6 +25,7 @@ package org.decimal4j.arithmetic;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.scale.Scale0f;
 import org.decimal4j.truncate.DecimalRounding;
@@ -89,11 +90,41 @@ public final class UncheckedScale0fRoundingArithmetic extends AbstractUncheckedS
 		return Div.divideByLong(rounding, uDecimalDividend, uDecimalDivisor);
 	}
 
+	@Override
+	public final long multiplyDivide(long uDecimal1, long uDecimal2, long uDecimalDivisor) {
+		return MulDiv.multiplyDivide(this, rounding, uDecimal1, uDecimal2, uDecimalDivisor);
+	}
+
+	@Override
+	public final long multiplyDivide(long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor) {
+		return MulDiv.multiplyDivide(this, rounding, uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor);
+	}
+
+	@Override
+	public final long multiplyAdd(long uDecimalAddend, long uDecimal1, long uDecimal2) {
+		return MulAdd.multiplyAdd(this, rounding, uDecimalAddend, uDecimal1, uDecimal2);
+	}
+
+	@Override
+	public final long dotProduct(long[] uDecimals1, long[] uDecimals2, int offset, int length) {
+		return MulAdd.dotProduct(this, rounding, uDecimals1, uDecimals2, offset, length);
+	}
+
+	@Override
+	public final void divide(long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] result, int offset, int length) {
+		Div.divideByLong(rounding, uDecimalsDividend, uDecimalsDivisor, result, offset, length);
+	}
+
 	@Override
 	public final long divideByLong(long uDecimalDividend, long lDivisor) {
 		return Div.divideByLong(rounding, uDecimalDividend, lDivisor);
 	}
-	
+
+	@Override
+	public final void divideByLong(long[] uDecimalsDividend, long lDivisor, long[] result, int offset, int length) {
+		Div.divideByLong(rounding, uDecimalsDividend, lDivisor, result, offset, length);
+	}
+
 	@Override
 	public final long divideByUnscaled(long uDecimal, long unscaled, int scale) {
 		return Div.divideByUnscaled(rounding, uDecimal, unscaled, scale);
@@ -106,7 +137,7 @@ public final class UncheckedScale0fRoundingArithmetic extends AbstractUncheckedS
 
 	@Override
 	public final long invert(long uDecimal) {
-		return Invert.invertLong(rounding, uDecimal);
+		return Invert.invertLong(this, rounding, uDecimal);
 	}
 
 	@Override
@@ -188,4 +219,14 @@ public final class UncheckedScale0fRoundingArithmetic extends AbstractUncheckedS
 	public final long parse(CharSequence value, int start, int end) {
 		return StringConversion.parseLong(this, rounding, value, start, end);
 	}
+
+	@Override
+	public final long parse(byte[] value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, rounding, value, start, end);
+	}
+
+	@Override
+	public final long parse(ByteBuffer value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, rounding, value, start, end);
+	}
 }
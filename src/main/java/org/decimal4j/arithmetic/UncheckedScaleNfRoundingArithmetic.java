@@ -25,6 +25,7 @@ package org.decimal4j.arithmetic;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.truncate.DecimalRounding;
@@ -34,7 +35,12 @@ import org.decimal4j.truncate.UncheckedRounding;
 /**
  * Arithmetic implementation with rounding for scales other than zero. If an
  * operation leads to an overflow the result is silently truncated.
+ * 
+ * @deprecated use the scale specific arithmetic returned by
+ *             {@link ScaleMetrics#getArithmetic(RoundingMode)}, for instance
+ *             {@link UncheckedScale2fRoundingArithmetic}
  */
+@Deprecated
 public final class UncheckedScaleNfRoundingArithmetic extends AbstractUncheckedScaleNfArithmetic {
 
 	private final DecimalRounding rounding;
@@ -95,6 +101,11 @@ public final class UncheckedScaleNfRoundingArithmetic extends AbstractUncheckedS
 	public final long multiply(long uDecimal1, long uDecimal2) {
 		return Mul.multiply(this, rounding, uDecimal1, uDecimal2);
 	}
+
+	@Override
+	public final void multiply(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		Mul.multiply(this, rounding, uDecimals1, uDecimals2, result, offset, length);
+	}
 	
 	@Override
 	public final long multiplyByUnscaled(long uDecimal, long unscaled, int scale) {
@@ -115,6 +126,11 @@ public final class UncheckedScaleNfRoundingArithmetic extends AbstractUncheckedS
 	public final long divideByLong(long uDecimalDividend, long lDivisor) {
 		return Div.divideByLong(rounding, uDecimalDividend, lDivisor);
 	}
+
+	@Override
+	public final void divideByLong(long[] uDecimalsDividend, long lDivisor, long[] result, int offset, int length) {
+		Div.divideByLong(rounding, uDecimalsDividend, lDivisor, result, offset, length);
+	}
 	
 	@Override
 	public final long divideByUnscaled(long uDecimal, long unscaled, int scale) {
@@ -126,6 +142,31 @@ public final class UncheckedScaleNfRoundingArithmetic extends AbstractUncheckedS
 		return Div.divide(this, rounding, uDecimalDividend, uDecimalDivisor);
 	}
 
+	@Override
+	public final long multiplyDivide(long uDecimal1, long uDecimal2, long uDecimalDivisor) {
+		return MulDiv.multiplyDivide(this, rounding, uDecimal1, uDecimal2, uDecimalDivisor);
+	}
+
+	@Override
+	public final long multiplyDivide(long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor) {
+		return MulDiv.multiplyDivide(this, rounding, uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor);
+	}
+
+	@Override
+	public final long multiplyAdd(long uDecimalAddend, long uDecimal1, long uDecimal2) {
+		return MulAdd.multiplyAdd(this, rounding, uDecimalAddend, uDecimal1, uDecimal2);
+	}
+
+	@Override
+	public final long dotProduct(long[] uDecimals1, long[] uDecimals2, int offset, int length) {
+		return MulAdd.dotProduct(this, rounding, uDecimals1, uDecimals2, offset, length);
+	}
+
+	@Override
+	public final void divide(long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] result, int offset, int length) {
+		Div.divide(this, rounding, uDecimalsDividend, uDecimalsDivisor, result, offset, length);
+	}
+
 	@Override
 	public final long invert(long uDecimal) {
 		return Invert.invert(this, rounding, uDecimal);
@@ -215,4 +256,14 @@ public final class UncheckedScaleNfRoundingArithmetic extends AbstractUncheckedS
 	public final long parse(CharSequence value, int start, int end) {
 		return StringConversion.parseUnscaledDecimal(this, rounding, value, start, end);
 	}
+
+	@Override
+	public final long parse(byte[] value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, rounding, value, start, end);
+	}
+
+	@Override
+	public final long parse(ByteBuffer value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, rounding, value, start, end);
+	}
 }
@@ -25,6 +25,7 @@ package org.decimal4j.arithmetic;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.ScaleMetrics;
@@ -35,7 +36,12 @@ import org.decimal4j.truncate.UncheckedRounding;
 /**
  * Arithmetic implementation without rounding for scales other than zero. If an
  * operation leads to an overflow the result is silently truncated.
+ * 
+ * @deprecated use the scale specific arithmetic returned by
+ *             {@link ScaleMetrics#getArithmetic(RoundingMode)}, for instance
+ *             {@link UncheckedScale2fTruncatingArithmetic}
  */
+@Deprecated
 public final class UncheckedScaleNfTruncatingArithmetic extends AbstractUncheckedScaleNfArithmetic implements
 		DecimalArithmetic {
 
@@ -79,6 +85,11 @@ public final class UncheckedScaleNfTruncatingArithmetic extends AbstractUnchecke
 		return Mul.multiply(this, uDecimal1, uDecimal2);
 	}
 
+	@Override
+	public final void multiply(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		Mul.multiply(this, uDecimals1, uDecimals2, result, offset, length);
+	}
+
 	@Override
 	public final long multiplyByUnscaled(long uDecimal, long unscaled, int scale) {
 		return Mul.multiplyByUnscaled(uDecimal, unscaled, scale);
@@ -99,11 +110,45 @@ public final class UncheckedScaleNfTruncatingArithmetic extends AbstractUnchecke
 		return Div.divide(this, uDecimalDividend, uDecimalDivisor);
 	}
 
+	@Override
+	public final long multiplyDivide(long uDecimal1, long uDecimal2, long uDecimalDivisor) {
+		return MulDiv.multiplyDivide(this, DecimalRounding.DOWN, uDecimal1, uDecimal2, uDecimalDivisor);
+	}
+
+	@Override
+	public final long multiplyDivide(long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor) {
+		return MulDiv.multiplyDivide(this, DecimalRounding.DOWN, uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor);
+	}
+
+	@Override
+	public final long multiplyAdd(long uDecimalAddend, long uDecimal1, long uDecimal2) {
+		return MulAdd.multiplyAdd(this, DecimalRounding.DOWN, uDecimalAddend, uDecimal1, uDecimal2);
+	}
+
+	@Override
+	public final long dotProduct(long[] uDecimals1, long[] uDecimals2, int offset, int length) {
+		return MulAdd.dotProduct(this, DecimalRounding.DOWN, uDecimals1, uDecimals2, offset, length);
+	}
+
+	@Override
+	public final void divide(long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] result, int offset, int length) {
+		Div.divide(this, uDecimalsDividend, uDecimalsDivisor, result, offset, length);
+	}
+
 	@Override
 	public final long divideByLong(long uDecimalDividend, long lDivisor) {
 		return uDecimalDividend / lDivisor;
 	}
 
+	@Override
+	public final void divideByLong(long[] uDecimalsDividend, long lDivisor, long[] result, int offset, int length) {
+		Bulk.checkBounds(uDecimalsDividend, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = uDecimalsDividend[i] / lDivisor;
+		}
+	}
+
 	@Override
 	public final long divideByUnscaled(long uDecimal, long unscaled, int scale) {
 		return Div.divideByUnscaled(uDecimal, unscaled, scale);
@@ -203,4 +248,14 @@ public final class UncheckedScaleNfTruncatingArithmetic extends AbstractUnchecke
 	public final long parse(CharSequence value, int start, int end) {
 		return StringConversion.parseUnscaledDecimal(this, DecimalRounding.DOWN, value, start, end);
 	}
+
+	@Override
+	public final long parse(byte[] value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, DecimalRounding.DOWN, value, start, end);
+	}
+
+	@Override
+	public final long parse(ByteBuffer value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, DecimalRounding.DOWN, value, start, end);
+	}
 }
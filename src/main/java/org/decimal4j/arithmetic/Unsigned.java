@@ -28,6 +28,8 @@ package org.decimal4j.arithmetic;
  */
 public final class Unsigned {
 
+	private static final long LONG_MASK = 0xffffffffL;
+
 	/**
 	 * A (self-inverse) bijection which converts the ordering on unsigned longs
 	 * to the ordering on longs, that is, {@code a <= b} as unsigned longs if
@@ -144,6 +146,28 @@ public final class Unsigned {
 		return quotient + (isLess(rem, divisor) ? 0 : 1);
 	}
 
+	/**
+	 * Returns the high order 64 bits of the unsigned 128 bit product of the two
+	 * arguments treated as unsigned 64-bit quantities.
+	 * <p>
+	 * From Hacker's Delight, section 8-3 (multiply high unsigned).
+	 *
+	 * @param a
+	 *            the first unsigned factor
+	 * @param b
+	 *            the second unsigned factor
+	 * @return the high order 64 bits of the unsigned product {@code a * b}
+	 */
+	public static final long multiplyHigh(long a, long b) {
+		final long a0 = a & LONG_MASK;
+		final long a1 = a >>> 32;
+		final long b0 = b & LONG_MASK;
+		final long b1 = b >>> 32;
+		final long t = a1 * b0 + ((a0 * b0) >>> 32);
+		final long w1 = a0 * b1 + (t & LONG_MASK);
+		return a1 * b1 + (t >>> 32) + (w1 >>> 32);
+	}
+
 	private Unsigned() {
 		// no instances
 	}
@@ -36,308 +36,258 @@ import org.decimal4j.truncate.OverflowMode;
 import org.decimal4j.truncate.TruncatedPart;
 
 /**
- * Helper class for an unsigned decimal value with 9 integral digits and 38 decimal
+ * Helper class for unsigned decimal values with 9 integral digits and 36 decimal
  * fraction digits used internally by {@link Pow} to calculate decimal powers.
+ * <p>
+ * A value consists of a power-ten exponent {@code pow10} and the parts
+ * {@code ival}, {@code val3}, {@code val2}, {@code val1} and {@code val0}. The
+ * value is either unnormalized (all parts can be any positive long), or
+ * normalized to 18 digits with a 9 digit {@code ival}, 18 digit {@code val3} and
+ * {@code val2} and zero {@code val1} and {@code val0}. The parts are held in
+ * local variables and passed as arguments so that no scratch objects or
+ * thread local variables are needed.
  */
 final class UnsignedDecimal9i36f {
-	/** Thread local for factor 1*/
-	static final ThreadLocal<UnsignedDecimal9i36f> THREAD_LOCAL_1 = new ThreadLocal<UnsignedDecimal9i36f>() {
-		@Override
-		protected UnsignedDecimal9i36f initialValue() {
-			return new UnsignedDecimal9i36f();
-		}
-	};
-	/** Thread local for accumulator*/
-	static final ThreadLocal<UnsignedDecimal9i36f> THREAD_LOCAL_2 = new ThreadLocal<UnsignedDecimal9i36f>() {
-		@Override
-		protected UnsignedDecimal9i36f initialValue() {
-			return new UnsignedDecimal9i36f();
-		}
-	};
-	
-	/**
-	 * Normalization mode.
-	 */
-	private static enum Norm {
-		/** Not normalized: ival and valX can be any positive longs */
-		UNNORMALIZED,
-		/** 18 digit normalization (standard): ival is 9 digits; val3/val2 are 18 digits, val1/val0 are zero*/
-		NORMALIZED_18,
-		/** 9 digit normalization (for multiplication): ival and valX are 9 digits values*/
-		NORMALIZED_09
-	}
-	private Norm norm;
-	private int pow10;
-	private long ival;
-	private long val3;
-	private long val2;
-	private long val1;
-	private long val0;
-	
-	/** Constructor */
-	private UnsignedDecimal9i36f() {
-		super();
-	}
-	
-	/**
-	 * Assigns the value one to this unsigned 9x36 decimal and returns it.
-	 * 
-	 * @return this
-	 */
-	public final UnsignedDecimal9i36f initOne() {
-		this.norm = Norm.NORMALIZED_18;
-		this.pow10 = 0;
-		this.ival = 1;
-		this.val3 = 0;
-		this.val2 = 0;
-		this.val1 = 0;
-		this.val0 = 0;
-		return this;
-	}
 
-	/**
-	 * Assigns the value one to this unsigned 9x36 decimal and returns it.
-	 * 
-	 * @param copy
-	 *            the value to copy
-	 * @return this
-	 */
-	public final UnsignedDecimal9i36f init(UnsignedDecimal9i36f copy) {
-		this.norm = copy.norm;
-		this.pow10 = copy.pow10;
-		this.ival = copy.ival;
-		this.val3 = copy.val3;
-		this.val2 = copy.val2;
-		this.val1 = copy.val1;
-		this.val0 = copy.val0;
-		return this;
-	}
+	//steps of the exponentiation by squaring in pow: acc=x, acc=acc*acc and acc=acc*x
+	private static final int STEP_INIT = 0;
+	private static final int STEP_SQUARE = 1;
+	private static final int STEP_MULTIPLY = 2;
 
 	/**
-	 * Assigns the given integer and fraction component to this unsigned 9x36
-	 * decimal and returns it.
+	 * Returns the unscaled decimal result of {@code (sgn * (absInt + absFra)) ^ n}.
 	 * 
-	 * @param ival
-	 *            the integer part of the value to assign
-	 * @param fval
-	 *            the fractional part of the value to assign
-	 * @param scaleMetrics
-	 *            the scale metrics associated with the value
-	 * @return this
-	 */
-	public final UnsignedDecimal9i36f init(long ival, long fval, ScaleMetrics scaleMetrics) {
-		final ScaleMetrics diffMetrics = Scales.getScaleMetrics(18 - scaleMetrics.getScale());
-		normalizeAndRound(1, 0, ival, diffMetrics.multiplyByScaleFactor(fval), 0, 0, 0, DecimalRounding.UNNECESSARY);
-		return this;
-	}
-	
-	/**
-	 * Returns the current power-ten exponent.
-	 * 
-	 * @return the base-10 exponent of this value
+	 * @param arith
+	 *            the arithmetic of the base value
+	 * @param rounding
+	 *            the rounding to apply to the result
+	 * @param powRounding
+	 *            reciprocal rounding if exponent is negative and rounding
+	 *            otherwise
+	 * @param sgn
+	 *            the sign of the final result
+	 * @param absInt
+	 *            the absolute integer part of the base value
+	 * @param absFra
+	 *            the absolute fractional part of the base value, unscaled
+	 *            with the scale of {@code arith}
+	 * @param n
+	 *            the exponent, not zero and in [-999999999,999999999]
+	 * @return the result of the exponentiation, rounded if necessary
+	 * @throws IllegalArgumentException
+	 *             if the result overflows (checked arithmetic only)
 	 */
-	public final int getPow10() {
-		return pow10;
-	}
-	private final void normalizeAndRound(int sgn, int pow10, long ival, long val3, long val2, long val1, long val0, DecimalRounding rounding) {
-		while (ival == 0) {
-			ival = val3;
-			val3 = val2;
-			val2 = val1;
-			val1 = val0;
-			val0 = 0;
-			pow10 -= 18;
-		}
-		if (ival >= Scale9f.SCALE_FACTOR) {
-			long carry;
+	public static final long pow(DecimalArithmetic arith, DecimalRounding rounding, DecimalRounding powRounding, int sgn, long absInt, long absFra, int n) {
+		//accumulator, initialized with the unnormalized base value
+		int pow10 = 0;
+		long ival = absInt;
+		long val3 = Scales.getScaleMetrics(18 - arith.getScale()).multiplyByScaleFactor(absFra);
+		long val2 = 0;
+		long val1 = 0;
+		long val0 = 0;
+		boolean normalized = false;
 
-			final int log10 = log10(ival);
-			final int div10 = log10 - 9;
-			final ScaleMetrics divScale = Scales.getScaleMetrics(div10);
-			final ScaleMetrics mulScale = Scales.getScaleMetrics(18 - div10);
-			
-			final long ivHi = divScale.divideByScaleFactor(ival);
-			final long ivLo = ival - divScale.multiplyByScaleFactor(ivHi);
-			ival = ivHi;
-			carry = mulScale.multiplyByScaleFactor(ivLo);
-			
-			if (val3 != 0) {
-				final long v3Hi = divScale.divideByScaleFactor(val3);
-				final long v3Lo = val3 - divScale.multiplyByScaleFactor(v3Hi);
-				val3 = v3Hi + carry;
-				carry = mulScale.multiplyByScaleFactor(v3Lo);
-			} else {
-				val3 = carry;
-				carry = 0;
+		//base value split into 9 digit parts, assigned after normalization in the first step
+		int basePow10 = 0;
+		long base4 = 0;
+		long base3 = 0;
+		long base2 = 0;
+		long base1 = 0;
+		long base0 = 0;
+
+		//first step assigns the normalized base (acc=x) for the top bit; for every
+		//following bit we square (acc=acc*acc) and multiply (acc=acc*x) if the bit is set
+		final int mag = Math.abs(n);
+		int bit = Integer.highestOneBit(mag);
+		int step = STEP_INIT;
+		while (true) {
+			if (!normalized) {
+				//normalize to 18 digits and round
+				while (ival == 0) {
+					ival = val3;
+					val3 = val2;
+					val2 = val1;
+					val1 = val0;
+					val0 = 0;
+					pow10 -= 18;
+				}
+				boolean nonZeroAfterVal1 = val0 != 0;
+				if (ival >= Scale9f.SCALE_FACTOR) {
+					long carry;
+
+					final int log10 = log10(ival);
+					final int div10 = log10 - 9;
+					final ScaleMetrics divScale = Scales.getScaleMetrics(div10);
+					final ScaleMetrics mulScale = Scales.getScaleMetrics(18 - div10);
+
+					final long ivHi = divScale.divideByScaleFactor(ival);
+					final long ivLo = ival - divScale.multiplyByScaleFactor(ivHi);
+					ival = ivHi;
+					carry = mulScale.multiplyByScaleFactor(ivLo);
+
+					if (val3 != 0) {
+						final long v3Hi = divScale.divideByScaleFactor(val3);
+						final long v3Lo = val3 - divScale.multiplyByScaleFactor(v3Hi);
+						val3 = v3Hi + carry;
+						carry = mulScale.multiplyByScaleFactor(v3Lo);
+					} else {
+						val3 = carry;
+						carry = 0;
+					}
+
+					if (val2 != 0) {
+						final long v2Hi = divScale.divideByScaleFactor(val2);
+						final long v2Lo = val2 - divScale.multiplyByScaleFactor(v2Hi);
+						val2 = v2Hi + carry;
+						carry = mulScale.multiplyByScaleFactor(v2Lo);
+					} else {
+						val2 = carry;
+						carry = 0;
+					}
+
+					if (val1 != 0) {
+						final long v1Hi = divScale.divideByScaleFactor(val1);
+						final long v1Lo = val1 - divScale.multiplyByScaleFactor(v1Hi);
+						val1 = v1Hi + carry;
+						carry = mulScale.multiplyByScaleFactor(v1Lo);
+					} else {
+						val1 = carry;
+						carry = 0;
+					}
+					pow10 += div10;
+					nonZeroAfterVal1 |= carry != 0;
+				}
+				//(ival|val3|val2) += round(val1|val0|carry)
+				final int inc = getRoundingIncrement(sgn, val2, Scale18f.INSTANCE, val1, nonZeroAfterVal1, powRounding);
+				if (inc > 0) {
+					val2++;
+					if (val2 >= Scale18f.SCALE_FACTOR) {
+						val2 = 0;//val2 -= Scale18f.SCALE_FACTOR;
+						val3++;
+						if (val3 >= Scale18f.SCALE_FACTOR) {
+							val3 = 0;//val3 -= Scale18f.SCALE_FACTOR;
+							ival++;
+							if (ival >= Scale9f.SCALE_FACTOR) {
+								ival = Scale8f.SCALE_FACTOR;//ival /= 10
+								pow10++;
+							}
+						}
+					}
+				}
+				val1 = 0;
+				val0 = 0;
+				normalized = true;
 			}
-			
-			if (val2 != 0) {
-				final long v2Hi = divScale.divideByScaleFactor(val2);
-				final long v2Lo = val2 - divScale.multiplyByScaleFactor(v2Hi);
-				val2 = v2Hi + carry;
-				carry = mulScale.multiplyByScaleFactor(v2Lo);
+
+			//split the normalized accumulator into 9 digit parts
+			final long lhs4 = ival;
+			final long lhs3 = val3 / Scale9f.SCALE_FACTOR;
+			final long lhs2 = val3 - lhs3 * Scale9f.SCALE_FACTOR;
+			final long lhs1 = val2 / Scale9f.SCALE_FACTOR;
+			final long lhs0 = val2 - lhs1 * Scale9f.SCALE_FACTOR;
+
+			if (step == STEP_INIT) {
+				//acc=x
+				basePow10 = pow10;
+				base4 = lhs4;
+				base3 = lhs3;
+				base2 = lhs2;
+				base1 = lhs1;
+				base0 = lhs0;
 			} else {
-				val2 = carry;
-				carry = 0;
+				//acc=acc*acc [square] or acc=acc*x
+				final boolean square = step == STEP_SQUARE;
+				final long rhs4 = square ? lhs4 : base4;
+				final long rhs3 = square ? lhs3 : base3;
+				final long rhs2 = square ? lhs2 : base2;
+				final long rhs1 = square ? lhs1 : base1;
+				final long rhs0 = square ? lhs0 : base0;
+
+				//multiply now
+				long scale72 = lhs0 * rhs0;
+				long scale63 = lhs1 * rhs0 + rhs1 * lhs0;
+				long scale54 = lhs2 * rhs0 + rhs2 * lhs0 + lhs1 * rhs1;
+				long scale45 = lhs3 * rhs0 + rhs3 * lhs0 + lhs2 * rhs1 + rhs2 * lhs1;
+				long scale36 = lhs3 * rhs1 + rhs3 * lhs1 + lhs2 * rhs2 + lhs0 * rhs4 + rhs0 * lhs4;
+				long scale27 = lhs3 * rhs2 + rhs3 * lhs2 + lhs1 * rhs4 + rhs1 * lhs4;
+				long scale18 = lhs3 * rhs3 + lhs2 * rhs4 + rhs2 * lhs4;
+				long scale09 = lhs3 * rhs4 + rhs3 * lhs4;
+				long scale00 = lhs4 * rhs4;
+
+				//reduce 8 to 4 parts and propagate carries
+				long carry;
+
+				//NOTE: largest value is val36: sum of 5 products + sum of 4 products 
+				//      -- each product consists of 2 factors < Scale9f.SCALE_FACTOR
+				//		-- hence each product < Scale18f.SCALE_FACTOR
+				//		-- sum of 9 products each < Scale18f.SCALE_FACTOR 
+				//		=> sum < 9 * Scale18f.SCALE_FACTOR < Long.MAX_VALUE
+				//		=> no overflows
+
+				carry = scale63 / Scale9f.SCALE_FACTOR;
+				scale63 -= carry * Scale9f.SCALE_FACTOR;
+				long val72 = scale63 * Scale9f.SCALE_FACTOR + scale72;
+				while (val72 >= Scale18f.SCALE_FACTOR) {
+					val72 -= Scale18f.SCALE_FACTOR;
+					carry++;
+				}
+				scale54 += carry;
+
+				carry = scale45 / Scale9f.SCALE_FACTOR;
+				scale45 -= carry * Scale9f.SCALE_FACTOR;
+				long val54 = scale45 * Scale9f.SCALE_FACTOR + scale54;
+				while (val54 >= Scale18f.SCALE_FACTOR) {
+					val54 -= Scale18f.SCALE_FACTOR;
+					carry++;
+				}
+				scale36 += carry;
+
+				carry = scale27 / Scale9f.SCALE_FACTOR;
+				scale27 -= carry * Scale9f.SCALE_FACTOR;
+				long val36 = scale27 * Scale9f.SCALE_FACTOR + scale36;
+				while (val36 >= Scale18f.SCALE_FACTOR) {
+					val36 -= Scale18f.SCALE_FACTOR;
+					carry++;
+				}
+				scale18 += carry;
+
+				carry = scale09 / Scale9f.SCALE_FACTOR;
+				scale09 -= carry * Scale9f.SCALE_FACTOR;
+				long val18 = scale09 * Scale9f.SCALE_FACTOR + scale18;
+				while (val18 >= Scale18f.SCALE_FACTOR) {
+					val18 -= Scale18f.SCALE_FACTOR;
+					carry++;
+				}
+				scale00 += carry;
+
+				//assign unnormalized values
+				pow10 += square ? pow10 : basePow10;
+				ival = scale00;
+				val3 = val18;
+				val2 = val36;
+				val1 = val54;
+				val0 = val72;
+				normalized = false;
 			}
 
-			if (val1 != 0) {
-				final long v1Hi = divScale.divideByScaleFactor(val1);
-				final long v1Lo = val1 - divScale.multiplyByScaleFactor(v1Hi);
-				val1 = v1Hi + carry;
-				carry = mulScale.multiplyByScaleFactor(v1Lo);
+			//next step
+			if (step == STEP_SQUARE && (mag & bit) != 0) {
+				step = STEP_MULTIPLY;
 			} else {
-				val1 = carry;
-				carry = 0;
-			}
-			roundToVal2(sgn, pow10 + div10, ival, val3, val2, val1, val0 != 0 | carry != 0, rounding);
-		} else {
-			roundToVal2(sgn, pow10, ival, val3, val2, val1, val0 != 0, rounding);
-		}
-	}
-	private final void roundToVal2(int sgn, int pow10, long ival, long val3, long val2, long val1, boolean nonZeroAfterVal1, DecimalRounding rounding) {
-		//(ival|val3|val2) += round(val1|val0|carry) 
-		final int inc = getRoundingIncrement(sgn, val2, Scale18f.INSTANCE, val1, nonZeroAfterVal1, rounding);
-		if (inc > 0) {
-			val2++;
-			if (val2 >= Scale18f.SCALE_FACTOR) {
-				val2 = 0;//val2 -= Scale18f.SCALE_FACTOR;
-				val3++;
-				if (val3 >= Scale18f.SCALE_FACTOR) {
-					val3 = 0;//val3 -= Scale18f.SCALE_FACTOR;
-					ival++;
-					if (ival >= Scale9f.SCALE_FACTOR) {
-						ival = Scale8f.SCALE_FACTOR;//ival /= 10
-						pow10++;
-					}
+				bit >>>= 1;
+				if (bit == 0) {
+					break;
 				}
+				step = STEP_SQUARE;
 			}
 		}
-		this.norm = Norm.NORMALIZED_18;
-		this.pow10 = pow10;
-		this.ival = ival;
-		this.val3 = val3;
-		this.val2 = val2;
-		this.val1 = 0;
-		this.val0 = 0;
-	}
-	private final void normalize09() {
-		final long val3 = this.val3;
-		final long val2 = this.val2;
-		final long v3 = val3 / Scale9f.SCALE_FACTOR;
-		final long v2 = val3 - v3 * Scale9f.SCALE_FACTOR;
-		final long v1 = val2 / Scale9f.SCALE_FACTOR;
-		final long v0 = val2 - v1 * Scale9f.SCALE_FACTOR;
-		this.norm = Norm.NORMALIZED_09;
-		this.val3 = v3;
-		this.val2 = v2;
-		this.val1 = v1;
-		this.val0 = v0;
-	}
-	
-	/**
-	 * Multiplies this unsigned 9x36 decimal value with another one.
-	 * 
-	 * @param sgn
-	 *            the sign of the final result
-	 * @param factor
-	 *            the factor to be multiplied with
-	 * @param rounding
-	 *            the rounding to apply
-	 */
-	public final void multiply(int sgn, UnsignedDecimal9i36f factor, DecimalRounding rounding) {
-		if (norm != Norm.NORMALIZED_18) {
-			normalizeAndRound(sgn, pow10, ival, val3, val2, val1, val0, rounding);
-		}
-		multiply(sgn, val3, val2, factor, rounding);
-	}
-	//PRECONDITION: this and factor normalized, i.e. ival < Scale9f.SCALE_FACTOR
-	private final void multiply(int sgn, long val3, long val2, UnsignedDecimal9i36f factor, DecimalRounding rounding) {
-		//split each factor into 9 digit parts
-		if (this.norm != Norm.NORMALIZED_09) {
-			this.normalize09();
-		}
-		final long lhs4 = this.ival;
-		final long lhs3 = this.val3;
-		final long lhs2 = this.val2;
-		final long lhs1 = this.val1;
-		final long lhs0 = this.val0;
-		if (factor.norm != Norm.NORMALIZED_09) {
-			factor.normalize09();
-		}
-		final long rhs4 = factor.ival;
-		final long rhs3 = factor.val3;
-		final long rhs2 = factor.val2;
-		final long rhs1 = factor.val1;
-		final long rhs0 = factor.val0;
-		
-		//multiply now
-		long scale72 = lhs0 * rhs0;
-		long scale63 = lhs1 * rhs0 + rhs1 * lhs0;
-		long scale54 = lhs2 * rhs0 + rhs2 * lhs0 + lhs1 * rhs1;
-		long scale45 = lhs3 * rhs0 + rhs3 * lhs0 + lhs2 * rhs1 + rhs2 * lhs1;
-		long scale36 = lhs3 * rhs1 + rhs3 * lhs1 + lhs2 * rhs2 + lhs0 * rhs4 + rhs0 * lhs4;
-		long scale27 = lhs3 * rhs2 + rhs3 * lhs2 + lhs1 * rhs4 + rhs1 * lhs4;
-		long scale18 = lhs3 * rhs3 + lhs2 * rhs4 + rhs2 * lhs4;
-		long scale09 = lhs3 * rhs4 + rhs3 * lhs4;
-		long scale00 = lhs4 * rhs4;
-		
-		//reduce 8 to 4 parts and propagate carries
-		long carry;
-
-		//NOTE: largest value is val36: sum of 5 products + sum of 4 products 
-		//      -- each product consists of 2 factors < Scale9f.SCALE_FACTOR
-		//		-- hence each product < Scale18f.SCALE_FACTOR
-		//		-- sum of 9 products each < Scale18f.SCALE_FACTOR 
-		//		=> sum < 9 * Scale18f.SCALE_FACTOR < Long.MAX_VALUE
-		//		=> no overflows
-		
-		carry = scale63 / Scale9f.SCALE_FACTOR;
-		scale63 -= carry * Scale9f.SCALE_FACTOR;
-		long val72 = scale63 * Scale9f.SCALE_FACTOR + scale72;
-		while (val72 >= Scale18f.SCALE_FACTOR) {
-			val72 -= Scale18f.SCALE_FACTOR;
-			carry++;
-		}
-		scale54 += carry;
-
-		carry = scale45 / Scale9f.SCALE_FACTOR;
-		scale45 -= carry * Scale9f.SCALE_FACTOR;
-		long val54 = scale45 * Scale9f.SCALE_FACTOR + scale54;
-		while (val54 >= Scale18f.SCALE_FACTOR) {
-			val54 -= Scale18f.SCALE_FACTOR;
-			carry++;
-		}
-		scale36 += carry;
 
-		carry = scale27 / Scale9f.SCALE_FACTOR;
-		scale27 -= carry * Scale9f.SCALE_FACTOR;
-		long val36 = scale27 * Scale9f.SCALE_FACTOR + scale36;
-		while (val36 >= Scale18f.SCALE_FACTOR) {
-			val36 -= Scale18f.SCALE_FACTOR;
-			carry++;
+		if (n < 0) {
+			return getInverted(sgn, pow10, ival, val3, val2, val1, val0, arith, rounding, powRounding);
 		}
-		scale18 += carry;
-		
-		carry = scale09 / Scale9f.SCALE_FACTOR;
-		scale09 -= carry * Scale9f.SCALE_FACTOR;
-		long val18 = scale09 * Scale9f.SCALE_FACTOR + scale18;
-		while (val18 >= Scale18f.SCALE_FACTOR) {
-			val18 -= Scale18f.SCALE_FACTOR;
-			carry++;
-		}
-		scale00 += carry;
-
-		//assign values
-		this.norm = Norm.UNNORMALIZED;
-		this.pow10 += factor.pow10;
-		this.ival = scale00;
-		this.val3 = val18;
-		this.val2 = val36;
-		this.val1 = val54;
-		this.val0 = val72;
+		return getDecimal(sgn, pow10, ival, val3, val2, val1, val0, arith, rounding);
 	}
-	
+
 	private static final int getRoundingIncrement(int sgn, long truncated, ScaleMetrics scaleMetrics, long remainder, boolean nonZeroAfterRemainder, DecimalRounding rounding) {
 		if (rounding != DecimalRounding.DOWN & (remainder != 0 | nonZeroAfterRemainder)) {
 			TruncatedPart truncatedPart = Rounding.truncatedPartFor(remainder, scaleMetrics.getScaleFactor());
@@ -356,12 +306,12 @@ final class UnsignedDecimal9i36f {
 			return rounding.calculateRoundingIncrement(1, absValue, truncatedPart); 
 		}
 	}
-	private final int getInvNormPow10() {
+	private static final int getInvNormPow10(long ival) {
 		final int log10 = log10(ival);
 		return (ival >= Scales.getScaleMetrics(log10 - 1).getScaleFactor()*3) ? log10 : log10 - 1;//we want to normalize the ival part to be between 1 and 5
 	}
-	private final long getInvNorm(int sgn, DecimalArithmetic arith, DecimalRounding rounding) {
-		final int pow10 = -getInvNormPow10();
+	private static final long getInvNorm(int sgn, long ival, long val3, long val2, long val1, long val0, DecimalArithmetic arith, DecimalRounding rounding) {
+		final int pow10 = -getInvNormPow10(ival);
 		if (pow10 >= 0) {
 			return getDecimal(sgn, pow10, ival, val3, val2, val1, val0, 0, 0, 0, 0, arith, rounding);
 		}
@@ -374,6 +324,18 @@ final class UnsignedDecimal9i36f {
 	 * 
 	 * @param sgn
 	 *            the sign of the final result
+	 * @param pow10
+	 *            the power-ten exponent of the value
+	 * @param ival
+	 *            the integral part of the value
+	 * @param val3
+	 *            digits 1-18 of the fractional part
+	 * @param val2
+	 *            digits 19-36 of the fractional part
+	 * @param val1
+	 *            digits 37-54 of the fractional part
+	 * @param val0
+	 *            digits 55-72 of the fractional part
 	 * @param arith
 	 *            the arithmetic of the base value
 	 * @param rounding
@@ -381,17 +343,17 @@ final class UnsignedDecimal9i36f {
 	 * @param powRounding
 	 *            reciprocal rounding if exponent is negative and rounding
 	 *            otherwise
-	 * @return <tt>round(1 / this)</tt>
+	 * @return <tt>round(1 / value)</tt>
 	 */
-	public final long getInverted(int sgn, DecimalArithmetic arith, DecimalRounding rounding, DecimalRounding powRounding) {
+	private static final long getInverted(int sgn, int pow10, long ival, long val3, long val2, long val1, long val0, DecimalArithmetic arith, DecimalRounding rounding, DecimalRounding powRounding) {
 		//1) get scale18 value normalized to 0.3 <= x < 3 (i.e. make it invertible without overflow for uninverted and inverted value)
 		final DecimalArithmetic arith18 = Scale18f.INSTANCE.getArithmetic(rounding.getRoundingMode());//unchecked is fine, see comments below
-		final long divisor = this.getInvNorm(sgn, arith18, powRounding);
+		final long divisor = getInvNorm(sgn, ival, val3, val2, val1, val0, arith18, powRounding);
 		//2) invert normalized scale18 value 
 		final long inverted = arith18.invert(divisor);//can't overflow as for x=abs(divisor): 0.9 <= x < 9 
 		//3) apply inverted powers of 10, including powers from normalization and rescaling 
-		final int pow10 = this.getPow10() + this.getInvNormPow10() + (18 - arith.getScale());
-		return arith.multiplyByPowerOf10(inverted, -pow10);//overflow possible
+		final int invPow10 = pow10 + getInvNormPow10(ival) + (18 - arith.getScale());
+		return arith.multiplyByPowerOf10(inverted, -invPow10);//overflow possible
 	}
 
 	/**
@@ -400,26 +362,38 @@ final class UnsignedDecimal9i36f {
 	 * 
 	 * @param sgn
 	 *            the sign of the final result
+	 * @param pow10
+	 *            the power-ten exponent of the value
+	 * @param ival
+	 *            the integral part of the value
+	 * @param val3
+	 *            digits 1-18 of the fractional part
+	 * @param val2
+	 *            digits 19-36 of the fractional part
+	 * @param val1
+	 *            digits 37-54 of the fractional part
+	 * @param val0
+	 *            digits 55-72 of the fractional part
 	 * @param arith
 	 *            the arithmetic of the base value
 	 * @param rounding
 	 *            the rounding to apply
-	 * @return <tt>round(this)</tt>
+	 * @return <tt>round(value)</tt>
 	 */
-	public final long getDecimal(int sgn, DecimalArithmetic arith, DecimalRounding rounding) {
+	private static final long getDecimal(int sgn, int pow10, long ival, long val3, long val2, long val1, long val0, DecimalArithmetic arith, DecimalRounding rounding) {
 		if (pow10 >= 0) {
 			if (pow10 <= 18) {
 				return getDecimal(sgn, pow10, ival, val3, val2, val1, val0, 0, 0, 0, 0, arith, rounding);
 			}
 			if (arith.getOverflowMode().isChecked()) {
-				return checkedMultiplyByPowerOf10AndRound(sgn, arith, rounding);
+				return checkedMultiplyByPowerOf10AndRound(sgn, pow10, ival, val3, val2, val1, val0, arith, rounding);
 			}
-			return multiplyByPowerOf10AndRound(sgn, arith, rounding);
+			return multiplyByPowerOf10AndRound(sgn, pow10, ival, val3, val2, val1, val0, arith, rounding);
 		} else {
-			return divideByPowerOf10AndRound(sgn, arith, rounding);
+			return divideByPowerOf10AndRound(sgn, pow10, ival, val3, val2, val1, val0, arith, rounding);
 		}
 	}
-	private final long multiplyByPowerOf10AndRound(int sgn, DecimalArithmetic arith, DecimalRounding rounding) {
+	private static final long multiplyByPowerOf10AndRound(int sgn, int pow10, long ival, long val3, long val2, long val1, long val0, DecimalArithmetic arith, DecimalRounding rounding) {
 		long iv = ival * Scale18f.SCALE_FACTOR + val3;
 		if (pow10 <= 36) {
 			return getDecimal(sgn, pow10 - 18, iv, val2, val1, val0, 0, 0, 0, 0, 0, arith, rounding);
@@ -444,7 +418,7 @@ final class UnsignedDecimal9i36f {
 		}
 		return 0;//overflow, everything was shifted out to the left
 	}
-	private final long checkedMultiplyByPowerOf10AndRound(int sgn, DecimalArithmetic arith, DecimalRounding rounding) {
+	private static final long checkedMultiplyByPowerOf10AndRound(int sgn, int pow10, long ival, long val3, long val2, long val1, long val0, DecimalArithmetic arith, DecimalRounding rounding) {
 		final DecimalArithmetic arith18 = Scale18f.INSTANCE.getCheckedArithmetic(RoundingMode.DOWN);
 		long iv = arith18.add(arith18.fromLong(ival), val3);//ival * 10^18 + val3
 		if (pow10 <= 36) {
@@ -471,7 +445,7 @@ final class UnsignedDecimal9i36f {
 		//should not get here, an overflow exception should have been thrown
 		return 0;//overflow, everything was shifted out to the left
 	}
-	private final long divideByPowerOf10AndRound(int sgn, DecimalArithmetic arith, DecimalRounding rounding) {
+	private static final long divideByPowerOf10AndRound(int sgn, int pow10, long ival, long val3, long val2, long val1, long val0, DecimalArithmetic arith, DecimalRounding rounding) {
 		if (pow10 >= -18) {
 			return getDecimal(sgn, pow10 + 18, 0, ival, val3, val2, val1, val0, 0, 0, 0, arith, rounding);
 		} else if (pow10 >= -36) {
@@ -574,23 +548,9 @@ final class UnsignedDecimal9i36f {
         // if r >= length, must have max possible digits for long
         return (r >= tab.length || absVal < tab[r]) ? r : r + 1;
     }
-	@Override
-	public final String toString() {
-		int len;
-		final StringBuilder sb = new StringBuilder(64);//9-18 integral digits + 1 decimal point + 2*18 fractional digits + some extra for pow10 etc
-		sb.append(ival);
-		sb.append('.');
-		len = sb.length();
-		sb.append(val3);
-		sb.insert(len, "000000000000000000", 0, len + 18 - sb.length());
-		len = sb.length(); 
-		sb.append(val2);
-		sb.insert(len, "000000000000000000", 0, len + 18 - sb.length());
-		if (val1 != 0 | val0 != 0) {
-			sb.append("..");
-		}
-		sb.append("*10^").append(pow10);
-		return sb.toString();
-	}
 
-}
\ No newline at end of file
+	// no instances
+	private UnsignedDecimal9i36f() {
+		super();
+	}
+}
@@ -843,6 +843,25 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 		return createOrAssign(unscaledValue() % divisor.unscaledValue());
 	}
 
+	@Override
+	public D multiplyDivide(Decimal<?> multiplicand, Decimal<?> divisor) {
+		return multiplyDivide(getDefaultArithmetic(), multiplicand, divisor);
+	}
+
+	@Override
+	public D multiplyDivide(Decimal<?> multiplicand, Decimal<?> divisor, RoundingMode roundingMode) {
+		return multiplyDivide(getArithmeticFor(roundingMode), multiplicand, divisor);
+	}
+
+	@Override
+	public D multiplyDivide(Decimal<?> multiplicand, Decimal<?> divisor, TruncationPolicy truncationPolicy) {
+		return multiplyDivide(getArithmeticFor(truncationPolicy), multiplicand, divisor);
+	}
+
+	private D multiplyDivide(DecimalArithmetic arith, Decimal<?> multiplicand, Decimal<?> divisor) {
+		return createOrAssign(arith.multiplyDivide(unscaledValue(), multiplicand.unscaledValue(), multiplicand.getScale(), divisor.unscaledValue(), divisor.getScale()));
+	}
+
 	/* ------------------------- other arithmetic ------------------------- */
 
 	@Override
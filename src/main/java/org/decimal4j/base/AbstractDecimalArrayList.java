@@ -0,0 +1,524 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.base;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Base class for growable decimal lists of different scales backed by an
+ * array of unscaled {@code long} values. Compared to a {@code List} of
+ * {@link Decimal} objects, no object header and reference is stored per
+ * element.
+ * <p>
+ * Elements are read and written as unscaled values or as decimals; reading
+ * into a {@link MutableDecimal} via {@link #get(int, MutableDecimal)} and all
+ * methods with {@code Unscaled} suffix do not allocate objects. The
+ * {@link #asList()} view creates immutable decimal values only when elements
+ * are accessed.
+ * <p>
+ * Instances of this class are not thread safe.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with the elements of this list
+ * @param <V>
+ *            the immutable decimal type returned by this list
+ */
+abstract public class AbstractDecimalArrayList<S extends ScaleMetrics, V extends ImmutableDecimal<S>> implements RandomAccess {
+
+	private static final long[] EMPTY = {};
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private long[] unscaled;
+	private int size;
+
+	/**
+	 * Constructs an empty list with the specified initial capacity.
+	 * 
+	 * @param initialCapacity
+	 *            the initial capacity of the list
+	 * @throws IllegalArgumentException
+	 *             if the specified initial capacity is negative
+	 */
+	public AbstractDecimalArrayList(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		this.unscaled = initialCapacity == 0 ? EMPTY : new long[initialCapacity];
+	}
+
+	/**
+	 * Returns the scale metrics of the elements in this list.
+	 * 
+	 * @return the scale metrics of the list elements
+	 */
+	abstract public S getScaleMetrics();
+
+	/**
+	 * Returns an immutable decimal value for the given unscaled value.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value
+	 * @return an immutable decimal with the scale of this list
+	 */
+	abstract protected V valueOfUnscaled(long unscaledValue);
+
+	/**
+	 * Returns the scale of the elements in this list.
+	 * 
+	 * @return the scale of the list elements
+	 */
+	public int getScale() {
+		return getScaleMetrics().getScale();
+	}
+
+	/**
+	 * Returns the number of elements in this list.
+	 * 
+	 * @return the number of elements
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if this list contains no elements.
+	 * 
+	 * @return true if the list is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all elements from this list. The capacity remains unchanged.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Increases the capacity of this list if necessary to hold at least the
+	 * specified number of elements.
+	 * 
+	 * @param minCapacity
+	 *            the desired minimum capacity
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > unscaled.length) {
+			grow(minCapacity);
+		}
+	}
+
+	/**
+	 * Trims the capacity of this list to its current size.
+	 */
+	public void trimToSize() {
+		if (size < unscaled.length) {
+			unscaled = size == 0 ? EMPTY : Arrays.copyOf(unscaled, size);
+		}
+	}
+
+	private void grow(int minCapacity) {
+		if (minCapacity < 0 | minCapacity > MAX_CAPACITY) {
+			throw new OutOfMemoryError("Required capacity exceeds maximum array size: " + (minCapacity & 0xffffffffL));
+		}
+		final long grown = Math.min(Math.max(unscaled.length * 3L / 2, 10), MAX_CAPACITY);
+		unscaled = Arrays.copyOf(unscaled, (int) Math.max(minCapacity, grown));
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 | index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+	}
+
+	private void checkPositionIndex(int index) {
+		if (index < 0 | index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+	}
+
+	/**
+	 * Returns the unscaled value of the element at the specified position.
+	 * 
+	 * @param index
+	 *            the index of the element to return
+	 * @return the unscaled value at the specified position
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index < 0 || index >= size()}
+	 */
+	public long getUnscaled(int index) {
+		checkIndex(index);
+		return unscaled[index];
+	}
+
+	/**
+	 * Returns the element at the specified position as an immutable decimal.
+	 * 
+	 * @param index
+	 *            the index of the element to return
+	 * @return the element at the specified position
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index < 0 || index >= size()}
+	 */
+	public V get(int index) {
+		return valueOfUnscaled(getUnscaled(index));
+	}
+
+	/**
+	 * Assigns the value of the element at the specified position to the given
+	 * mutable decimal and returns it. No object is allocated by this method.
+	 * 
+	 * @param index
+	 *            the index of the element to read
+	 * @param result
+	 *            the mutable decimal to assign the element value to
+	 * @return the {@code result} decimal now holding the element value
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index < 0 || index >= size()}
+	 */
+	public MutableDecimal<S> get(int index, MutableDecimal<S> result) {
+		return result.setUnscaled(getUnscaled(index));
+	}
+
+	/**
+	 * Replaces the element at the specified position with the given unscaled
+	 * value.
+	 * 
+	 * @param index
+	 *            the index of the element to replace
+	 * @param unscaledValue
+	 *            the unscaled value to store at the specified position
+	 * @return the previous unscaled value at the specified position
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index < 0 || index >= size()}
+	 */
+	public long setUnscaled(int index, long unscaledValue) {
+		checkIndex(index);
+		final long old = unscaled[index];
+		unscaled[index] = unscaledValue;
+		return old;
+	}
+
+	/**
+	 * Replaces the element at the specified position with the given value.
+	 * 
+	 * @param index
+	 *            the index of the element to replace
+	 * @param value
+	 *            the value to store at the specified position
+	 * @return the previous unscaled value at the specified position
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index < 0 || index >= size()}
+	 */
+	public long set(int index, Decimal<S> value) {
+		return setUnscaled(index, value.unscaledValue());
+	}
+
+	/**
+	 * Appends the given unscaled value to the end of this list.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to append
+	 */
+	public void addUnscaled(long unscaledValue) {
+		if (size == unscaled.length) {
+			grow(size + 1);
+		}
+		unscaled[size++] = unscaledValue;
+	}
+
+	/**
+	 * Appends the given value to the end of this list.
+	 * 
+	 * @param value
+	 *            the value to append
+	 */
+	public void add(Decimal<S> value) {
+		addUnscaled(value.unscaledValue());
+	}
+
+	/**
+	 * Inserts the given unscaled value at the specified position and shifts
+	 * the element currently at that position and any subsequent elements to
+	 * the right.
+	 * 
+	 * @param index
+	 *            the index at which the value is to be inserted
+	 * @param unscaledValue
+	 *            the unscaled value to insert
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index < 0 || index > size()}
+	 */
+	public void addUnscaled(int index, long unscaledValue) {
+		checkPositionIndex(index);
+		if (size == unscaled.length) {
+			grow(size + 1);
+		}
+		System.arraycopy(unscaled, index, unscaled, index + 1, size - index);
+		unscaled[index] = unscaledValue;
+		size++;
+	}
+
+	/**
+	 * Appends the unscaled values {@code unscaledValues[i]} for every index
+	 * {@code i} in {@code [offset, offset+length)} to the end of this list.
+	 * 
+	 * @param unscaledValues
+	 *            array with the unscaled values to append
+	 * @param offset
+	 *            the index of the first value to append
+	 * @param length
+	 *            the number of values to append
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if
+	 *             {@code offset + length} exceeds the length of the array
+	 */
+	public void addAllUnscaled(long[] unscaledValues, int offset, int length) {
+		if (offset < 0 | length < 0 | unscaledValues.length - length < offset) {
+			throw new IndexOutOfBoundsException("Offset or length is out of bounds: offset=" + offset + ", length="
+					+ length + ", array length=" + unscaledValues.length);
+		}
+		ensureCapacity(size + length);
+		System.arraycopy(unscaledValues, offset, unscaled, size, length);
+		size += length;
+	}
+
+	/**
+	 * Appends all elements of the given list to the end of this list.
+	 * 
+	 * @param list
+	 *            the list whose elements are appended
+	 */
+	public void addAll(AbstractDecimalArrayList<S, ?> list) {
+		addAllUnscaled(list.unscaled, 0, list.size);
+	}
+
+	/**
+	 * Removes the element at the specified position and shifts any subsequent
+	 * elements to the left.
+	 * 
+	 * @param index
+	 *            the index of the element to remove
+	 * @return the unscaled value that was removed
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index < 0 || index >= size()}
+	 */
+	public long removeUnscaled(int index) {
+		checkIndex(index);
+		final long old = unscaled[index];
+		System.arraycopy(unscaled, index + 1, unscaled, index, size - index - 1);
+		size--;
+		return old;
+	}
+
+	/**
+	 * Copies the unscaled values of {@code length} elements starting at
+	 * {@code index} into the given array.
+	 * 
+	 * @param index
+	 *            the index of the first element to copy
+	 * @param dest
+	 *            the destination array
+	 * @param destOffset
+	 *            the index of the first value to write in {@code dest}
+	 * @param length
+	 *            the number of elements to copy
+	 * @throws IndexOutOfBoundsException
+	 *             if copying would cause access outside of the list elements
+	 *             or outside of the destination array bounds
+	 */
+	public void getUnscaled(int index, long[] dest, int destOffset, int length) {
+		if (index < 0 | length < 0 | size - length < index) {
+			throw new IndexOutOfBoundsException("Index or length is out of bounds: index=" + index + ", length="
+					+ length + ", size=" + size);
+		}
+		System.arraycopy(unscaled, index, dest, destOffset, length);
+	}
+
+	/**
+	 * Returns a new array with the unscaled values of all elements in this
+	 * list.
+	 * 
+	 * @return an array with the unscaled values of this list
+	 */
+	public long[] toUnscaledArray() {
+		return Arrays.copyOf(unscaled, size);
+	}
+
+	/**
+	 * Sorts the elements of this list into ascending numerical order.
+	 */
+	public void sort() {
+		Arrays.sort(unscaled, 0, size);
+	}
+
+	/**
+	 * Searches this list for the specified unscaled value using the binary
+	 * search algorithm. The list must be sorted, for instance by
+	 * {@link #sort()}, otherwise the result is undefined.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to search for
+	 * @return index of the search key, if it is contained in the list;
+	 *         otherwise, <tt>(-(<i>insertion point</i>) - 1)</tt>
+	 * @see Arrays#binarySearch(long[], int, int, long)
+	 */
+	public int binarySearchUnscaled(long unscaledValue) {
+		return Arrays.binarySearch(unscaled, 0, size, unscaledValue);
+	}
+
+	/**
+	 * Searches this list for the specified value using the binary search
+	 * algorithm. The list must be sorted, for instance by {@link #sort()},
+	 * otherwise the result is undefined.
+	 * 
+	 * @param value
+	 *            the value to search for
+	 * @return index of the search key, if it is contained in the list;
+	 *         otherwise, <tt>(-(<i>insertion point</i>) - 1)</tt>
+	 * @see Arrays#binarySearch(long[], int, int, long)
+	 */
+	public int binarySearch(Decimal<S> value) {
+		return binarySearchUnscaled(value.unscaledValue());
+	}
+
+	/**
+	 * Returns a modifiable {@link List} view of this decimal list. Elements
+	 * are materialized as immutable decimals only when they are accessed.
+	 * Changes to the view are reflected in this list and vice-versa.
+	 * 
+	 * @return a list view backed by this decimal list
+	 */
+	public List<V> asList() {
+		return new ListView();
+	}
+
+	private final class ListView extends AbstractList<V> implements RandomAccess {
+		@Override
+		public V get(int index) {
+			return AbstractDecimalArrayList.this.get(index);
+		}
+
+		@Override
+		public V set(int index, V element) {
+			return valueOfUnscaled(AbstractDecimalArrayList.this.setUnscaled(index, element.unscaledValue()));
+		}
+
+		@Override
+		public void add(int index, V element) {
+			AbstractDecimalArrayList.this.addUnscaled(index, element.unscaledValue());
+			modCount++;
+		}
+
+		@Override
+		public V remove(int index) {
+			final V removed = valueOfUnscaled(AbstractDecimalArrayList.this.removeUnscaled(index));
+			modCount++;
+			return removed;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			AbstractDecimalArrayList.this.clear();
+			modCount++;
+		}
+	}
+
+	/**
+	 * Returns a hash code for this list which depends on the scale and the
+	 * unscaled values of all elements.
+	 * 
+	 * @return a hash code value for this list
+	 */
+	@Override
+	public int hashCode() {
+		int hash = getScale();
+		for (int i = 0; i < size; i++) {
+			final long value = unscaled[i];
+			hash = 31 * hash + (int) (value ^ (value >>> 32));
+		}
+		return hash;
+	}
+
+	/**
+	 * Compares this list with the specified object for equality. Returns true
+	 * if the object is a decimal list of the same class containing the same
+	 * unscaled values in the same order.
+	 * 
+	 * @param obj
+	 *            the object to compare with
+	 * @return true if the specified object is an equal decimal list
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final AbstractDecimalArrayList<?, ?> other = (AbstractDecimalArrayList<?, ?>) obj;
+		if (size != other.size) {
+			return false;
+		}
+		for (int i = 0; i < size; i++) {
+			if (unscaled[i] != other.unscaled[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns a string representation of this list with the elements
+	 * formatted as decimals, for instance "[1.50, -2.25]".
+	 * 
+	 * @return a string representation of this list
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder(size * 8 + 2).append('[');
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(getScaleMetrics().getDefaultArithmetic().toString(unscaled[i]));
+		}
+		return sb.append(']').toString();
+	}
+}
@@ -26,6 +26,8 @@
  * <a href="{@docRoot}/org/decimal4j/immutable/package-summary.html#package_description">immutable</a>
  * and
  * <a href="{@docRoot}/org/decimal4j/mutable/package-summary.html#package_description">mutable</a>
- * Decimal numbers.
+ * Decimal numbers and for
+ * <a href="{@docRoot}/org/decimal4j/collection/package-summary.html#package_description">collections</a>
+ * of Decimal numbers.
  */
 package org.decimal4j.base;
\ No newline at end of file
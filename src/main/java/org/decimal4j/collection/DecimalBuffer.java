@@ -0,0 +1,495 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.collection;
+
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+
+/**
+ * Flyweight for decimal values of a fixed scale stored as unscaled longs in a
+ * {@link ByteBuffer}, for instance a direct or a memory-mapped buffer. No
+ * objects are allocated when values are read or written as unscaled values or
+ * into a {@link MutableDecimal}.
+ * <p>
+ * The buffer starts with a header of {@link #HEADER_LENGTH} bytes containing a
+ * magic number and the scale of the stored values, followed by the unscaled
+ * values; all data is stored in {@link ByteOrder#LITTLE_ENDIAN little endian}
+ * byte order. A buffer written with one scale can only be
+ * {@link #open(ByteBuffer, ScaleMetrics) opened} with the same scale, or it is
+ * {@link #open(ByteBuffer, ScaleMetrics, RoundingMode) rescaled} when opened.
+ * <p>
+ * Instances of this class are not thread safe.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with the values in this buffer
+ */
+public final class DecimalBuffer<S extends ScaleMetrics> {
+
+	/**
+	 * Magic number at the start of the header, the ASCII bytes "D4JB".
+	 */
+	public static final int MAGIC = 0x44344a42;
+
+	/**
+	 * The length of the header in bytes: 4 bytes magic number, 4 bytes scale
+	 * and 8 reserved bytes.
+	 */
+	public static final int HEADER_LENGTH = 16;
+
+	private static final int SCALE_OFFSET = 4;
+
+	private final S scaleMetrics;
+	private final ByteBuffer buffer;
+	private final int capacity;
+
+	private DecimalBuffer(S scaleMetrics, ByteBuffer buffer) {
+		this.scaleMetrics = scaleMetrics;
+		this.buffer = buffer;
+		this.capacity = (buffer.capacity() - HEADER_LENGTH) >>> 3;
+	}
+
+	private static final ByteBuffer slice(ByteBuffer buffer) {
+		if (buffer.remaining() < HEADER_LENGTH) {
+			throw new IllegalArgumentException("Buffer too small, header requires " + HEADER_LENGTH
+					+ " bytes but only " + buffer.remaining() + " bytes are remaining");
+		}
+		return buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Creates a new decimal buffer writing the header for the given scale at
+	 * the current position of the specified byte buffer. The decimal buffer
+	 * uses the bytes between position and limit of the byte buffer; position
+	 * and limit of the byte buffer are not modified. The unscaled values are
+	 * not initialized.
+	 * 
+	 * @param buffer
+	 *            the underlying byte buffer, for instance a direct or
+	 *            memory-mapped buffer
+	 * @param scaleMetrics
+	 *            the scale metrics of the values stored in the buffer
+	 * @param <S>
+	 *            the scale metrics type of the values in the buffer
+	 * @return a new decimal buffer for the given byte buffer
+	 * @throws IllegalArgumentException
+	 *             if the remaining bytes of the buffer are too few to hold the
+	 *             header
+	 * @throws ReadOnlyBufferException
+	 *             if the byte buffer is read-only
+	 */
+	public static final <S extends ScaleMetrics> DecimalBuffer<S> create(ByteBuffer buffer, S scaleMetrics) {
+		Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		final ByteBuffer slice = slice(buffer);
+		slice.putInt(0, MAGIC);
+		slice.putInt(SCALE_OFFSET, scaleMetrics.getScale());
+		slice.putLong(SCALE_OFFSET + 4, 0);
+		return new DecimalBuffer<S>(scaleMetrics, slice);
+	}
+
+	/**
+	 * Opens a decimal buffer with header and values starting at the current
+	 * position of the specified byte buffer. The scale stored in the header
+	 * must be equal to the scale of {@code scaleMetrics}. Position and limit
+	 * of the byte buffer are not modified.
+	 * 
+	 * @param buffer
+	 *            the underlying byte buffer, for instance a memory-mapped
+	 *            buffer
+	 * @param scaleMetrics
+	 *            the expected scale metrics of the values stored in the buffer
+	 * @param <S>
+	 *            the scale metrics type of the values in the buffer
+	 * @return a decimal buffer for the given byte buffer
+	 * @throws IllegalArgumentException
+	 *             if the buffer does not start with a valid header or if the
+	 *             stored scale is different from the scale of
+	 *             {@code scaleMetrics}
+	 */
+	public static final <S extends ScaleMetrics> DecimalBuffer<S> open(ByteBuffer buffer, S scaleMetrics) {
+		Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		final ByteBuffer slice = slice(buffer);
+		final int scale = readScale(slice);
+		if (scale != scaleMetrics.getScale()) {
+			throw new IllegalArgumentException("Scale mismatch: buffer contains values with scale " + scale
+					+ " but scale " + scaleMetrics.getScale() + " was expected");
+		}
+		return new DecimalBuffer<S>(scaleMetrics, slice);
+	}
+
+	/**
+	 * Opens a decimal buffer with header and values starting at the current
+	 * position of the specified byte buffer. If the scale stored in the header
+	 * is different from the scale of {@code scaleMetrics}, all values are
+	 * rescaled in place using {@link DecimalArithmetic#fromUnscaled(long, int)}
+	 * with the given rounding mode and the header is updated. If any value
+	 * cannot be rescaled, an exception is thrown and the buffer is left
+	 * unchanged. Position and limit of the byte buffer are not modified.
+	 * 
+	 * @param buffer
+	 *            the underlying byte buffer, must be writable if rescaling is
+	 *            necessary
+	 * @param scaleMetrics
+	 *            the scale metrics of the values in the returned decimal
+	 *            buffer
+	 * @param roundingMode
+	 *            the rounding mode to apply if values are rescaled to a
+	 *            smaller scale
+	 * @param <S>
+	 *            the scale metrics type of the values in the buffer
+	 * @return a decimal buffer for the given byte buffer
+	 * @throws IllegalArgumentException
+	 *             if the buffer does not start with a valid header or if a
+	 *             value is too large to be represented with the new scale
+	 * @throws ArithmeticException
+	 *             if {@code roundingMode} is UNNECESSARY and rounding is
+	 *             necessary
+	 * @throws ReadOnlyBufferException
+	 *             if the byte buffer is read-only and rescaling is necessary
+	 */
+	public static final <S extends ScaleMetrics> DecimalBuffer<S> open(ByteBuffer buffer, S scaleMetrics, RoundingMode roundingMode) {
+		Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		final ByteBuffer slice = slice(buffer);
+		final int scale = readScale(slice);
+		if (scale != scaleMetrics.getScale()) {
+			if (slice.isReadOnly()) {
+				throw new ReadOnlyBufferException();
+			}
+			final DecimalArithmetic arith = scaleMetrics.getArithmetic(roundingMode);
+			final int end = HEADER_LENGTH + (((slice.capacity() - HEADER_LENGTH) >>> 3) << 3);
+			//convert all values first so that the buffer is unchanged if a value cannot be rescaled
+			for (int offset = HEADER_LENGTH; offset < end; offset += 8) {
+				arith.fromUnscaled(slice.getLong(offset), scale);
+			}
+			for (int offset = HEADER_LENGTH; offset < end; offset += 8) {
+				slice.putLong(offset, arith.fromUnscaled(slice.getLong(offset), scale));
+			}
+			slice.putInt(SCALE_OFFSET, scaleMetrics.getScale());
+		}
+		return new DecimalBuffer<S>(scaleMetrics, slice);
+	}
+
+	private static final int readScale(ByteBuffer slice) {
+		final int magic = slice.getInt(0);
+		if (magic != MAGIC) {
+			throw new IllegalArgumentException("Invalid header, expected magic number 0x" + Integer.toHexString(MAGIC)
+					+ " but found 0x" + Integer.toHexString(magic));
+		}
+		final int scale = slice.getInt(SCALE_OFFSET);
+		if (scale < Scales.MIN_SCALE | scale > Scales.MAX_SCALE) {
+			throw new IllegalArgumentException("Invalid header, scale must be in [" + Scales.MIN_SCALE + ", "
+					+ Scales.MAX_SCALE + "] but was " + scale);
+		}
+		return scale;
+	}
+
+	/**
+	 * Returns the scale metrics of the values in this buffer.
+	 * 
+	 * @return the scale metrics of the buffer values
+	 */
+	public final S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the scale of the values in this buffer.
+	 * 
+	 * @return the scale of the buffer values
+	 */
+	public final int getScale() {
+		return scaleMetrics.getScale();
+	}
+
+	/**
+	 * Returns the number of unscaled values that fit into this buffer.
+	 * 
+	 * @return the capacity of this buffer in number of values
+	 */
+	public final int capacity() {
+		return capacity;
+	}
+
+	private final int offset(int index) {
+		if (index < 0 | index >= capacity) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", capacity: " + capacity);
+		}
+		return HEADER_LENGTH + (index << 3);
+	}
+
+	private final int offset(int index, int length) {
+		if (index < 0 | length < 0 | capacity - length < index) {
+			throw new IndexOutOfBoundsException("Index or length is out of bounds: index=" + index + ", length="
+					+ length + ", capacity=" + capacity);
+		}
+		return HEADER_LENGTH + (index << 3);
+	}
+
+	private final void checkArithmetic(DecimalArithmetic arith) {
+		if (arith.getScaleMetrics() != scaleMetrics) {
+			throw new IllegalArgumentException("Arithmetic scale " + arith.getScale()
+					+ " does not match buffer scale " + getScale());
+		}
+	}
+
+	/**
+	 * Returns the unscaled value at the specified index.
+	 * 
+	 * @param index
+	 *            the value index
+	 * @return the unscaled value at {@code index}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index < 0 || index >= capacity()}
+	 */
+	public final long getUnscaled(int index) {
+		return buffer.getLong(offset(index));
+	}
+
+	/**
+	 * Assigns the value at the specified index to the given mutable decimal and
+	 * returns it. No object is allocated by this method.
+	 * 
+	 * @param index
+	 *            the value index
+	 * @param result
+	 *            the mutable decimal to assign the value to
+	 * @return the {@code result} decimal now holding the value at
+	 *         {@code index}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index < 0 || index >= capacity()}
+	 */
+	public final MutableDecimal<S> get(int index, MutableDecimal<S> result) {
+		return result.setUnscaled(getUnscaled(index));
+	}
+
+	/**
+	 * Stores the given unscaled value at the specified index.
+	 * 
+	 * @param index
+	 *            the value index
+	 * @param unscaledValue
+	 *            the unscaled value to store
+	 * @return this decimal buffer
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index < 0 || index >= capacity()}
+	 */
+	public final DecimalBuffer<S> putUnscaled(int index, long unscaledValue) {
+		buffer.putLong(offset(index), unscaledValue);
+		return this;
+	}
+
+	/**
+	 * Stores the given value at the specified index.
+	 * 
+	 * @param index
+	 *            the value index
+	 * @param value
+	 *            the value to store
+	 * @return this decimal buffer
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index < 0 || index >= capacity()}
+	 */
+	public final DecimalBuffer<S> put(int index, Decimal<S> value) {
+		return putUnscaled(index, value.unscaledValue());
+	}
+
+	/**
+	 * Copies {@code length} unscaled values starting at {@code index} into the
+	 * given array.
+	 * 
+	 * @param index
+	 *            the index of the first value to copy
+	 * @param dest
+	 *            the destination array
+	 * @param destOffset
+	 *            the index of the first value to write in {@code dest}
+	 * @param length
+	 *            the number of values to copy
+	 * @return this decimal buffer
+	 * @throws IndexOutOfBoundsException
+	 *             if copying would cause access outside of the buffer values
+	 *             or outside of the destination array bounds
+	 */
+	public final DecimalBuffer<S> getUnscaled(int index, long[] dest, int destOffset, int length) {
+		int offset = offset(index, length);
+		if (destOffset < 0 | dest.length - length < destOffset) {
+			throw new IndexOutOfBoundsException("Offset or length is out of bounds: offset=" + destOffset
+					+ ", length=" + length + ", array length=" + dest.length);
+		}
+		final int end = destOffset + length;
+		for (int i = destOffset; i < end; i++) {
+			dest[i] = buffer.getLong(offset);
+			offset += 8;
+		}
+		return this;
+	}
+
+	/**
+	 * Stores {@code length} unscaled values from the given array starting at
+	 * {@code index}.
+	 * 
+	 * @param index
+	 *            the index of the first value to store
+	 * @param src
+	 *            the source array
+	 * @param srcOffset
+	 *            the index of the first value to read in {@code src}
+	 * @param length
+	 *            the number of values to store
+	 * @return this decimal buffer
+	 * @throws IndexOutOfBoundsException
+	 *             if copying would cause access outside of the buffer values
+	 *             or outside of the source array bounds
+	 */
+	public final DecimalBuffer<S> putUnscaled(int index, long[] src, int srcOffset, int length) {
+		int offset = offset(index, length);
+		if (srcOffset < 0 | src.length - length < srcOffset) {
+			throw new IndexOutOfBoundsException("Offset or length is out of bounds: offset=" + srcOffset
+					+ ", length=" + length + ", array length=" + src.length);
+		}
+		final int end = srcOffset + length;
+		for (int i = srcOffset; i < end; i++) {
+			buffer.putLong(offset, src[i]);
+			offset += 8;
+		}
+		return this;
+	}
+
+	/**
+	 * Adds the given unscaled value to every value in the range
+	 * {@code [index, index+length)} of this buffer using the specified
+	 * arithmetic.
+	 * 
+	 * @param index
+	 *            the index of the first value to update
+	 * @param length
+	 *            the number of values to update
+	 * @param uDecimal
+	 *            the unscaled value to add
+	 * @param arith
+	 *            the arithmetic with the scale of this buffer
+	 * @return this decimal buffer
+	 * @throws IndexOutOfBoundsException
+	 *             if the range exceeds the buffer values
+	 * @throws IllegalArgumentException
+	 *             if the arithmetic scale is different from the scale of this
+	 *             buffer
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the arithmetic's overflow mode is
+	 *             checked; the values preceding the failing value have already
+	 *             been updated
+	 */
+	public final DecimalBuffer<S> add(int index, int length, long uDecimal, DecimalArithmetic arith) {
+		checkArithmetic(arith);
+		final int start = offset(index, length);
+		final int end = start + (length << 3);
+		for (int offset = start; offset < end; offset += 8) {
+			buffer.putLong(offset, arith.add(buffer.getLong(offset), uDecimal));
+		}
+		return this;
+	}
+
+	/**
+	 * Multiplies every value in the range {@code [index, index+length)} of
+	 * this buffer by the given unscaled value using the specified arithmetic.
+	 * 
+	 * @param index
+	 *            the index of the first value to update
+	 * @param length
+	 *            the number of values to update
+	 * @param uDecimal
+	 *            the unscaled factor
+	 * @param arith
+	 *            the arithmetic with the scale and rounding mode to apply
+	 * @return this decimal buffer
+	 * @throws IndexOutOfBoundsException
+	 *             if the range exceeds the buffer values
+	 * @throws IllegalArgumentException
+	 *             if the arithmetic scale is different from the scale of this
+	 *             buffer
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the arithmetic's overflow mode is
+	 *             checked, or if rounding is necessary and the arithmetic's
+	 *             rounding mode is UNNECESSARY; the values preceding the
+	 *             failing value have already been updated
+	 */
+	public final DecimalBuffer<S> multiply(int index, int length, long uDecimal, DecimalArithmetic arith) {
+		checkArithmetic(arith);
+		final int start = offset(index, length);
+		final int end = start + (length << 3);
+		for (int offset = start; offset < end; offset += 8) {
+			buffer.putLong(offset, arith.multiply(buffer.getLong(offset), uDecimal));
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the sum of the values in the range {@code [index, index+length)}
+	 * of this buffer calculated with the specified arithmetic.
+	 * 
+	 * @param index
+	 *            the index of the first value to add
+	 * @param length
+	 *            the number of values to add
+	 * @param arith
+	 *            the arithmetic with the scale of this buffer
+	 * @return the unscaled sum of the values in the specified range
+	 * @throws IndexOutOfBoundsException
+	 *             if the range exceeds the buffer values
+	 * @throws IllegalArgumentException
+	 *             if the arithmetic scale is different from the scale of this
+	 *             buffer
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the arithmetic's overflow mode is
+	 *             checked
+	 */
+	public final long sum(int index, int length, DecimalArithmetic arith) {
+		checkArithmetic(arith);
+		final int start = offset(index, length);
+		final int end = start + (length << 3);
+		long sum = 0;
+		for (int offset = start; offset < end; offset += 8) {
+			sum = arith.add(sum, buffer.getLong(offset));
+		}
+		return sum;
+	}
+
+	/**
+	 * Returns a string representation of this buffer with scale and capacity.
+	 * 
+	 * @return a string describing this buffer
+	 */
+	@Override
+	public final String toString() {
+		return "DecimalBuffer[scale=" + getScale() + ", capacity=" + capacity + "]";
+	}
+}
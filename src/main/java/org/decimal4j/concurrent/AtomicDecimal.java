@@ -0,0 +1,412 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.concurrent;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.TruncationPolicy;
+
+/**
+ * A decimal value that may be updated atomically. Updates are lock-free and
+ * operate on the unscaled value using the {@link DecimalArithmetic} defined by
+ * the truncation policy of the atomic decimal.
+ * <p>
+ * Methods with an {@code Unscaled} suffix accept and return unscaled values and
+ * do not allocate any objects. Methods accepting or returning a {@link Decimal}
+ * are provided for convenience; the returned values are
+ * {@link ImmutableDecimal immutable} decimals.
+ * <p>
+ * Similar to {@link java.util.concurrent.atomic.AtomicLong AtomicLong}, an
+ * {@code AtomicDecimal} is used in applications such as shared counters and
+ * cannot be used as a replacement for an immutable decimal; {@code equals} and
+ * {@code hashCode} are therefore not overridden.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with this decimal
+ */
+public final class AtomicDecimal<S extends ScaleMetrics> {
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicLongFieldUpdater<AtomicDecimal> UNSCALED_UPDATER = AtomicLongFieldUpdater.newUpdater(AtomicDecimal.class, "unscaled");
+
+	private final DecimalFactory<S> factory;
+	private final DecimalArithmetic arithmetic;
+	private volatile long unscaled;
+
+	/**
+	 * Creates a new atomic decimal with initial value zero and
+	 * {@link TruncationPolicy#DEFAULT default} truncation policy.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of this decimal
+	 * @throws NullPointerException
+	 *             if scale metrics is null
+	 */
+	public AtomicDecimal(S scaleMetrics) {
+		this(scaleMetrics, TruncationPolicy.DEFAULT);
+	}
+
+	/**
+	 * Creates a new atomic decimal with initial value zero and the specified
+	 * truncation policy.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of this decimal
+	 * @param truncationPolicy
+	 *            the truncation policy defining rounding and overflow mode of
+	 *            arithmetic updates
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	public AtomicDecimal(S scaleMetrics, TruncationPolicy truncationPolicy) {
+		Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		Objects.requireNonNull(truncationPolicy, "truncationPolicy cannot be null");
+		this.factory = Factories.getDecimalFactory(scaleMetrics);
+		this.arithmetic = scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	/**
+	 * Creates a new atomic decimal with the given initial value and the
+	 * specified truncation policy.
+	 * 
+	 * @param initialValue
+	 *            the initial value
+	 * @param truncationPolicy
+	 *            the truncation policy defining rounding and overflow mode of
+	 *            arithmetic updates
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 */
+	public AtomicDecimal(Decimal<S> initialValue, TruncationPolicy truncationPolicy) {
+		this(initialValue.getScaleMetrics(), truncationPolicy);
+		this.unscaled = initialValue.unscaledValue();
+	}
+
+	/**
+	 * Returns the scale metrics of this decimal.
+	 * 
+	 * @return the scale metrics
+	 */
+	public final S getScaleMetrics() {
+		return factory.getScaleMetrics();
+	}
+
+	/**
+	 * Returns the arithmetic used for updates of this decimal.
+	 * 
+	 * @return the arithmetic with scale, rounding and overflow mode of this
+	 *         decimal
+	 */
+	public final DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns the current value.
+	 * 
+	 * @return the current value
+	 */
+	public final ImmutableDecimal<S> get() {
+		return factory.valueOfUnscaled(unscaled);
+	}
+
+	/**
+	 * Returns the current unscaled value.
+	 * 
+	 * @return the current unscaled value
+	 */
+	public final long getUnscaled() {
+		return unscaled;
+	}
+
+	/**
+	 * Sets to the given value.
+	 * 
+	 * @param newValue
+	 *            the new value
+	 */
+	public final void set(Decimal<S> newValue) {
+		unscaled = newValue.unscaledValue();
+	}
+
+	/**
+	 * Sets to the given unscaled value.
+	 * 
+	 * @param newUnscaled
+	 *            the new unscaled value
+	 */
+	public final void setUnscaled(long newUnscaled) {
+		unscaled = newUnscaled;
+	}
+
+	/**
+	 * Eventually sets to the given value.
+	 * 
+	 * @param newValue
+	 *            the new value
+	 * @see AtomicLongFieldUpdater#lazySet(Object, long)
+	 */
+	public final void lazySet(Decimal<S> newValue) {
+		UNSCALED_UPDATER.lazySet(this, newValue.unscaledValue());
+	}
+
+	/**
+	 * Eventually sets to the given unscaled value.
+	 * 
+	 * @param newUnscaled
+	 *            the new unscaled value
+	 * @see AtomicLongFieldUpdater#lazySet(Object, long)
+	 */
+	public final void lazySetUnscaled(long newUnscaled) {
+		UNSCALED_UPDATER.lazySet(this, newUnscaled);
+	}
+
+	/**
+	 * Atomically sets to the given value and returns the old value.
+	 * 
+	 * @param newValue
+	 *            the new value
+	 * @return the previous value
+	 */
+	public final ImmutableDecimal<S> getAndSet(Decimal<S> newValue) {
+		return factory.valueOfUnscaled(getAndSetUnscaled(newValue.unscaledValue()));
+	}
+
+	/**
+	 * Atomically sets to the given unscaled value and returns the old unscaled
+	 * value.
+	 * 
+	 * @param newUnscaled
+	 *            the new unscaled value
+	 * @return the previous unscaled value
+	 */
+	public final long getAndSetUnscaled(long newUnscaled) {
+		return UNSCALED_UPDATER.getAndSet(this, newUnscaled);
+	}
+
+	/**
+	 * Atomically sets the value to the given updated value if the current
+	 * value is numerically equal to the expected value.
+	 * 
+	 * @param expect
+	 *            the expected value
+	 * @param update
+	 *            the new value
+	 * @return true if successful, false if the actual value was not equal to
+	 *         the expected value
+	 */
+	public final boolean compareAndSet(Decimal<S> expect, Decimal<S> update) {
+		return UNSCALED_UPDATER.compareAndSet(this, expect.unscaledValue(), update.unscaledValue());
+	}
+
+	/**
+	 * Atomically sets the unscaled value to the given updated value if the
+	 * current unscaled value is equal to the expected unscaled value.
+	 * 
+	 * @param expectUnscaled
+	 *            the expected unscaled value
+	 * @param updateUnscaled
+	 *            the new unscaled value
+	 * @return true if successful, false if the actual value was not equal to
+	 *         the expected value
+	 */
+	public final boolean compareAndSetUnscaled(long expectUnscaled, long updateUnscaled) {
+		return UNSCALED_UPDATER.compareAndSet(this, expectUnscaled, updateUnscaled);
+	}
+
+	/**
+	 * Atomically adds the given value to the current value and returns the
+	 * previous value.
+	 * 
+	 * @param delta
+	 *            the value to add
+	 * @return the previous value
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the overflow mode of this decimal
+	 *             is checked
+	 */
+	public final ImmutableDecimal<S> getAndAdd(Decimal<S> delta) {
+		return factory.valueOfUnscaled(getAndAddUnscaled(delta.unscaledValue()));
+	}
+
+	/**
+	 * Atomically adds the given unscaled value to the current value and
+	 * returns the previous unscaled value.
+	 * 
+	 * @param unscaledDelta
+	 *            the unscaled value to add
+	 * @return the previous unscaled value
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the overflow mode of this decimal
+	 *             is checked
+	 */
+	public final long getAndAddUnscaled(long unscaledDelta) {
+		if (!arithmetic.getOverflowMode().isChecked()) {
+			return UNSCALED_UPDATER.getAndAdd(this, unscaledDelta);
+		}
+		long current;
+		do {
+			current = unscaled;
+		} while (!UNSCALED_UPDATER.compareAndSet(this, current, arithmetic.add(current, unscaledDelta)));
+		return current;
+	}
+
+	/**
+	 * Atomically adds the given value to the current value and returns the
+	 * updated value.
+	 * 
+	 * @param delta
+	 *            the value to add
+	 * @return the updated value
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the overflow mode of this decimal
+	 *             is checked
+	 */
+	public final ImmutableDecimal<S> addAndGet(Decimal<S> delta) {
+		return factory.valueOfUnscaled(addAndGetUnscaled(delta.unscaledValue()));
+	}
+
+	/**
+	 * Atomically adds the given unscaled value to the current value and
+	 * returns the updated unscaled value.
+	 * 
+	 * @param unscaledDelta
+	 *            the unscaled value to add
+	 * @return the updated unscaled value
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the overflow mode of this decimal
+	 *             is checked
+	 */
+	public final long addAndGetUnscaled(long unscaledDelta) {
+		if (!arithmetic.getOverflowMode().isChecked()) {
+			return UNSCALED_UPDATER.addAndGet(this, unscaledDelta);
+		}
+		long current, next;
+		do {
+			current = unscaled;
+			next = arithmetic.add(current, unscaledDelta);
+		} while (!UNSCALED_UPDATER.compareAndSet(this, current, next));
+		return next;
+	}
+
+	/**
+	 * Atomically updates the current value with the result of applying the
+	 * given operator to the current and the given unscaled value, and returns
+	 * the previous unscaled value. The operator is invoked with the arithmetic
+	 * of this decimal and may be applied multiple times if updates fail due to
+	 * contention among threads.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled update value, the second operand of the operator
+	 * @param operator
+	 *            a side-effect-free operator of two unscaled values
+	 * @return the previous unscaled value
+	 * @throws ArithmeticException
+	 *             if the operator throws an arithmetic exception
+	 */
+	public final long getAndAccumulateUnscaled(long unscaledValue, UnscaledBinaryOperator operator) {
+		long current;
+		do {
+			current = unscaled;
+		} while (!UNSCALED_UPDATER.compareAndSet(this, current, operator.apply(arithmetic, current, unscaledValue)));
+		return current;
+	}
+
+	/**
+	 * Atomically updates the current value with the result of applying the
+	 * given operator to the current and the given value, and returns the
+	 * previous value.
+	 * 
+	 * @param value
+	 *            the update value, the second operand of the operator
+	 * @param operator
+	 *            a side-effect-free operator of two unscaled values
+	 * @return the previous value
+	 * @throws ArithmeticException
+	 *             if the operator throws an arithmetic exception
+	 * @see #getAndAccumulateUnscaled(long, UnscaledBinaryOperator)
+	 */
+	public final ImmutableDecimal<S> getAndAccumulate(Decimal<S> value, UnscaledBinaryOperator operator) {
+		return factory.valueOfUnscaled(getAndAccumulateUnscaled(value.unscaledValue(), operator));
+	}
+
+	/**
+	 * Atomically updates the current value with the result of applying the
+	 * given operator to the current and the given unscaled value, and returns
+	 * the updated unscaled value. The operator is invoked with the arithmetic
+	 * of this decimal and may be applied multiple times if updates fail due to
+	 * contention among threads.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled update value, the second operand of the operator
+	 * @param operator
+	 *            a side-effect-free operator of two unscaled values
+	 * @return the updated unscaled value
+	 * @throws ArithmeticException
+	 *             if the operator throws an arithmetic exception
+	 */
+	public final long accumulateAndGetUnscaled(long unscaledValue, UnscaledBinaryOperator operator) {
+		long current, next;
+		do {
+			current = unscaled;
+			next = operator.apply(arithmetic, current, unscaledValue);
+		} while (!UNSCALED_UPDATER.compareAndSet(this, current, next));
+		return next;
+	}
+
+	/**
+	 * Atomically updates the current value with the result of applying the
+	 * given operator to the current and the given value, and returns the
+	 * updated value.
+	 * 
+	 * @param value
+	 *            the update value, the second operand of the operator
+	 * @param operator
+	 *            a side-effect-free operator of two unscaled values
+	 * @return the updated value
+	 * @throws ArithmeticException
+	 *             if the operator throws an arithmetic exception
+	 * @see #accumulateAndGetUnscaled(long, UnscaledBinaryOperator)
+	 */
+	public final ImmutableDecimal<S> accumulateAndGet(Decimal<S> value, UnscaledBinaryOperator operator) {
+		return factory.valueOfUnscaled(accumulateAndGetUnscaled(value.unscaledValue(), operator));
+	}
+
+	/**
+	 * Returns the string representation of the current value.
+	 * 
+	 * @return the current value as string
+	 */
+	@Override
+	public final String toString() {
+		return arithmetic.toString(unscaled);
+	}
+}
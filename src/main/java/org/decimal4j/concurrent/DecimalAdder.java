@@ -0,0 +1,403 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.concurrent;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.OverflowMode;
+
+/**
+ * A thread safe decimal sum with low contention under concurrent updates.
+ * Similar to {@link java.util.concurrent.atomic.LongAdder LongAdder}, the
+ * unscaled sum is held in a base value and, once threads contend for the base,
+ * in a table of cells that grows on contention up to the number of processors.
+ * Threads updating the sum concurrently usually update different cells. The
+ * {@link #sum()} is calculated on demand by adding up base and cells.
+ * <p>
+ * This class is preferable to a lock or a single atomic variable if the sum is
+ * updated frequently by multiple threads and read less often, such as for
+ * running totals or statistics. The sum returned by {@link #sum()} is not an
+ * atomic snapshot if updates happen concurrently.
+ * <p>
+ * The {@link OverflowMode} defines the behavior if an addition overflows:
+ * <ul>
+ * <li>{@link OverflowMode#UNCHECKED UNCHECKED}: cells and sum silently
+ * overflow, the sum is exact if the true sum can be represented as a Decimal
+ * of scale {@code S}.</li>
+ * <li>{@link OverflowMode#CHECKED CHECKED}: adding a value never throws an
+ * exception. A cell that would overflow moves its value into a 128 bit carry
+ * sum instead. An {@link ArithmeticException} is thrown when the sum is read
+ * if the total sum cannot be represented as a Decimal of scale {@code S},
+ * even if single cells have overflowed before.</li>
+ * </ul>
+ * 
+ * @param <S>
+ *            the scale metrics type associated with the values in this adder
+ */
+public final class DecimalAdder<S extends ScaleMetrics> {
+
+	/**
+	 * Maximum number of cells
+	 */
+	private static final int MAX_CELLS = 256;
+
+	/**
+	 * Contention probe of the current thread, shared by all adders and rehashed
+	 * after a failed update so that contending threads move to different cells.
+	 */
+	private static final ThreadLocal<int[]> PROBE = new ThreadLocal<int[]>() {
+		@Override
+		protected int[] initialValue() {
+			return new int[] {hash(Thread.currentThread().getId())};
+		}
+	};
+
+	private final DecimalFactory<S> factory;
+	private final DecimalArithmetic arithmetic;
+	private final boolean checked;
+	private final int maxCells;
+	private final Cell base = new Cell();
+	private volatile Cell[] cells;
+
+	/**
+	 * Guards growing the cells and the carry sum. Reading the sum holds the lock
+	 * so that a value moved from a cell into the carry is counted exactly once.
+	 */
+	private final Object lock = new Object();
+	private long carryHi;
+	private long carryLo;
+
+	/**
+	 * Creates a new adder with sum zero and {@link OverflowMode#UNCHECKED
+	 * UNCHECKED} overflow mode.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the values added to this adder
+	 * @throws NullPointerException
+	 *             if scale metrics is null
+	 */
+	public DecimalAdder(S scaleMetrics) {
+		this(scaleMetrics, OverflowMode.UNCHECKED);
+	}
+
+	/**
+	 * Creates a new adder with sum zero and the specified overflow mode.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the values added to this adder
+	 * @param overflowMode
+	 *            the overflow mode, defining whether an exception is thrown if
+	 *            the sum overflows
+	 * @throws NullPointerException
+	 *             if scale metrics or overflow mode is null
+	 */
+	public DecimalAdder(S scaleMetrics, OverflowMode overflowMode) {
+		Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		Objects.requireNonNull(overflowMode, "overflowMode cannot be null");
+		this.factory = Factories.getDecimalFactory(scaleMetrics);
+		this.arithmetic = overflowMode.isChecked() ? scaleMetrics.getDefaultCheckedArithmetic() : scaleMetrics.getDefaultArithmetic();
+		this.checked = overflowMode.isChecked();
+		this.maxCells = cellCount(Runtime.getRuntime().availableProcessors());
+	}
+
+	private static final int cellCount(int processors) {
+		final int n = Integer.highestOneBit(Math.max(1, processors - 1)) << 1;
+		return Math.min(n, MAX_CELLS);
+	}
+
+	/**
+	 * Returns the scale metrics of the values in this adder.
+	 * 
+	 * @return the scale metrics of the sum
+	 */
+	public final S getScaleMetrics() {
+		return factory.getScaleMetrics();
+	}
+
+	/**
+	 * Returns the overflow mode of this adder.
+	 * 
+	 * @return the overflow mode applied if the sum overflows
+	 */
+	public final OverflowMode getOverflowMode() {
+		return arithmetic.getOverflowMode();
+	}
+
+	/**
+	 * Adds the given value. The addition itself never throws an exception, an
+	 * overflow of the total sum is detected when the sum is read.
+	 * 
+	 * @param value
+	 *            the value to add
+	 */
+	public final void add(Decimal<S> value) {
+		addUnscaled(value.unscaledValue());
+	}
+
+	/**
+	 * Adds the given unscaled value. The addition itself never throws an
+	 * exception, an overflow of the total sum is detected when the sum is read.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to add, with the scale of this adder
+	 */
+	public final void addUnscaled(long unscaledValue) {
+		Cell[] cs = cells;
+		if (cs == null && tryAdd(base, unscaledValue)) {
+			return;
+		}
+		final int[] probe = PROBE.get();
+		int hash = probe[0];
+		boolean collided = false;
+		while (true) {
+			if (cs == null) {
+				//contention on base, start using cells
+				cs = grow(null);
+			}
+			if (tryAdd(cs[hash & (cs.length - 1)], unscaledValue)) {
+				return;
+			}
+			//contention, grow the cells if another cell collided before, and try another cell
+			if (collided & cs.length < maxCells) {
+				grow(cs);
+				collided = false;
+			} else {
+				collided = true;
+			}
+			hash ^= hash << 13;
+			hash ^= hash >>> 17;
+			hash ^= hash << 5;
+			probe[0] = hash;
+			cs = cells;
+		}
+	}
+
+	private final boolean tryAdd(Cell cell, long unscaledValue) {
+		final long value = cell.value;
+		final long sum = value + unscaledValue;
+		if (checked && (value ^ unscaledValue) >= 0 & (value ^ sum) < 0) {
+			carry(cell, unscaledValue);
+			return true;
+		}
+		return cell.compareAndSet(value, sum);
+	}
+
+	private final void carry(Cell cell, long unscaledValue) {
+		synchronized (lock) {
+			addToCarry(cell.getAndSet(0));
+			addToCarry(unscaledValue);
+		}
+	}
+
+	private final void addToCarry(long value) {
+		final long sum = carryLo + value;
+		carryHi += (value >> 63) + ((sum ^ Long.MIN_VALUE) < (carryLo ^ Long.MIN_VALUE) ? 1 : 0);
+		carryLo = sum;
+	}
+
+	private final Cell[] grow(Cell[] expected) {
+		synchronized (lock) {
+			final Cell[] cs = cells;
+			if (cs != expected) {
+				return cs;
+			}
+			final int n = cs == null ? 2 : cs.length << 1;
+			final Cell[] grown = new Cell[n];
+			int i = 0;
+			if (cs != null) {
+				System.arraycopy(cs, 0, grown, 0, cs.length);
+				i = cs.length;
+			}
+			for (; i < n; i++) {
+				grown[i] = new Cell();
+			}
+			cells = grown;
+			return grown;
+		}
+	}
+
+	private static final int hash(long threadId) {
+		final int h = (int) (threadId ^ (threadId >>> 32)) * 0x9e3779b9;
+		return (h ^ (h >>> 16)) | 1;
+	}
+
+	/**
+	 * Returns the current sum as an immutable decimal value. The returned value
+	 * is not an atomic snapshot if updates happen concurrently.
+	 * 
+	 * @return the sum
+	 * @throws ArithmeticException
+	 *             if the sum overflows and the overflow mode is
+	 *             {@link OverflowMode#CHECKED CHECKED}
+	 */
+	public final ImmutableDecimal<S> sum() {
+		return factory.valueOfUnscaled(sumUnscaled());
+	}
+
+	/**
+	 * Returns the current sum as an unscaled value. The returned value is not
+	 * an atomic snapshot if updates happen concurrently.
+	 * 
+	 * @return the unscaled sum
+	 * @throws ArithmeticException
+	 *             if the sum overflows and the overflow mode is
+	 *             {@link OverflowMode#CHECKED CHECKED}
+	 */
+	public final long sumUnscaled() {
+		return sum(false);
+	}
+
+	/**
+	 * Returns the current sum and resets the adder to zero. The returned value
+	 * is not an atomic snapshot if updates happen concurrently. Values added
+	 * concurrently are either included in the returned sum or remain in the
+	 * adder.
+	 * <p>
+	 * If an overflow exception is thrown, the adder is reset nevertheless.
+	 * 
+	 * @return the sum before reset
+	 * @throws ArithmeticException
+	 *             if the sum overflows and the overflow mode is
+	 *             {@link OverflowMode#CHECKED CHECKED}
+	 */
+	public final ImmutableDecimal<S> sumThenReset() {
+		return factory.valueOfUnscaled(sum(true));
+	}
+
+	/**
+	 * Resets this adder to zero. The reset is not atomic if updates happen
+	 * concurrently.
+	 */
+	public final void reset() {
+		synchronized (lock) {
+			carryHi = 0;
+			carryLo = 0;
+			base.set(0);
+			final Cell[] cs = cells;
+			if (cs != null) {
+				for (final Cell cell : cs) {
+					cell.set(0);
+				}
+			}
+		}
+	}
+
+	private final long sum(boolean reset) {
+		//sum with 128 bit to detect overflow only for the total sum
+		final long hi;
+		final long lo;
+		synchronized (lock) {
+			long h = carryHi;
+			long l = carryLo;
+			final Cell[] cs = cells;
+			final int n = cs == null ? 0 : cs.length;
+			for (int i = -1; i < n; i++) {
+				final Cell cell = i < 0 ? base : cs[i];
+				final long value = reset ? cell.getAndSet(0) : cell.value;
+				final long sum = l + value;
+				h += (value >> 63) + ((sum ^ Long.MIN_VALUE) < (l ^ Long.MIN_VALUE) ? 1 : 0);
+				l = sum;
+			}
+			if (reset) {
+				carryHi = 0;
+				carryLo = 0;
+			}
+			hi = h;
+			lo = l;
+		}
+		if (hi != (lo >> 63) && checked) {
+			throw new ArithmeticException("Overflow: sum " + toBigDecimal(hi, lo).toPlainString() + " exceeds the range of a Decimal with scale " + arithmetic.getScale());
+		}
+		return lo;
+	}
+
+	private final BigDecimal toBigDecimal(long hi, long lo) {
+		final BigInteger unscaled = BigInteger.valueOf(hi).shiftLeft(64).add(BigInteger.valueOf(lo >>> 32).shiftLeft(32)).add(BigInteger.valueOf(lo & 0xffffffffL));
+		return new BigDecimal(unscaled, arithmetic.getScale());
+	}
+
+	/**
+	 * Returns the string representation of the current {@link #sum()}.
+	 * 
+	 * @return the sum as string, or the exact sum with more digits if the sum
+	 *         overflows
+	 */
+	@Override
+	public final String toString() {
+		if (!checked) {
+			return arithmetic.toString(sum(false));
+		}
+		final long hi;
+		final long lo;
+		synchronized (lock) {
+			long h = carryHi;
+			long l = carryLo;
+			final Cell[] cs = cells;
+			final int n = cs == null ? 0 : cs.length;
+			for (int i = -1; i < n; i++) {
+				final long value = (i < 0 ? base : cs[i]).value;
+				final long sum = l + value;
+				h += (value >> 63) + ((sum ^ Long.MIN_VALUE) < (l ^ Long.MIN_VALUE) ? 1 : 0);
+				l = sum;
+			}
+			hi = h;
+			lo = l;
+		}
+		return hi == (lo >> 63) ? arithmetic.toString(lo) : toBigDecimal(hi, lo).toPlainString();
+	}
+
+	/**
+	 * A value updated by a subset of the threads adding to the adder, padded to
+	 * avoid false sharing of cache lines (64 bytes).
+	 */
+	@SuppressWarnings("unused")
+	private static final class Cell {
+		private static final AtomicLongFieldUpdater<Cell> VALUE_UPDATER = AtomicLongFieldUpdater.newUpdater(Cell.class, "value");
+
+		private volatile long p0, p1, p2, p3, p4, p5, p6;
+		private volatile long value;
+		private volatile long q0, q1, q2, q3, q4, q5, q6;
+
+		final boolean compareAndSet(long expect, long update) {
+			return VALUE_UPDATER.compareAndSet(this, expect, update);
+		}
+
+		final long getAndSet(long newValue) {
+			return VALUE_UPDATER.getAndSet(this, newValue);
+		}
+
+		final void set(long newValue) {
+			value = newValue;
+		}
+	}
+}
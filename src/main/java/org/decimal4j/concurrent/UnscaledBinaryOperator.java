@@ -0,0 +1,57 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.concurrent;
+
+import org.decimal4j.api.DecimalArithmetic;
+
+/**
+ * An operation on two unscaled decimal values producing an unscaled decimal
+ * result. The operation is given the {@link DecimalArithmetic} of the atomic
+ * value that is updated, for instance to delegate to
+ * {@link DecimalArithmetic#multiply(long, long)}.
+ * <p>
+ * Operators passed to atomic update methods should be side-effect-free since
+ * they may be re-applied when attempted updates fail due to contention among
+ * threads.
+ * 
+ * @see AtomicDecimal#accumulateAndGetUnscaled(long, UnscaledBinaryOperator)
+ * @see AtomicDecimal#getAndAccumulateUnscaled(long, UnscaledBinaryOperator)
+ */
+public interface UnscaledBinaryOperator {
+	/**
+	 * Applies this operator to the given unscaled operands.
+	 * 
+	 * @param arith
+	 *            the arithmetic with scale, rounding and overflow mode of the
+	 *            updated value
+	 * @param uDecimal1
+	 *            the first operand, the current value
+	 * @param uDecimal2
+	 *            the second operand, the update value
+	 * @return the unscaled operator result
+	 * @throws ArithmeticException
+	 *             if the operation fails, for instance due to overflow
+	 */
+	long apply(DecimalArithmetic arith, long uDecimal1, long uDecimal2);
+}
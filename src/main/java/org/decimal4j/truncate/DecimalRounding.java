@@ -212,7 +212,7 @@ public enum DecimalRounding {
 		@Override
 		public final int calculateRoundingIncrement(int sgn, long truncatedValue, TruncatedPart truncatedPart) {
 			if (truncatedPart.isGreaterThanZero()) {
-				throw new ArithmeticException("Rounding necessary");
+				throw StacklessArithmeticException.ENABLED ? StacklessArithmeticException.ROUNDING_NECESSARY : new ArithmeticException("Rounding necessary");
 			}
 			return 0;
 		}
@@ -0,0 +1,103 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.truncate;
+
+/**
+ * Arithmetic exception without stack trace thrown instead of a regular {@link ArithmeticException} if stackless
+ * exceptions are {@link #ENABLED enabled} via system property {@code -Ddecimal4j.stacklessExceptions=true}.
+ * <p>
+ * Stackless exceptions are thrown for overflows and divisions by zero in arithmetic with
+ * {@link OverflowMode#CHECKED CHECKED} overflow mode and if rounding is necessary for
+ * {@link DecimalRounding#UNNECESSARY UNNECESSARY} rounding independent of the overflow mode. The message of such an
+ * exception only describes the type of the error but not the operands.
+ * <p>
+ * The preallocated instances {@link #OVERFLOW}, {@link #DIVISION_BY_ZERO} and {@link #ROUNDING_NECESSARY} are thrown
+ * every time so that no exception is allocated. A stackless exception has no cause and {@link #initCause(Throwable)}
+ * is rejected. Suppression cannot be disabled for subclasses of {@link ArithmeticException}: code adding suppressed
+ * exceptions to a shared instance, for instance a try-with-resources statement whose resource fails to close, adds
+ * them to all future throws of that instance.
+ */
+public final class StacklessArithmeticException extends ArithmeticException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * System property to enable stackless exceptions if set to true.
+	 */
+	public static final String SYSTEM_PROPERTY = "decimal4j.stacklessExceptions";
+
+	/**
+	 * True if stackless exceptions are thrown, set via system property {@code -Ddecimal4j.stacklessExceptions=true}.
+	 */
+	public static final boolean ENABLED = Boolean.getBoolean(SYSTEM_PROPERTY);
+
+	/**
+	 * Preallocated exception with the message "Overflow".
+	 */
+	public static final StacklessArithmeticException OVERFLOW = new StacklessArithmeticException("Overflow");
+
+	/**
+	 * Preallocated exception with the message "Division by zero".
+	 */
+	public static final StacklessArithmeticException DIVISION_BY_ZERO = new StacklessArithmeticException("Division by zero");
+
+	/**
+	 * Preallocated exception with the message "Rounding necessary".
+	 */
+	public static final StacklessArithmeticException ROUNDING_NECESSARY = new StacklessArithmeticException("Rounding necessary");
+
+	/**
+	 * Constructor with message.
+	 * 
+	 * @param message
+	 *            the exception message describing the error type
+	 */
+	public StacklessArithmeticException(String message) {
+		super(message);
+	}
+
+	/**
+	 * Does not fill in the stack trace and returns this exception.
+	 * 
+	 * @return this exception
+	 */
+	@Override
+	public final Throwable fillInStackTrace() {
+		return this;
+	}
+
+	/**
+	 * Always throws an exception since stackless exceptions have no cause.
+	 * 
+	 * @param cause
+	 *            the cause, ignored
+	 * @return never returns
+	 * @throws IllegalStateException
+	 *             always
+	 */
+	@Override
+	public final Throwable initCause(Throwable cause) {
+		throw new IllegalStateException("Stackless exception cannot have a cause: " + this);
+	}
+}
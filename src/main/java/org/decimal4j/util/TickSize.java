@@ -0,0 +1,375 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.TruncatedPart;
+
+/**
+ * Rounds unscaled decimal values to multiples of an arbitrary increment such
+ * as a tick size of 0.25, 0.05 or 1/64, and not only to powers of ten as
+ * {@link DecimalArithmetic#round(long, int)} does.
+ * <p>
+ * A tick size has either a single increment, or a tiered table of increments
+ * where the increment depends on the absolute value to round: the increment
+ * {@code increments[i]} applies to values {@code v} with
+ * {@code thresholds[i] <= |v| < thresholds[i+1]}. The tier is determined by the
+ * value before rounding.
+ * <p>
+ * The reciprocal of every increment is precomputed so that the number of ticks
+ * is found with a floating point multiplication followed by an exact
+ * correction step; a division is only performed for values whose absolute
+ * value is {@code 2^52} or larger. The result is identical to
+ * {@code round(value / increment) * increment} with exact intermediate values.
+ * Instances are immutable and thread safe.
+ */
+public final class TickSize {
+
+	/**
+	 * Values up to this absolute value are converted to ticks with the
+	 * precomputed reciprocal; the estimate is then at most one tick off.
+	 */
+	private static final long MAX_RECIPROCAL_VALUE = 1L << 52;
+
+	private final ScaleMetrics scaleMetrics;
+	private final long[] thresholds;
+	private final long[] increments;
+	private final double[] reciprocals;
+
+	/**
+	 * Creates a tick size with a single increment given as decimal value.
+	 * 
+	 * @param increment
+	 *            the increment, must be positive
+	 * @throws NullPointerException
+	 *             if increment is null
+	 * @throws IllegalArgumentException
+	 *             if increment is not positive
+	 */
+	public TickSize(Decimal<?> increment) {
+		this(increment.getScaleMetrics(), increment.unscaledValue());
+	}
+
+	/**
+	 * Creates a tick size with a single increment given as unscaled value.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the increment and of the values to round
+	 * @param uDecimalIncrement
+	 *            the unscaled increment with the scale of {@code scaleMetrics},
+	 *            must be positive
+	 * @throws NullPointerException
+	 *             if scale metrics is null
+	 * @throws IllegalArgumentException
+	 *             if increment is not positive
+	 */
+	public TickSize(ScaleMetrics scaleMetrics, long uDecimalIncrement) {
+		this(scaleMetrics, new long[] { 0 }, new long[] { uDecimalIncrement });
+	}
+
+	/**
+	 * Creates a tick size from a tiered table of thresholds and increments
+	 * given as decimal values. All decimals must have the same scale.
+	 * 
+	 * @param thresholds
+	 *            the lower bounds of the absolute values for every tier in
+	 *            strictly ascending order, starting with zero
+	 * @param increments
+	 *            the increment for every tier, all positive
+	 * @throws NullPointerException
+	 *             if any of the arguments or array elements is null
+	 * @throws IllegalArgumentException
+	 *             if the arrays are empty or have different lengths, if the
+	 *             decimals have different scales, if the thresholds are not
+	 *             strictly ascending starting with zero, or if an increment is
+	 *             not positive
+	 */
+	public TickSize(Decimal<?>[] thresholds, Decimal<?>[] increments) {
+		this(scaleMetricsOf(thresholds, increments), unscaledValuesOf(thresholds), unscaledValuesOf(increments));
+	}
+
+	/**
+	 * Creates a tick size from a tiered table of thresholds and increments
+	 * given as unscaled values.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of thresholds, increments and of the values
+	 *            to round
+	 * @param uDecimalThresholds
+	 *            the unscaled lower bounds of the absolute values for every
+	 *            tier in strictly ascending order, starting with zero
+	 * @param uDecimalIncrements
+	 *            the unscaled increment for every tier, all positive
+	 * @throws NullPointerException
+	 *             if any of the arguments is null
+	 * @throws IllegalArgumentException
+	 *             if the arrays are empty or have different lengths, if the
+	 *             thresholds are not strictly ascending starting with zero, or
+	 *             if an increment is not positive
+	 */
+	public TickSize(ScaleMetrics scaleMetrics, long[] uDecimalThresholds, long[] uDecimalIncrements) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		if (uDecimalThresholds.length == 0 | uDecimalThresholds.length != uDecimalIncrements.length) {
+			throw new IllegalArgumentException("thresholds and increments must be non-empty arrays of the same length: "
+					+ uDecimalThresholds.length + " != " + uDecimalIncrements.length);
+		}
+		if (uDecimalThresholds[0] != 0) {
+			throw new IllegalArgumentException("first threshold must be zero: " + uDecimalThresholds[0]);
+		}
+		this.thresholds = uDecimalThresholds.clone();
+		this.increments = uDecimalIncrements.clone();
+		this.reciprocals = new double[increments.length];
+		for (int i = 0; i < increments.length; i++) {
+			if (i > 0 && thresholds[i] <= thresholds[i - 1]) {
+				throw new IllegalArgumentException("thresholds must be strictly ascending: " + Arrays.toString(thresholds));
+			}
+			if (increments[i] <= 0) {
+				throw new IllegalArgumentException("increment must be positive: " + increments[i]);
+			}
+			reciprocals[i] = 1.0 / increments[i];
+		}
+	}
+
+	private static ScaleMetrics scaleMetricsOf(Decimal<?>[] thresholds, Decimal<?>[] increments) {
+		if (increments.length == 0) {
+			throw new IllegalArgumentException("increments cannot be an empty array");
+		}
+		final ScaleMetrics scaleMetrics = increments[0].getScaleMetrics();
+		for (final Decimal<?>[] decimals : Arrays.asList(thresholds, increments)) {
+			for (final Decimal<?> decimal : decimals) {
+				if (decimal.getScaleMetrics() != scaleMetrics) {
+					throw new IllegalArgumentException("all thresholds and increments must have the same scale "
+							+ scaleMetrics.getScale() + " but found scale " + decimal.getScale() + " for " + decimal);
+				}
+			}
+		}
+		return scaleMetrics;
+	}
+
+	private static long[] unscaledValuesOf(Decimal<?>[] decimals) {
+		final long[] unscaled = new long[decimals.length];
+		for (int i = 0; i < decimals.length; i++) {
+			unscaled[i] = decimals[i].unscaledValue();
+		}
+		return unscaled;
+	}
+
+	/**
+	 * Returns the scale metrics of the increments and of the values rounded by
+	 * this tick size.
+	 * 
+	 * @return the scale metrics of this tick size
+	 */
+	public ScaleMetrics getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the number of tiers, one for a tick size with a single increment.
+	 * 
+	 * @return the number of tiers
+	 */
+	public int getTierCount() {
+		return increments.length;
+	}
+
+	/**
+	 * Returns the unscaled increment applied when rounding the given value.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value to round
+	 * @return the unscaled increment of the tier of the given value
+	 */
+	public long getIncrement(long uDecimal) {
+		return increments[tierOf(uDecimal)];
+	}
+
+	/**
+	 * Rounds the given unscaled value to a multiple of the increment using
+	 * {@link RoundingMode#HALF_UP HALF_UP} rounding.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value to round
+	 * @return the rounded unscaled value
+	 * @throws ArithmeticException
+	 *             if the result overflows a long
+	 */
+	public long round(long uDecimal) {
+		return round(uDecimal, DecimalRounding.HALF_UP);
+	}
+
+	/**
+	 * Rounds the given unscaled value to a multiple of the increment using the
+	 * specified rounding mode.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value to round
+	 * @param roundingMode
+	 *            the rounding mode to apply
+	 * @return the rounded unscaled value
+	 * @throws ArithmeticException
+	 *             if the result overflows a long, or if the rounding mode is
+	 *             UNNECESSARY and the value is not a multiple of the increment
+	 */
+	public long round(long uDecimal, RoundingMode roundingMode) {
+		return round(uDecimal, DecimalRounding.valueOf(roundingMode));
+	}
+
+	/**
+	 * Rounds {@code uDecimals[i]} to a multiple of the increment and stores the
+	 * result in {@code result[i]} for every index {@code i} in
+	 * {@code [offset, offset+length)}. The results are the same as those of
+	 * {@link #round(long, RoundingMode)}.
+	 * 
+	 * @param uDecimals
+	 *            the unscaled values to round
+	 * @param result
+	 *            the array to store the rounded values, can be the same as
+	 *            {@code uDecimals}
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @param roundingMode
+	 *            the rounding mode to apply
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} is negative or if
+	 *             {@code offset + length} exceeds the length of any of the
+	 *             arrays
+	 * @throws ArithmeticException
+	 *             if a result overflows a long, or if the rounding mode is
+	 *             UNNECESSARY and a value is not a multiple of the increment
+	 */
+	public void round(long[] uDecimals, long[] result, int offset, int length, RoundingMode roundingMode) {
+		if (offset < 0 | length < 0 | uDecimals.length - length < offset | result.length - length < offset) {
+			throw new IndexOutOfBoundsException("Offset or length is out of bounds: offset=" + offset + ", length="
+					+ length + ", array lengths=[" + uDecimals.length + ", " + result.length + "]");
+		}
+		final DecimalRounding rounding = DecimalRounding.valueOf(roundingMode);
+		final int end = offset + length;
+		if (increments.length == 1) {
+			final long increment = increments[0];
+			final double reciprocal = reciprocals[0];
+			for (int i = offset; i < end; i++) {
+				result[i] = round(uDecimals[i], increment, reciprocal, rounding);
+			}
+		} else {
+			for (int i = offset; i < end; i++) {
+				result[i] = round(uDecimals[i], rounding);
+			}
+		}
+	}
+
+	private long round(long uDecimal, DecimalRounding rounding) {
+		final int tier = tierOf(uDecimal);
+		return round(uDecimal, increments[tier], reciprocals[tier], rounding);
+	}
+
+	private int tierOf(long uDecimal) {
+		if (thresholds.length == 1) {
+			return 0;
+		}
+		if (uDecimal == Long.MIN_VALUE) {
+			return thresholds.length - 1;
+		}
+		final int index = Arrays.binarySearch(thresholds, Math.abs(uDecimal));
+		return index >= 0 ? index : -index - 2;
+	}
+
+	private static long round(long uDecimal, long increment, double reciprocal, DecimalRounding rounding) {
+		long ticks;
+		long remainder;
+		if (-MAX_RECIPROCAL_VALUE <= uDecimal & uDecimal <= MAX_RECIPROCAL_VALUE) {
+			// estimate is exact or one tick off, correct it so that the
+			// remainder has the sign of the value as for a truncating division
+			ticks = (long) (uDecimal * reciprocal);
+			remainder = uDecimal - ticks * increment;
+			if (uDecimal >= 0) {
+				if (remainder < 0) {
+					ticks--;
+					remainder += increment;
+				} else if (remainder >= increment) {
+					ticks++;
+					remainder -= increment;
+				}
+			} else {
+				if (remainder > 0) {
+					ticks++;
+					remainder -= increment;
+				} else if (remainder <= -increment) {
+					ticks--;
+					remainder += increment;
+				}
+			}
+		} else {
+			ticks = uDecimal / increment;
+			remainder = uDecimal - ticks * increment;
+		}
+		if (remainder == 0) {
+			return uDecimal;
+		}
+		final int sgn = remainder < 0 ? -1 : 1;
+		final int inc = rounding.calculateRoundingIncrement(sgn, ticks, truncatedPartFor(sgn * remainder, increment));
+		final long truncated = uDecimal - remainder;
+		if (inc == 0) {
+			return truncated;
+		}
+		final long increase = inc * increment;
+		final long rounded = truncated + increase;
+		if (((truncated ^ rounded) & (increase ^ rounded)) < 0) {
+			throw new ArithmeticException("Overflow: rounding " + uDecimal + " to a multiple of " + increment
+					+ " exceeds the range of a long");
+		}
+		return rounded;
+	}
+
+	private static TruncatedPart truncatedPartFor(long absRemainder, long increment) {
+		final long diff = absRemainder - (increment - absRemainder);
+		return diff < 0 ? TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO
+				: diff == 0 ? TruncatedPart.EQUAL_TO_HALF : TruncatedPart.GREATER_THAN_HALF;
+	}
+
+	@Override
+	public String toString() {
+		final DecimalArithmetic arith = scaleMetrics.getDefaultArithmetic();
+		final StringBuilder sb = new StringBuilder("TickSize[");
+		for (int i = 0; i < increments.length; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			if (increments.length > 1) {
+				sb.append(">=").append(arith.toString(thresholds[i])).append(':');
+			}
+			sb.append(arith.toString(increments[i]));
+		}
+		return sb.append(']').toString();
+	}
+}
@@ -23,6 +23,7 @@
  */
 /**
  * Provides utility classes that may be of general interest such as the 
- * {@link org.decimal4j.util.DoubleRounder DoubleRounder}.  
+ * {@link org.decimal4j.util.DoubleRounder DoubleRounder} and the
+ * {@link org.decimal4j.util.TickSize TickSize} to round to arbitrary increments.
  */
 package org.decimal4j.util;
\ No newline at end of file
@@ -0,0 +1,104 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.arithmetic.ArithmeticCounters.Counter;
+import org.decimal4j.arithmetic.ArithmeticCounters.Operation;
+import org.decimal4j.scale.Scales;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * Periodic flight recorder event with a sample of the {@link ArithmeticCounters}
+ * of one scale and operation type. One event is emitted per scale and operation
+ * type with a non-zero operation count.
+ * <p>
+ * This class is only available in the Java 17 version of the multi-release jar
+ * and is registered reflectively by {@link ArithmeticCounters}.
+ */
+@Name("org.decimal4j.ArithmeticCounters")
+@Label("Decimal Arithmetic Counters")
+@Category({"decimal4j", "Arithmetic"})
+@Description("Counts of operations, inexact roundings, rounding increments, overflows and divisions by zero of instrumented decimal arithmetic")
+@Period("1 s")
+@StackTrace(false)
+final class ArithmeticCountersEvent extends Event {
+
+	@Label("Scale")
+	int scale;
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Operations")
+	long operations;
+
+	@Label("Inexact Roundings")
+	long inexactRoundings;
+
+	@Label("Rounding Increments")
+	long roundingIncrements;
+
+	@Label("Overflows")
+	long overflows;
+
+	@Label("Divisions by Zero")
+	long divisionsByZero;
+
+	/**
+	 * Registers this event as periodic flight recorder event.
+	 */
+	public static void register() {
+		FlightRecorder.addPeriodicEvent(ArithmeticCountersEvent.class, ArithmeticCountersEvent::emit);
+	}
+
+	private static void emit() {
+		for (int scale = Scales.MIN_SCALE; scale <= Scales.MAX_SCALE; scale++) {
+			final ArithmeticCounters counters = ArithmeticCounters.getIfPresent(scale);
+			if (counters != null) {
+				for (final Operation operation : Operation.values()) {
+					final long operations = counters.getCount(operation, Counter.OPERATIONS);
+					if (operations != 0) {
+						final ArithmeticCountersEvent event = new ArithmeticCountersEvent();
+						event.scale = scale;
+						event.operation = operation.name();
+						event.operations = operations;
+						event.inexactRoundings = counters.getCount(operation, Counter.INEXACT_ROUNDINGS);
+						event.roundingIncrements = counters.getCount(operation, Counter.ROUNDING_INCREMENTS);
+						event.overflows = counters.getCount(operation, Counter.OVERFLOWS);
+						event.divisionsByZero = counters.getCount(operation, Counter.DIVISIONS_BY_ZERO);
+						event.commit();
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vectorized kernel for bulk operations on arrays of unscaled decimal values
+ * without overflow checks using the JDK Vector API. The loop processes full
+ * vectors of the preferred species and the remaining tail elements with scalar
+ * operations.
+ * <p>
+ * This class is only available in the Java 17 version of the multi-release
+ * jar and is loaded reflectively by {@link UncheckedBulkKernel#INSTANCE}.
+ */
+final class VectorBulkKernel extends UncheckedBulkKernel {
+
+	private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+	/**
+	 * Public constructor used for reflective instantiation.
+	 */
+	public VectorBulkKernel() {
+		super();
+	}
+
+	@Override
+	final boolean isVectorized() {
+		return true;
+	}
+
+	@Override
+	final void add(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		final int end = offset + length;
+		final int bound = offset + SPECIES.loopBound(length);
+		int i = offset;
+		for (; i < bound; i += SPECIES.length()) {
+			final LongVector a = LongVector.fromArray(SPECIES, uDecimals1, i);
+			final LongVector b = LongVector.fromArray(SPECIES, uDecimals2, i);
+			a.add(b).intoArray(result, i);
+		}
+		for (; i < end; i++) {
+			result[i] = uDecimals1[i] + uDecimals2[i];
+		}
+	}
+
+	@Override
+	final void subtract(long[] uDecimalsMinuend, long[] uDecimalsSubtrahend, long[] result, int offset, int length) {
+		final int end = offset + length;
+		final int bound = offset + SPECIES.loopBound(length);
+		int i = offset;
+		for (; i < bound; i += SPECIES.length()) {
+			final LongVector a = LongVector.fromArray(SPECIES, uDecimalsMinuend, i);
+			final LongVector b = LongVector.fromArray(SPECIES, uDecimalsSubtrahend, i);
+			a.sub(b).intoArray(result, i);
+		}
+		for (; i < end; i++) {
+			result[i] = uDecimalsMinuend[i] - uDecimalsSubtrahend[i];
+		}
+	}
+
+	@Override
+	final void negate(long[] uDecimals, long[] result, int offset, int length) {
+		final int end = offset + length;
+		final int bound = offset + SPECIES.loopBound(length);
+		int i = offset;
+		for (; i < bound; i += SPECIES.length()) {
+			LongVector.fromArray(SPECIES, uDecimals, i).neg().intoArray(result, i);
+		}
+		for (; i < end; i++) {
+			result[i] = -uDecimals[i];
+		}
+	}
+
+	@Override
+	final void abs(long[] uDecimals, long[] result, int offset, int length) {
+		final int end = offset + length;
+		final int bound = offset + SPECIES.loopBound(length);
+		int i = offset;
+		for (; i < bound; i += SPECIES.length()) {
+			LongVector.fromArray(SPECIES, uDecimals, i).lanewise(VectorOperators.ABS).intoArray(result, i);
+		}
+		for (; i < end; i++) {
+			result[i] = Math.abs(uDecimals[i]);
+		}
+	}
+}
@@ -0,0 +1,366 @@
+<@pp.dropOutputFile />
+<#list 1..maxScale as scale>
+<#list ["Unchecked", "Checked"] as mode>
+<#list ["Truncating", "Rounding"] as kind>
+<#assign checked = mode == "Checked">
+<#assign truncating = kind == "Truncating">
+<#assign c><#if checked>Checked</#if></#assign>
+<#assign r><#if truncating>DecimalRounding.DOWN<#else>rounding</#if></#assign>
+<#assign rc><#if !truncating>rounding, </#if></#assign>
+<#assign className = mode + "Scale" + scale + "f" + kind + "Arithmetic">
+<@pp.changeOutputFile name=pp.home + "org/decimal4j/arithmetic/" + className + ".java" />
+package org.decimal4j.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+
+import org.decimal4j.scale.Scale${scale}f;
+import org.decimal4j.truncate.${mode}Rounding;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.OverflowMode;
+
+/**
+ * Arithmetic implementation <#if truncating>without rounding<#else>with rounding</#if><#if checked> and with overflow check</#if> for
+ * {@link Scale${scale}f scale ${scale}}. <#if checked>An exception is thrown if an operation leads to an
+ * overflow.<#else>If an operation leads to an overflow the result is silently
+ * truncated.</#if>
+ * <p>
+ * Unlike the deprecated {@link ${mode}ScaleNf${kind}Arithmetic} this class is
+ * specialized for a single scale: the scale factor ${"1"?right_pad(scale+1, "0")} is a compile time
+ * constant in the most frequently used operations and the scale metrics
+ * passed to the static operation classes are always the same enum constant.
+ * Call sites therefore stay monomorphic even if decimals with different
+ * scales are used in the same application.
+ */
+public final class ${className} extends Abstract${mode}ScaleNfArithmetic {
+
+	private static final long SCALE_FACTOR = Scale${scale}f.SCALE_FACTOR;
+	private static final long MAX_INTEGER_VALUE = Long.MAX_VALUE / SCALE_FACTOR;
+	private static final long MIN_INTEGER_VALUE = Long.MIN_VALUE / SCALE_FACTOR;
+<#if !truncating>
+
+	private final DecimalRounding rounding;
+</#if>
+
+<#if truncating>
+	/**
+	 * Constructor for decimal arithmetic with scale ${scale}, truncating
+	 * {@link RoundingMode#DOWN DOWN} rounding mode and
+	 * {@link OverflowMode#${mode?upper_case}<#if !checked> SILENT</#if>} overflow mode.
+	 */
+	public ${className}() {
+		super(Scale${scale}f.INSTANCE);
+	}
+<#else>
+	/**
+	 * Constructor for decimal arithmetic with scale ${scale}, given rounding mode and
+	 * {@link OverflowMode#${mode?upper_case}<#if !checked> SILENT</#if>} overflow mode.
+	 *
+	 * @param roundingMode
+	 *            the rounding mode to use for all decimal arithmetic
+	 */
+	public ${className}(RoundingMode roundingMode) {
+		this(DecimalRounding.valueOf(roundingMode));
+	}
+
+	/**
+	 * Constructor for decimal arithmetic with scale ${scale}, given rounding mode and
+	 * {@link OverflowMode#${mode?upper_case}<#if !checked> SILENT</#if>} overflow mode.
+	 *
+	 * @param rounding
+	 *            the rounding mode to use for all decimal arithmetic
+	 */
+	public ${className}(DecimalRounding rounding) {
+		super(Scale${scale}f.INSTANCE);
+		this.rounding = rounding;
+	}
+</#if>
+
+	@Override
+	public final RoundingMode getRoundingMode() {
+		return <#if truncating>RoundingMode.DOWN<#else>rounding.getRoundingMode()</#if>;
+	}
+
+	@Override
+	public final ${mode}Rounding getTruncationPolicy() {
+		return ${mode}Rounding.<#if truncating>DOWN<#else>valueOf(getRoundingMode())</#if>;
+	}
+
+	@Override
+	public final long addUnscaled(long uDecimal, long unscaled, int scale) {
+<#if checked>
+		return Add.addUnscaledUnscaledChecked(this, ${rc}uDecimal, unscaled, scale);
+<#else>
+		return Add.addUnscaledUnscaled(Scale${scale}f.INSTANCE, ${rc}uDecimal, unscaled, scale);
+</#if>
+	}
+
+	@Override
+	public final long subtractUnscaled(long uDecimal, long unscaled, int scale) {
+<#if checked>
+		return Sub.subtractUnscaledUnscaledChecked(this, ${rc}uDecimal, unscaled, scale);
+<#else>
+		return Sub.subtractUnscaledUnscaled(Scale${scale}f.INSTANCE, ${rc}uDecimal, unscaled, scale);
+</#if>
+	}
+
+	@Override
+	public final long avg(long uDecimal1, long uDecimal2) {
+<#if truncating>
+		return Avg.avg(uDecimal1, uDecimal2);
+<#else>
+		return Avg.avg(this, rounding, uDecimal1, uDecimal2);
+</#if>
+	}
+
+	@Override
+	public final long multiply(long uDecimal1, long uDecimal2) {
+		if (Mul.doesProductFitInLong(uDecimal1, uDecimal2)) {
+			//product fits in long, divide by constant scale factor
+			final long product = uDecimal1 * uDecimal2;
+<#if truncating>
+			return product / SCALE_FACTOR;
+<#else>
+			final long truncated = product / SCALE_FACTOR;
+			final long remainder = product - truncated * SCALE_FACTOR;
+			return truncated + Rounding.calculateRoundingIncrement(rounding, truncated, remainder, SCALE_FACTOR);
+</#if>
+		}
+		return Mul.multiply${c}(this, ${rc}uDecimal1, uDecimal2);
+	}
+
+	@Override
+	public final void multiply(long[] uDecimals1, long[] uDecimals2, long[] result, int offset, int length) {
+		Mul.multiply${c}(this, ${rc}uDecimals1, uDecimals2, result, offset, length);
+	}
+
+	@Override
+	public final long multiplyByUnscaled(long uDecimal, long unscaled, int scale) {
+<#if checked>
+		return Mul.multiplyByUnscaledChecked(this, ${rc}uDecimal, unscaled, scale);
+<#else>
+		return Mul.multiplyByUnscaled(${rc}uDecimal, unscaled, scale);
+</#if>
+	}
+
+	@Override
+	public final long multiplyByPowerOf10(long uDecimal, int n) {
+<#if checked>
+		return Pow10.multiplyByPowerOf10Checked(this, ${rc}uDecimal, n);
+<#else>
+		return Pow10.multiplyByPowerOf10(${rc}uDecimal, n);
+</#if>
+	}
+
+	@Override
+	public final long square(long uDecimal) {
+<#if checked>
+		return Square.squareChecked(this, ${rc}uDecimal);
+<#else>
+		return Square.square(Scale${scale}f.INSTANCE, ${rc}uDecimal);
+</#if>
+	}
+
+	@Override
+	public final long sqrt(long uDecimal) {
+		return Sqrt.sqrt(this, ${rc}uDecimal);
+	}
+
+	@Override
+	public final long divide(long uDecimalDividend, long uDecimalDivisor) {
+		if (uDecimalDivisor != 0 & MIN_INTEGER_VALUE <= uDecimalDividend & uDecimalDividend <= MAX_INTEGER_VALUE) {
+			//scaled dividend fits in long, multiply by constant scale factor
+			final long scaledDividend = uDecimalDividend * SCALE_FACTOR;
+<#if truncating>
+			return scaledDividend / uDecimalDivisor;
+<#else>
+			final long quotient = scaledDividend / uDecimalDivisor;
+			final long remainder = scaledDividend - quotient * uDecimalDivisor;
+			return quotient + Rounding.calculateRoundingIncrementForDivision(rounding, quotient, remainder, uDecimalDivisor);
+</#if>
+		}
+		return Div.divide${c}(this, ${rc}uDecimalDividend, uDecimalDivisor);
+	}
+
+	@Override
+	public final void divide(long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] result, int offset, int length) {
+		Div.divide${c}(this, ${rc}uDecimalsDividend, uDecimalsDivisor, result, offset, length);
+	}
+
+	@Override
+	public final long divideByLong(long uDecimalDividend, long lDivisor) {
+<#if truncating && checked>
+		return Checked.divideByLong(this, uDecimalDividend, lDivisor);
+<#elseif truncating>
+		return uDecimalDividend / lDivisor;
+<#elseif checked>
+		return Div.divideByLongChecked(this, rounding, uDecimalDividend, lDivisor);
+<#else>
+		return Div.divideByLong(rounding, uDecimalDividend, lDivisor);
+</#if>
+	}
+
+	@Override
+	public final void divideByLong(long[] uDecimalsDividend, long lDivisor, long[] result, int offset, int length) {
+<#if truncating>
+		Bulk.checkBounds(uDecimalsDividend, result, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			result[i] = <#if checked>Checked.divideByLong(this, uDecimalsDividend[i], lDivisor)<#else>uDecimalsDividend[i] / lDivisor</#if>;
+		}
+<#elseif checked>
+		Div.divideByLongChecked(this, rounding, uDecimalsDividend, lDivisor, result, offset, length);
+<#else>
+		Div.divideByLong(rounding, uDecimalsDividend, lDivisor, result, offset, length);
+</#if>
+	}
+
+	@Override
+	public final long divideByUnscaled(long uDecimal, long unscaled, int scale) {
+<#if checked>
+		return Div.divideByUnscaledChecked(this, ${rc}uDecimal, unscaled, scale);
+<#else>
+		return Div.divideByUnscaled(${rc}uDecimal, unscaled, scale);
+</#if>
+	}
+
+	@Override
+	public final long divideByPowerOf10(long uDecimal, int n) {
+<#if checked>
+		return Pow10.divideByPowerOf10Checked(this, ${rc}uDecimal, n);
+<#else>
+		return Pow10.divideByPowerOf10(${rc}uDecimal, n);
+</#if>
+	}
+
+	@Override
+	public final long multiplyDivide(long uDecimal1, long uDecimal2, long uDecimalDivisor) {
+		return MulDiv.multiplyDivide${c}(this, ${r}, uDecimal1, uDecimal2, uDecimalDivisor);
+	}
+
+	@Override
+	public final long multiplyDivide(long uDecimal1, long unscaled2, int scale2, long unscaledDivisor, int scaleDivisor) {
+		return MulDiv.multiplyDivide${c}(this, ${r}, uDecimal1, unscaled2, scale2, unscaledDivisor, scaleDivisor);
+	}
+
+	@Override
+	public final long multiplyAdd(long uDecimalAddend, long uDecimal1, long uDecimal2) {
+		return MulAdd.multiplyAdd${c}(this, ${r}, uDecimalAddend, uDecimal1, uDecimal2);
+	}
+
+	@Override
+	public final long dotProduct(long[] uDecimals1, long[] uDecimals2, int offset, int length) {
+		return MulAdd.dotProduct${c}(this, ${r}, uDecimals1, uDecimals2, offset, length);
+	}
+
+	@Override
+	public final long invert(long uDecimal) {
+		return Invert.invert(this, ${rc}uDecimal);
+	}
+
+	@Override
+	public final long pow(long uDecimal, int exponent) {
+		return Pow.pow(this, ${r}, uDecimal, exponent);
+	}
+
+	@Override
+	public final long shiftLeft(long uDecimal, int positions) {
+<#if checked>
+		return Shift.shiftLeftChecked(this, ${r}, uDecimal, positions);
+<#else>
+		return Shift.shiftLeft(${r}, uDecimal, positions);
+</#if>
+	}
+
+	@Override
+	public final long shiftRight(long uDecimal, int positions) {
+<#if checked>
+		return Shift.shiftRightChecked(this, ${r}, uDecimal, positions);
+<#else>
+		return Shift.shiftRight(${r}, uDecimal, positions);
+</#if>
+	}
+
+	@Override
+	public final long round(long uDecimal, int precision) {
+		return Round.round(this, ${rc}uDecimal, precision);
+	}
+
+	@Override
+	public final long fromLong(long value) {
+		if (MIN_INTEGER_VALUE <= value & value <= MAX_INTEGER_VALUE) {
+			return value * SCALE_FACTOR;
+		}
+		return LongConversion.longToUnscaled(Scale${scale}f.INSTANCE, value);
+	}
+
+	@Override
+	public final long fromUnscaled(long unscaledValue, int scale) {
+		return UnscaledConversion.unscaledToUnscaled(this, ${rc}unscaledValue, scale);
+	}
+
+	@Override
+	public final long fromFloat(float value) {
+		return FloatConversion.floatToUnscaled(this, <#if checked || !truncating>${r}, </#if>value);
+	}
+
+	@Override
+	public final long fromDouble(double value) {
+		return DoubleConversion.doubleToUnscaled(this, <#if checked || !truncating>${r}, </#if>value);
+	}
+
+	@Override
+	public final long fromBigDecimal(BigDecimal value) {
+		return BigDecimalConversion.bigDecimalToUnscaled(Scale${scale}f.INSTANCE, <#if truncating>RoundingMode.DOWN<#else>getRoundingMode()</#if>, value);
+	}
+
+	@Override
+	public final long toLong(long uDecimal) {
+<#if truncating>
+		return uDecimal / SCALE_FACTOR;
+<#else>
+		final long truncated = uDecimal / SCALE_FACTOR;
+		final long remainder = uDecimal - truncated * SCALE_FACTOR;
+		return truncated + Rounding.calculateRoundingIncrement(rounding, truncated, remainder, SCALE_FACTOR);
+</#if>
+	}
+
+	@Override
+	public final long toUnscaled(long uDecimal, int scale) {
+		return UnscaledConversion.unscaledToUnscaled(${rc}scale, this, uDecimal);
+	}
+
+	@Override
+	public final float toFloat(long uDecimal) {
+		return FloatConversion.unscaledToFloat(this, ${rc}uDecimal);
+	}
+
+	@Override
+	public final double toDouble(long uDecimal) {
+		return DoubleConversion.unscaledToDouble(this, ${rc}uDecimal);
+	}
+
+	@Override
+	public final long parse(String value) {
+		return StringConversion.parseUnscaledDecimal(this, ${r}, value, 0, value.length());
+	}
+
+	@Override
+	public final long parse(CharSequence value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, ${r}, value, start, end);
+	}
+
+	@Override
+	public final long parse(byte[] value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, ${r}, value, start, end);
+	}
+
+	@Override
+	public final long parse(ByteBuffer value, int start, int end) {
+		return StringConversion.parseUnscaledDecimal(this, ${r}, value, start, end);
+	}
+}
+</#list>
+</#list>
+</#list>
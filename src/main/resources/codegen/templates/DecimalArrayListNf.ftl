@@ -0,0 +1,76 @@
+<@pp.dropOutputFile />
+<#list 0..maxScale as scale>
+<@pp.changeOutputFile name=pp.home + "org/decimal4j/collection/DecimalArrayList" + scale + "f.java" />
+package org.decimal4j.collection;
+
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.base.AbstractDecimalArrayList;
+import org.decimal4j.immutable.Decimal${scale}f;
+import org.decimal4j.mutable.MutableDecimal${scale}f;
+import org.decimal4j.scale.Scale${scale}f;
+
+/**
+ * <tt>DecimalArrayList${scale}f</tt> is a growable list of decimal values with 
+ * ${scale} digits to the right of the decimal point. The values are stored as 
+ * unscaled longs in a primitive array.
+ * <p>
+ * Values can be read without allocation as unscaled longs or into a 
+ * {@link MutableDecimal${scale}f}. The {@link #asList()} view creates 
+ * {@link Decimal${scale}f} instances only when elements are accessed.
+ * <p>
+ * Instances of this class are not thread safe.
+ */
+public final class DecimalArrayList${scale}f extends AbstractDecimalArrayList<Scale${scale}f, Decimal${scale}f> {
+
+	/**
+	 * Default initial capacity.
+	 */
+	public static final int DEFAULT_CAPACITY = 10;
+
+	/**
+	 * Constructs an empty list with an initial capacity of 
+	 * {@link #DEFAULT_CAPACITY}.
+	 */
+	public DecimalArrayList${scale}f() {
+		super(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs an empty list with the specified initial capacity.
+	 * 
+	 * @param initialCapacity
+	 *            the initial capacity of the list
+	 * @throws IllegalArgumentException
+	 *             if the specified initial capacity is negative
+	 */
+	public DecimalArrayList${scale}f(int initialCapacity) {
+		super(initialCapacity);
+	}
+
+	@Override
+	public final Scale${scale}f getScaleMetrics() {
+		return Scale${scale}f.INSTANCE;
+	}
+
+	@Override
+	protected final Decimal${scale}f valueOfUnscaled(long unscaledValue) {
+		return Decimal${scale}f.valueOfUnscaled(unscaledValue);
+	}
+
+	/**
+	 * Assigns the value of the element at the specified position to the given
+	 * mutable decimal and returns it. No object is allocated by this method.
+	 * 
+	 * @param index
+	 *            the index of the element to read
+	 * @param result
+	 *            the mutable decimal to assign the element value to
+	 * @return the {@code result} decimal now holding the element value
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index < 0 || index >= size()}
+	 */
+	public final MutableDecimal${scale}f get(int index, MutableDecimal${scale}f result) {
+		return result.setUnscaled(getUnscaled(index));
+	}
+}
+</#list>
@@ -16,12 +16,13 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 
 import org.decimal4j.api.DecimalArithmetic;
-import org.decimal4j.arithmetic.CheckedScaleNfRoundingArithmetic;
-import org.decimal4j.arithmetic.CheckedScaleNfTruncatingArithmetic;
-import org.decimal4j.arithmetic.UncheckedScaleNfRoundingArithmetic;
-import org.decimal4j.arithmetic.UncheckedScaleNfTruncatingArithmetic;
+import org.decimal4j.arithmetic.CheckedScale${scale}fRoundingArithmetic;
+import org.decimal4j.arithmetic.CheckedScale${scale}fTruncatingArithmetic;
+import org.decimal4j.arithmetic.UncheckedScale${scale}fRoundingArithmetic;
+import org.decimal4j.arithmetic.UncheckedScale${scale}fTruncatingArithmetic;
 import org.decimal4j.truncate.DecimalRounding;
 import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.StacklessArithmeticException;
 import org.decimal4j.truncate.TruncationPolicy;
 
 /**
@@ -76,11 +77,11 @@ public enum Scale${scale}f implements ScaleMetrics {
 		for (final DecimalRounding dr : DecimalRounding.VALUES) {
 			final int index = dr.getRoundingMode().ordinal();
 			if (dr == DecimalRounding.DOWN) {
-				arith[index] = checked ? new CheckedScaleNfTruncatingArithmetic(INSTANCE)
-						: new UncheckedScaleNfTruncatingArithmetic(INSTANCE);
+				arith[index] = checked ? new CheckedScale${scale}fTruncatingArithmetic()
+						: new UncheckedScale${scale}fTruncatingArithmetic();
 			} else {
-				arith[index] = checked ? new CheckedScaleNfRoundingArithmetic(INSTANCE, dr)
-						: new UncheckedScaleNfRoundingArithmetic(INSTANCE, dr);
+				arith[index] = checked ? new CheckedScale${scale}fRoundingArithmetic(dr)
+						: new UncheckedScale${scale}fRoundingArithmetic(dr);
 			}
 		}
 		return arith;
@@ -137,7 +138,12 @@ public enum Scale${scale}f implements ScaleMetrics {
 		if (MIN_INTEGER_VALUE <= factor & factor <= MAX_INTEGER_VALUE) {
 			return result;
 		}
-		throw new ArithmeticException("Overflow: " + factor + " * " + SCALE_FACTOR + " = " + result);
+		throw newOverflowException(factor, result);
+	}
+
+	private static final ArithmeticException newOverflowException(long factor, long result) {
+		return StacklessArithmeticException.ENABLED ? StacklessArithmeticException.OVERFLOW
+				: new ArithmeticException("Overflow: " + factor + " * " + SCALE_FACTOR + " = " + result);
 	}
 	
 	@Override
@@ -160,6 +166,7 @@ public enum Scale${scale}f implements ScaleMetrics {
 
 	@Override
 	public final long divideByScaleFactor(long dividend) {
+		//SCALE_FACTOR is a constant: the JIT emits multiply-high and shift instead of a division
 		return dividend / SCALE_FACTOR;
 	}
 
@@ -0,0 +1,279 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for the bulk array operations of {@link DecimalArithmetic} such as
+ * {@link DecimalArithmetic#add(long[], long[], long[], int, int)} verifying that
+ * they return the same results as the corresponding single value operations.
+ */
+@RunWith(Parameterized.class)
+public class BulkArithmeticTest {
+
+	private static final Random RND = new Random();
+	private static final int LENGTH = 64;
+	private static final int OFFSET = 5;
+
+	private static enum BulkOp {
+		ADD {
+			@Override
+			long scalar(DecimalArithmetic arith, long a, long b) {
+				return arith.add(a, b);
+			}
+			@Override
+			void bulk(DecimalArithmetic arith, long[] a, long[] b, long[] result, int offset, int length) {
+				arith.add(a, b, result, offset, length);
+			}
+		},
+		SUBTRACT {
+			@Override
+			long scalar(DecimalArithmetic arith, long a, long b) {
+				return arith.subtract(a, b);
+			}
+			@Override
+			void bulk(DecimalArithmetic arith, long[] a, long[] b, long[] result, int offset, int length) {
+				arith.subtract(a, b, result, offset, length);
+			}
+		},
+		NEGATE {
+			@Override
+			long scalar(DecimalArithmetic arith, long a, long b) {
+				return arith.negate(a);
+			}
+			@Override
+			void bulk(DecimalArithmetic arith, long[] a, long[] b, long[] result, int offset, int length) {
+				arith.negate(a, result, offset, length);
+			}
+		},
+		ABS {
+			@Override
+			long scalar(DecimalArithmetic arith, long a, long b) {
+				return arith.abs(a);
+			}
+			@Override
+			void bulk(DecimalArithmetic arith, long[] a, long[] b, long[] result, int offset, int length) {
+				arith.abs(a, result, offset, length);
+			}
+		},
+		MULTIPLY {
+			@Override
+			long scalar(DecimalArithmetic arith, long a, long b) {
+				return arith.multiply(a, b);
+			}
+			@Override
+			void bulk(DecimalArithmetic arith, long[] a, long[] b, long[] result, int offset, int length) {
+				arith.multiply(a, b, result, offset, length);
+			}
+		},
+		MULTIPLY_BY_LONG {
+			@Override
+			long scalar(DecimalArithmetic arith, long a, long b) {
+				return arith.multiplyByLong(a, b);
+			}
+			@Override
+			void bulk(DecimalArithmetic arith, long[] a, long[] b, long[] result, int offset, int length) {
+				arith.multiplyByLong(a, b[offset], result, offset, length);
+			}
+			@Override
+			boolean isLongArgument() {
+				return true;
+			}
+		},
+		DIVIDE {
+			@Override
+			long scalar(DecimalArithmetic arith, long a, long b) {
+				return arith.divide(a, b);
+			}
+			@Override
+			void bulk(DecimalArithmetic arith, long[] a, long[] b, long[] result, int offset, int length) {
+				arith.divide(a, b, result, offset, length);
+			}
+		},
+		DIVIDE_BY_LONG {
+			@Override
+			long scalar(DecimalArithmetic arith, long a, long b) {
+				return arith.divideByLong(a, b);
+			}
+			@Override
+			void bulk(DecimalArithmetic arith, long[] a, long[] b, long[] result, int offset, int length) {
+				arith.divideByLong(a, b[offset], result, offset, length);
+			}
+			@Override
+			boolean isLongArgument() {
+				return true;
+			}
+		};
+		abstract long scalar(DecimalArithmetic arith, long a, long b);
+		abstract void bulk(DecimalArithmetic arith, long[] a, long[] b, long[] result, int offset, int length);
+		boolean isLongArgument() {
+			return false;
+		}
+	}
+
+	private final DecimalArithmetic arithmetic;
+
+	public BulkArithmeticTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		this.arithmetic = Objects.requireNonNull(arithmetic, "arithmetic is null");
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				data.add(new Object[] {s, tp, s.getArithmetic(tp)});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldCalculateSameResultsAsSingleValueOperation() {
+		final int runs = Math.max(1, TestSettings.getRandomTestCount() / 100);
+		for (final BulkOp op : BulkOp.values()) {
+			for (int run = 0; run < runs; run++) {
+				final long[] a = randomValues(false);
+				final long[] b = randomValues(op.isLongArgument());
+				final long[] result = new long[LENGTH];
+				assertBulkResult(op, a, b, result, OFFSET, LENGTH - 2 * OFFSET);
+			}
+		}
+	}
+
+	@Test
+	public void shouldSupportResultArrayIdenticalToInputArray() {
+		for (final BulkOp op : BulkOp.values()) {
+			final long[] a = randomValues(false);
+			final long[] b = randomValues(op.isLongArgument());
+			assertBulkResult(op, a, b, a, 0, LENGTH);
+		}
+	}
+
+	@Test
+	public void shouldNotModifyElementsOutsideOfRange() {
+		for (final BulkOp op : BulkOp.values()) {
+			final long[] a = new long[LENGTH];
+			final long[] b = new long[LENGTH];
+			final long[] result = new long[LENGTH];
+			Arrays.fill(a, arithmetic.one());
+			Arrays.fill(b, arithmetic.one());
+			Arrays.fill(result, -1);
+			op.bulk(arithmetic, a, b, result, OFFSET, 0);
+			for (int i = 0; i < LENGTH; i++) {
+				assertEquals(op + ": result[" + i + "] should not have been modified", -1, result[i]);
+			}
+		}
+	}
+
+	@Test
+	public void shouldThrowExceptionForInvalidRange() {
+		final int[][] ranges = {{-1, 1}, {0, -1}, {0, LENGTH + 1}, {LENGTH, 1}, {1, Integer.MAX_VALUE}};
+		for (final BulkOp op : BulkOp.values()) {
+			for (final int[] range : ranges) {
+				try {
+					op.bulk(arithmetic, new long[LENGTH], new long[LENGTH], new long[LENGTH], range[0], range[1]);
+					fail(op + ": expected IndexOutOfBoundsException for offset=" + range[0] + ", length=" + range[1]);
+				} catch (IndexOutOfBoundsException e) {
+					//expected
+				}
+			}
+			try {
+				op.bulk(arithmetic, new long[LENGTH], new long[LENGTH], new long[LENGTH - 1], 0, LENGTH);
+				fail(op + ": expected IndexOutOfBoundsException for short result array");
+			} catch (IndexOutOfBoundsException e) {
+				//expected
+			}
+		}
+	}
+
+	private void assertBulkResult(BulkOp op, long[] a, long[] b, long[] result, int offset, int length) {
+		final long[] expected = result.clone();
+		int failIndex = -1;
+		for (int i = offset; i < offset + length && failIndex < 0; i++) {
+			try {
+				expected[i] = op.scalar(arithmetic, a[i], b[i]);
+			} catch (ArithmeticException e) {
+				failIndex = i;
+			}
+		}
+		final long[] inputA = a.clone();
+		final long[] inputB = b.clone();
+		try {
+			op.bulk(arithmetic, a, b, result, offset, length);
+			assertEquals(op + ": exception expected at index " + failIndex, -1, failIndex);
+		} catch (ArithmeticException e) {
+			assertTrue(op + ": unexpected exception " + e, failIndex >= 0);
+		}
+		final int end = failIndex < 0 ? offset + length : failIndex;
+		for (int i = offset; i < end; i++) {
+			assertEquals(op + ": " + arithmetic.toString(inputA[i]) + ", " + arithmetic.toString(inputB[i]) + " at index " + i, expected[i], result[i]);
+		}
+	}
+
+	private long[] randomValues(boolean sameValue) {
+		final long[] values = new long[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = sameValue && i > 0 ? values[0] : randomValue();
+		}
+		return values;
+	}
+
+	private long randomValue() {
+		switch (RND.nextInt(7)) {
+		case 0:
+			return RND.nextLong();
+		case 1:
+			return RND.nextInt();
+		case 2:
+			return (RND.nextInt(2001) - 1000) * arithmetic.one();
+		case 3:
+			return RND.nextBoolean() ? arithmetic.one() : -arithmetic.one();
+		case 4:
+			return RND.nextInt(1000) - 500;
+		case 5:
+			return RND.nextBoolean() ? Long.MIN_VALUE : Long.MAX_VALUE;
+		default:
+			return RND.nextInt(100) == 0 ? 0 : RND.nextLong() >> RND.nextInt(64);
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalAccumulator} comparing the accumulated sum with
+ * the sum calculated with {@link BigDecimal}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalAccumulatorTest {
+
+	private static final Random RND = new Random();
+	private static final int LENGTH = 64;
+
+	private final ScaleMetrics scaleMetrics;
+	private final TruncationPolicy truncationPolicy;
+
+	public DecimalAccumulatorTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics is null");
+		this.truncationPolicy = Objects.requireNonNull(truncationPolicy, "truncationPolicy is null");
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				data.add(new Object[] {s, tp});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldAccumulateExactSum() {
+		final int runs = Math.max(1, TestSettings.getRandomTestCount() / 100);
+		for (int run = 0; run < runs; run++) {
+			final DecimalAccumulator accumulator = new DecimalAccumulator(scaleMetrics);
+			BigDecimal expected = BigDecimal.ZERO.setScale(scaleMetrics.getScale());
+			for (int i = 0; i < LENGTH; i++) {
+				final long value = randomValue();
+				accumulator.add(value);
+				expected = expected.add(BigDecimal.valueOf(value, scaleMetrics.getScale()));
+				assertEquals("sum after " + (i + 1) + " values", expected, accumulator.toBigDecimal());
+				assertEquals("signum after " + (i + 1) + " values", expected.signum(), accumulator.signum());
+			}
+			assertToUnscaled(accumulator, expected);
+		}
+	}
+
+	@Test
+	public void shouldAccumulateSameSumForArrayAndSingleValues() {
+		final long[] values = new long[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = randomValue();
+		}
+		final DecimalAccumulator single = new DecimalAccumulator(scaleMetrics);
+		for (int i = 3; i < LENGTH - 7; i++) {
+			single.add(values[i]);
+		}
+		final DecimalAccumulator bulk = new DecimalAccumulator(scaleMetrics).add(values, 3, LENGTH - 10);
+		assertEquals(single.toBigDecimal(), bulk.toBigDecimal());
+	}
+
+	@Test
+	public void shouldMergeAccumulators() {
+		final DecimalAccumulator first = new DecimalAccumulator(scaleMetrics);
+		final DecimalAccumulator second = new DecimalAccumulator(scaleMetrics);
+		final DecimalAccumulator all = new DecimalAccumulator(scaleMetrics);
+		for (int i = 0; i < LENGTH; i++) {
+			final long value = randomValue();
+			(i % 3 == 0 ? first : second).add(value);
+			all.add(value);
+		}
+		final BigDecimal expected = first.toBigDecimal().add(second.toBigDecimal());
+		assertEquals(expected, first.merge(second).toBigDecimal());
+		assertEquals(expected, all.toBigDecimal());
+		assertEquals(BigDecimal.ZERO.setScale(scaleMetrics.getScale()), first.reset().toBigDecimal());
+		assertEquals(0, first.signum());
+	}
+
+	@Test
+	public void shouldNotOverflowForMaxAndMinValues() {
+		final DecimalAccumulator max = new DecimalAccumulator(scaleMetrics);
+		final DecimalAccumulator min = new DecimalAccumulator(scaleMetrics);
+		for (int i = 0; i < LENGTH; i++) {
+			max.add(Long.MAX_VALUE);
+			min.add(Long.MIN_VALUE);
+		}
+		assertEquals(BigDecimal.valueOf(Long.MAX_VALUE, scaleMetrics.getScale()).multiply(BigDecimal.valueOf(LENGTH)), max.toBigDecimal());
+		assertEquals(BigDecimal.valueOf(Long.MIN_VALUE, scaleMetrics.getScale()).multiply(BigDecimal.valueOf(LENGTH)), min.toBigDecimal());
+		assertEquals(BigDecimal.valueOf(-LENGTH, scaleMetrics.getScale()), max.merge(min).toBigDecimal());
+	}
+
+	@Test
+	public void shouldThrowExceptionForInvalidRange() {
+		final int[][] ranges = {{-1, 1}, {0, -1}, {0, LENGTH + 1}, {LENGTH, 1}, {1, Integer.MAX_VALUE}};
+		for (final int[] range : ranges) {
+			try {
+				new DecimalAccumulator(scaleMetrics).add(new long[LENGTH], range[0], range[1]);
+				fail("expected IndexOutOfBoundsException for offset=" + range[0] + ", length=" + range[1]);
+			} catch (IndexOutOfBoundsException e) {
+				//expected
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionWhenMergingDifferentScales() {
+		final ScaleMetrics other = Scales.getScaleMetrics((scaleMetrics.getScale() + 1) % (Scales.MAX_SCALE + 1));
+		new DecimalAccumulator(scaleMetrics).merge(new DecimalAccumulator(other));
+	}
+
+	private void assertToUnscaled(DecimalAccumulator accumulator, BigDecimal sum) {
+		for (final ScaleMetrics targetScale : TestSettings.SCALES) {
+			final DecimalArithmetic arith = targetScale.getArithmetic(truncationPolicy);
+			final String msg = "toUnscaled(" + sum + ") with " + arith;
+			final RoundingMode roundingMode = arith.getRoundingMode();
+			BigDecimal expected;
+			try {
+				expected = sum.setScale(targetScale.getScale(), roundingMode);
+			} catch (ArithmeticException e) {
+				expected = null;
+			}
+			try {
+				final long actual = accumulator.toUnscaled(arith);
+				if (expected == null) {
+					fail(msg + ": expected rounding necessary exception but result was " + actual);
+				}
+				if (expected.unscaledValue().bitLength() > 63) {
+					fail(msg + ": expected overflow exception but result was " + actual);
+				}
+				assertEquals(msg, expected.unscaledValue().longValue(), actual);
+			} catch (IllegalArgumentException e) {
+				if (expected == null || expected.unscaledValue().bitLength() <= 63) {
+					throw new AssertionError(msg + ": unexpected exception " + e, e);
+				}
+			} catch (ArithmeticException e) {
+				if (expected != null) {
+					throw new AssertionError(msg + ": unexpected exception " + e, e);
+				}
+			}
+		}
+	}
+
+	private long randomValue() {
+		switch (RND.nextInt(4)) {
+		case 0:
+			return RND.nextLong();
+		case 1:
+			return RND.nextBoolean() ? Long.MAX_VALUE : Long.MIN_VALUE;
+		case 2:
+			return RND.nextInt();
+		default:
+			return RND.nextLong() >> RND.nextInt(64);
+		}
+	}
+}
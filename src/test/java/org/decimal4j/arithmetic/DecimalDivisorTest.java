@@ -0,0 +1,170 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalDivisor} comparing division results with those
+ * of {@link DecimalArithmetic#divide(long, long)}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalDivisorTest {
+
+	private static final Random RND = new Random();
+
+	private final ScaleMetrics scaleMetrics;
+	private final TruncationPolicy truncationPolicy;
+	private final DecimalArithmetic arithmetic;
+
+	public DecimalDivisorTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics is null");
+		this.truncationPolicy = Objects.requireNonNull(truncationPolicy, "truncationPolicy is null");
+		this.arithmetic = scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				data.add(new Object[] {s, tp});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldDivideSpecialValues() {
+		final long[] specialValues = TestSettings.TEST_CASES.getSpecialValuesFor(scaleMetrics);
+		for (final long divisor : specialValues) {
+			final DecimalDivisor decimalDivisor = new DecimalDivisor(arithmetic, divisor);
+			for (final long dividend : specialValues) {
+				assertDivide(decimalDivisor, dividend);
+			}
+		}
+	}
+
+	@Test
+	public void shouldDivideRandomValues() {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			final long divisor = randomValue();
+			if (divisor != 0) {
+				final DecimalDivisor decimalDivisor = new DecimalDivisor(arithmetic, divisor);
+				for (int j = 0; j < 10; j++) {
+					assertDivide(decimalDivisor, randomValue());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void shouldDivideArray() {
+		// division by one is exact, otherwise some divisor in [1, 10)
+		final long one = scaleMetrics.getScaleFactor();
+		final long divisor = truncationPolicy.getRoundingMode() == RoundingMode.UNNECESSARY ? one
+				: one * (1 + RND.nextInt(9)) + RND.nextInt(1000);
+		final DecimalDivisor decimalDivisor = new DecimalDivisor(arithmetic, divisor);
+		final long[] dividends = new long[16];
+		for (int i = 0; i < dividends.length; i++) {
+			dividends[i] = RND.nextInt();
+		}
+		final long[] result = new long[dividends.length];
+		decimalDivisor.divide(dividends, result, 2, 12);
+		for (int i = 0; i < result.length; i++) {
+			final long expected = i < 2 | i >= 14 ? 0 : arithmetic.divide(dividends[i], divisor);
+			assertEquals("result[" + i + "] for " + decimalDivisor, expected, result[i]);
+		}
+	}
+
+	@Test
+	public void shouldUseDefaultArithmeticForDecimal() {
+		final DecimalDivisor decimalDivisor = new DecimalDivisor(Factories.getDecimalFactory(scaleMetrics).valueOf(3));
+		assertEquals(scaleMetrics.getDefaultArithmetic(), decimalDivisor.getArithmetic());
+		assertEquals(scaleMetrics.getScaleFactor() * 3, decimalDivisor.getDivisor());
+	}
+
+	@Test
+	public void shouldThrowSameExceptionAsArithmeticForZeroDivisor() {
+		final DecimalDivisor decimalDivisor = new DecimalDivisor(arithmetic, 0);
+		for (final long dividend : TestSettings.TEST_CASES.getSpecialValuesFor(scaleMetrics)) {
+			try {
+				decimalDivisor.divide(dividend);
+				fail("expected division by zero exception for " + arithmetic.toString(dividend) + " / 0");
+			} catch (ArithmeticException e) {
+				assertDivide(decimalDivisor, dividend);
+			}
+		}
+	}
+
+	private void assertDivide(DecimalDivisor decimalDivisor, long dividend) {
+		final String msg = arithmetic.toString(dividend) + " / " + arithmetic.toString(decimalDivisor.getDivisor())
+				+ " with " + truncationPolicy;
+		long expected;
+		try {
+			expected = arithmetic.divide(dividend, decimalDivisor.getDivisor());
+		} catch (ArithmeticException e) {
+			try {
+				final long actual = decimalDivisor.divide(dividend);
+				fail(msg + " should throw " + e + " but returned " + arithmetic.toString(actual));
+			} catch (ArithmeticException ex) {
+				assertEquals(msg, e.getMessage(), ex.getMessage());
+			}
+			return;
+		}
+		assertEquals(msg, expected, decimalDivisor.divide(dividend));
+	}
+
+	private long randomValue() {
+		switch (RND.nextInt(4)) {
+		case 0:
+			return RND.nextLong();
+		case 1:
+			return RND.nextLong() >> RND.nextInt(64);
+		case 2:
+			return RND.nextInt();
+		default:
+			return scaleMetrics.multiplyByScaleFactor(RND.nextInt(1000) - 500) + RND.nextInt(1000);
+		}
+	}
+
+}
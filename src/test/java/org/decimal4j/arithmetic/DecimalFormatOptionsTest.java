@@ -0,0 +1,251 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.CheckedRounding;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalFormatOptions} comparing formatted values with
+ * the result derived from {@link BigDecimal#toPlainString()}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalFormatOptionsTest {
+
+	private static final Random RND = new Random();
+	private static final char[] PADDING_CHARS = {'0', ' ', '*'};
+
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+	private final DecimalArithmetic arithmetic;
+
+	public DecimalFormatOptionsTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics is null");
+		this.roundingMode = Objects.requireNonNull(roundingMode, "roundingMode is null");
+		this.arithmetic = scaleMetrics.getArithmetic(CheckedRounding.valueOf(roundingMode));
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode mode : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				data.add(new Object[] {s, mode});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void defaultShouldFormatLikeToString() throws IOException {
+		for (final long uDecimal : TestSettings.TEST_CASES.getSpecialValuesFor(scaleMetrics)) {
+			assertEquals(arithmetic.toString(uDecimal), format(DecimalFormatOptions.DEFAULT, uDecimal));
+		}
+	}
+
+	@Test
+	public void shouldFormatDecimal() throws IOException {
+		final DecimalFormatOptions options = DecimalFormatOptions.DEFAULT.withStripTrailingZeros(true).withMinIntegerDigits(3);
+		final StringBuilder sb = new StringBuilder();
+		options.format(Factories.getDecimalFactory(scaleMetrics).valueOf(-1), sb);
+		assertEquals("-001", sb.toString());
+	}
+
+	@Test
+	public void shouldFormatExamples() throws IOException {
+		final DecimalArithmetic arith = Scales.getScaleMetrics(8).getArithmetic(roundingMode);
+		final long value = arith.fromUnscaled(150000000, 8);// 1.50000000
+		final StringBuilder sb = new StringBuilder();
+		DecimalFormatOptions.DEFAULT.withStripTrailingZeros(true).format(arith, value, sb);
+		assertEquals("1.5", sb.toString());
+		sb.setLength(0);
+		DecimalFormatOptions.DEFAULT.withMinIntegerDigits(6).withMinFractionDigits(4).withMaxFractionDigits(4).withPlusSign(true).format(arith, value, sb);
+		assertEquals("+000001.5000", sb.toString());
+		sb.setLength(0);
+		DecimalFormatOptions.DEFAULT.withMinIntegerDigits(4).withPaddingChar(' ').withStripTrailingZeros(true).withMinFractionDigits(2).format(arith, arith.negate(value), sb);
+		assertEquals("   -1.50", sb.toString());
+	}
+
+	@Test
+	public void shouldFormatSpecialValues() throws IOException {
+		for (final long uDecimal : TestSettings.TEST_CASES.getSpecialValuesFor(scaleMetrics)) {
+			for (int i = 0; i < 10; i++) {
+				assertFormat(randomOptions(), uDecimal);
+			}
+		}
+	}
+
+	@Test
+	public void shouldFormatRandomValues() throws IOException {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			assertFormat(randomOptions(), RND.nextLong() >> RND.nextInt(64));
+		}
+	}
+
+	@Test
+	public void shouldFormatExtremeValuesWithoutOverflow() throws IOException {
+		final long[] extremes = {Long.MIN_VALUE, -Long.MAX_VALUE, Long.MAX_VALUE};
+		for (int scale = Scales.MIN_SCALE; scale <= Scales.MAX_SCALE; scale++) {
+			final ScaleMetrics metrics = Scales.getScaleMetrics(scale);
+			final DecimalArithmetic[] ariths = {metrics.getArithmetic(CheckedRounding.valueOf(roundingMode)), metrics.getArithmetic(roundingMode)};
+			for (final DecimalArithmetic arith : ariths) {
+				for (int maxFractionDigits = 0; maxFractionDigits <= DecimalFormatOptions.MAX_FRACTION_DIGITS; maxFractionDigits++) {
+					final DecimalFormatOptions options = DecimalFormatOptions.DEFAULT.withMaxFractionDigits(maxFractionDigits);
+					for (final long uDecimal : extremes) {
+						for (int output = 0; output < 3; output++) {
+							assertFormat(arith, options, uDecimal, output);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void shouldRejectInvalidOptions() {
+		assertInvalid(0, 0, 0, '0');
+		assertInvalid(DecimalFormatOptions.MAX_INTEGER_DIGITS + 1, 0, 0, '0');
+		assertInvalid(1, -1, 0, '0');
+		assertInvalid(1, 0, DecimalFormatOptions.MAX_FRACTION_DIGITS + 1, '0');
+		assertInvalid(1, 0, 0, '-');
+		assertInvalid(1, 0, 0, '\u00a0');// non-breaking space is not ASCII
+	}
+
+	private static void assertInvalid(int minIntegerDigits, int minFractionDigits, int maxFractionDigits, char paddingChar) {
+		try {
+			DecimalFormatOptions.DEFAULT.withMinIntegerDigits(minIntegerDigits).withMinFractionDigits(minFractionDigits).withMaxFractionDigits(maxFractionDigits).withPaddingChar(paddingChar);
+			fail("expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	private DecimalFormatOptions randomOptions() {
+		final int minFractionDigits = RND.nextInt(DecimalFormatOptions.MAX_FRACTION_DIGITS + 1);
+		final int maxFractionDigits = minFractionDigits + RND.nextInt(DecimalFormatOptions.MAX_FRACTION_DIGITS + 1 - minFractionDigits);
+		return DecimalFormatOptions.DEFAULT
+				.withMinIntegerDigits(1 + RND.nextInt(DecimalFormatOptions.MAX_INTEGER_DIGITS))
+				.withMaxFractionDigits(maxFractionDigits)
+				.withMinFractionDigits(RND.nextBoolean() ? 0 : minFractionDigits)
+				.withStripTrailingZeros(RND.nextBoolean())
+				.withPlusSign(RND.nextBoolean())
+				.withPaddingChar(PADDING_CHARS[RND.nextInt(PADDING_CHARS.length)]);
+	}
+
+	private void assertFormat(DecimalFormatOptions options, long uDecimal) throws IOException {
+		assertFormat(arithmetic, options, uDecimal, RND.nextInt(3));
+	}
+
+	private static void assertFormat(DecimalArithmetic arith, DecimalFormatOptions options, long uDecimal, int output) throws IOException {
+		final String message = options + ", arith=" + arith + ", output=" + output + ", uDecimal=" + uDecimal;
+		String expected;
+		try {
+			expected = expected(arith, options, uDecimal);
+		} catch (ArithmeticException e) {
+			expected = ArithmeticException.class.getName();
+		}
+		String actual;
+		try {
+			actual = format(arith, options, uDecimal, output);
+		} catch (ArithmeticException e) {
+			actual = ArithmeticException.class.getName();
+		}
+		assertEquals(message, expected, actual);
+	}
+
+	private static String expected(DecimalArithmetic arith, DecimalFormatOptions options, long uDecimal) {
+		final int scale = arith.getScale();
+		BigDecimal value = BigDecimal.valueOf(uDecimal, scale);
+		if (options.getMaxFractionDigits() < scale) {
+			value = value.setScale(options.getMaxFractionDigits(), arith.getRoundingMode());
+		}
+		if (options.isStripTrailingZeros()) {
+			value = value.stripTrailingZeros();
+		}
+		value = value.setScale(Math.max(options.getMinFractionDigits(), Math.max(0, value.scale())));
+		final String plain = value.abs().toPlainString();
+		final int indexOfPoint = plain.indexOf('.');
+		final int integralDigits = indexOfPoint < 0 ? plain.length() : indexOfPoint;
+		final StringBuilder padding = new StringBuilder();
+		for (int i = integralDigits; i < options.getMinIntegerDigits(); i++) {
+			padding.append(options.getPaddingChar());
+		}
+		final String sign = value.signum() < 0 ? "-" : options.isPlusSign() ? "+" : "";
+		return options.getPaddingChar() == '0' ? sign + padding + plain : padding + sign + plain;
+	}
+
+	private String format(DecimalFormatOptions options, long uDecimal) throws IOException {
+		return format(arithmetic, options, uDecimal, RND.nextInt(3));
+	}
+
+	private static String format(DecimalArithmetic arith, DecimalFormatOptions options, long uDecimal, int output) throws IOException {
+		switch (output) {
+		case 0: {
+			final String prefix = "prefix";
+			final StringBuilder sb = new StringBuilder(prefix);
+			options.format(arith, uDecimal, sb);
+			return sb.substring(prefix.length());
+		}
+		case 1: {
+			final byte[] bytes = new byte[128];
+			final int offset = RND.nextInt(32);
+			final int length = options.format(arith, uDecimal, bytes, offset);
+			return new String(bytes, offset, length, StandardCharsets.US_ASCII);
+		}
+		default: {
+			final ByteBuffer buffer = RND.nextBoolean() ? ByteBuffer.allocate(128) : ByteBuffer.allocateDirect(128);
+			final int position = RND.nextInt(32);
+			buffer.position(position);
+			final int length = options.format(arith, uDecimal, buffer);
+			assertEquals("buffer position", position + length, buffer.position());
+			final byte[] bytes = new byte[length];
+			buffer.position(position);
+			buffer.get(bytes);
+			return new String(bytes, StandardCharsets.US_ASCII);
+		}
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.CheckedRounding;
+import org.decimal4j.truncate.StacklessArithmeticException;
+import org.decimal4j.truncate.UncheckedRounding;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Exceptions} and the stackless exceptions thrown if
+ * {@link StacklessArithmeticException#ENABLED} is true. Run the tests with
+ * {@code -Ddecimal4j.stacklessExceptions=true} to test arithmetic in stackless
+ * mode.
+ */
+public class ExceptionsTest {
+
+	private static final DecimalArithmetic CHECKED = Scales.getScaleMetrics(2).getArithmetic(CheckedRounding.HALF_UP);
+	private static final DecimalArithmetic UNCHECKED = Scales.getScaleMetrics(2).getArithmetic(UncheckedRounding.HALF_UP);
+	private static final DecimalArithmetic UNNECESSARY = Scales.getScaleMetrics(2).getArithmetic(CheckedRounding.UNNECESSARY);
+
+	@Test
+	public void shouldThrowOverflowException() {
+		final ArithmeticException e1 = assertThrows(new Operation() {
+			@Override
+			public void run() {
+				CHECKED.add(Long.MAX_VALUE, 1);
+			}
+		});
+		final ArithmeticException e2 = assertThrows(new Operation() {
+			@Override
+			public void run() {
+				CHECKED.multiply(Long.MAX_VALUE, 200);
+			}
+		});
+		assertException("Overflow", "Overflow: 92233720368547758.07 + 0.01 = -92233720368547758.08", StacklessArithmeticException.ENABLED, e1);
+		assertException("Overflow", "Overflow: 92233720368547758.07 * 2.00", StacklessArithmeticException.ENABLED, e2);
+		assertSharedIfStackless(StacklessArithmeticException.OVERFLOW, e1, e2);
+	}
+
+	@Test
+	public void shouldThrowOverflowExceptionWithCause() {
+		final ArithmeticException e = assertThrows(new Operation() {
+			@Override
+			public void run() {
+				CHECKED.addUnscaled(Long.MAX_VALUE, 1, 1);
+			}
+		});
+		assertException("Overflow", "Overflow: 92233720368547758.07 + 1*10^-1", StacklessArithmeticException.ENABLED, e);
+		assertEquals(StacklessArithmeticException.ENABLED, e.getCause() == null);
+	}
+
+	@Test
+	public void shouldThrowStacklessDivisionByZeroOnlyForCheckedArithmetic() {
+		final ArithmeticException checked = assertThrows(new Operation() {
+			@Override
+			public void run() {
+				CHECKED.divide(100, 0);
+			}
+		});
+		final ArithmeticException unchecked = assertThrows(new Operation() {
+			@Override
+			public void run() {
+				UNCHECKED.divide(100, 0);
+			}
+		});
+		assertException("Division by zero", "Division by zero: 1.00 / 0.00", StacklessArithmeticException.ENABLED, checked);
+		assertException("Division by zero", "Division by zero: 1.00 / 0.00", false, unchecked);
+		final ArithmeticException inverted = assertThrows(new Operation() {
+			@Override
+			public void run() {
+				CHECKED.invert(0);
+			}
+		});
+		assertSharedIfStackless(StacklessArithmeticException.DIVISION_BY_ZERO, checked, inverted);
+	}
+
+	@Test
+	public void shouldThrowRoundingNecessaryException() {
+		final ArithmeticException e = assertThrows(new Operation() {
+			@Override
+			public void run() {
+				UNNECESSARY.avg(1, 2);
+			}
+		});
+		assertException("Rounding necessary", "Rounding necessary: 0.01 avg 0.02 = 0.01", StacklessArithmeticException.ENABLED, e);
+		final ArithmeticException converted = assertThrows(new Operation() {
+			@Override
+			public void run() {
+				UNNECESSARY.fromDouble(0.001);
+			}
+		});
+		assertSharedIfStackless(StacklessArithmeticException.ROUNDING_NECESSARY, e, converted);
+	}
+
+	@Test
+	public void shouldReturnRoundingNecessaryException() {
+		final ArithmeticException e1 = Exceptions.newRoundingNecessaryArithmeticException();
+		final ArithmeticException e2 = Exceptions.newRoundingNecessaryArithmeticException();
+		assertException("Rounding necessary", "Rounding necessary", StacklessArithmeticException.ENABLED, e1);
+		assertSharedIfStackless(StacklessArithmeticException.ROUNDING_NECESSARY, e1, e2);
+	}
+
+	@Test
+	public void shouldRethrowRoundingNecessaryExceptions() {
+		assertRethrown(new StacklessArithmeticException("Rounding necessary"));
+		assertRethrown(new ArithmeticException("Rounding necessary"));
+		Exceptions.rethrowIfRoundingNecessary(new ArithmeticException("Overflow"));
+		Exceptions.rethrowIfRoundingNecessary(new StacklessArithmeticException("Overflow"));
+	}
+
+	private static void assertException(String stacklessMessage, String message, boolean stackless, ArithmeticException e) {
+		if (stackless) {
+			assertTrue("should be stackless: " + e, e instanceof StacklessArithmeticException);
+			assertEquals(stacklessMessage, e.getMessage());
+			assertEquals(0, e.getStackTrace().length);
+		} else {
+			assertEquals(ArithmeticException.class, e.getClass());
+			assertEquals(message, e.getMessage());
+			assertTrue("should have stack trace: " + e, e.getStackTrace().length > 0);
+		}
+	}
+
+	private static void assertRethrown(ArithmeticException e) {
+		try {
+			Exceptions.rethrowIfRoundingNecessary(e);
+			fail("should rethrow " + e);
+		} catch (ArithmeticException ex) {
+			assertSame(e, ex);
+		}
+	}
+
+	private static void assertSharedIfStackless(StacklessArithmeticException shared, ArithmeticException e1, ArithmeticException e2) {
+		if (StacklessArithmeticException.ENABLED) {
+			assertSame(shared, e1);
+			assertSame(shared, e2);
+		} else {
+			assertNotSame(shared, e1);
+			assertNotSame(shared, e2);
+		}
+	}
+
+	private static ArithmeticException assertThrows(Operation operation) {
+		try {
+			operation.run();
+		} catch (ArithmeticException e) {
+			return e;
+		}
+		throw new AssertionError("expected ArithmeticException");
+	}
+
+	private static interface Operation {
+		void run();
+	}
+}
@@ -26,9 +26,9 @@ package org.decimal4j.arithmetic;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
+import org.decimal4j.scale.Scales;
 import org.decimal4j.test.AbstractFinalTest;
 import org.junit.Assert;
 import org.junit.Test;
@@ -72,6 +72,7 @@ public class FinalClassTest extends AbstractFinalTest {
 		data.add(new Object[] {Avg.class});
 		data.add(new Object[] {BigDecimalConversion.class});
 		data.add(new Object[] {BigIntegerConversion.class});
+		data.add(new Object[] {Bulk.class});
 		data.add(new Object[] {Checked.class});
 		data.add(new Object[] {CheckedScale0fRoundingArithmetic.class});
 		data.add(new Object[] {CheckedScale0fTruncatingArithmetic.class});
@@ -100,6 +101,8 @@ public class FinalClassTest extends AbstractFinalTest {
 		data.add(new Object[] {StringConversion.class});
 		data.add(new Object[] {Sub.class});
 		data.add(new Object[] {ThreadLocals.class});
+		data.add(new Object[] {UncheckedBulkKernel.class});
+		data.add(new Object[] {UncheckedBulkKernel.Scalar.class});
 		data.add(new Object[] {UncheckedScale0fRoundingArithmetic.class});
 		data.add(new Object[] {UncheckedScale0fTruncatingArithmetic.class});
 		data.add(new Object[] {UncheckedScaleNfRoundingArithmetic.class});
@@ -107,9 +110,23 @@ public class FinalClassTest extends AbstractFinalTest {
 		data.add(new Object[] {UnscaledConversion.class});
 		data.add(new Object[] {Unsigned.class});
 		data.add(new Object[] {UnsignedDecimal9i36f.class});
+		for (int scale = 1; scale <= Scales.MAX_SCALE; scale++) {
+			for (final String name : new String[] {"Checked", "Unchecked"}) {
+				data.add(new Object[] {scaleSpecificClass(name + "Scale" + scale + "fRoundingArithmetic")});
+				data.add(new Object[] {scaleSpecificClass(name + "Scale" + scale + "fTruncatingArithmetic")});
+			}
+		}
 		return data;
 	}
 
+	private static Class<?> scaleSpecificClass(String simpleName) {
+		try {
+			return Class.forName(FinalClassTest.class.getPackage().getName() + "." + simpleName);
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("generated class not found: " + simpleName, e);
+		}
+	}
+
 	
 	@Test
 	public void classShouldBeFinal() {
@@ -134,9 +151,6 @@ public class FinalClassTest extends AbstractFinalTest {
 	
 	@Override
 	protected boolean isAllowedNonFinalField(Field field) {
-		if (UnsignedDecimal9i36f.class.equals(clazz)) {
-			return Arrays.asList("norm", "pow10", "ival", "val3", "val2", "val1", "val0").contains(field.getName());
-		}
 		return false;
 	}
 
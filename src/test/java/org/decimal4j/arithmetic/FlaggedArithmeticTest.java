@@ -0,0 +1,165 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link FlaggedArithmetic} comparing results and status flags
+ * with an exact calculation based on {@link BigDecimal}.
+ */
+@RunWith(Parameterized.class)
+public class FlaggedArithmeticTest {
+
+	private static final Random RND = new Random();
+
+	private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+	private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+	private final FlaggedArithmetic arithmetic;
+
+	public FlaggedArithmeticTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics is null");
+		this.roundingMode = Objects.requireNonNull(roundingMode, "roundingMode is null");
+		this.arithmetic = new FlaggedArithmetic(scaleMetrics, roundingMode);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode rm : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				data.add(new Object[] {s, rm});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldCalculateSpecialValues() {
+		final long[] specialValues = TestSettings.TEST_CASES.getSpecialValuesFor(scaleMetrics);
+		for (final long a : specialValues) {
+			for (final long b : specialValues) {
+				assertAllOperations(a, b);
+			}
+		}
+	}
+
+	@Test
+	public void shouldCalculateRandomValues() {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			assertAllOperations(randomValue(), randomValue());
+		}
+	}
+
+	@Test
+	public void shouldAccumulateFlagsUntilCleared() {
+		final ArithmeticStatus status = new ArithmeticStatus();
+		assertEquals(true, status.isClear());
+		assertEquals(0, arithmetic.divide(1, 0, status));
+		arithmetic.add(Long.MAX_VALUE, 1, status);
+		arithmetic.add(1, 1, status);
+		assertEquals(ArithmeticStatus.DIVISION_BY_ZERO | ArithmeticStatus.OVERFLOW, status.getFlags());
+		assertEquals(true, status.isOverflow());
+		assertEquals(true, status.isDivisionByZero());
+		assertEquals(false, status.isInexact());
+		assertEquals(true, status.isAnySet(ArithmeticStatus.OVERFLOW | ArithmeticStatus.INEXACT));
+		assertEquals("ArithmeticStatus[OVERFLOW,DIVISION_BY_ZERO]", status.toString());
+		assertEquals(true, status.clear().isClear());
+		assertEquals("ArithmeticStatus[]", status.toString());
+	}
+
+	private void assertAllOperations(long a, long b) {
+		final BigDecimal bdA = BigDecimal.valueOf(a, scaleMetrics.getScale());
+		final BigDecimal bdB = BigDecimal.valueOf(b, scaleMetrics.getScale());
+		final ArithmeticStatus status = new ArithmeticStatus();
+		assertResult(a + " + " + b, bdA.add(bdB), arithmetic.add(a, b, status), status);
+		assertResult(a + " - " + b, bdA.subtract(bdB), arithmetic.subtract(a, b, status.clear()), status);
+		assertResult(a + " * " + b, bdA.multiply(bdB), arithmetic.multiply(a, b, status.clear()), status);
+		assertResult(a + " * " + b + "L", bdA.multiply(BigDecimal.valueOf(b)), arithmetic.multiplyByLong(a, b, status.clear()), status);
+		assertDivision(a + " / " + b, bdA, bdB, arithmetic.divide(a, b, status.clear()), status);
+		assertDivision(a + " / " + b + "L", bdA, BigDecimal.valueOf(b), arithmetic.divideByLong(a, b, status.clear()), status);
+	}
+
+	private void assertDivision(String msg, BigDecimal dividend, BigDecimal divisor, long actual, ArithmeticStatus status) {
+		if (divisor.signum() == 0) {
+			assertEquals(msg + ": status", ArithmeticStatus.DIVISION_BY_ZERO, status.getFlags());
+			assertEquals(msg + ": result", 0, actual);
+			return;
+		}
+		final BigDecimal truncated = dividend.divide(divisor, scaleMetrics.getScale(), RoundingMode.DOWN);
+		final boolean inexact = truncated.multiply(divisor).compareTo(dividend) != 0;
+		final BigDecimal rounded = dividend.divide(divisor, scaleMetrics.getScale(), effectiveRoundingMode());
+		assertResult(msg, inexact, rounded.unscaledValue(), actual, status);
+	}
+
+	private void assertResult(String msg, BigDecimal exact, long actual, ArithmeticStatus status) {
+		final BigDecimal rounded = exact.setScale(scaleMetrics.getScale(), effectiveRoundingMode());
+		assertResult(msg, rounded.compareTo(exact) != 0, rounded.unscaledValue(), actual, status);
+	}
+
+	private void assertResult(String msg, boolean inexact, BigInteger unscaled, long actual, ArithmeticStatus status) {
+		final boolean overflow = unscaled.compareTo(MIN_LONG) < 0 || unscaled.compareTo(MAX_LONG) > 0;
+		final int expectedFlags = (overflow ? ArithmeticStatus.OVERFLOW : 0) | (inexact ? ArithmeticStatus.INEXACT : 0);
+		final String message = msg + " with scale " + scaleMetrics.getScale() + " and " + roundingMode;
+		assertEquals(message + ": status", expectedFlags, status.getFlags());
+		assertEquals(message + ": result", unscaled.longValue(), actual);
+	}
+
+	private RoundingMode effectiveRoundingMode() {
+		return roundingMode == RoundingMode.UNNECESSARY ? RoundingMode.DOWN : roundingMode;
+	}
+
+	private long randomValue() {
+		switch (RND.nextInt(4)) {
+		case 0:
+			return RND.nextLong();
+		case 1:
+			return RND.nextLong() >> RND.nextInt(64);
+		case 2:
+			return RND.nextInt();
+		default:
+			return scaleMetrics.multiplyByScaleFactor(RND.nextInt(1000) - 500) + RND.nextInt(1000);
+		}
+	}
+
+}
@@ -0,0 +1,321 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import javax.management.ObjectName;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.ArithmeticCounters.Counter;
+import org.decimal4j.arithmetic.ArithmeticCounters.Operation;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.CheckedRounding;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link InstrumentedArithmetic} and {@link ArithmeticCounters}.
+ */
+@RunWith(Parameterized.class)
+public class InstrumentedArithmeticTest {
+
+	private static final Random RND = new Random();
+
+	private final ScaleMetrics scaleMetrics;
+	private final ArithmeticCounters counters;
+
+	public InstrumentedArithmeticTest(ScaleMetrics scaleMetrics) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics is null");
+		this.counters = ArithmeticCounters.forScale(scaleMetrics.getScale());
+	}
+
+	@Parameters(name = "{index}: {0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			data.add(new Object[] {s});
+		}
+		return data;
+	}
+
+	@Before
+	public void resetCounters() {
+		counters.reset();
+	}
+
+	@Test
+	public void shouldReturnSameResultsAsDelegate() {
+		int negativeSqrts = 0;
+		for (final TruncationPolicy policy : TestSettings.POLICIES) {
+			final DecimalArithmetic delegate = scaleMetrics.getArithmetic(policy);
+			final DecimalArithmetic instrumented = InstrumentedArithmetic.instrument(delegate);
+			for (int i = 0; i < TestSettings.getRandomTestCount(); i++) {
+				final long a = randomValue();
+				negativeSqrts += a < 0 ? 1 : 0;
+				final long b = randomValue();
+				assertSameResult(policy + ": " + a + " + " + b, delegate, instrumented, Operation.ADD, a, b);
+				assertSameResult(policy + ": " + a + " - " + b, delegate, instrumented, Operation.SUBTRACT, a, b);
+				assertSameResult(policy + ": " + a + " * " + b, delegate, instrumented, Operation.MULTIPLY, a, b);
+				assertSameResult(policy + ": " + a + " / " + b, delegate, instrumented, Operation.DIVIDE, a, b);
+				assertSameResult(policy + ": " + a + " avg " + b, delegate, instrumented, Operation.AVG, a, b);
+				assertSameResult(policy + ": sqrt(" + a + ")", delegate, instrumented, Operation.SQRT, a, b);
+			}
+		}
+		assertEquals(6 * TestSettings.getRandomTestCount() * TestSettings.POLICIES.size() - negativeSqrts, counters.getOperations());
+	}
+
+	@Test
+	public void shouldCountParseFailuresButNotInvalidArguments() {
+		final DecimalArithmetic checked = InstrumentedArithmetic.instrument(scaleMetrics.getArithmetic(CheckedRounding.DOWN));
+		final DecimalArithmetic unnecessary = checked.deriveArithmetic(RoundingMode.UNNECESSARY);
+		final String tooLarge = "92233720368547758080";
+		final String tooPrecise = "0.1234567890123456789";
+
+		assertParseException(checked, tooLarge);
+		assertParseException(checked.deriveArithmetic(RoundingMode.HALF_UP), "-" + tooLarge + ".5");
+		assertParseException(checked, "1.2x");
+		assertParseException(checked, "");
+		try {
+			unnecessary.parse(tooPrecise);
+			fail("parse should throw an exception for " + tooPrecise);
+		} catch (ArithmeticException e) {
+			// expected
+		}
+		assertArithmeticException(checked, Operation.SQRT, -1, 0);
+
+		// overflows are counted for string, byte array and byte buffer input
+		assertEquals(7, counters.getCount(Operation.PARSE, Counter.OPERATIONS));
+		assertEquals(6, counters.getCount(Operation.PARSE, Counter.OVERFLOWS));
+		assertEquals(1, counters.getCount(Operation.PARSE, Counter.INEXACT_ROUNDINGS));
+		assertEquals(0, counters.getCount(Operation.SQRT, Counter.OPERATIONS));
+	}
+
+	@Test
+	public void shouldCountInexactRoundingsAndIncrements() {
+		final long one = scaleMetrics.getScaleFactor();
+		final DecimalArithmetic halfUp = InstrumentedArithmetic.instrument(scaleMetrics.getArithmetic(RoundingMode.HALF_UP));
+		final DecimalArithmetic up = halfUp.deriveArithmetic(RoundingMode.UP);
+
+		halfUp.divide(one, 4 * one);// 0.25, inexact only at scale 0 and 1
+		halfUp.divide(one, 3 * one);// 0.333.., inexact, no increment
+		up.divide(one, 3 * one);// 0.333.., inexact, with increment
+		halfUp.multiply(2 * one, 3 * one);// exact
+		halfUp.toLong(one + one / 2);// rounds up to 2 unless scale 0
+
+		final int scale = scaleMetrics.getScale();
+		assertEquals(4, counters.getCount(Operation.DIVIDE, Counter.OPERATIONS) + counters.getCount(Operation.MULTIPLY, Counter.OPERATIONS));
+		assertEquals(scale <= 1 ? 3 : 2, counters.getCount(Operation.DIVIDE, Counter.INEXACT_ROUNDINGS));
+		assertEquals(scale == 1 ? 2 : 1, counters.getCount(Operation.DIVIDE, Counter.ROUNDING_INCREMENTS));
+		assertEquals(0, counters.getCount(Operation.MULTIPLY, Counter.INEXACT_ROUNDINGS));
+		assertEquals(1, counters.getCount(Operation.CONVERT, Counter.OPERATIONS));
+		assertEquals(scale == 0 ? 0 : 1, counters.getCount(Operation.CONVERT, Counter.ROUNDING_INCREMENTS));
+		assertEquals(0, counters.getOverflows() + counters.getDivisionsByZero());
+	}
+
+	@Test
+	public void shouldCountOverflowsAndDivisionsByZero() {
+		final long one = scaleMetrics.getScaleFactor();
+		final DecimalArithmetic unchecked = InstrumentedArithmetic.instrument(scaleMetrics.getArithmetic(RoundingMode.DOWN));
+		final DecimalArithmetic checked = unchecked.deriveArithmetic(CheckedRounding.DOWN);
+		final DecimalArithmetic unnecessary = checked.deriveArithmetic(RoundingMode.UNNECESSARY);
+
+		assertEquals(Long.MIN_VALUE, unchecked.add(Long.MAX_VALUE, 1));
+		unchecked.multiply(Long.MAX_VALUE, Long.MAX_VALUE);
+		assertArithmeticException(checked, Operation.ADD, Long.MAX_VALUE, 1);
+		assertArithmeticException(checked, Operation.DIVIDE, one, 0);
+		assertArithmeticException(unchecked, Operation.DIVIDE, one, 0);
+		assertArithmeticException(unnecessary, Operation.DIVIDE, one, 3 * one);
+		assertArithmeticException(checked, Operation.SQUARE, Long.MAX_VALUE, 0);
+
+		assertEquals(3, counters.getCount(Operation.ADD, Counter.OPERATIONS) + counters.getCount(Operation.SQUARE, Counter.OPERATIONS));
+		assertEquals(2, counters.getCount(Operation.ADD, Counter.OVERFLOWS));
+		assertEquals(1, counters.getCount(Operation.SQUARE, Counter.OVERFLOWS));
+		assertEquals(2, counters.getCount(Operation.DIVIDE, Counter.DIVISIONS_BY_ZERO));
+		assertEquals(1, counters.getCount(Operation.DIVIDE, Counter.INEXACT_ROUNDINGS));
+		assertEquals(1, counters.getCount(Operation.MULTIPLY, Counter.OVERFLOWS));
+		assertEquals(4, counters.getOverflows());
+		assertEquals(Long.valueOf(2), counters.getOverflowsByType().get("ADD"));
+	}
+
+	@Test
+	public void shouldCountBulkOperationsPerElement() {
+		final DecimalArithmetic unchecked = InstrumentedArithmetic.instrument(scaleMetrics.getArithmetic(RoundingMode.HALF_UP));
+		final DecimalArithmetic checked = unchecked.deriveArithmetic(CheckedRounding.HALF_UP);
+		final long[] result = new long[3];
+
+		unchecked.add(new long[] {Long.MAX_VALUE, 1, 2}, new long[] {1, 1, 1}, result, 0, 3);
+		assertArrayEquals(new long[] {Long.MIN_VALUE, 2, 3}, result);
+		unchecked.divide(new long[] {1, 1, 1}, new long[] {3, 1, 3}, result, 0, 3);
+		try {
+			checked.multiplyByLong(new long[] {1, Long.MAX_VALUE, 1}, 2, result, 0, 3);
+			fail("multiplyByLong should throw an exception");
+		} catch (ArithmeticException e) {
+			// expected
+		}
+		assertEquals(2, result[0]);
+
+		assertEquals(3, counters.getCount(Operation.ADD, Counter.OPERATIONS));
+		assertEquals(1, counters.getCount(Operation.ADD, Counter.OVERFLOWS));
+		assertEquals(3, counters.getCount(Operation.DIVIDE, Counter.OPERATIONS));
+		assertEquals(2, counters.getCount(Operation.DIVIDE, Counter.INEXACT_ROUNDINGS));
+		assertEquals(2, counters.getCount(Operation.MULTIPLY, Counter.OPERATIONS));
+		assertEquals(1, counters.getCount(Operation.MULTIPLY, Counter.OVERFLOWS));
+	}
+
+	@Test
+	public void shouldCountConcurrentOperations() throws InterruptedException {
+		final DecimalArithmetic arith = InstrumentedArithmetic.instrument(scaleMetrics.getDefaultArithmetic());
+		final int threadCount = 4;
+		final int opsPerThread = 10000;
+		final Thread[] threads = new Thread[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					for (int j = 0; j < opsPerThread; j++) {
+						arith.add(j, 1);
+					}
+				}
+			};
+			threads[i].start();
+		}
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(threadCount * opsPerThread, counters.getCount(Operation.ADD, Counter.OPERATIONS));
+		assertEquals(0, counters.getOverflows());
+	}
+
+	@Test
+	public void shouldRegisterMBean() throws Exception {
+		final DecimalArithmetic arith = InstrumentedArithmetic.instrument(scaleMetrics.getDefaultArithmetic());
+		arith.add(1, 2);
+		final ObjectName name = new ObjectName("org.decimal4j:type=ArithmeticCounters,scale=" + scaleMetrics.getScale());
+		assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Operations"));
+		ManagementFactory.getPlatformMBeanServer().invoke(name, "reset", null, null);
+		assertEquals(0, counters.getOperations());
+	}
+
+	@Test
+	public void shouldNotInstrumentTwice() {
+		final DecimalArithmetic instrumented = InstrumentedArithmetic.instrument(scaleMetrics.getDefaultArithmetic());
+		assertSame(instrumented, InstrumentedArithmetic.instrument(instrumented));
+		assertSame(scaleMetrics.getDefaultArithmetic(), ((InstrumentedArithmetic) instrumented).getDelegate());
+		assertSame(counters, ((InstrumentedArithmetic) instrumented).getCounters());
+	}
+
+	private void assertSameResult(String msg, DecimalArithmetic delegate, DecimalArithmetic instrumented, Operation operation, long a, long b) {
+		Object expected;
+		try {
+			expected = invoke(delegate, operation, a, b);
+		} catch (ArithmeticException e) {
+			expected = e.getMessage();
+		} catch (IllegalArgumentException e) {
+			expected = e.getMessage();
+		}
+		Object actual;
+		try {
+			actual = invoke(instrumented, operation, a, b);
+		} catch (ArithmeticException e) {
+			actual = e.getMessage();
+		} catch (IllegalArgumentException e) {
+			actual = e.getMessage();
+		}
+		assertEquals(msg, expected, actual);
+	}
+
+	private void assertArithmeticException(DecimalArithmetic arith, Operation operation, long a, long b) {
+		try {
+			final long result = invoke(arith, operation, a, b);
+			fail(arith + ": " + operation + "(" + a + ", " + b + ") should throw an exception but returned " + result);
+		} catch (ArithmeticException e) {
+			// expected
+		}
+	}
+
+	private void assertParseException(DecimalArithmetic arith, String value) {
+		final byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+		for (int i = 0; i < 3; i++) {
+			try {
+				final long result = i == 0 ? arith.parse(value) : i == 1 ? arith.parse(bytes, 0, bytes.length)
+						: arith.parse(ByteBuffer.wrap(bytes), 0, bytes.length);
+				fail(arith + ": parse(" + value + ") should throw an exception but returned " + result);
+			} catch (NumberFormatException e) {
+				// expected
+			}
+		}
+	}
+
+	private static long invoke(DecimalArithmetic arith, Operation operation, long a, long b) {
+		switch (operation) {
+		case ADD:
+			return arith.add(a, b);
+		case SUBTRACT:
+			return arith.subtract(a, b);
+		case MULTIPLY:
+			return arith.multiply(a, b);
+		case DIVIDE:
+			return arith.divide(a, b);
+		case AVG:
+			return arith.avg(a, b);
+		case SQUARE:
+			return arith.square(a);
+		case SQRT:
+			return arith.sqrt(a);
+		default:
+			throw new IllegalArgumentException("unsupported operation: " + operation);
+		}
+	}
+
+	private long randomValue() {
+		switch (RND.nextInt(4)) {
+		case 0:
+			return RND.nextLong();
+		case 1:
+			return RND.nextLong() >> RND.nextInt(64);
+		case 2:
+			return RND.nextInt();
+		default:
+			return scaleMetrics.multiplyByScaleFactor(RND.nextInt(1000) - 500) + RND.nextInt(1000);
+		}
+	}
+}
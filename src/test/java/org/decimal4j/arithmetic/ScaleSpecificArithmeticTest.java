@@ -0,0 +1,258 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.ArithmeticResult;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for the generated scale specific arithmetic classes such as
+ * {@code UncheckedScale2fRoundingArithmetic} comparing results with
+ * {@link BigDecimal} for scales other than zero.
+ */
+@RunWith(Parameterized.class)
+public class ScaleSpecificArithmeticTest {
+
+	private static final Random RND = new Random();
+
+	private final ScaleMetrics scaleMetrics;
+	private final TruncationPolicy policy;
+	private final DecimalArithmetic specific;
+
+	public ScaleSpecificArithmeticTest(ScaleMetrics scaleMetrics, TruncationPolicy policy) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics is null");
+		this.policy = Objects.requireNonNull(policy, "policy is null");
+		this.specific = scaleMetrics.getArithmetic(policy);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			if (s.getScale() > 0) {
+				for (final TruncationPolicy tp : TestSettings.POLICIES) {
+					data.add(new Object[] {s, tp});
+				}
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldUseScaleSpecificClass() {
+		final String kind = policy.getRoundingMode() == RoundingMode.DOWN ? "Truncating" : "Rounding";
+		final String mode = policy.getOverflowMode() == OverflowMode.CHECKED ? "Checked" : "Unchecked";
+		assertEquals(mode + "Scale" + scaleMetrics.getScale() + "f" + kind + "Arithmetic", specific.getClass().getSimpleName());
+		assertEquals(scaleMetrics, specific.getScaleMetrics());
+		assertEquals(scaleMetrics.getScale(), specific.getScale());
+		assertEquals(scaleMetrics.getScaleFactor(), specific.one());
+		assertEquals(policy, specific.getTruncationPolicy());
+	}
+
+	@Test
+	public void shouldCalculateSpecialValues() {
+		final long[] specialValues = TestSettings.TEST_CASES.getSpecialValuesFor(scaleMetrics);
+		for (final long a : specialValues) {
+			for (final long b : specialValues) {
+				assertAllOperations(a, b);
+			}
+		}
+	}
+
+	@Test
+	public void shouldCalculateRandomValues() {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			assertAllOperations(randomValue(), randomValue());
+		}
+	}
+
+	private void assertAllOperations(long a, long b) {
+		assertSameResult(a + " * " + b, Op.MULTIPLY, a, b);
+		assertSameResult(a + " / " + b, Op.DIVIDE, a, b);
+		assertSameResult("toLong(" + a + ")", Op.TO_LONG, a, b);
+		assertSameResult("fromLong(" + a + ")", Op.FROM_LONG, a, b);
+		assertSameResult("square(" + a + ")", Op.SQUARE, a, b);
+		assertSameResult(a + " + " + b + "@2", Op.ADD_UNSCALED, a, b);
+	}
+
+	private void assertSameResult(String message, Op op, long a, long b) {
+		final ArithmeticResult<Long> expected = op.expected(specific, a, b);
+		if (specific.getOverflowMode() == OverflowMode.UNCHECKED && expected.isOverflow()) {
+			// silently truncated result is not defined by BigDecimal
+			return;
+		}
+		op.actual(specific, a, b).assertEquivalentTo(expected, policy + ": " + message);
+	}
+
+	private static enum Op {
+		MULTIPLY {
+			@Override
+			long apply(DecimalArithmetic arith, long a, long b) {
+				return arith.multiply(a, b);
+			}
+
+			@Override
+			BigDecimal expectedValue(DecimalArithmetic arith, long a, long b) {
+				return toBigDecimal(arith, a).multiply(toBigDecimal(arith, b));
+			}
+		},
+		DIVIDE {
+			@Override
+			long apply(DecimalArithmetic arith, long a, long b) {
+				return arith.divide(a, b);
+			}
+
+			@Override
+			BigDecimal expectedValue(DecimalArithmetic arith, long a, long b) {
+				return toBigDecimal(arith, a).divide(toBigDecimal(arith, b), arith.getScale(), arith.getRoundingMode());
+			}
+		},
+		TO_LONG {
+			@Override
+			long apply(DecimalArithmetic arith, long a, long b) {
+				return arith.toLong(a);
+			}
+
+			@Override
+			BigDecimal expectedValue(DecimalArithmetic arith, long a, long b) {
+				return toBigDecimal(arith, a).setScale(0, arith.getRoundingMode());
+			}
+
+			@Override
+			ArithmeticResult<Long> expected(DecimalArithmetic arith, long a, long b) {
+				try {
+					final BigDecimal expected = expectedValue(arith, a, b);
+					return ArithmeticResult.forResult(expected.toPlainString(), expected.longValueExact());
+				} catch (ArithmeticException e) {
+					return ArithmeticResult.forException(e);
+				}
+			}
+		},
+		FROM_LONG {
+			@Override
+			long apply(DecimalArithmetic arith, long a, long b) {
+				return arith.fromLong(a);
+			}
+
+			@Override
+			BigDecimal expectedValue(DecimalArithmetic arith, long a, long b) {
+				return BigDecimal.valueOf(a);
+			}
+
+			@Override
+			ArithmeticResult<Long> expected(DecimalArithmetic arith, long a, long b) {
+				try {
+					return ArithmeticResult.forResult(arith, expectedValue(arith, a, b));
+				} catch (ArithmeticException e) {
+					//fromLong throws an IllegalArgumentException if the value is out of range
+					return ArithmeticResult.forException(new IllegalArgumentException(e.getMessage()));
+				}
+			}
+		},
+		SQUARE {
+			@Override
+			long apply(DecimalArithmetic arith, long a, long b) {
+				return arith.square(a);
+			}
+
+			@Override
+			BigDecimal expectedValue(DecimalArithmetic arith, long a, long b) {
+				return toBigDecimal(arith, a).multiply(toBigDecimal(arith, a));
+			}
+		},
+		ADD_UNSCALED {
+			@Override
+			long apply(DecimalArithmetic arith, long a, long b) {
+				return arith.addUnscaled(a, b, 2);
+			}
+
+			@Override
+			BigDecimal expectedValue(DecimalArithmetic arith, long a, long b) {
+				return toBigDecimal(arith, a).add(BigDecimal.valueOf(b, 2));
+			}
+		};
+
+		abstract long apply(DecimalArithmetic arith, long a, long b);
+
+		/**
+		 * Returns the exact or already rounded expected value
+		 */
+		abstract BigDecimal expectedValue(DecimalArithmetic arith, long a, long b);
+
+		ArithmeticResult<Long> expected(DecimalArithmetic arith, long a, long b) {
+			try {
+				return ArithmeticResult.forResult(arith, expectedValue(arith, a, b));
+			} catch (ArithmeticException e) {
+				return ArithmeticResult.forException(e);
+			}
+		}
+
+		ArithmeticResult<Long> actual(DecimalArithmetic arith, long a, long b) {
+			try {
+				final long result = apply(arith, a, b);
+				return ArithmeticResult.forResult(String.valueOf(result), result);
+			} catch (ArithmeticException e) {
+				return ArithmeticResult.forException(e);
+			} catch (IllegalArgumentException e) {
+				return ArithmeticResult.forException(e);
+			}
+		}
+
+		private static BigDecimal toBigDecimal(DecimalArithmetic arith, long uDecimal) {
+			return BigDecimal.valueOf(uDecimal, arith.getScale());
+		}
+	}
+
+	private long randomValue() {
+		switch (RND.nextInt(4)) {
+		case 0:
+			return RND.nextLong();
+		case 1:
+			return RND.nextLong() >> RND.nextInt(64);
+		case 2:
+			return RND.nextInt();
+		default:
+			return scaleMetrics.multiplyByScaleFactor(RND.nextInt(1000) - 500) + RND.nextInt(1000);
+		}
+	}
+
+}
@@ -37,8 +37,6 @@ public class ThreadLocalsTest {
 	
 	private static class ThreadLocalInstances {
 		public final StringBuilder stringBuilder = StringConversion.STRING_BUILDER_THREAD_LOCAL.get();
-		public final UnsignedDecimal9i36f unsignedDecimal1 = UnsignedDecimal9i36f.THREAD_LOCAL_1.get();
-		public final UnsignedDecimal9i36f unsignedDecimal2 = UnsignedDecimal9i36f.THREAD_LOCAL_2.get();
 	}
 
 	@Test
@@ -63,8 +61,6 @@ public class ThreadLocalsTest {
 
 		//then
 		assertNotSame("string builder should be different instances", tli1.stringBuilder, tli2.stringBuilder);
-		assertNotSame("unsigned decimal 1 should be different instances", tli1.unsignedDecimal1, tli2.unsignedDecimal1);
-		assertNotSame("unsigned decimal 2 should be different instances", tli1.unsignedDecimal2, tli2.unsignedDecimal2);
 	}
 
 	@Test
@@ -75,8 +71,6 @@ public class ThreadLocalsTest {
 		
 		//then
 		assertSame("string builder should be same instance", tli1.stringBuilder, tli2.stringBuilder);
-		assertSame("unsigned decimal 1 should be same instance", tli1.unsignedDecimal1, tli2.unsignedDecimal1);
-		assertSame("unsigned decimal 2 should be same instance", tli1.unsignedDecimal2, tli2.unsignedDecimal2);
 	}
 
 	@Test
@@ -90,8 +84,6 @@ public class ThreadLocalsTest {
 		
 		//then
 		assertNotSame("string builder should be different instances", tli1.stringBuilder, tli2.stringBuilder);
-		assertNotSame("unsigned decimal 1 should be different instances", tli1.unsignedDecimal1, tli2.unsignedDecimal1);
-		assertNotSame("unsigned decimal 2 should be different instances", tli1.unsignedDecimal2, tli2.unsignedDecimal2);
 	}
 
 }
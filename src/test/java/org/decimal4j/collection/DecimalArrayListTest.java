@@ -0,0 +1,250 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.base.AbstractDecimalArrayList;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for the generated {@code DecimalArrayList} classes comparing the
+ * results with a {@link List} of decimal values.
+ */
+@RunWith(Parameterized.class)
+public class DecimalArrayListTest {
+
+	private static final Random RND = new Random();
+	private static final int LENGTH = 50;
+
+	private final ScaleMetrics scaleMetrics;
+	private final DecimalFactory<ScaleMetrics> factory;
+
+	public DecimalArrayListTest(ScaleMetrics scaleMetrics) {
+		this.scaleMetrics = scaleMetrics;
+		this.factory = Factories.getDecimalFactory(scaleMetrics);
+	}
+
+	@Parameters(name = "{index}: {0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			data.add(new Object[] {s});
+		}
+		return data;
+	}
+
+	private AbstractDecimalArrayList<ScaleMetrics, ImmutableDecimal<ScaleMetrics>> newList() {
+		try {
+			@SuppressWarnings("unchecked")
+			final AbstractDecimalArrayList<ScaleMetrics, ImmutableDecimal<ScaleMetrics>> list = (AbstractDecimalArrayList<ScaleMetrics, ImmutableDecimal<ScaleMetrics>>) Class
+					.forName(getClass().getPackage().getName() + ".DecimalArrayList" + scaleMetrics.getScale() + "f").getDeclaredConstructor().newInstance();
+			return list;
+		} catch (Exception e) {
+			throw new RuntimeException("could not create decimal array list for " + scaleMetrics, e);
+		}
+	}
+
+	@Test
+	public void shouldAddAndGetValues() {
+		final AbstractDecimalArrayList<ScaleMetrics, ImmutableDecimal<ScaleMetrics>> list = newList();
+		final List<Decimal<ScaleMetrics>> expected = new ArrayList<Decimal<ScaleMetrics>>();
+		assertEquals(scaleMetrics, list.getScaleMetrics());
+		assertTrue(list.isEmpty());
+		for (int i = 0; i < LENGTH; i++) {
+			final Decimal<ScaleMetrics> value = factory.valueOfUnscaled(RND.nextLong());
+			if (i % 2 == 0) {
+				list.add(value);
+			} else {
+				list.addUnscaled(value.unscaledValue());
+			}
+			expected.add(value);
+		}
+		assertEquals(expected.size(), list.size());
+		assertEquals(expected, list.asList());
+		assertEquals(expected.toString(), list.toString());
+		final MutableDecimal<ScaleMetrics> mutable = factory.newMutable();
+		for (int i = 0; i < LENGTH; i++) {
+			assertEquals(expected.get(i).unscaledValue(), list.getUnscaled(i));
+			assertEquals(expected.get(i), list.get(i));
+			assertSame(mutable, list.get(i, mutable));
+			assertEquals(expected.get(i).unscaledValue(), mutable.unscaledValue());
+		}
+	}
+
+	@Test
+	public void shouldAddAllAndCopyUnscaledValues() {
+		final long[] values = new long[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = RND.nextLong();
+		}
+		final AbstractDecimalArrayList<ScaleMetrics, ImmutableDecimal<ScaleMetrics>> list = newList();
+		list.addAllUnscaled(values, 5, LENGTH - 10);
+		list.addAllUnscaled(values, 0, 5);
+		assertEquals(LENGTH - 5, list.size());
+		final long[] copy = new long[LENGTH + 3];
+		list.getUnscaled(0, copy, 3, list.size());
+		for (int i = 0; i < LENGTH - 10; i++) {
+			assertEquals(values[i + 5], copy[i + 3]);
+		}
+		assertEquals(values[0], list.getUnscaled(LENGTH - 10));
+		final AbstractDecimalArrayList<ScaleMetrics, ImmutableDecimal<ScaleMetrics>> all = newList();
+		all.addAll(list);
+		all.addAll(all);
+		assertEquals(2 * list.size(), all.size());
+		assertTrue(Arrays.equals(list.toUnscaledArray(), Arrays.copyOfRange(all.toUnscaledArray(), list.size(), all.size())));
+		try {
+			list.addAllUnscaled(values, 1, LENGTH);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			//expected
+		}
+	}
+
+	@Test
+	public void shouldSortAndBinarySearch() {
+		final AbstractDecimalArrayList<ScaleMetrics, ImmutableDecimal<ScaleMetrics>> list = newList();
+		final List<Long> expected = new ArrayList<Long>();
+		for (int i = 0; i < LENGTH; i++) {
+			final long value = RND.nextInt(2 * LENGTH) - LENGTH;
+			list.addUnscaled(value);
+			expected.add(value);
+		}
+		list.sort();
+		Collections.sort(expected);
+		for (int i = 0; i < LENGTH; i++) {
+			assertEquals(expected.get(i).longValue(), list.getUnscaled(i));
+		}
+		for (long key = -LENGTH - 1; key <= LENGTH; key++) {
+			final int index = list.binarySearchUnscaled(key);
+			final int expectedIndex = Collections.binarySearch(expected, key);
+			if (expectedIndex >= 0) {
+				assertEquals(key, list.getUnscaled(index));
+				assertEquals(index, list.binarySearch(factory.valueOfUnscaled(key)));
+			} else {
+				assertEquals(expectedIndex, index);
+			}
+		}
+	}
+
+	@Test
+	public void shouldModifyThroughListView() {
+		final AbstractDecimalArrayList<ScaleMetrics, ImmutableDecimal<ScaleMetrics>> list = newList();
+		final List<ImmutableDecimal<ScaleMetrics>> view = list.asList();
+		final ImmutableDecimal<ScaleMetrics> one = factory.valueOf(1);
+		final ImmutableDecimal<ScaleMetrics> two = factory.valueOf(2);
+		final ImmutableDecimal<ScaleMetrics> three = factory.valueOf(3);
+		view.add(one);
+		view.add(three);
+		view.add(1, two);
+		assertEquals(Arrays.asList(one, two, three), view);
+		assertEquals(3, list.size());
+		assertEquals(three, view.set(2, one));
+		assertEquals(one, list.get(2));
+		assertEquals(two, view.remove(1));
+		assertEquals(2, list.size());
+		assertEquals(one.unscaledValue(), list.setUnscaled(1, three.unscaledValue()));
+		assertEquals(three, view.get(1));
+		assertEquals(three.unscaledValue(), list.removeUnscaled(1));
+		list.addUnscaled(0, two.unscaledValue());
+		assertEquals(Arrays.asList(two, one), view);
+		assertEquals(two.unscaledValue(), list.set(0, three));
+		view.clear();
+		assertTrue(list.isEmpty());
+	}
+
+	@Test
+	public void shouldThrowExceptionForInvalidIndex() {
+		final AbstractDecimalArrayList<ScaleMetrics, ImmutableDecimal<ScaleMetrics>> list = newList();
+		list.addUnscaled(1);
+		for (final int index : new int[] {-1, 1, 2}) {
+			try {
+				list.getUnscaled(index);
+				fail("expected IndexOutOfBoundsException for index " + index);
+			} catch (IndexOutOfBoundsException e) {
+				//expected
+			}
+		}
+		try {
+			list.addUnscaled(2, 0);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			//expected
+		}
+	}
+
+	@Test
+	public void shouldGrowAndTrimCapacity() {
+		final AbstractDecimalArrayList<ScaleMetrics, ImmutableDecimal<ScaleMetrics>> list = newList();
+		list.trimToSize();
+		for (int i = 0; i < 1000; i++) {
+			list.addUnscaled(i);
+		}
+		list.ensureCapacity(2000);
+		list.trimToSize();
+		assertEquals(1000, list.size());
+		assertEquals(999, list.getUnscaled(999));
+		list.clear();
+		assertEquals(0, list.size());
+	}
+
+	@Test
+	public void shouldImplementEqualsAndHashCode() {
+		final AbstractDecimalArrayList<ScaleMetrics, ImmutableDecimal<ScaleMetrics>> list1 = newList();
+		final AbstractDecimalArrayList<ScaleMetrics, ImmutableDecimal<ScaleMetrics>> list2 = newList();
+		for (int i = 0; i < LENGTH; i++) {
+			final long value = RND.nextLong();
+			list1.addUnscaled(value);
+			list2.addUnscaled(value);
+		}
+		assertEquals(list1, list1);
+		assertEquals(list1, list2);
+		assertEquals(list1.hashCode(), list2.hashCode());
+		list2.addUnscaled(0);
+		assertNotEquals(list1, list2);
+		assertFalse(list1.equals(null));
+		assertFalse(list1.equals(list1.asList()));
+	}
+}
@@ -0,0 +1,264 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.collection;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalBuffer}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalBufferTest {
+
+	private static final Random RND = new Random();
+	private static final int CAPACITY = 64;
+
+	private final ScaleMetrics scaleMetrics;
+	private final DecimalFactory<ScaleMetrics> factory;
+
+	public DecimalBufferTest(ScaleMetrics scaleMetrics) {
+		this.scaleMetrics = scaleMetrics;
+		this.factory = Factories.getDecimalFactory(scaleMetrics);
+	}
+
+	@Parameters(name = "{index}: {0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			data.add(new Object[] {s});
+		}
+		return data;
+	}
+
+	private static ByteBuffer allocate(int capacity) {
+		return ByteBuffer.allocateDirect(DecimalBuffer.HEADER_LENGTH + 8 * capacity);
+	}
+
+	@Test
+	public void shouldPutAndGetValues() {
+		final DecimalBuffer<ScaleMetrics> buffer = DecimalBuffer.create(allocate(CAPACITY), scaleMetrics);
+		assertEquals(CAPACITY, buffer.capacity());
+		assertEquals(scaleMetrics, buffer.getScaleMetrics());
+		final long[] values = new long[CAPACITY];
+		for (int i = 0; i < CAPACITY; i++) {
+			values[i] = RND.nextLong();
+			if (i % 2 == 0) {
+				buffer.putUnscaled(i, values[i]);
+			} else {
+				buffer.put(i, factory.valueOfUnscaled(values[i]));
+			}
+		}
+		final MutableDecimal<ScaleMetrics> mutable = factory.newMutable();
+		for (int i = 0; i < CAPACITY; i++) {
+			assertEquals(values[i], buffer.getUnscaled(i));
+			assertSame(mutable, buffer.get(i, mutable));
+			assertEquals(values[i], mutable.unscaledValue());
+		}
+		final long[] copy = new long[CAPACITY + 2];
+		buffer.getUnscaled(3, copy, 2, CAPACITY - 3);
+		for (int i = 3; i < CAPACITY; i++) {
+			assertEquals(values[i], copy[i - 1]);
+		}
+		buffer.putUnscaled(0, copy, 2, 10);
+		for (int i = 0; i < 10; i++) {
+			assertEquals(values[i + 3], buffer.getUnscaled(i));
+		}
+	}
+
+	@Test
+	public void shouldApplyBulkArithmetic() {
+		final DecimalArithmetic arith = scaleMetrics.getDefaultArithmetic();
+		final DecimalBuffer<ScaleMetrics> buffer = DecimalBuffer.create(allocate(CAPACITY), scaleMetrics);
+		long expectedSum = 0;
+		for (int i = 0; i < CAPACITY; i++) {
+			buffer.putUnscaled(i, i);
+			if (i >= 2 && i < 12) {
+				expectedSum += 2 * (i + arith.one());
+			}
+		}
+		buffer.add(2, 10, arith.one(), arith);
+		buffer.multiply(2, 10, arith.fromLong(2), arith);
+		assertEquals(expectedSum, buffer.sum(2, 10, arith));
+		assertEquals(1, buffer.getUnscaled(1));
+		assertEquals(2 * (2 + arith.one()), buffer.getUnscaled(2));
+		assertEquals(12, buffer.getUnscaled(12));
+		try {
+			buffer.sum(0, CAPACITY, Scales.getScaleMetrics((scaleMetrics.getScale() + 1) % (Scales.MAX_SCALE + 1)).getDefaultArithmetic());
+			fail("expected IllegalArgumentException for scale mismatch");
+		} catch (IllegalArgumentException e) {
+			//expected
+		}
+	}
+
+	@Test
+	public void shouldRejectOrRescaleDifferentScale() {
+		final ByteBuffer bytes = allocate(CAPACITY);
+		final DecimalBuffer<ScaleMetrics> buffer = DecimalBuffer.create(bytes, scaleMetrics);
+		for (int i = 0; i < CAPACITY; i++) {
+			buffer.putUnscaled(i, RND.nextInt());
+		}
+		assertEquals(buffer.getUnscaled(7), DecimalBuffer.open(bytes, scaleMetrics).getUnscaled(7));
+		for (final ScaleMetrics other : TestSettings.SCALES) {
+			if (other == scaleMetrics) {
+				continue;
+			}
+			try {
+				DecimalBuffer.open(bytes, other);
+				fail("expected IllegalArgumentException for scale mismatch");
+			} catch (IllegalArgumentException e) {
+				//expected
+			}
+		}
+		final ScaleMetrics target = Scales.getScaleMetrics(Math.max(0, scaleMetrics.getScale() - 2));
+		final long[] values = new long[CAPACITY];
+		buffer.getUnscaled(0, values, 0, CAPACITY);
+		final DecimalBuffer<ScaleMetrics> rescaled = DecimalBuffer.open(bytes, target, RoundingMode.HALF_EVEN);
+		for (int i = 0; i < CAPACITY; i++) {
+			final BigDecimal expected = BigDecimal.valueOf(values[i], scaleMetrics.getScale()).setScale(target.getScale(), RoundingMode.HALF_EVEN);
+			assertEquals(expected.unscaledValue().longValue(), rescaled.getUnscaled(i));
+		}
+		//header was updated
+		DecimalBuffer.open(bytes, target);
+	}
+
+	@Test
+	public void shouldLeaveBufferUnchangedIfRescaleFails() {
+		final ByteBuffer bytes = allocate(CAPACITY);
+		final DecimalBuffer<ScaleMetrics> buffer = DecimalBuffer.create(bytes, scaleMetrics);
+		for (int i = 0; i < CAPACITY; i++) {
+			buffer.putUnscaled(i, scaleMetrics.getScaleFactor() * i);
+		}
+		if (scaleMetrics.getScale() < Scales.MAX_SCALE) {
+			//overflow of the second value
+			buffer.putUnscaled(1, Long.MAX_VALUE);
+			assertRescaleFailure(bytes, Scales.getScaleMetrics(Scales.MAX_SCALE), RoundingMode.HALF_UP, IllegalArgumentException.class);
+			buffer.putUnscaled(1, scaleMetrics.getScaleFactor());
+		}
+		if (scaleMetrics.getScale() > 0) {
+			//rounding necessary for the last value
+			buffer.putUnscaled(CAPACITY - 1, 1);
+			assertRescaleFailure(bytes, Scales.getScaleMetrics(0), RoundingMode.UNNECESSARY, ArithmeticException.class);
+		}
+	}
+
+	private void assertRescaleFailure(ByteBuffer bytes, ScaleMetrics target, RoundingMode roundingMode, Class<? extends Exception> exceptionType) {
+		final byte[] before = toArray(bytes);
+		try {
+			DecimalBuffer.open(bytes, target, roundingMode);
+			fail("expected " + exceptionType.getSimpleName() + " when rescaling to " + target);
+		} catch (RuntimeException e) {
+			assertEquals(exceptionType, e instanceof ArithmeticException ? ArithmeticException.class : e.getClass());
+		}
+		assertArrayEquals(before, toArray(bytes));
+		DecimalBuffer.open(bytes, scaleMetrics);
+	}
+
+	private static byte[] toArray(ByteBuffer bytes) {
+		final byte[] array = new byte[bytes.remaining()];
+		bytes.duplicate().get(array);
+		return array;
+	}
+
+	@Test
+	public void shouldRejectInvalidHeaderAndIndex() {
+		try {
+			DecimalBuffer.open(allocate(CAPACITY), scaleMetrics);
+			fail("expected IllegalArgumentException for invalid header");
+		} catch (IllegalArgumentException e) {
+			//expected
+		}
+		try {
+			DecimalBuffer.create(ByteBuffer.allocate(DecimalBuffer.HEADER_LENGTH - 1), scaleMetrics);
+			fail("expected IllegalArgumentException for small buffer");
+		} catch (IllegalArgumentException e) {
+			//expected
+		}
+		final DecimalBuffer<ScaleMetrics> buffer = DecimalBuffer.create(ByteBuffer.allocate(DecimalBuffer.HEADER_LENGTH + 8 * CAPACITY + 7), scaleMetrics);
+		assertEquals(CAPACITY, buffer.capacity());
+		for (final int index : new int[] {-1, CAPACITY, Integer.MAX_VALUE}) {
+			try {
+				buffer.getUnscaled(index);
+				fail("expected IndexOutOfBoundsException for index " + index);
+			} catch (IndexOutOfBoundsException e) {
+				//expected
+			}
+		}
+		try {
+			buffer.getUnscaled(1, new long[CAPACITY], 0, CAPACITY);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			//expected
+		}
+	}
+
+	@Test
+	public void shouldReadValuesFromMemoryMappedFile() throws IOException {
+		final File file = File.createTempFile("decimal-buffer-test", ".bin");
+		file.deleteOnExit();
+		final long[] values = new long[CAPACITY];
+		for (int i = 0; i < CAPACITY; i++) {
+			values[i] = RND.nextLong();
+		}
+		try (final RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			final MappedByteBuffer mapped = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, DecimalBuffer.HEADER_LENGTH + 8 * CAPACITY);
+			DecimalBuffer.create(mapped, scaleMetrics).putUnscaled(0, values, 0, CAPACITY);
+			mapped.force();
+		}
+		try (final RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+			final MappedByteBuffer mapped = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+			final DecimalBuffer<ScaleMetrics> buffer = DecimalBuffer.open(mapped, scaleMetrics);
+			for (int i = 0; i < CAPACITY; i++) {
+				assertEquals(values[i], buffer.getUnscaled(i));
+			}
+		}
+		file.delete();
+	}
+}
@@ -0,0 +1,179 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link AtomicDecimal}.
+ */
+@RunWith(Parameterized.class)
+public class AtomicDecimalTest {
+
+	private static final int THREADS = 8;
+
+	private static final UnscaledBinaryOperator MULTIPLY = new UnscaledBinaryOperator() {
+		@Override
+		public long apply(DecimalArithmetic arith, long uDecimal1, long uDecimal2) {
+			return arith.multiply(uDecimal1, uDecimal2);
+		}
+	};
+
+	private final ScaleMetrics scaleMetrics;
+	private final TruncationPolicy truncationPolicy;
+	private final DecimalFactory<ScaleMetrics> factory;
+
+	public AtomicDecimalTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.scaleMetrics = scaleMetrics;
+		this.truncationPolicy = truncationPolicy;
+		this.factory = Factories.getDecimalFactory(scaleMetrics);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				data.add(new Object[] {s, tp});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldGetAndSetValues() {
+		final AtomicDecimal<ScaleMetrics> atomic = new AtomicDecimal<ScaleMetrics>(scaleMetrics, truncationPolicy);
+		assertEquals(factory.valueOf(0), atomic.get());
+		assertEquals(scaleMetrics, atomic.getScaleMetrics());
+		assertEquals(scaleMetrics.getArithmetic(truncationPolicy), atomic.getArithmetic());
+		atomic.set(factory.valueOf(3));
+		assertEquals(factory.valueOf(3), atomic.get());
+		atomic.lazySet(factory.valueOf(4));
+		assertEquals(factory.valueOf(4), atomic.getAndSet(factory.valueOf(5)));
+		atomic.setUnscaled(17);
+		atomic.lazySetUnscaled(18);
+		assertEquals(18, atomic.getAndSetUnscaled(19));
+		assertEquals(19, atomic.getUnscaled());
+		assertEquals(factory.valueOfUnscaled(19).toString(), atomic.toString());
+	}
+
+	@Test
+	public void shouldCompareAndSet() {
+		final AtomicDecimal<ScaleMetrics> atomic = new AtomicDecimal<ScaleMetrics>(factory.valueOf(2), truncationPolicy);
+		assertFalse(atomic.compareAndSet(factory.valueOf(1), factory.valueOf(3)));
+		assertTrue(atomic.compareAndSet(factory.valueOf(2), factory.valueOf(3)));
+		assertEquals(factory.valueOf(3), atomic.get());
+		assertFalse(atomic.compareAndSetUnscaled(0, 1));
+		assertTrue(atomic.compareAndSetUnscaled(factory.valueOf(3).unscaledValue(), 1));
+		assertEquals(1, atomic.getUnscaled());
+	}
+
+	@Test
+	public void shouldAddAndAccumulate() {
+		final AtomicDecimal<ScaleMetrics> atomic = new AtomicDecimal<ScaleMetrics>(factory.valueOf(2), truncationPolicy);
+		assertEquals(factory.valueOf(2), atomic.getAndAdd(factory.valueOf(3)));
+		assertEquals(factory.valueOf(8), atomic.addAndGet(factory.valueOf(3)));
+		assertEquals(factory.valueOf(8).unscaledValue(), atomic.getAndAddUnscaled(-factory.valueOf(6).unscaledValue()));
+		assertEquals(factory.valueOf(3).unscaledValue(), atomic.addAndGetUnscaled(factory.valueOf(1).unscaledValue()));
+		assertEquals(factory.valueOf(6), atomic.accumulateAndGet(factory.valueOf(2), MULTIPLY));
+		assertEquals(factory.valueOf(6).unscaledValue(), atomic.getAndAccumulateUnscaled(factory.valueOf(-1).unscaledValue(), MULTIPLY));
+		assertEquals(factory.valueOf(6).unscaledValue(), atomic.accumulateAndGetUnscaled(factory.valueOf(-1).unscaledValue(), MULTIPLY));
+		assertEquals(factory.valueOf(6), atomic.getAndAccumulate(factory.valueOf(-1), MULTIPLY));
+		assertEquals(factory.valueOf(-6), atomic.get());
+	}
+
+	@Test
+	public void shouldApplyOverflowModeOnAdd() {
+		final AtomicDecimal<ScaleMetrics> atomic = new AtomicDecimal<ScaleMetrics>(scaleMetrics, truncationPolicy);
+		atomic.setUnscaled(Long.MAX_VALUE);
+		try {
+			final long result = atomic.addAndGetUnscaled(1);
+			if (truncationPolicy.getOverflowMode().isChecked()) {
+				fail("expected overflow exception");
+			}
+			assertEquals(Long.MIN_VALUE, result);
+		} catch (ArithmeticException e) {
+			if (!truncationPolicy.getOverflowMode().isChecked()) {
+				throw e;
+			}
+			assertEquals("value should be unchanged", Long.MAX_VALUE, atomic.getUnscaled());
+		}
+	}
+
+	@Test
+	public void shouldAddConcurrently() throws InterruptedException {
+		final AtomicDecimal<ScaleMetrics> atomic = new AtomicDecimal<ScaleMetrics>(scaleMetrics, truncationPolicy);
+		final int count = Math.max(100, TestSettings.getRandomTestCount());
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Thread> threads = new ArrayList<Thread>();
+		for (int t = 0; t < THREADS; t++) {
+			final long delta = t - THREADS / 2;
+			threads.add(new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					for (int i = 0; i < count; i++) {
+						if (i % 2 == 0) {
+							atomic.addAndGetUnscaled(delta);
+						} else {
+							atomic.getAndAddUnscaled(delta);
+						}
+					}
+				}
+			});
+		}
+		for (final Thread thread : threads) {
+			thread.start();
+		}
+		start.countDown();
+		long expected = 0;
+		for (int t = 0; t < THREADS; t++) {
+			threads.get(t).join();
+			expected += (t - THREADS / 2) * (long)count;
+		}
+		assertEquals(expected, atomic.getUnscaled());
+	}
+}
@@ -0,0 +1,168 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.OverflowMode;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalAdder}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalAdderTest {
+
+	private static final int THREADS = 8;
+
+	private final ScaleMetrics scaleMetrics;
+	private final OverflowMode overflowMode;
+
+	public DecimalAdderTest(ScaleMetrics scaleMetrics, OverflowMode overflowMode) {
+		this.scaleMetrics = scaleMetrics;
+		this.overflowMode = overflowMode;
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final OverflowMode mode : OverflowMode.values()) {
+				data.add(new Object[] {s, mode});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldSumValuesAddedByConcurrentThreads() throws InterruptedException {
+		final DecimalAdder<ScaleMetrics> adder = new DecimalAdder<ScaleMetrics>(scaleMetrics, overflowMode);
+		final int count = Math.max(100, TestSettings.getRandomTestCount());
+		final AtomicLong expected = new AtomicLong();
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Thread> threads = new ArrayList<Thread>();
+		for (int t = 0; t < THREADS; t++) {
+			final Random rnd = new Random(t);
+			threads.add(new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					for (int i = 0; i < count; i++) {
+						final long value = rnd.nextInt() * (long)rnd.nextInt(1000);
+						adder.addUnscaled(value);
+						expected.addAndGet(value);
+					}
+				}
+			});
+		}
+		for (final Thread thread : threads) {
+			thread.start();
+		}
+		start.countDown();
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(expected.get(), adder.sumUnscaled());
+		assertEquals(expected.get(), adder.sum().unscaledValue());
+		assertEquals(scaleMetrics, adder.sum().getScaleMetrics());
+		assertEquals(expected.get(), adder.sumThenReset().unscaledValue());
+		assertEquals(0, adder.sumUnscaled());
+	}
+
+	@Test
+	public void shouldAddDecimalValues() {
+		final DecimalAdder<ScaleMetrics> adder = new DecimalAdder<ScaleMetrics>(scaleMetrics, overflowMode);
+		final DecimalFactory<ScaleMetrics> factory = Factories.getDecimalFactory(scaleMetrics);
+		adder.add(factory.valueOf(7));
+		adder.add(factory.valueOf(-2));
+		assertEquals(factory.valueOf(5), adder.sum());
+		assertEquals(factory.valueOf(5).toString(), adder.toString());
+		adder.reset();
+		assertEquals(0, adder.sumUnscaled());
+	}
+
+	@Test
+	public void shouldOverflowIfSumExceedsMaxValue() {
+		final DecimalAdder<ScaleMetrics> adder = new DecimalAdder<ScaleMetrics>(scaleMetrics, overflowMode);
+		adder.addUnscaled(Long.MAX_VALUE);
+		adder.addUnscaled(-1);
+		assertEquals(Long.MAX_VALUE - 1, adder.sumUnscaled());
+		adder.addUnscaled(2);
+		try {
+			assertEquals(Long.MIN_VALUE, adder.sumUnscaled());
+			if (overflowMode.isChecked()) {
+				fail("expected overflow exception");
+			}
+		} catch (ArithmeticException e) {
+			if (!overflowMode.isChecked()) {
+				throw e;
+			}
+			final BigDecimal exact = BigDecimal.valueOf(Long.MAX_VALUE, scaleMetrics.getScale()).add(BigDecimal.valueOf(1, scaleMetrics.getScale()));
+			assertEquals(exact.toPlainString(), adder.toString());
+		}
+		adder.addUnscaled(-2);
+		assertEquals(Long.MAX_VALUE - 1, adder.sumUnscaled());
+	}
+
+	@Test
+	public void shouldNotOverflowIfOnlyIntermediateSumExceedsMaxValue() {
+		final DecimalAdder<ScaleMetrics> adder = new DecimalAdder<ScaleMetrics>(scaleMetrics, overflowMode);
+		adder.addUnscaled(Long.MAX_VALUE);
+		adder.addUnscaled(Long.MAX_VALUE);
+		adder.addUnscaled(Long.MIN_VALUE);
+		adder.addUnscaled(Long.MIN_VALUE);
+		adder.addUnscaled(Long.MAX_VALUE);
+		assertEquals(Long.MAX_VALUE - 2, adder.sumUnscaled());
+		assertEquals(Long.MAX_VALUE - 2, adder.sumThenReset().unscaledValue());
+		assertEquals(0, adder.sumUnscaled());
+	}
+
+	@Test
+	public void shouldReturnScaleMetricsAndOverflowMode() {
+		final DecimalAdder<ScaleMetrics> adder = new DecimalAdder<ScaleMetrics>(scaleMetrics, overflowMode);
+		assertEquals(scaleMetrics, adder.getScaleMetrics());
+		assertEquals(overflowMode, adder.getOverflowMode());
+		assertEquals(OverflowMode.UNCHECKED, new DecimalAdder<ScaleMetrics>(Scales.getScaleMetrics(0)).getOverflowMode());
+	}
+}
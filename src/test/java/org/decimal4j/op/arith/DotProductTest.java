@@ -0,0 +1,153 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.arith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.AbstractRandomAndSpecialValueTest;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.ArithmeticResult;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalArithmetic#dotProduct(long[], long[], int, int)}.
+ * The expected result is calculated as exact BigDecimal sum of products that
+ * is rounded once at the end.
+ */
+@RunWith(Parameterized.class)
+public class DotProductTest extends AbstractRandomAndSpecialValueTest {
+
+	private static final int MAX_LENGTH = 16;
+
+	public DotProductTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				final DecimalArithmetic arith = s.getArithmetic(tp);
+				data.add(new Object[] {s, tp, arith});
+			}
+		}
+		return data;
+	}
+
+	@Override
+	protected String operation() {
+		return "dot";
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runRandomTest(S scaleMetrics, int index) {
+		final int length = RND.nextInt(MAX_LENGTH + 1);
+		final int offset = RND.nextInt(3);
+		final long[] uDecimals1 = new long[offset + length];
+		final long[] uDecimals2 = new long[offset + length];
+		for (int i = 0; i < uDecimals1.length; i++) {
+			uDecimals1[i] = randomDecimal(scaleMetrics).unscaledValue();
+			uDecimals2[i] = randomDecimal(scaleMetrics).unscaledValue();
+		}
+		runTest(scaleMetrics, "[" + index + "]", uDecimals1, uDecimals2, offset, length);
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runSpecialValueTest(S scaleMetrics) {
+		final long[] specialValues = getSpecialValues(scaleMetrics);
+		final int n = specialValues.length;
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				// products of special values that may overflow but cancel out partially
+				final long[] uDecimals1 = {specialValues[i], specialValues[j], specialValues[i]};
+				final long[] uDecimals2 = {specialValues[j], specialValues[i], -specialValues[(i + j) % n]};
+				runTest(scaleMetrics, "[" + i + ", " + j + "]", uDecimals1, uDecimals2, 0, uDecimals1.length);
+			}
+		}
+	}
+
+	@Test
+	public void shouldThrowExceptionForInvalidBounds() {
+		final long[] uDecimals1 = new long[4];
+		final long[] uDecimals2 = new long[3];
+		assertEquals(0, arithmetic.dotProduct(uDecimals1, uDecimals2, 0, 3));
+		assertEquals(0, arithmetic.dotProduct(uDecimals1, uDecimals2, 3, 0));
+		try {
+			arithmetic.dotProduct(uDecimals1, uDecimals2, 0, 4);
+			fail("should throw IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+		try {
+			arithmetic.dotProduct(uDecimals1, uDecimals2, -1, 2);
+			fail("should throw IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+
+	private <S extends ScaleMetrics> void runTest(S scaleMetrics, String name, long[] uDecimals1, long[] uDecimals2, int offset, int length) {
+		final StringBuilder messagePrefix = new StringBuilder(getClass().getSimpleName()).append(name).append(": ");
+		BigDecimal sum = BigDecimal.ZERO;
+		for (int i = offset; i < offset + length; i++) {
+			final Decimal<S> dOpA = newDecimal(scaleMetrics, uDecimals1[i]);
+			final Decimal<S> dOpB = newDecimal(scaleMetrics, uDecimals2[i]);
+			messagePrefix.append(i == offset ? "" : " + ").append(dOpA).append(" * ").append(dOpB);
+			sum = sum.add(toBigDecimal(dOpA).multiply(toBigDecimal(dOpB)));
+		}
+
+		// expected
+		ArithmeticResult<Long> expected;
+		try {
+			expected = ArithmeticResult.forResult(arithmetic, sum);
+		} catch (ArithmeticException e) {
+			expected = ArithmeticResult.forException(e);
+		}
+
+		// actual
+		ArithmeticResult<Long> actual;
+		try {
+			final long result = arithmetic.dotProduct(uDecimals1, uDecimals2, offset, length);
+			actual = ArithmeticResult.forResult(newDecimal(scaleMetrics, result));
+		} catch (ArithmeticException e) {
+			actual = ArithmeticResult.forException(e);
+		}
+
+		// assert
+		actual.assertEquivalentTo(expected, messagePrefix.toString());
+	}
+}
@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.arith;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.AbstractRandomAndSpecialValueTest;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.ArithmeticResult;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalArithmetic#multiplyAdd(long, long, long)}. The
+ * expected result is calculated with an exact BigDecimal product and sum that
+ * is rounded once at the end.
+ */
+@RunWith(Parameterized.class)
+public class MultiplyAddTest extends AbstractRandomAndSpecialValueTest {
+
+	public MultiplyAddTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				final DecimalArithmetic arith = s.getArithmetic(tp);
+				data.add(new Object[] {s, tp, arith});
+			}
+		}
+		return data;
+	}
+
+	@Override
+	protected String operation() {
+		return "+*";
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runRandomTest(S scaleMetrics, int index) {
+		final Decimal<S> dOpA = randomDecimal(scaleMetrics);
+		final Decimal<S> dOpB = randomDecimal(scaleMetrics);
+		final Decimal<S> dOpC = randomDecimal(scaleMetrics);
+		runTest(scaleMetrics, "[" + index + "]", dOpA, dOpB, dOpC);
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runSpecialValueTest(S scaleMetrics) {
+		final long[] specialValues = getSpecialValues(scaleMetrics);
+		final int n = specialValues.length;
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				final Decimal<S> dOpA = newDecimal(scaleMetrics, specialValues[(i + j) % n]);
+				final Decimal<S> dOpB = newDecimal(scaleMetrics, specialValues[i]);
+				final Decimal<S> dOpC = newDecimal(scaleMetrics, specialValues[j]);
+				runTest(scaleMetrics, "[" + i + ", " + j + "]", dOpA, dOpB, dOpC);
+			}
+		}
+	}
+
+	private <S extends ScaleMetrics> void runTest(S scaleMetrics, String name, Decimal<S> dOpA, Decimal<S> dOpB, Decimal<S> dOpC) {
+		final String messagePrefix = getClass().getSimpleName() + name + ": " + dOpA + " + " + dOpB + " * " + dOpC;
+
+		// expected
+		ArithmeticResult<Long> expected;
+		try {
+			final BigDecimal product = toBigDecimal(dOpB).multiply(toBigDecimal(dOpC));
+			expected = ArithmeticResult.forResult(arithmetic, toBigDecimal(dOpA).add(product));
+		} catch (ArithmeticException e) {
+			expected = ArithmeticResult.forException(e);
+		}
+
+		// actual
+		ArithmeticResult<Long> actual;
+		try {
+			final long result = arithmetic.multiplyAdd(dOpA.unscaledValue(), dOpB.unscaledValue(), dOpC.unscaledValue());
+			actual = ArithmeticResult.forResult(newDecimal(scaleMetrics, result));
+		} catch (ArithmeticException e) {
+			actual = ArithmeticResult.forException(e);
+		}
+
+		// assert
+		actual.assertEquivalentTo(expected, messagePrefix);
+	}
+}
@@ -0,0 +1,169 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.arith;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.AbstractRandomAndSpecialValueTest;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.ArithmeticResult;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link Decimal#multiplyDivide(Decimal, Decimal, RoundingMode)},
+ * {@link DecimalArithmetic#multiplyDivide(long, long, long)} and
+ * {@link DecimalArithmetic#multiplyDivide(long, long, int, long, int)}. The expected
+ * result is calculated with an exact BigDecimal product that is rounded once
+ * in the division.
+ */
+@RunWith(Parameterized.class)
+public class MultiplyDivideTest extends AbstractRandomAndSpecialValueTest {
+
+	public MultiplyDivideTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				final DecimalArithmetic arith = s.getArithmetic(tp);
+				data.add(new Object[] {s, tp, arith});
+			}
+		}
+		return data;
+	}
+
+	@Override
+	protected String operation() {
+		return "*/";
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runRandomTest(S scaleMetrics, int index) {
+		final Decimal<S> dOpA = randomDecimal(scaleMetrics);
+		// multiplicand and divisor with the same or with different scales, sometimes different from the scale of a
+		final ScaleMetrics bScaleMetrics = RND.nextBoolean() ? scaleMetrics : randomScaleMetrics();
+		final ScaleMetrics cScaleMetrics = RND.nextBoolean() ? bScaleMetrics : randomScaleMetrics();
+		final Decimal<?> dOpB = randomDecimal(bScaleMetrics);
+		final Decimal<?> dOpC = randomDecimal(cScaleMetrics);
+		runTest(scaleMetrics, "[" + index + "]", dOpA, dOpB, dOpC);
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runSpecialValueTest(S scaleMetrics) {
+		final long[] specialValues = getSpecialValues(scaleMetrics);
+		final int n = specialValues.length;
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				final Decimal<S> dOpA = newDecimal(scaleMetrics, specialValues[i]);
+				final Decimal<S> dOpB = newDecimal(scaleMetrics, specialValues[j]);
+				final Decimal<S> dOpC = newDecimal(scaleMetrics, specialValues[(i + j) % n]);
+				runTest(scaleMetrics, "[" + i + ", " + j + "]", dOpA, dOpB, dOpC);
+			}
+		}
+		// multiplicand and divisor with different scales
+		for (int i = 0; i < n; i++) {
+			final Decimal<S> dOpA = newDecimal(scaleMetrics, specialValues[i]);
+			for (int scaleDiff = 1; scaleDiff <= Scales.MAX_SCALE; scaleDiff++) {
+				final ScaleMetrics otherScaleMetrics = Scales.getScaleMetrics((scaleMetrics.getScale() + scaleDiff) % (Scales.MAX_SCALE + 1));
+				final long[] otherSpecialValues = getSpecialValues(otherScaleMetrics);
+				for (int j = 0; j < n; j++) {
+					final Decimal<S> dOpB = newDecimal(scaleMetrics, specialValues[j]);
+					final Decimal<?> dOpC = newDecimal(otherScaleMetrics, otherSpecialValues[(i + j) % otherSpecialValues.length]);
+					runTest(scaleMetrics, "[" + i + ", " + j + ", " + scaleDiff + "]", dOpA, dOpB, dOpC);
+					runTest(scaleMetrics, "[" + j + ", " + i + ", " + scaleDiff + "]", dOpA, dOpC, dOpB);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void shouldNotOverflowWhenRescalingOperands() {
+		final ScaleMetrics scale0 = Scales.getScaleMetrics(0);
+		final ScaleMetrics scale18 = Scales.getScaleMetrics(18);
+		// 1 * 100000000000 / 1.000000000000000000 must not rescale 100000000000 to scale 18
+		runTest(getScaleMetrics(), "[1e11]", newDecimal(getScaleMetrics(), getScaleMetrics().getScaleFactor()), newDecimal(scale0, 100000000000L), newDecimal(scale18, scale18.getScaleFactor()));
+		// Long.MAX_VALUE / 1.000000000000000000 (scale 0 and 18 swapped for divisor and multiplicand)
+		runTest(getScaleMetrics(), "[max/1]", newDecimal(getScaleMetrics(), Long.MAX_VALUE), newDecimal(scale0, 1), newDecimal(scale18, scale18.getScaleFactor()));
+		runTest(getScaleMetrics(), "[max*1]", newDecimal(getScaleMetrics(), Long.MAX_VALUE), newDecimal(scale18, scale18.getScaleFactor()), newDecimal(scale0, 1));
+		runTest(getScaleMetrics(), "[min/-1]", newDecimal(getScaleMetrics(), Long.MIN_VALUE + 1), newDecimal(scale0, -1), newDecimal(scale18, scale18.getScaleFactor()));
+	}
+
+	private <S extends ScaleMetrics> void runTest(S scaleMetrics, String name, Decimal<S> dOpA, Decimal<?> dOpB, Decimal<?> dOpC) {
+		final String messagePrefix = getClass().getSimpleName() + name + ": " + dOpA + " * " + dOpB + " / " + dOpC;
+
+		// expected
+		ArithmeticResult<Long> expected;
+		try {
+			final BigDecimal product = toBigDecimal(dOpA).multiply(toBigDecimal(dOpB));
+			expected = ArithmeticResult.forResult(arithmetic, product.divide(toBigDecimal(dOpC), getScale(), getRoundingMode()));
+		} catch (ArithmeticException e) {
+			expected = ArithmeticResult.forException(e);
+		}
+
+		// actual
+		ArithmeticResult<Long> actual;
+		try {
+			actual = ArithmeticResult.forResult(actualResult(dOpA, dOpB, dOpC));
+		} catch (ArithmeticException e) {
+			actual = ArithmeticResult.forException(e);
+		}
+
+		// assert
+		actual.assertEquivalentTo(expected, messagePrefix);
+	}
+
+	private static ScaleMetrics randomScaleMetrics() {
+		return Scales.getScaleMetrics(RND.nextInt(Scales.MAX_SCALE + 1));
+	}
+
+	private <S extends ScaleMetrics> Decimal<S> actualResult(Decimal<S> a, Decimal<?> b, Decimal<?> c) {
+		if (b.getScale() == c.getScale() && RND.nextBoolean()) {
+			return newDecimal(a.getScaleMetrics(), arithmetic.multiplyDivide(a.unscaledValue(), b.unscaledValue(), c.unscaledValue()));
+		}
+		if (RND.nextBoolean()) {
+			return newDecimal(a.getScaleMetrics(), arithmetic.multiplyDivide(a.unscaledValue(), b.unscaledValue(), b.getScale(), c.unscaledValue(), c.getScale()));
+		}
+		if (isStandardTruncationPolicy() && RND.nextBoolean()) {
+			return a.multiplyDivide(b, c);
+		}
+		if (isUnchecked() && RND.nextBoolean()) {
+			return a.multiplyDivide(b, c, getRoundingMode());
+		}
+		return a.multiplyDivide(b, c, getTruncationPolicy());
+	}
+}
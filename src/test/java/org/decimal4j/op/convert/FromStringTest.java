@@ -26,7 +26,10 @@ package org.decimal4j.op.convert;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -46,7 +49,8 @@ import org.junit.runners.Parameterized.Parameters;
 
 /**
  * Test {@link DecimalArithmetic#parse(String)} via
- * {@link DecimalFactory#parse(String)}, {@link MutableDecimal#set(String)} and
+ * {@link DecimalFactory#parse(String)}, {@link MutableDecimal#set(String)},
+ * the byte array and byte buffer variants of {@code DecimalArithmetic.parse(..)} and
  * the static {@code valueOf(String)} methods of the Immutable Decimal
  * implementations.
  */
@@ -149,6 +153,14 @@ public class FromStringTest extends AbstractRandomAndSpecialValueTest {
 		values.add("-1.");
 		values.add("+1.A");
 		values.add("-1.A");
+		// invalid chars in runs of 8 or more digits
+		values.add("1234567A");
+		values.add("-1234567A.1234567");
+		values.add("12345678/12345678");
+		values.add("1.1234567:");
+		values.add("1234567\u0131");// dotless i, lower byte equals '1'
+		values.add("0.1234567\u0131");
+		values.add("12345678\u01301234567");
 		values.add(null);// test null input
 		return values.toArray(new String[values.size()]);
 	}
@@ -206,7 +218,7 @@ public class FromStringTest extends AbstractRandomAndSpecialValueTest {
 	}
 
 	protected <S extends ScaleMetrics> Decimal<S> actualResult(S scaleMetrics, String operand) {
-		switch (RND.nextInt(6)) {
+		switch (RND.nextInt(8)) {
 		case 0:
 			// Factory, immutable
 			if (isRoundingDefault() && RND.nextBoolean()) {
@@ -236,6 +248,20 @@ public class FromStringTest extends AbstractRandomAndSpecialValueTest {
 				return parseCharSequence(arithmetic.deriveArithmetic(OverflowMode.CHECKED), scaleMetrics, operand);
 			}
 		case 4:
+			// DecimalArithmetic API with ASCII byte array
+			if (RND.nextBoolean()) {
+				return parseBytes(arithmetic, scaleMetrics, operand);
+			} else {
+				return parseBytes(arithmetic.deriveArithmetic(OverflowMode.CHECKED), scaleMetrics, operand);
+			}
+		case 5:
+			// DecimalArithmetic API with ASCII byte buffer
+			if (RND.nextBoolean()) {
+				return parseByteBuffer(arithmetic, scaleMetrics, operand);
+			} else {
+				return parseByteBuffer(arithmetic.deriveArithmetic(OverflowMode.CHECKED), scaleMetrics, operand);
+			}
+		case 6:
 			// String constructor
 			// NOTE: immutable has no constructor with rounding mode param
 			if (isRoundingDefault()) {
@@ -245,7 +271,7 @@ public class FromStringTest extends AbstractRandomAndSpecialValueTest {
 				return newMutableInstance(scaleMetrics, operand);
 			}
 			//else: fallthrough
-		case 5:// fallthrough
+		case 7:// fallthrough
 		default:
 			// Immutable, valueOf method
 			return valueOf(scaleMetrics, operand);
@@ -287,6 +313,38 @@ public class FromStringTest extends AbstractRandomAndSpecialValueTest {
 		return getDecimalFactory(scaleMetrics).valueOfUnscaled(arith.parse(charSeq, start, end));
 	}
 
+	private <S extends ScaleMetrics> Decimal<S> parseBytes(DecimalArithmetic arith, S scaleMetrics, String operand) {
+		final byte[] ascii = operand.getBytes(StandardCharsets.US_ASCII);
+		//prepend and append some crap bytes
+		final int start = RND.nextInt(7);
+		final int end = start + ascii.length;
+		final byte[] bytes = new byte[end + RND.nextInt(7)];
+		Arrays.fill(bytes, (byte)'B');
+		System.arraycopy(ascii, 0, bytes, start, ascii.length);
+		return getDecimalFactory(scaleMetrics).valueOfUnscaled(arith.parse(bytes, start, end));
+	}
+
+	private <S extends ScaleMetrics> Decimal<S> parseByteBuffer(DecimalArithmetic arith, S scaleMetrics, String operand) {
+		final byte[] ascii = operand.getBytes(StandardCharsets.US_ASCII);
+		//prepend and append some crap bytes, use heap and direct buffers
+		final int start = RND.nextInt(7);
+		final int end = start + ascii.length;
+		final int capacity = end + RND.nextInt(7);
+		final ByteBuffer buffer = RND.nextBoolean() ? ByteBuffer.allocate(capacity) : ByteBuffer.allocateDirect(capacity);
+		while (buffer.hasRemaining()) {
+			buffer.put((byte)'B');
+		}
+		buffer.position(start);
+		buffer.put(ascii);
+		buffer.position(RND.nextInt(capacity + 1));//absolute indices, position must not matter
+		final int position = buffer.position();
+		final long unscaled = arith.parse(buffer, start, end);
+		if (buffer.position() != position) {
+			throw new IllegalStateException("buffer position has changed from " + position + " to " + buffer.position());
+		}
+		return getDecimalFactory(scaleMetrics).valueOfUnscaled(unscaled);
+	}
+
 	@SuppressWarnings("unchecked")
 	private <S extends ScaleMetrics> Decimal<S> valueOf(S scaleMetrics, String operand) {
 		try {
@@ -23,9 +23,16 @@
  */
 package org.decimal4j.op.convert;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -35,12 +42,13 @@ import org.decimal4j.op.AbstractDecimalToAnyTest;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.test.TestSettings;
 import org.decimal4j.truncate.OverflowMode;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
 /**
- * Unit test for {@link Decimal#toString()}
+ * Unit test for {@link Decimal#toString()} and the toString and format methods of {@link DecimalArithmetic}
  */
 @RunWith(Parameterized.class)
 public class ToStringTest extends AbstractDecimalToAnyTest<String> {
@@ -68,11 +76,42 @@ public class ToStringTest extends AbstractDecimalToAnyTest<String> {
 		return operand.toPlainString();
 	}
 	
+	@Test
+	public void formatDoesNotWriteIfTooSmall() {
+		final long uDecimal = Long.MIN_VALUE;
+		final int length = arithmetic.toString(uDecimal).length();
+		final byte[] bytes = new byte[length + 2];
+		try {
+			arithmetic.format(uDecimal, bytes, 3);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			assertArrayEquals(new byte[bytes.length], bytes);
+		}
+		try {
+			arithmetic.format(uDecimal, bytes, -1);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			assertArrayEquals(new byte[bytes.length], bytes);
+		}
+		assertEquals(length, arithmetic.format(uDecimal, bytes, 2));
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(length + 2);
+		buffer.position(3);
+		try {
+			arithmetic.format(uDecimal, buffer);
+			fail("expected BufferOverflowException");
+		} catch (BufferOverflowException e) {
+			assertEquals(3, buffer.position());
+		}
+		buffer.position(2);
+		assertEquals(length, arithmetic.format(uDecimal, buffer));
+		assertEquals(length + 2, buffer.position());
+	}
+
 	private static final String STRING = "BLABLABLKJSLDFJLKJOI_)$(@U)DKSLDFLKJSLKXCMFREWOKLRJT";
 	@Override
 	protected <S extends ScaleMetrics> String actualResult(Decimal<S> operand) {
 		try {
-			switch (RND.nextInt(5)) {
+			switch (RND.nextInt(7)) {
 			case 0:
 				return operand.toString();
 			case 1:
@@ -92,7 +131,29 @@ public class ToStringTest extends AbstractDecimalToAnyTest<String> {
 				arithmetic.toString(operand.unscaledValue(), sb);
 				return sb.substring(prefix.length());
 			}
-			case 4://fallthrough
+			case 4: {
+				//use byte array version with some offset
+				final byte[] bytes = new byte[64];
+				final int offset = RND.nextInt(bytes.length - 21);
+				final DecimalArithmetic arith = RND.nextBoolean() ? arithmetic : arithmetic.deriveArithmetic(OverflowMode.CHECKED);
+				final int length = arith.format(operand.unscaledValue(), bytes, offset);
+				return new String(bytes, offset, length, StandardCharsets.US_ASCII);
+			}
+			case 5: {
+				//use byte buffer version with some existing bytes, heap or direct buffer
+				final ByteBuffer buffer = RND.nextBoolean() ? ByteBuffer.allocate(64) : ByteBuffer.allocateDirect(64);
+				final String prefix = STRING.substring(0, RND.nextInt(64 - 21));
+				buffer.put(prefix.getBytes(StandardCharsets.US_ASCII));
+				final int length = arithmetic.format(operand.unscaledValue(), buffer);
+				if (buffer.position() != prefix.length() + length) {
+					throw new IllegalStateException("buffer position " + buffer.position() + " should be " + (prefix.length() + length));
+				}
+				final byte[] bytes = new byte[length];
+				buffer.position(prefix.length());
+				buffer.get(bytes);
+				return new String(bytes, StandardCharsets.US_ASCII);
+			}
+			case 6://fallthrough
 			default: {
 				//use appendable version for checked arithmetic
 				final StringBuilder sb = new StringBuilder();
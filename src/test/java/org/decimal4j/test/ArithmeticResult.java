@@ -102,7 +102,7 @@ public class ArithmeticResult<T> {
 		        throw (AssertionError)new AssertionError(messagePrefix + " = " + expected.resultString + " but lead to an exception: " + exception).initCause(exception);
 			}
 		} else if (expected.exception != null && exception != null) {
-			if (expected.exception.getClass() != exception.getClass()) {
+			if (exceptionType(expected.exception) != exceptionType(exception)) {
 				throw (AssertionError)new AssertionError(messagePrefix + " exception lead to exception " + exception + " but expected was exception type: " + expected.exception).initCause(exception);
 			}
 		} else {
@@ -110,6 +110,11 @@ public class ArithmeticResult<T> {
 		}
 	}
 	
+	private static Class<?> exceptionType(Exception exception) {
+		//stackless exceptions enabled via system property are subclasses of ArithmeticException
+		return exception instanceof ArithmeticException ? ArithmeticException.class : exception.getClass();
+	}
+
 	public boolean isException() {
 		return exception != null;
 	}
@@ -52,6 +52,7 @@ public class FinalTruncateClassTest extends AbstractFinalTest {
 		data.add(new Object[] {CheckedRounding.class});
 		data.add(new Object[] {DecimalRounding.class});
 		data.add(new Object[] {OverflowMode.class});
+		data.add(new Object[] {StacklessArithmeticException.class});
 		data.add(new Object[] {TruncatedPart.class});
 		data.add(new Object[] {UncheckedRounding.class});
 		return data;
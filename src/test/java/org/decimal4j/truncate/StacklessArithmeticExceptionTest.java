@@ -0,0 +1,80 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.truncate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StacklessArithmeticException}.
+ */
+public class StacklessArithmeticExceptionTest {
+
+	@Test
+	public void shouldHaveNoStackTrace() {
+		final StacklessArithmeticException e = new StacklessArithmeticException("Overflow");
+		assertEquals("Overflow", e.getMessage());
+		assertEquals(0, e.getStackTrace().length);
+		assertEquals(0, e.fillInStackTrace().getStackTrace().length);
+	}
+
+	@Test
+	public void shouldRejectCause() {
+		final StacklessArithmeticException e = new StacklessArithmeticException("Overflow");
+		try {
+			e.initCause(new ArithmeticException("cause"));
+			fail("expected IllegalStateException");
+		} catch (IllegalStateException ex) {
+			// expected
+		}
+		assertEquals(null, e.getCause());
+	}
+
+	@Test
+	public void shouldPreallocateExceptionsWithoutStackTrace() {
+		assertPreallocated("Overflow", StacklessArithmeticException.OVERFLOW);
+		assertPreallocated("Division by zero", StacklessArithmeticException.DIVISION_BY_ZERO);
+		assertPreallocated("Rounding necessary", StacklessArithmeticException.ROUNDING_NECESSARY);
+	}
+
+	@Test
+	public void shouldThrowStacklessExceptionForUnnecessaryRoundingIfEnabled() {
+		try {
+			DecimalRounding.UNNECESSARY.calculateRoundingIncrement(1, 0, TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
+			fail("expected ArithmeticException");
+		} catch (ArithmeticException e) {
+			assertEquals("Rounding necessary", e.getMessage());
+			assertEquals(StacklessArithmeticException.ENABLED, e == StacklessArithmeticException.ROUNDING_NECESSARY);
+		}
+	}
+
+	private static void assertPreallocated(String message, StacklessArithmeticException e) {
+		assertEquals(message, e.getMessage());
+		assertEquals(0, e.getStackTrace().length);
+		assertNull(e.getCause());
+	}
+}
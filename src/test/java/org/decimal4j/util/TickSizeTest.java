@@ -0,0 +1,255 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link TickSize} comparing rounded values with the exact
+ * result of {@code round(value / increment) * increment} computed with
+ * {@link BigDecimal}.
+ */
+@RunWith(Parameterized.class)
+public class TickSizeTest {
+
+	private static final Random RND = new Random();
+
+	private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+	private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+
+	public TickSizeTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = scaleMetrics;
+		this.roundingMode = roundingMode;
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode mode : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				data.add(new Object[] { s, mode });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldRoundSpecialValues() {
+		final long[] specialValues = TestSettings.TEST_CASES.getSpecialValuesFor(scaleMetrics);
+		for (final long increment : specialIncrements()) {
+			final TickSize tickSize = new TickSize(scaleMetrics, increment);
+			for (final long value : specialValues) {
+				assertRound(tickSize, increment, value);
+			}
+		}
+	}
+
+	@Test
+	public void shouldRoundRandomValues() {
+		final int n = TestSettings.getRandomTestCount();
+		final long[] increments = specialIncrements();
+		for (int i = 0; i < n; i++) {
+			final long increment = RND.nextBoolean() ? increments[RND.nextInt(increments.length)] : randomIncrement();
+			final TickSize tickSize = new TickSize(scaleMetrics, increment);
+			for (int j = 0; j < 10; j++) {
+				assertRound(tickSize, increment, randomValue());
+			}
+		}
+	}
+
+	@Test
+	public void shouldRoundValuesAroundReciprocalLimit() {
+		final long limit = 1L << 52;
+		for (final long increment : specialIncrements()) {
+			final TickSize tickSize = new TickSize(scaleMetrics, increment);
+			for (int delta = -3; delta <= 3; delta++) {
+				for (final long value : new long[] { limit + delta, -limit + delta, limit + delta * increment, -limit - delta * increment }) {
+					assertRound(tickSize, increment, value);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void shouldRoundWithTieredIncrements() {
+		final long[] thresholds = { 0, 1000, 100000, 10000000 };
+		final long[] increments = { 1, 5, 25, 15625 };
+		final TickSize tickSize = new TickSize(scaleMetrics, thresholds, increments);
+		final long[] values = { 0, 1, -1, 999, -999, 1000, -1000, 1002, 1003, -1003, 99999, 100000, 100012, 100013,
+				-100013, 9999999, 10000000, 10007812, 10007813, -10007813, Long.MAX_VALUE, Long.MIN_VALUE };
+		for (final long value : values) {
+			assertRound(tickSize, increments[tierOf(thresholds, value)], value);
+		}
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			final long value = randomValue();
+			assertRound(tickSize, increments[tierOf(thresholds, value)], value);
+		}
+	}
+
+	@Test
+	public void shouldRoundArray() {
+		final long increment = 25;
+		final TickSize tickSize = new TickSize(scaleMetrics, increment);
+		final long[] values = new long[16];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = roundingMode == RoundingMode.UNNECESSARY ? RND.nextInt(1000) * increment : RND.nextInt();
+		}
+		final long[] result = new long[values.length];
+		tickSize.round(values, result, 2, 12, roundingMode);
+		for (int i = 0; i < result.length; i++) {
+			final long expected = i < 2 | i >= 14 ? 0 : tickSize.round(values[i], roundingMode);
+			assertEquals("result[" + i + "] for " + tickSize, expected, result[i]);
+		}
+	}
+
+	@Test
+	public void shouldRoundArrayWithTieredIncrements() {
+		final TickSize tickSize = new TickSize(scaleMetrics, new long[] { 0, 100 }, new long[] { 1, 10 });
+		final long[] values = { 99, 101, 105, -105, 1234 };
+		final long[] result = values.clone();
+		if (roundingMode == RoundingMode.UNNECESSARY) {
+			values[1] = 100;
+			values[2] = 110;
+			values[3] = -110;
+			values[4] = 1230;
+		}
+		tickSize.round(values, result, 0, values.length, roundingMode);
+		for (int i = 0; i < values.length; i++) {
+			assertEquals("result[" + i + "] for " + tickSize, tickSize.round(values[i], roundingMode), result[i]);
+		}
+	}
+
+	@Test
+	public void shouldCreateTickSizeFromDecimals() {
+		final DecimalFactory<?> factory = Factories.getDecimalFactory(scaleMetrics);
+		final Decimal<?> increment = factory.valueOfUnscaled(5);
+		final TickSize tickSize = new TickSize(increment);
+		assertEquals(scaleMetrics, tickSize.getScaleMetrics());
+		assertEquals(1, tickSize.getTierCount());
+		assertEquals(5, tickSize.getIncrement(123));
+
+		final TickSize tiered = new TickSize(new Decimal<?>[] { factory.valueOf(0), factory.valueOf(5) },
+				new Decimal<?>[] { factory.valueOfUnscaled(1), factory.valueOfUnscaled(3) });
+		assertEquals(2, tiered.getTierCount());
+		assertEquals(1, tiered.getIncrement(factory.valueOf(5).unscaledValue() - 1));
+		assertEquals(3, tiered.getIncrement(factory.valueOf(-5).unscaledValue()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionForZeroIncrement() {
+		new TickSize(scaleMetrics, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionForNegativeIncrement() {
+		new TickSize(scaleMetrics, -5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionForNonZeroFirstThreshold() {
+		new TickSize(scaleMetrics, new long[] { 1, 100 }, new long[] { 1, 10 });
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionForUnorderedThresholds() {
+		new TickSize(scaleMetrics, new long[] { 0, 100, 100 }, new long[] { 1, 10, 100 });
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionForDifferentArrayLengths() {
+		new TickSize(scaleMetrics, new long[] { 0, 100 }, new long[] { 1 });
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void shouldThrowExceptionForInvalidArrayRange() {
+		new TickSize(scaleMetrics, 5).round(new long[4], new long[4], 2, 3, roundingMode);
+	}
+
+	private void assertRound(TickSize tickSize, long increment, long value) {
+		final String msg = "round(" + value + ") to multiple of " + increment + " with " + roundingMode + " for " + tickSize;
+		String expected;
+		try {
+			final BigDecimal inc = BigDecimal.valueOf(increment);
+			final BigInteger result = new BigDecimal(value).divide(inc, 0, roundingMode).multiply(inc).toBigIntegerExact();
+			expected = result.compareTo(MIN_LONG) < 0 | result.compareTo(MAX_LONG) > 0 ? ArithmeticException.class.getName() : result.toString();
+		} catch (ArithmeticException e) {
+			expected = ArithmeticException.class.getName();
+		}
+		String actual;
+		try {
+			actual = String.valueOf(roundingMode == RoundingMode.HALF_UP & RND.nextBoolean() ? tickSize.round(value) : tickSize.round(value, roundingMode));
+		} catch (ArithmeticException e) {
+			actual = ArithmeticException.class.getName();
+		}
+		if (!expected.equals(actual)) {
+			fail(msg + ": expected <" + expected + "> but was <" + actual + ">");
+		}
+	}
+
+	private long[] specialIncrements() {
+		final long one = scaleMetrics.getScaleFactor();
+		return new long[] { 1, 2, 3, 5, 7, 25, 64, 15625, one, Math.max(1, one / 4), Math.max(1, one / 20), 1000000007,
+				(1L << 52) - 1, 1L << 52, (1L << 52) + 1, Long.MAX_VALUE / 3, Long.MAX_VALUE - 1, Long.MAX_VALUE };
+	}
+
+	private static long randomIncrement() {
+		final long value = RND.nextLong() >>> (1 + RND.nextInt(63));
+		return value == 0 ? 1 : value;
+	}
+
+	private static long randomValue() {
+		return RND.nextLong() >> RND.nextInt(64);
+	}
+
+	private static int tierOf(long[] thresholds, long value) {
+		final BigInteger abs = BigInteger.valueOf(value).abs();
+		int tier = 0;
+		while (tier + 1 < thresholds.length && abs.compareTo(BigInteger.valueOf(thresholds[tier + 1])) >= 0) {
+			tier++;
+		}
+		return tier;
+	}
+}